@@ -24,6 +24,7 @@ public class Constants {
 
     public static final String RESPONSE_METRIC_NAME = "apim:response";
     public static final String FAULTY_METRIC_NAME = "apim:faulty";
+    public static final String AGGREGATED_METRIC_NAME = "apim:aggregated";
 
     public static final String ANONYMOUS_VALUE = "anonymous";
     public static final String UNKNOWN_VALUE = "UNKNOWN";
@@ -39,4 +40,8 @@ public class Constants {
     public static final String USERNAME_MASK_VALUE = "*****";
 
     public static final String AUTH_API_URL = "auth.api.url";
+
+    public static final String AGGREGATION_ENABLED = "aggregation.enabled";
+    public static final String AGGREGATION_INTERVAL = "aggregation.interval";
+    public static final long DEFAULT_AGGREGATION_INTERVAL_SECONDS = 60;
 }
@@ -43,7 +43,14 @@ public abstract class AbstractRequestDataPublisher implements RequestDataPublish
     @Override
     public void publish(Event analyticsEvent) {
 
-        Map<String, Object> dataMap = OBJECT_MAPPER.convertValue(analyticsEvent, MAP_TYPE_REFERENCE);
+        AnalyticsEventAggregator eventAggregator = AnalyticsDataPublisher.getInstance().getEventAggregator();
+        if (eventAggregator != null) {
+            eventAggregator.aggregate(analyticsEvent, this);
+            return;
+        }
+        // Events of known types are written into the event builders directly, without converting them into a map
+        Map<String, Object> dataMap = EventAttributeWriter.isSupported(analyticsEvent) ? null :
+                OBJECT_MAPPER.convertValue(analyticsEvent, MAP_TYPE_REFERENCE);
         List<CounterMetric> multipleCounterMetrics = this.getMultipleCounterMetrics();
         if (multipleCounterMetrics == null) {
             log.error("All the counterMetrics are invalid. Event will be dropped.");
@@ -54,26 +61,24 @@ public abstract class AbstractRequestDataPublisher implements RequestDataPublish
             if (counterMetric == null) {
                 log.error("counterMetric cannot be null.");
             } else {
-                String counterMetricClassName = counterMetric.getClass().toString().
-                        replaceAll("[\r\n]", "").split(" ")[1];
-                boolean caughtException = false;
                 MetricEventBuilder builder = counterMetric.getEventBuilder();
-                for (Map.Entry<String, Object> entry : dataMap.entrySet()) {
-                    try {
-                        builder.addAttribute(entry.getKey(), entry.getValue());
-                    } catch (MetricReportingException e) {
-                        caughtException = true;
-                        log.error("Error adding data to the event stream. counterMetric: " + counterMetricClassName
-                                , e);
-                        break;
+                try {
+                    if (dataMap == null) {
+                        EventAttributeWriter.write(analyticsEvent, builder);
+                    } else {
+                        for (Map.Entry<String, Object> entry : dataMap.entrySet()) {
+                            builder.addAttribute(entry.getKey(), entry.getValue());
+                        }
                     }
+                } catch (MetricReportingException e) {
+                    log.error("Error adding data to the event stream. counterMetric: "
+                            + counterMetric.getClass().getName(), e);
+                    continue;
                 }
-                if (!caughtException) {
-                    try {
-                        counterMetric.incrementCount(builder);
-                    } catch (MetricReportingException e) {
-                        log.error("Error occurred when publishing event.", e);
-                    }
+                try {
+                    counterMetric.incrementCount(builder);
+                } catch (MetricReportingException e) {
+                    log.error("Error occurred when publishing event.", e);
                 }
             }
         }
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.apimgt.common.analytics.publishers.impl;
+
+import org.wso2.am.analytics.publisher.exception.MetricReportingException;
+import org.wso2.am.analytics.publisher.reporter.MetricEventBuilder;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Event builder of the aggregated analytics records. The event builders of the counter metrics validate events
+ * against the schema of a single request, which an aggregated record does not follow, so aggregated records are
+ * built with this builder instead.
+ */
+class AggregatedMetricEventBuilder implements MetricEventBuilder {
+
+    static final String[] REQUIRED_ATTRIBUTES = {"aggregationStartTime", "aggregationEndTime", "requestCount",
+            "errorCount"};
+
+    private final Map<String, Object> attributes = new LinkedHashMap<>();
+
+    @Override
+    public Map<String, Object> build() throws MetricReportingException {
+
+        validate();
+        return Collections.unmodifiableMap(attributes);
+    }
+
+    @Override
+    public boolean validate() throws MetricReportingException {
+
+        for (String attribute : REQUIRED_ATTRIBUTES) {
+            if (attributes.get(attribute) == null) {
+                throw new MetricReportingException(attribute + " is missing in aggregated metric data. This metric "
+                        + "event will not be processed further.");
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public MetricEventBuilder addAttribute(String key, Object value) throws MetricReportingException {
+
+        if (key == null || value == null) {
+            throw new MetricReportingException("Attribute key and value of an aggregated metric event cannot be "
+                    + "null");
+        }
+        attributes.put(key, value);
+        return this;
+    }
+}
@@ -31,6 +31,7 @@ import org.wso2.carbon.apimgt.common.analytics.Constants;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /**
@@ -43,6 +44,7 @@ public class AnalyticsDataPublisher {
 
     private List<CounterMetric> successMetricReporters;
     private List<CounterMetric> faultyMetricReporters;
+    private volatile AnalyticsEventAggregator eventAggregator;
 
     private AnalyticsDataPublisher() {
 
@@ -95,8 +97,8 @@ public class AnalyticsDataPublisher {
         String reporterClass = configs.get("publisher.reporter.class");
         String reporterType = configs.get("type");
         List<String> reporterClasses = getReportersClassesOrNull(configs);
+        List<MetricReporter> metricReporters = new ArrayList<>();
         try {
-            List<MetricReporter> metricReporters = new ArrayList<>();
             MetricReporter metricReporter;
             if (reporterClass != null) {
                 metricReporter = MetricReporterFactory.getInstance()
@@ -153,6 +155,65 @@ public class AnalyticsDataPublisher {
         } catch (MetricCreationException e) {
             log.error("Error while creating the metric reporter", e);
         }
+        initializeEventAggregator(configs, metricReporters);
+    }
+
+    private void initializeEventAggregator(Map<String, String> configs, List<MetricReporter> metricReporters) {
+
+        if (eventAggregator != null) {
+            eventAggregator.stop();
+            eventAggregator = null;
+        }
+        if (!Boolean.parseBoolean(configs.get(Constants.AGGREGATION_ENABLED))) {
+            return;
+        }
+        long intervalSeconds = Constants.DEFAULT_AGGREGATION_INTERVAL_SECONDS;
+        String interval = configs.get(Constants.AGGREGATION_INTERVAL);
+        if (!StringUtils.isEmpty(interval)) {
+            try {
+                intervalSeconds = Long.parseLong(interval.trim());
+            } catch (NumberFormatException e) {
+                log.warn("Invalid analytics aggregation interval " + interval + ". Using the default interval of "
+                        + intervalSeconds + " seconds.");
+            }
+        }
+        if (intervalSeconds <= 0) {
+            intervalSeconds = Constants.DEFAULT_AGGREGATION_INTERVAL_SECONDS;
+        }
+        // Aggregated records are published under a metric of their own, so that they are not mistaken for the
+        // records of single requests
+        List<CounterMetric> aggregatedCounterMetrics = getSuccessOrFaultyCounterMetrics(metricReporters,
+                Constants.AGGREGATED_METRIC_NAME, MetricSchema.RESPONSE);
+        if (aggregatedCounterMetrics.isEmpty()) {
+            log.error("None of the metric reporters could create the aggregated metric. Analytics events will be "
+                    + "published individually.");
+            return;
+        }
+        AnalyticsEventAggregator aggregator = new AnalyticsEventAggregator(TimeUnit.SECONDS.toMillis(intervalSeconds),
+                aggregatedCounterMetrics);
+        aggregator.start();
+        eventAggregator = aggregator;
+        log.info("Analytics events will be aggregated and published every " + intervalSeconds + " seconds.");
+    }
+
+    /**
+     * Stops aggregating analytics events and publishes the records aggregated so far.
+     */
+    public void shutdown() {
+
+        AnalyticsEventAggregator aggregator = eventAggregator;
+        eventAggregator = null;
+        if (aggregator != null) {
+            aggregator.stop();
+        }
+    }
+
+    /**
+     * @return the aggregator analytics events are folded into, or null if events are published individually
+     */
+    AnalyticsEventAggregator getEventAggregator() {
+
+        return eventAggregator;
     }
 
     public List<CounterMetric> getSuccessMetricReporters() throws MetricCreationException {
@@ -0,0 +1,243 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.apimgt.common.analytics.publishers.impl;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.am.analytics.publisher.exception.MetricReportingException;
+import org.wso2.am.analytics.publisher.reporter.CounterMetric;
+import org.wso2.carbon.apimgt.common.analytics.publishers.RequestDataPublisher;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.API;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.Application;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.Event;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.Operation;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Folds analytics events into in-memory rollups keyed by API, application, resource and response status, and
+ * publishes one aggregated record per key at the end of each interval instead of one record per request. A rollup
+ * holds the request and error counts and a latency histogram of the events of the interval. Records are built with
+ * {@link AggregatedMetricEventBuilder} and published through dedicated counter metrics.
+ */
+class AnalyticsEventAggregator {
+
+    private static final Log log = LogFactory.getLog(AnalyticsEventAggregator.class);
+    private static final double[] LATENCY_PERCENTILES = {50, 90, 95, 99};
+
+    private final Map<Key, Rollup> rollups = new ConcurrentHashMap<>();
+    private final long intervalMillis;
+    private final List<CounterMetric> counterMetrics;
+    private ScheduledExecutorService scheduler;
+    private volatile long intervalStartTime = System.currentTimeMillis();
+
+    AnalyticsEventAggregator(long intervalMillis, List<CounterMetric> counterMetrics) {
+
+        this.intervalMillis = intervalMillis;
+        this.counterMetrics = counterMetrics;
+    }
+
+    void start() {
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "AnalyticsEventAggregator");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleAtFixedRate(this::flush, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    void stop() {
+
+        if (scheduler != null) {
+            scheduler.shutdown();
+        }
+        flush();
+    }
+
+    /**
+     * Adds the given event to the rollup of its key.
+     *
+     * @param event     analytics event
+     * @param publisher publisher of the event, which tells successful and faulty events apart
+     */
+    void aggregate(Event event, RequestDataPublisher publisher) {
+
+        // The rollup is updated while holding the lock of its map entry, so that it is not updated after being removed
+        // from the map by a flush
+        rollups.compute(new Key(publisher instanceof FaultyRequestDataPublisher, event), (key, rollup) -> {
+            if (rollup == null) {
+                rollup = new Rollup();
+            }
+            rollup.record(event);
+            return rollup;
+        });
+    }
+
+    /**
+     * Publishes the rollups of the current interval and starts a new interval.
+     */
+    void flush() {
+
+        long startTime = intervalStartTime;
+        long endTime = System.currentTimeMillis();
+        intervalStartTime = endTime;
+        for (Key key : rollups.keySet()) {
+            Rollup rollup = rollups.remove(key);
+            if (rollup != null) {
+                try {
+                    publish(key, rollup, startTime, endTime);
+                } catch (RuntimeException e) {
+                    log.error("Error while publishing aggregated analytics event of API " + key.dimensions[0], e);
+                }
+            }
+        }
+    }
+
+    void publish(Key key, Rollup rollup, long startTime, long endTime) {
+
+        Map<String, Object> attributes = getAttributes(key, rollup, startTime, endTime);
+        for (CounterMetric counterMetric : counterMetrics) {
+            if (counterMetric == null) {
+                continue;
+            }
+            AggregatedMetricEventBuilder builder = new AggregatedMetricEventBuilder();
+            try {
+                for (Map.Entry<String, Object> entry : attributes.entrySet()) {
+                    builder.addAttribute(entry.getKey(), entry.getValue());
+                }
+                counterMetric.incrementCount(builder);
+            } catch (MetricReportingException e) {
+                log.error("Error occurred when publishing aggregated event.", e);
+            }
+        }
+    }
+
+    static Map<String, Object> getAttributes(Key key, Rollup rollup, long startTime, long endTime) {
+
+        Map<String, Object> attributes = new LinkedHashMap<>();
+        for (int i = 0; i < Key.DIMENSION_NAMES.length; i++) {
+            if (key.dimensions[i] != null) {
+                attributes.put(Key.DIMENSION_NAMES[i], key.dimensions[i]);
+            }
+        }
+        attributes.put("proxyResponseCode", key.proxyResponseCode);
+        attributes.put("faulty", key.faulty);
+        attributes.put("aggregationStartTime", Instant.ofEpochMilli(startTime).toString());
+        attributes.put("aggregationEndTime", Instant.ofEpochMilli(endTime).toString());
+        attributes.put("requestCount", rollup.requestCount);
+        attributes.put("errorCount", rollup.errorCount);
+        LatencyHistogram latencies = rollup.responseLatencies;
+        if (latencies.getTotalCount() > 0) {
+            attributes.put("minResponseLatency", latencies.getMin());
+            attributes.put("maxResponseLatency", latencies.getMax());
+            attributes.put("meanResponseLatency", latencies.getMean());
+            for (double percentile : LATENCY_PERCENTILES) {
+                attributes.put("p" + (int) percentile + "ResponseLatency",
+                        latencies.getValueAtPercentile(percentile));
+            }
+        }
+        return attributes;
+    }
+
+    /**
+     * Dimensions an event is aggregated by.
+     */
+    static final class Key {
+
+        private static final String[] DIMENSION_NAMES = {"apiId", "apiName", "apiVersion", "apiCreatorTenantDomain",
+                "applicationId", "applicationName", "keyType", "apiMethod", "apiResourceTemplate", "errorType"};
+
+        private final boolean faulty;
+        private final String[] dimensions;
+        private final int proxyResponseCode;
+        private final int hashCode;
+
+        Key(boolean faulty, Event event) {
+
+            API api = event.getApi();
+            Application application = event.getApplication();
+            Operation operation = event.getOperation();
+            this.faulty = faulty;
+            this.dimensions = new String[]{
+                    api != null ? api.getApiId() : null,
+                    api != null ? api.getApiName() : null,
+                    api != null ? api.getApiVersion() : null,
+                    api != null ? api.getApiCreatorTenantDomain() : null,
+                    application != null ? application.getApplicationId() : null,
+                    application != null ? application.getApplicationName() : null,
+                    application != null ? application.getKeyType() : null,
+                    operation != null ? operation.getApiMethod() : null,
+                    operation != null ? operation.getApiResourceTemplate() : null,
+                    event.getErrorType()};
+            this.proxyResponseCode = event.getProxyResponseCode();
+            this.hashCode = 31 * (31 * Boolean.hashCode(faulty) + Arrays.hashCode(dimensions)) + proxyResponseCode;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return proxyResponseCode == key.proxyResponseCode && faulty == key.faulty
+                    && Arrays.equals(dimensions, key.dimensions);
+        }
+
+        @Override
+        public int hashCode() {
+
+            return hashCode;
+        }
+    }
+
+    /**
+     * Aggregated values of the events of a key within an interval.
+     */
+    static final class Rollup {
+
+        private final LatencyHistogram responseLatencies = new LatencyHistogram();
+        private long requestCount;
+        private long errorCount;
+
+        void record(Event event) {
+
+            requestCount++;
+            if (event.getError() != null || event.getProxyResponseCode() >= 400) {
+                errorCount++;
+            }
+            if (event.getLatencies() != null) {
+                responseLatencies.record(event.getLatencies().getResponseLatency());
+            }
+        }
+    }
+}
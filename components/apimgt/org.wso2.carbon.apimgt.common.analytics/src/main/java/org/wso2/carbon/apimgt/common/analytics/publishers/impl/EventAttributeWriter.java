@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.apimgt.common.analytics.publishers.impl;
+
+import org.wso2.am.analytics.publisher.exception.MetricReportingException;
+import org.wso2.am.analytics.publisher.reporter.MetricEventBuilder;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.API;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.Application;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.Error;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.Event;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.ExtendedAPI;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.Latencies;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.MetaInfo;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.Operation;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.OperationPolicy;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.Target;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.URITemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes the attributes of an analytics {@link Event} directly into a {@link MetricEventBuilder}, without converting
+ * the event into an intermediate map. The attribute names and values are the same as the ones of the Jackson
+ * conversion of the event, where the nested objects annotated with {@code JsonUnwrapped} are flattened.
+ */
+final class EventAttributeWriter {
+
+    private EventAttributeWriter() {
+
+    }
+
+    /**
+     * @param event analytics event
+     * @return true if the event and its nested objects are of the types known to this writer. Events of other types,
+     * such as subclasses, have to be converted by Jackson.
+     */
+    static boolean isSupported(Event event) {
+
+        if (event.getClass() != Event.class) {
+            return false;
+        }
+        API api = event.getApi();
+        if (api != null && ((api.getClass() != API.class && api.getClass() != ExtendedAPI.class)
+                || !isListOfType(api.getApiPolicies(), OperationPolicy.class)
+                || !isListOfType(api.getUriTemplates(), URITemplate.class))) {
+            return false;
+        }
+        if (api != null && api.getUriTemplates() != null) {
+            for (URITemplate uriTemplate : api.getUriTemplates()) {
+                if (uriTemplate != null && !isListOfType(uriTemplate.getOperationPolicies(), OperationPolicy.class)) {
+                    return false;
+                }
+            }
+        }
+        Error error = event.getError();
+        return isOfType(event.getOperation(), Operation.class) && isOfType(event.getTarget(), Target.class)
+                && isOfType(event.getApplication(), Application.class)
+                && isOfType(event.getLatencies(), Latencies.class) && isOfType(event.getMetaInfo(), MetaInfo.class)
+                && (error == null || (error.getClass() == Error.class
+                && (error.getErrorMessage() == null || error.getErrorMessage() instanceof Enum)))
+                && isSimpleMap(event.getProperties());
+    }
+
+    /**
+     * Adds the attributes of a supported event to the builder.
+     *
+     * @param event   analytics event
+     * @param builder event builder of a counter metric
+     * @throws MetricReportingException if the builder rejects an attribute
+     */
+    static void write(Event event, MetricEventBuilder builder) throws MetricReportingException {
+
+        API api = event.getApi();
+        if (api != null) {
+            builder.addAttribute("apiId", api.getApiId());
+            builder.addAttribute("apiType", api.getApiType());
+            builder.addAttribute("apiName", api.getApiName());
+            builder.addAttribute("apiVersion", api.getApiVersion());
+            builder.addAttribute("apiCreator", api.getApiCreator());
+            builder.addAttribute("apiCreatorTenantDomain", api.getApiCreatorTenantDomain());
+            builder.addAttribute("uriTemplates", toURITemplateList(api.getUriTemplates()));
+            builder.addAttribute("apiPolicies", toOperationPolicyList(api.getApiPolicies()));
+            if (api instanceof ExtendedAPI) {
+                ExtendedAPI extendedAPI = (ExtendedAPI) api;
+                builder.addAttribute("organizationId", extendedAPI.getOrganizationId());
+                builder.addAttribute("apiContext", extendedAPI.getApiContext());
+            }
+        }
+        Operation operation = event.getOperation();
+        if (operation != null) {
+            builder.addAttribute("apiMethod", operation.getApiMethod());
+            builder.addAttribute("apiResourceTemplate", operation.getApiResourceTemplate());
+        }
+        Target target = event.getTarget();
+        if (target != null) {
+            builder.addAttribute("targetResponseCode", target.getTargetResponseCode());
+            builder.addAttribute("responseCacheHit", target.isResponseCacheHit());
+            builder.addAttribute("destination", target.getDestination());
+        }
+        Application application = event.getApplication();
+        if (application != null) {
+            builder.addAttribute("keyType", application.getKeyType());
+            builder.addAttribute("applicationId", application.getApplicationId());
+            builder.addAttribute("applicationName", application.getApplicationName());
+            builder.addAttribute("applicationOwner", application.getApplicationOwner());
+        }
+        Latencies latencies = event.getLatencies();
+        if (latencies != null) {
+            builder.addAttribute("responseLatency", latencies.getResponseLatency());
+            builder.addAttribute("backendLatency", latencies.getBackendLatency());
+            builder.addAttribute("requestMediationLatency", latencies.getRequestMediationLatency());
+            builder.addAttribute("responseMediationLatency", latencies.getResponseMediationLatency());
+        }
+        MetaInfo metaInfo = event.getMetaInfo();
+        if (metaInfo != null) {
+            builder.addAttribute("correlationId", metaInfo.getCorrelationId());
+            builder.addAttribute("regionId", metaInfo.getRegionId());
+            builder.addAttribute("gatewayType", metaInfo.getGatewayType());
+        }
+        Error error = event.getError();
+        if (error != null) {
+            builder.addAttribute("errorCode", error.getErrorCode());
+            builder.addAttribute("errorMessage",
+                    error.getErrorMessage() != null ? ((Enum<?>) error.getErrorMessage()).name() : null);
+        }
+        builder.addAttribute("proxyResponseCode", event.getProxyResponseCode());
+        builder.addAttribute("requestTimestamp", event.getRequestTimestamp());
+        builder.addAttribute("userAgentHeader", event.getUserAgentHeader());
+        builder.addAttribute("userName", event.getUserName());
+        builder.addAttribute("userIp", event.getUserIp());
+        builder.addAttribute("errorType", event.getErrorType());
+        builder.addAttribute("properties",
+                event.getProperties() != null ? new LinkedHashMap<>(event.getProperties()) : null);
+    }
+
+    private static boolean isOfType(Object object, Class<?> type) {
+
+        return object == null || object.getClass() == type;
+    }
+
+    private static boolean isListOfType(List<?> list, Class<?> type) {
+
+        if (list != null) {
+            for (Object element : list) {
+                if (!isOfType(element, type)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static boolean isSimpleMap(Map<String, Object> map) {
+
+        if (map == null) {
+            return true;
+        }
+        for (Object value : map.values()) {
+            if (value != null && !(value instanceof String) && !(value instanceof Number)
+                    && !(value instanceof Boolean)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static List<Map<String, Object>> toURITemplateList(List<URITemplate> uriTemplates) {
+
+        if (uriTemplates == null) {
+            return null;
+        }
+        List<Map<String, Object>> uriTemplateList = new ArrayList<>(uriTemplates.size());
+        for (URITemplate uriTemplate : uriTemplates) {
+            if (uriTemplate == null) {
+                uriTemplateList.add(null);
+                continue;
+            }
+            Map<String, Object> uriTemplateMap = new LinkedHashMap<>();
+            uriTemplateMap.put("operationPolicies", toOperationPolicyList(uriTemplate.getOperationPolicies()));
+            uriTemplateMap.put("httpVerb", uriTemplate.getHttpVerb());
+            uriTemplateMap.put("uriTemplate", uriTemplate.getUriTemplate());
+            uriTemplateMap.put("resourceURI", uriTemplate.getResourceURI());
+            uriTemplateMap.put("resourceSandboxURI", uriTemplate.getResourceSandboxURI());
+            uriTemplateMap.put("authScheme", uriTemplate.getAuthScheme());
+            uriTemplateList.add(uriTemplateMap);
+        }
+        return uriTemplateList;
+    }
+
+    private static List<Map<String, Object>> toOperationPolicyList(List<OperationPolicy> operationPolicies) {
+
+        if (operationPolicies == null) {
+            return null;
+        }
+        List<Map<String, Object>> operationPolicyList = new ArrayList<>(operationPolicies.size());
+        for (OperationPolicy operationPolicy : operationPolicies) {
+            if (operationPolicy == null) {
+                operationPolicyList.add(null);
+                continue;
+            }
+            Map<String, Object> operationPolicyMap = new LinkedHashMap<>();
+            operationPolicyMap.put("policyId", operationPolicy.getPolicyId());
+            operationPolicyMap.put("policyName", operationPolicy.getPolicyName());
+            operationPolicyMap.put("policyVersion", operationPolicy.getPolicyVersion());
+            operationPolicyMap.put("direction", operationPolicy.getDirection());
+            operationPolicyMap.put("order", operationPolicy.getOrder());
+            operationPolicyList.add(operationPolicyMap);
+        }
+        return operationPolicyList;
+    }
+}
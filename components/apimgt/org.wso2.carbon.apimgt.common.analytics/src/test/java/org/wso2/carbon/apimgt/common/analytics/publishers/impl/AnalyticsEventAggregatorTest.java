@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.apimgt.common.analytics.publishers.impl;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.wso2.am.analytics.publisher.exception.MetricReportingException;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.API;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.Event;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.Latencies;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class AnalyticsEventAggregatorTest {
+
+    @Test
+    public void aggregatesEventsPerKey() {
+
+        List<Map<String, Object>> records = new ArrayList<>();
+        AnalyticsEventAggregator aggregator = new RecordingAggregator(records, null);
+        SuccessRequestDataPublisher successPublisher = new SuccessRequestDataPublisher();
+        aggregator.aggregate(createEvent("api1", 200, 10), successPublisher);
+        aggregator.aggregate(createEvent("api1", 200, 30), successPublisher);
+        aggregator.aggregate(createEvent("api1", 500, 20), successPublisher);
+        aggregator.aggregate(createEvent("api1", 500, 20), new FaultyRequestDataPublisher());
+        aggregator.flush();
+
+        Assert.assertEquals(3, records.size());
+        for (Map<String, Object> record : records) {
+            Assert.assertEquals("api1", record.get("apiId"));
+            if ((int) record.get("proxyResponseCode") == 200) {
+                Assert.assertEquals(2L, record.get("requestCount"));
+                Assert.assertEquals(0L, record.get("errorCount"));
+                Assert.assertEquals(10L, record.get("minResponseLatency"));
+                Assert.assertEquals(30L, record.get("maxResponseLatency"));
+                Assert.assertEquals(20.0, record.get("meanResponseLatency"));
+            } else {
+                Assert.assertEquals(1L, record.get("requestCount"));
+                Assert.assertEquals(1L, record.get("errorCount"));
+            }
+        }
+        records.clear();
+        aggregator.flush();
+        Assert.assertTrue(records.isEmpty());
+    }
+
+    @Test
+    public void aggregatedRecordIsAcceptedByTheAggregatedEventBuilder() throws MetricReportingException {
+
+        List<Map<String, Object>> records = new ArrayList<>();
+        AnalyticsEventAggregator aggregator = new RecordingAggregator(records, null);
+        aggregator.aggregate(createEvent("api1", 200, 10), new SuccessRequestDataPublisher());
+        aggregator.flush();
+
+        AggregatedMetricEventBuilder builder = new AggregatedMetricEventBuilder();
+        for (Map.Entry<String, Object> attribute : records.get(0).entrySet()) {
+            builder.addAttribute(attribute.getKey(), attribute.getValue());
+        }
+        Assert.assertEquals(records.get(0), builder.build());
+    }
+
+    @Test(expected = MetricReportingException.class)
+    public void aggregatedEventBuilderRejectsIncompleteRecords() throws MetricReportingException {
+
+        AggregatedMetricEventBuilder builder = new AggregatedMetricEventBuilder();
+        builder.addAttribute("apiId", "api1");
+        builder.build();
+    }
+
+    @Test
+    public void noEventIsLostToConcurrentFlushes() throws InterruptedException {
+
+        int threadCount = 4;
+        int eventsPerThread = 20000;
+        AtomicLong publishedCount = new AtomicLong();
+        AnalyticsEventAggregator aggregator = new RecordingAggregator(null, publishedCount);
+        SuccessRequestDataPublisher publisher = new SuccessRequestDataPublisher();
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threadCount);
+        for (int i = 0; i < threadCount; i++) {
+            String apiId = "api" + (i % 2);
+            new Thread(() -> {
+                try {
+                    start.await();
+                    for (int j = 0; j < eventsPerThread; j++) {
+                        aggregator.aggregate(createEvent(apiId, 200, j % 100), publisher);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            }).start();
+        }
+        start.countDown();
+        while (!done.await(1, TimeUnit.MILLISECONDS)) {
+            aggregator.flush();
+        }
+        aggregator.flush();
+        Assert.assertEquals((long) threadCount * eventsPerThread, publishedCount.get());
+    }
+
+    private static Event createEvent(String apiId, int proxyResponseCode, long responseLatency) {
+
+        API api = new API();
+        api.setApiId(apiId);
+        Latencies latencies = new Latencies();
+        latencies.setResponseLatency(responseLatency);
+        Event event = new Event();
+        event.setApi(api);
+        event.setLatencies(latencies);
+        event.setProxyResponseCode(proxyResponseCode);
+        return event;
+    }
+
+    /**
+     * Aggregator which records the aggregated records instead of publishing them.
+     */
+    private static class RecordingAggregator extends AnalyticsEventAggregator {
+
+        private final List<Map<String, Object>> records;
+        private final AtomicLong publishedCount;
+
+        RecordingAggregator(List<Map<String, Object>> records, AtomicLong publishedCount) {
+
+            super(TimeUnit.MINUTES.toMillis(1), Collections.emptyList());
+            this.records = records;
+            this.publishedCount = publishedCount;
+        }
+
+        @Override
+        void publish(Key key, Rollup rollup, long startTime, long endTime) {
+
+            Map<String, Object> attributes = getAttributes(key, rollup, startTime, endTime);
+            if (records != null) {
+                records.add(attributes);
+            }
+            if (publishedCount != null) {
+                publishedCount.addAndGet((long) attributes.get("requestCount"));
+            }
+        }
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.apimgt.common.analytics.publishers.impl;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.wso2.am.analytics.publisher.exception.MetricReportingException;
+import org.wso2.am.analytics.publisher.reporter.MetricEventBuilder;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.API;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.Application;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.Error;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.Event;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.ExtendedAPI;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.Latencies;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.MetaInfo;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.Operation;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.OperationPolicy;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.Target;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.URITemplate;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.enums.FaultSubCategories;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class EventAttributeWriterTest {
+
+    @Test
+    public void writesTheAttributesOfASuccessEvent() throws MetricReportingException {
+
+        Event event = createEvent(new API());
+        event.setTarget(createTarget());
+        assertSameAttributesAsJackson(event);
+    }
+
+    @Test
+    public void writesTheAttributesOfAFaultEvent() throws MetricReportingException {
+
+        ExtendedAPI api = new ExtendedAPI();
+        api.setOrganizationId("carbon.super");
+        api.setApiContext("/pizzashack/1.0.0");
+        Event event = createEvent(api);
+        Error error = new Error();
+        error.setErrorCode(900800);
+        error.setErrorMessage(FaultSubCategories.Throttling.APPLICATION_LEVEL_LIMIT_EXCEEDED);
+        event.setError(error);
+        event.setErrorType("THROTTLED");
+        assertSameAttributesAsJackson(event);
+    }
+
+    @Test
+    public void writesTheAttributesOfAnEventWithoutNestedObjects() throws MetricReportingException {
+
+        Event event = new Event();
+        event.setProxyResponseCode(404);
+        event.setRequestTimestamp("2024-01-01T00:00:00.000Z");
+        assertSameAttributesAsJackson(event);
+    }
+
+    @Test
+    public void writesNullNestedObjectsAndProperties() throws MetricReportingException {
+
+        API api = new API();
+        api.setApiId("api1");
+        api.setUriTemplates(Collections.singletonList(null));
+        api.setApiPolicies(Collections.singletonList(null));
+        Event event = new Event();
+        event.setApi(api);
+        Error error = new Error();
+        error.setErrorCode(101503);
+        event.setError(error);
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("commonName", null);
+        event.setProperties(properties);
+        assertSameAttributesAsJackson(event);
+    }
+
+    @Test
+    public void eventsOfUnknownTypesAreNotSupported() {
+
+        Assert.assertTrue(EventAttributeWriter.isSupported(createEvent(new ExtendedAPI())));
+        Assert.assertFalse(EventAttributeWriter.isSupported(new Event() {
+        }));
+        Event event = createEvent(new API() {
+        });
+        Assert.assertFalse(EventAttributeWriter.isSupported(event));
+        event = createEvent(new API());
+        event.getProperties().put("headers", Collections.singletonMap("Host", "localhost"));
+        Assert.assertFalse(EventAttributeWriter.isSupported(event));
+    }
+
+    private static void assertSameAttributesAsJackson(Event event) throws MetricReportingException {
+
+        Assert.assertTrue(EventAttributeWriter.isSupported(event));
+        RecordingEventBuilder builder = new RecordingEventBuilder();
+        EventAttributeWriter.write(event, builder);
+        Map<String, Object> expected = AbstractRequestDataPublisher.OBJECT_MAPPER.convertValue(event,
+                AbstractRequestDataPublisher.MAP_TYPE_REFERENCE);
+        Assert.assertEquals(expected, builder.attributes);
+    }
+
+    private static Event createEvent(API api) {
+
+        api.setApiId("api1");
+        api.setApiType("HTTP");
+        api.setApiName("PizzaShackAPI");
+        api.setApiVersion("1.0.0");
+        api.setApiCreator("admin");
+        api.setApiCreatorTenantDomain("carbon.super");
+        OperationPolicy operationPolicy = new OperationPolicy();
+        operationPolicy.setPolicyId("policy1");
+        operationPolicy.setPolicyName("addHeader");
+        operationPolicy.setPolicyVersion("v1");
+        operationPolicy.setDirection("request");
+        operationPolicy.setOrder(1);
+        URITemplate uriTemplate = new URITemplate();
+        uriTemplate.setUriTemplate("/menu");
+        uriTemplate.setHttpVerb("GET");
+        uriTemplate.setAuthScheme("Any");
+        uriTemplate.setOperationPolicies(Collections.singletonList(operationPolicy));
+        URITemplate uriTemplateWithoutPolicies = new URITemplate();
+        uriTemplateWithoutPolicies.setUriTemplate("/order");
+        uriTemplateWithoutPolicies.setHttpVerb("POST");
+        api.setUriTemplates(Arrays.asList(uriTemplate, uriTemplateWithoutPolicies));
+        api.setApiPolicies(Collections.singletonList(operationPolicy));
+
+        Operation operation = new Operation();
+        operation.setApiMethod("GET");
+        operation.setApiResourceTemplate("/menu");
+        Application application = new Application();
+        application.setKeyType("PRODUCTION");
+        application.setApplicationId("app1");
+        application.setApplicationName("DefaultApplication");
+        application.setApplicationOwner("admin");
+        Latencies latencies = new Latencies();
+        latencies.setResponseLatency(42);
+        latencies.setBackendLatency(30);
+        latencies.setRequestMediationLatency(5);
+        latencies.setResponseMediationLatency(7);
+        MetaInfo metaInfo = new MetaInfo();
+        metaInfo.setCorrelationId("correlation1");
+        metaInfo.setRegionId("default");
+        metaInfo.setGatewayType("SYNAPSE");
+
+        Event event = new Event();
+        event.setApi(api);
+        event.setOperation(operation);
+        event.setApplication(application);
+        event.setLatencies(latencies);
+        event.setMetaInfo(metaInfo);
+        event.setProxyResponseCode(200);
+        event.setRequestTimestamp("2024-01-01T00:00:00.000Z");
+        event.setUserAgentHeader("curl/8.4.0");
+        event.setUserName("admin@carbon.super");
+        event.setUserIp("127.0.0.1");
+        Map<String, Object> properties = new LinkedHashMap<>();
+        properties.put("apiContext", "/pizzashack/1.0.0");
+        properties.put("responseContentType", "application/json");
+        properties.put("responseSize", 512L);
+        properties.put("isEgress", false);
+        event.setProperties(properties);
+        return event;
+    }
+
+    private static Target createTarget() {
+
+        Target target = new Target();
+        target.setTargetResponseCode(200);
+        target.setResponseCacheHit(false);
+        target.setDestination("https://localhost:9443/am/sample/pizzashack/v1/api/");
+        return target;
+    }
+
+    private static class RecordingEventBuilder implements MetricEventBuilder {
+
+        private final Map<String, Object> attributes = new LinkedHashMap<>();
+
+        @Override
+        public Map<String, Object> build() {
+
+            return attributes;
+        }
+
+        @Override
+        public boolean validate() {
+
+            return true;
+        }
+
+        @Override
+        public MetricEventBuilder addAttribute(String key, Object value) {
+
+            attributes.put(key, value);
+            return this;
+        }
+    }
+}
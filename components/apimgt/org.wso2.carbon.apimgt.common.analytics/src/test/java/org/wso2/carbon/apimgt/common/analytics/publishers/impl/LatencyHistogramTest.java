@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.apimgt.common.analytics.publishers.impl;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void bucketsCoverEveryValueWithinRelativeError() {
+
+        int previousIndex = -1;
+        for (long value = 0; value < 100000; value++) {
+            int index = LatencyHistogram.getBucketIndex(value);
+            Assert.assertTrue("Bucket index is not monotonic at " + value, index >= previousIndex);
+            long highestValue = LatencyHistogram.getHighestValueInBucket(index);
+            Assert.assertTrue("Value " + value + " is above its bucket", highestValue >= value);
+            Assert.assertTrue("Value " + value + " is off by more than 12.5%", highestValue - value <= value / 8);
+            if (index > 0) {
+                Assert.assertTrue("Value " + value + " belongs to the previous bucket",
+                        LatencyHistogram.getHighestValueInBucket(index - 1) < value);
+            }
+            previousIndex = index;
+        }
+    }
+
+    @Test
+    public void largestValuesFitIntoTheBuckets() {
+
+        int index = LatencyHistogram.getBucketIndex(Long.MAX_VALUE);
+        Assert.assertEquals(Long.MAX_VALUE, LatencyHistogram.getHighestValueInBucket(index));
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(Long.MAX_VALUE);
+        Assert.assertEquals(Long.MAX_VALUE, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    public void reportsPercentilesOfRecordedValues() {
+
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1; value <= 1000; value++) {
+            histogram.record(value);
+        }
+        histogram.record(-1);
+        Assert.assertEquals(1000, histogram.getTotalCount());
+        Assert.assertEquals(1, histogram.getMin());
+        Assert.assertEquals(1000, histogram.getMax());
+        Assert.assertEquals(500.5, histogram.getMean(), 0);
+        assertWithinRelativeError(500, histogram.getValueAtPercentile(50));
+        assertWithinRelativeError(900, histogram.getValueAtPercentile(90));
+        assertWithinRelativeError(990, histogram.getValueAtPercentile(99));
+        Assert.assertEquals(1000, histogram.getValueAtPercentile(100));
+        Assert.assertEquals(1, histogram.getValueAtPercentile(0));
+    }
+
+    @Test
+    public void reportsZeroWhenEmpty() {
+
+        LatencyHistogram histogram = new LatencyHistogram();
+        Assert.assertEquals(0, histogram.getMin());
+        Assert.assertEquals(0, histogram.getMax());
+        Assert.assertEquals(0, histogram.getMean(), 0);
+        Assert.assertEquals(0, histogram.getValueAtPercentile(99));
+    }
+
+    private static void assertWithinRelativeError(long expected, long actual) {
+
+        Assert.assertTrue("Expected " + expected + " but was " + actual,
+                actual >= expected && actual - expected <= expected / 8);
+    }
+}
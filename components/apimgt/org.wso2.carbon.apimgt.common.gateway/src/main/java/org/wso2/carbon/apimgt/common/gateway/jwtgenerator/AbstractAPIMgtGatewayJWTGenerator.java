@@ -50,6 +50,7 @@ public abstract class AbstractAPIMgtGatewayJWTGenerator {
     public static final String NONE = "NONE";
     public static final String SHA256_WITH_RSA = "SHA256withRSA";
     public static final String API_GATEWAY_ID = "wso2.org/products/am";
+    private static final ObjectMapper objectMapper = new ObjectMapper();
     protected JWTConfigurationDto jwtConfigurationDto;
 
     private static volatile long ttl = -1L;
@@ -59,7 +60,12 @@ public abstract class AbstractAPIMgtGatewayJWTGenerator {
 
     private boolean useSHA256Hash = false;
 
+    private volatile String encodedHeader;
+    private final boolean buildHeaderOverridden;
+
     public AbstractAPIMgtGatewayJWTGenerator() {
+
+        buildHeaderOverridden = isBuildHeaderOverridden(getClass());
     }
 
     public void setJWTConfigurationDto(JWTConfigurationDto jwtConfigurationDto) {
@@ -74,17 +80,13 @@ public abstract class AbstractAPIMgtGatewayJWTGenerator {
             signatureAlgorithm = SHA256_WITH_RSA;
         }
         useSHA256Hash = jwtConfigurationDto.useSHA256Hash();
-
+        encodedHeader = null;
     }
 
     public String generateToken(JWTInfoDto jwtInfoDto) throws JWTGeneratorException {
 
-        String jwtHeader = buildHeader();
+        String base64UrlEncodedHeader = getEncodedHeader();
         String jwtBody = buildBody(jwtInfoDto);
-        String base64UrlEncodedHeader = "";
-        if (jwtHeader != null) {
-            base64UrlEncodedHeader = encode(jwtHeader.getBytes(Charset.defaultCharset()));
-        }
         String base64UrlEncodedBody = "";
         try {
             base64UrlEncodedBody = encode(jwtBody.getBytes("UTF-8"));
@@ -108,6 +110,52 @@ public abstract class AbstractAPIMgtGatewayJWTGenerator {
         }
     }
 
+    /**
+     * The header only depends on the JWT configuration and the signing certificate, so it is built and encoded once
+     * instead of computing the certificate thumbprint for every token, unless {@link #isHeaderCacheable()} says
+     * otherwise.
+     */
+    private String getEncodedHeader() throws JWTGeneratorException {
+
+        if (!isHeaderCacheable()) {
+            return encodeHeader(buildHeader());
+        }
+        String header = encodedHeader;
+        if (header == null) {
+            header = encodeHeader(buildHeader());
+            encodedHeader = header;
+        }
+        return header;
+    }
+
+    private String encodeHeader(String jwtHeader) throws JWTGeneratorException {
+
+        return jwtHeader != null ? encode(jwtHeader.getBytes(Charset.defaultCharset())) : "";
+    }
+
+    /**
+     * Whether the header built by {@link #buildHeader()} can be reused for every token until the JWT configuration
+     * changes. This holds for the header built here, but a generator that overrides {@link #buildHeader()} may add
+     * values that change per token, so its header is built for every token unless it overrides this method to
+     * return true.
+     *
+     * @return true if the encoded header is built once and reused
+     */
+    protected boolean isHeaderCacheable() {
+
+        return !buildHeaderOverridden;
+    }
+
+    private static boolean isBuildHeaderOverridden(Class<?> generatorClass) {
+
+        try {
+            return generatorClass.getMethod("buildHeader").getDeclaringClass()
+                    != AbstractAPIMgtGatewayJWTGenerator.class;
+        } catch (NoSuchMethodException e) {
+            return true;
+        }
+    }
+
     public String buildHeader() throws JWTGeneratorException {
         String jwtHeader = null;
         X509Certificate x509Certificate = (X509Certificate) jwtConfigurationDto.getPublicCert();
@@ -171,13 +219,12 @@ public abstract class AbstractAPIMgtGatewayJWTGenerator {
                 }
             }
         }
-        ObjectMapper mapper = new ObjectMapper();
         for (Map.Entry<String, Object> claimEntry : claims.entrySet()) {
             Object claimVal = claimEntry.getValue();
             if (claimVal instanceof String && claimVal.toString().startsWith("{") &&
                     claimVal.toString().endsWith("}")) {
                 try {
-                    Map<String, String> map = mapper.readValue(claimVal.toString(), Map.class);
+                    Map<String, String> map = objectMapper.readValue(claimVal.toString(), Map.class);
                     jwtClaimSetBuilder.claim(claimEntry.getKey(), map);
                 } catch (IOException e) {
                     // Exception isn't thrown in order to generate jwt without claim, even if an error is
@@ -188,7 +235,7 @@ public abstract class AbstractAPIMgtGatewayJWTGenerator {
                     && claimVal.toString().contains("\"]")) {
 
                 try {
-                    List<String> arrayList = mapper.readValue(claimVal.toString(), List.class);
+                    List<String> arrayList = objectMapper.readValue(claimVal.toString(), List.class);
                     jwtClaimSetBuilder.claim(claimEntry.getKey(), arrayList);
                 } catch (IOException e) {
                     // Exception isn't thrown in order to generate jwt without claim, even if an error is
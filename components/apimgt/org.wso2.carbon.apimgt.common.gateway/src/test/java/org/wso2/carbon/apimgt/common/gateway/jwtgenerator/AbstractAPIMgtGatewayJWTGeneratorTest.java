@@ -22,8 +22,13 @@ import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 import org.wso2.carbon.apimgt.common.gateway.dto.JWTConfigurationDto;
+import org.wso2.carbon.apimgt.common.gateway.dto.JWTInfoDto;
 import org.wso2.carbon.apimgt.common.gateway.exception.JWTGeneratorException;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
 public class AbstractAPIMgtGatewayJWTGeneratorTest {
     protected JWTConfigurationDto jwtConfigurationDto;
 
@@ -47,4 +52,67 @@ public class AbstractAPIMgtGatewayJWTGeneratorTest {
             Assert.fail("JWTGeneratorException thrown");
         }
     }
+
+    @Test
+    public void testHeaderBuiltOncePerConfiguration() throws JWTGeneratorException {
+        final AtomicInteger headerBuilds = new AtomicInteger();
+        AbstractAPIMgtGatewayJWTGenerator apiMgtGatewayJWTGenerator = createGenerator(headerBuilds, true);
+        jwtConfigurationDto.setSignatureAlgorithm(AbstractAPIMgtGatewayJWTGenerator.NONE);
+        apiMgtGatewayJWTGenerator.setJWTConfigurationDto(jwtConfigurationDto);
+        JWTInfoDto jwtInfoDto = new JWTInfoDto();
+        jwtInfoDto.setEndUser("admin");
+        String firstToken = apiMgtGatewayJWTGenerator.generateToken(jwtInfoDto);
+        jwtInfoDto.setEndUser("user1");
+        String secondToken = apiMgtGatewayJWTGenerator.generateToken(jwtInfoDto);
+        Assert.assertEquals(1, headerBuilds.get());
+        Assert.assertEquals(firstToken.split("\\.")[0], secondToken.split("\\.")[0]);
+        Assert.assertNotEquals(firstToken.split("\\.")[1], secondToken.split("\\.")[1]);
+
+        apiMgtGatewayJWTGenerator.setJWTConfigurationDto(jwtConfigurationDto);
+        apiMgtGatewayJWTGenerator.generateToken(jwtInfoDto);
+        Assert.assertEquals(2, headerBuilds.get());
+    }
+
+    @Test
+    public void testOverriddenHeaderBuiltPerToken() throws JWTGeneratorException {
+        final AtomicInteger headerBuilds = new AtomicInteger();
+        AbstractAPIMgtGatewayJWTGenerator apiMgtGatewayJWTGenerator = createGenerator(headerBuilds, null);
+        jwtConfigurationDto.setSignatureAlgorithm(AbstractAPIMgtGatewayJWTGenerator.NONE);
+        apiMgtGatewayJWTGenerator.setJWTConfigurationDto(jwtConfigurationDto);
+        JWTInfoDto jwtInfoDto = new JWTInfoDto();
+        jwtInfoDto.setEndUser("admin");
+        apiMgtGatewayJWTGenerator.generateToken(jwtInfoDto);
+        apiMgtGatewayJWTGenerator.generateToken(jwtInfoDto);
+        Assert.assertFalse(apiMgtGatewayJWTGenerator.isHeaderCacheable());
+        Assert.assertEquals(2, headerBuilds.get());
+        Assert.assertTrue(new APIMgtGatewayJWTGeneratorImpl().isHeaderCacheable());
+    }
+
+    private static AbstractAPIMgtGatewayJWTGenerator createGenerator(final AtomicInteger headerBuilds,
+                                                                     final Boolean headerCacheable) {
+        return new AbstractAPIMgtGatewayJWTGenerator() {
+            @Override
+            public String buildHeader() throws JWTGeneratorException {
+                headerBuilds.incrementAndGet();
+                return super.buildHeader();
+            }
+
+            @Override
+            protected boolean isHeaderCacheable() {
+                return headerCacheable != null ? headerCacheable : super.isHeaderCacheable();
+            }
+
+            @Override
+            public Map<String, Object> populateStandardClaims(JWTInfoDto jwtInfoDto) {
+                Map<String, Object> claims = new HashMap<>();
+                claims.put("sub", jwtInfoDto.getEndUser());
+                return claims;
+            }
+
+            @Override
+            public Map<String, Object> populateCustomClaims(JWTInfoDto jwtInfoDto) {
+                return new HashMap<>();
+            }
+        };
+    }
 }
@@ -48,6 +48,9 @@ public class APIMgtGatewayConstants {
     public static final String DEACTIVATED_ACCESS_TOKEN = "DeactivatedAccessToken";
     public static final String SCOPES = "Scopes";
     public static final String JWT_CLAIMS = "jwt_token_claims";
+    public static final String GRAPHQL_QUERY_CACHE_ENTRY = "graphql_query_cache_entry";
+    public static final String GRAPHQL_PERSISTED_QUERY_HASH = "graphql_persisted_query_hash";
+    public static final String GRAPHQL_PERSISTED_QUERY_STORE = "graphql_persisted_query_store";
     public static final String REQUEST_EXECUTION_START_TIME = "request.execution.start.time";
     public static final String SYNAPSE_ENDPOINT_ADDRESS = "ENDPOINT_ADDRESS";
     public static final String DUMMY_ENDPOINT_ADDRESS = "dummy_endpoint_address";
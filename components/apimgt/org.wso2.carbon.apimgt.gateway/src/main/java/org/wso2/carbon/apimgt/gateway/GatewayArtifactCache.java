@@ -0,0 +1,243 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.apimgt.gateway;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.apimgt.api.gateway.GatewayAPIDTO;
+import org.wso2.carbon.apimgt.impl.gatewayartifactsynchronizer.dto.DeployedRevisionDto;
+import org.wso2.carbon.utils.CarbonUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Local on-disk store of the deployed API artifacts of the gateway. An artifact is stored per tenant under the API
+ * UUID and a hash of its deployment, that is the deployed revision together with the label, the vhost and the time it
+ * was deployed, so that on restart an API whose deployment has not changed in the control plane is deployed from disk
+ * instead of being retrieved again.
+ */
+public class GatewayArtifactCache {
+
+    private static final Log log = LogFactory.getLog(GatewayArtifactCache.class);
+    private static final String CACHE_DIRECTORY = "gateway-artifacts";
+    private static final String ARTIFACT_FILE_EXTENSION = ".json";
+    private static final Pattern VALID_NAME = Pattern.compile("[A-Za-z0-9_\\-][A-Za-z0-9_.\\-]*");
+    private static final Gson gson = new Gson();
+
+    private final Path rootDirectory;
+
+    public GatewayArtifactCache(Path rootDirectory) {
+
+        this.rootDirectory = rootDirectory;
+    }
+
+    public static GatewayArtifactCache getInstance() {
+
+        return InstanceHolder.INSTANCE;
+    }
+
+    /**
+     * @param tenantDomain tenant domain of the API
+     * @param deployment   deployment of the API revision
+     * @return true if the artifact of the deployment is stored
+     */
+    public boolean contains(String tenantDomain, DeployedRevisionDto deployment) {
+
+        Path artifactPath = getArtifactPath(tenantDomain, deployment);
+        return artifactPath != null && Files.isRegularFile(artifactPath);
+    }
+
+    /**
+     * @param tenantDomain tenant domain of the API
+     * @param deployment   deployment of the API revision
+     * @return stored artifact of the deployment, or null if it is not stored or cannot be read
+     */
+    public GatewayAPIDTO get(String tenantDomain, DeployedRevisionDto deployment) {
+
+        Path artifactPath = getArtifactPath(tenantDomain, deployment);
+        String apiId = deployment.getApiId();
+        if (artifactPath == null || !Files.isRegularFile(artifactPath)) {
+            return null;
+        }
+        try {
+            GatewayAPIDTO gatewayAPIDTO = gson.fromJson(new String(Files.readAllBytes(artifactPath),
+                    StandardCharsets.UTF_8), GatewayAPIDTO.class);
+            if (gatewayAPIDTO != null && apiId.equals(gatewayAPIDTO.getApiId())
+                    && deployment.getRevisionId().equals(gatewayAPIDTO.getRevision())) {
+                return gatewayAPIDTO;
+            }
+            log.warn("Discarding mismatching artifact of API " + apiId + " in local artifact cache");
+        } catch (IOException | JsonParseException e) {
+            log.warn("Discarding unreadable artifact of API " + apiId + " in local artifact cache", e);
+        }
+        deleteQuietly(artifactPath);
+        return null;
+    }
+
+    /**
+     * Stores the artifact of a deployed API under its deployment, replacing the artifacts of the other deployments of
+     * the API. The artifact is not stored if it is not of the revision of the deployment. Failures are logged and
+     * ignored, as the artifact can always be retrieved from the control plane again.
+     *
+     * @param gatewayAPIDTO deployed API artifact
+     * @param deployment    deployment of the API revision
+     */
+    public void put(GatewayAPIDTO gatewayAPIDTO, DeployedRevisionDto deployment) {
+
+        if (!deployment.getApiId().equals(gatewayAPIDTO.getApiId())
+                || !deployment.getRevisionId().equals(gatewayAPIDTO.getRevision())) {
+            return;
+        }
+        Path artifactPath = getArtifactPath(gatewayAPIDTO.getTenantDomain(), deployment);
+        if (artifactPath == null || Files.isRegularFile(artifactPath)) {
+            return;
+        }
+        try {
+            Path tenantDirectory = artifactPath.getParent();
+            Files.createDirectories(tenantDirectory);
+            Path temporaryPath = Files.createTempFile(tenantDirectory, gatewayAPIDTO.getApiId(), ".tmp");
+            try {
+                setOwnerOnlyPermissions(temporaryPath);
+                Files.write(temporaryPath, gson.toJson(gatewayAPIDTO).getBytes(StandardCharsets.UTF_8));
+                Files.move(temporaryPath, artifactPath, StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temporaryPath);
+            }
+            removeOtherRevisions(tenantDirectory, gatewayAPIDTO.getApiId(), artifactPath);
+        } catch (IOException e) {
+            log.warn("Error while storing artifact of API " + gatewayAPIDTO.getApiId() + " in local artifact cache",
+                    e);
+        }
+    }
+
+    /**
+     * Removes the stored artifacts of an API.
+     *
+     * @param tenantDomain tenant domain of the API
+     * @param apiId        UUID of the API
+     */
+    public void remove(String tenantDomain, String apiId) {
+
+        if (isValidName(tenantDomain) && isValidName(apiId)) {
+            removeOtherRevisions(rootDirectory.resolve(tenantDomain), apiId, null);
+        }
+    }
+
+    /**
+     * Removes the stored artifacts of the APIs of a tenant which are no longer deployed in the gateway.
+     *
+     * @param tenantDomain tenant domain
+     * @param apiIds       UUIDs of the APIs deployed in the gateway
+     */
+    public void retainAll(String tenantDomain, Set<String> apiIds) {
+
+        if (!isValidName(tenantDomain)) {
+            return;
+        }
+        Path tenantDirectory = rootDirectory.resolve(tenantDomain);
+        if (!Files.isDirectory(tenantDirectory)) {
+            return;
+        }
+        try (DirectoryStream<Path> artifacts = Files.newDirectoryStream(tenantDirectory,
+                "*" + ARTIFACT_FILE_EXTENSION)) {
+            for (Path artifact : artifacts) {
+                String fileName = artifact.getFileName().toString();
+                int separatorIndex = fileName.lastIndexOf('_');
+                if (separatorIndex < 0 || !apiIds.contains(fileName.substring(0, separatorIndex))) {
+                    deleteQuietly(artifact);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Error while cleaning local artifact cache of tenant " + tenantDomain, e);
+        }
+    }
+
+    private Path getArtifactPath(String tenantDomain, DeployedRevisionDto deployment) {
+
+        if (!isValidName(tenantDomain) || !isValidName(deployment.getApiId()) || deployment.getRevisionId() == null) {
+            return null;
+        }
+        String deploymentKey = String.join("|", deployment.getRevisionId(), String.valueOf(deployment.getLabel()),
+                String.valueOf(deployment.getVhost()), String.valueOf(deployment.getDeployedTimeStamp()));
+        return rootDirectory.resolve(tenantDomain)
+                .resolve(deployment.getApiId() + "_" + DigestUtils.sha256Hex(deploymentKey) + ARTIFACT_FILE_EXTENSION);
+    }
+
+    private void removeOtherRevisions(Path tenantDirectory, String apiId, Path artifactPath) {
+
+        if (!Files.isDirectory(tenantDirectory)) {
+            return;
+        }
+        try (DirectoryStream<Path> artifacts = Files.newDirectoryStream(tenantDirectory,
+                apiId + "_*" + ARTIFACT_FILE_EXTENSION)) {
+            for (Path artifact : artifacts) {
+                if (!artifact.equals(artifactPath)) {
+                    deleteQuietly(artifact);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Error while removing artifacts of API " + apiId + " from local artifact cache", e);
+        }
+    }
+
+    private static void setOwnerOnlyPermissions(Path path) throws IOException {
+
+        try {
+            Files.setPosixFilePermissions(path, PosixFilePermissions.fromString("rw-------"));
+        } catch (UnsupportedOperationException e) {
+            if (log.isDebugEnabled()) {
+                log.debug("POSIX file permissions are not supported for " + path);
+            }
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Error while deleting " + path + " from local artifact cache", e);
+        }
+    }
+
+    private static boolean isValidName(String name) {
+
+        return name != null && VALID_NAME.matcher(name).matches();
+    }
+
+    private static class InstanceHolder {
+
+        private static final GatewayArtifactCache INSTANCE = new GatewayArtifactCache(
+                Paths.get(CarbonUtils.getCarbonHome(), "repository", "data", CACHE_DIRECTORY));
+    }
+}
@@ -48,6 +48,7 @@ import org.wso2.carbon.apimgt.impl.APIConstants;
 import org.wso2.carbon.apimgt.impl.dto.GatewayArtifactSynchronizerProperties;
 import org.wso2.carbon.apimgt.impl.dto.GatewayCleanupSkipList;
 import org.wso2.carbon.apimgt.impl.gatewayartifactsynchronizer.ArtifactRetriever;
+import org.wso2.carbon.apimgt.impl.gatewayartifactsynchronizer.dto.DeployedRevisionDto;
 import org.wso2.carbon.apimgt.impl.gatewayartifactsynchronizer.exception.ArtifactSynchronizerException;
 import org.wso2.carbon.apimgt.impl.notifier.events.APIEvent;
 import org.wso2.carbon.apimgt.impl.notifier.events.DeployAPIInGatewayEvent;
@@ -59,12 +60,23 @@ import org.wso2.carbon.context.PrivilegedCarbonContext;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Paths;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 
 /**
  * This class contains the methods used to retrieve artifacts from a storage and deploy and undeploy the API in gateway.
@@ -72,14 +84,19 @@ import java.util.UUID;
 public class InMemoryAPIDeployer {
 
     private static final Log log = LogFactory.getLog(InMemoryAPIDeployer.class);
+    private static final int ARTIFACT_RETRIEVAL_BATCH_SIZE = 100;
     ArtifactRetriever artifactRetriever;
     GatewayArtifactSynchronizerProperties gatewayArtifactSynchronizerProperties;
+    GatewayArtifactCache artifactCache;
 
     public InMemoryAPIDeployer() {
 
         this.artifactRetriever = ServiceReferenceHolder.getInstance().getArtifactRetriever();
         this.gatewayArtifactSynchronizerProperties = ServiceReferenceHolder
                 .getInstance().getAPIManagerConfiguration().getGatewayArtifactSynchronizerProperties();
+        if (gatewayArtifactSynchronizerProperties.isLocalArtifactCacheEnabled()) {
+            this.artifactCache = GatewayArtifactCache.getInstance();
+        }
     }
 
     /**
@@ -106,6 +123,7 @@ public class InMemoryAPIDeployer {
                 DataHolder.getInstance().addKeyManagerToAPIMapping(apiId, gatewayAPIDTO.getKeyManagers());
                 DataHolder.getInstance().addAPIMetaData(gatewayEvent);
                 DataHolder.getInstance().markAPIAsDeployed(gatewayAPIDTO);
+                addToArtifactCache(gatewayAPIDTO, null);
                 if (log.isDebugEnabled()) {
                     log.debug("API with " + apiId + " is deployed in gateway with the labels " + String.join(",",
                             gatewayLabels));
@@ -142,6 +160,7 @@ public class InMemoryAPIDeployer {
                 addDeployedGraphqlQLToAPI(gatewayAPIDTO);
                 DataHolder.getInstance().addKeyManagerToAPIMapping(apiId, gatewayAPIDTO.getKeyManagers());
                 DataHolder.getInstance().markAPIAsDeployed(gatewayAPIDTO);
+                addToArtifactCache(gatewayAPIDTO, null);
                 if (log.isDebugEnabled()) {
                     log.debug("API with " + apiId + " is deployed in gateway with the labels " + String.join(",",
                             gatewayLabels));
@@ -205,7 +224,6 @@ public class InMemoryAPIDeployer {
                                                  boolean redeployChangedAPIs) throws ArtifactSynchronizerException {
 
         boolean result = false;
-        Map<String, org.wso2.carbon.apimgt.keymgt.model.entity.API> apiMap = null;
 
         if (!redeployChangedAPIs) {
             try {
@@ -217,7 +235,8 @@ public class InMemoryAPIDeployer {
         if (gatewayArtifactSynchronizerProperties.isRetrieveFromStorageEnabled()) {
             if (artifactRetriever != null) {
                 try {
-                    int errorCount = 0;
+                    AtomicInteger errorCount = new AtomicInteger();
+                    AtomicLong deploymentTime = new AtomicLong();
                     String labelString = String.join("|", assignedGatewayLabels);
                     String encodedString = Base64.encodeBase64URLSafeString(labelString.getBytes());
 
@@ -227,59 +246,64 @@ public class InMemoryAPIDeployer {
                     PrivilegedCarbonContext.startTenantFlow();
                     PrivilegedCarbonContext.getThreadLocalCarbonContext()
                             .setTenantDomain(tenantDomain, true);
-                    List<String> gatewayRuntimeArtifacts = ServiceReferenceHolder.getInstance().getArtifactRetriever()
-                            .retrieveAllArtifacts(encodedString, tenantDomain);
-                    if (gatewayRuntimeArtifacts.isEmpty()) {
-                        return true;
+                    Map<String, List<DeployedRevisionDto>> deployments = null;
+                    if (redeployChangedAPIs || artifactCache != null) {
+                        deployments = retrieveDeployments(encodedString, tenantDomain);
                     }
-                    if (redeployChangedAPIs) {
-                        DataHolder dataHolder = DataHolder.getInstance();
-                        apiMap = dataHolder.getTenantAPIMap().get(tenantDomain);
+                    if (!redeployChangedAPIs && artifactCache != null && deployments != null) {
+                        Boolean cachedDeploymentResult = deployAllAPIsFromArtifactCache(deployments,
+                                assignedGatewayLabels, tenantDomain, apiGatewayAdmin);
+                        if (cachedDeploymentResult != null) {
+                            DynamicProfileReloaderHolder.getInstance().reloadAllHandlers();
+                            return cachedDeploymentResult;
+                        }
                     }
-                    for (String runtimeArtifact : gatewayRuntimeArtifacts) {
-                        GatewayAPIDTO gatewayAPIDTO = null;
-                        try {
-                            if (StringUtils.isNotEmpty(runtimeArtifact)) {
-                                gatewayAPIDTO = new Gson().fromJson(runtimeArtifact, GatewayAPIDTO.class);
-                                if (redeployChangedAPIs && apiMap != null) {
-                                    org.wso2.carbon.apimgt.keymgt.model.entity.API api =
-                                            apiMap.get(gatewayAPIDTO.getApiContext());
-                                    // Here, we redeploy APIs only if there is a new revision deployed in the
-                                    // Control Plane and not synced with the gateway due to connection issues.
-                                    if (api != null && api.getRevisionId() != null &&
-                                            (!api.getRevisionId().equalsIgnoreCase(gatewayAPIDTO.getRevision()))) {
-                                        DeployAPIInGatewayEvent deployAPIInGatewayEvent =
-                                                new DeployAPIInGatewayEvent(UUID.randomUUID().toString(),
-                                                        System.currentTimeMillis(),
-                                                        APIConstants.EventType.REMOVE_API_FROM_GATEWAY.name(),
-                                                        tenantDomain, api.getApiId(), api.getUuid(),
-                                                        assignedGatewayLabels, api.getName(), api.getVersion(),
-                                                        api.getApiProvider(), api.getApiType(), api.getContext());
-                                        unDeployAPI(deployAPIInGatewayEvent);
-                                        deployAPIFromDTO(gatewayAPIDTO, apiGatewayAdmin);
-                                    } else {
-                                        if (log.isDebugEnabled()) {
-                                            log.debug("API " + gatewayAPIDTO.getName() + " is already deployed");
-                                        }
-                                    }
-                                } else {
-                                    deployAPIFromDTO(gatewayAPIDTO, apiGatewayAdmin);
-                                }
-                            }
-                        } catch (AxisFault axisFault) {
-                            log.error("Error in deploying " + gatewayAPIDTO.getName() + " to the Gateway ", axisFault);
-                            errorCount++;
+                    if (redeployChangedAPIs && deployments != null) {
+                        Boolean redeploymentResult = redeployChangedAPIsFromDeployedRevisions(deployments,
+                                assignedGatewayLabels, tenantDomain, apiGatewayAdmin);
+                        if (redeploymentResult != null) {
+                            return redeploymentResult;
                         }
                     }
+                    Map<String, List<DeployedRevisionDto>> retrievedDeployments = deployments;
+                    Map<String, org.wso2.carbon.apimgt.keymgt.model.entity.API> apiMap = redeployChangedAPIs ?
+                            DataHolder.getInstance().getTenantAPIMap().get(tenantDomain) : null;
+                    long startTime = System.currentTimeMillis();
+                    // Artifacts are deployed in order while they are being retrieved, and GraphQL schemas are parsed
+                    // upfront only when all the APIs are going to be deployed
+                    ArtifactDecodingPipeline pipeline = new ArtifactDecodingPipeline(
+                            gatewayArtifactSynchronizerProperties.getDeploymentThreadPoolSize(), !redeployChangedAPIs,
+                            decodedArtifact -> {
+                                long deploymentStartTime = System.currentTimeMillis();
+                                if (!deployDecodedArtifact(decodedArtifact, apiMap, retrievedDeployments,
+                                        tenantDomain, assignedGatewayLabels, apiGatewayAdmin)) {
+                                    errorCount.incrementAndGet();
+                                }
+                                deploymentTime.addAndGet(System.currentTimeMillis() - deploymentStartTime);
+                            });
+                    try {
+                        ServiceReferenceHolder.getInstance().getArtifactRetriever()
+                                .retrieveAllArtifacts(encodedString, tenantDomain, pipeline::accept);
+                        pipeline.finish();
+                    } finally {
+                        pipeline.close();
+                    }
+                    if (pipeline.getArtifactCount() == 0) {
+                        return true;
+                    }
                     // reload dynamic profiles to avoid delays in loading certs in mutual ssl enabled APIs upon
                     // server restart
                     DynamicProfileReloaderHolder.getInstance().reloadAllHandlers();
+                    long totalTime = System.currentTimeMillis() - startTime;
+                    log.info("Processed " + pipeline.getArtifactCount() + " API artifacts of tenant " + tenantDomain
+                            + " in " + totalTime + " ms (retrieval and decoding: " + (totalTime - deploymentTime.get())
+                            + " ms, deployment: " + deploymentTime.get() + " ms)");
                     if (log.isDebugEnabled()) {
                         log.debug("APIs deployed in gateway with the labels of " + labelString);
                     }
                     result = true;
                     //Setting the result to false only if all the API deployments are failed
-                    if (gatewayRuntimeArtifacts.size() == errorCount) {
+                    if (pipeline.getArtifactCount() == errorCount.get()) {
                         return false;
                     }
                 } catch (AxisFault e) {
@@ -299,17 +323,301 @@ public class InMemoryAPIDeployer {
         return result;
     }
 
+    /**
+     * Retrieves the deployments of the API revisions of a tenant in the labels which the gateway subscribed to,
+     * grouped by API.
+     *
+     * @param encodedLabels encoded labels which the gateway subscribed to
+     * @param tenantDomain  tenant domain of the APIs
+     * @return deployments of the API revisions by API UUID, or null if they could not be retrieved
+     */
+    private Map<String, List<DeployedRevisionDto>> retrieveDeployments(String encodedLabels, String tenantDomain) {
+
+        List<DeployedRevisionDto> deployedRevisions;
+        try {
+            deployedRevisions = artifactRetriever.retrieveDeployedRevisions(encodedLabels, tenantDomain);
+        } catch (ArtifactSynchronizerException e) {
+            log.warn("Error while retrieving deployed API revisions of tenant " + tenantDomain
+                    + ". Retrieving all the API artifacts instead", e);
+            return null;
+        }
+        if (deployedRevisions == null) {
+            return null;
+        }
+        Map<String, List<DeployedRevisionDto>> deployments = new HashMap<>();
+        for (DeployedRevisionDto deployedRevision : deployedRevisions) {
+            deployments.computeIfAbsent(deployedRevision.getApiId(), apiId -> new ArrayList<>()).add(deployedRevision);
+        }
+        return deployments;
+    }
+
+    /**
+     * An artifact is stored in the local artifact cache only for an API deployed in one of the labels of the gateway,
+     * as it is not known which of the deployments of an API deployed in several labels the artifact belongs to.
+     *
+     * @param deployments deployments of the API revisions by API UUID, or null if they are not known
+     * @param apiId       UUID of the API
+     * @return the only deployment of the API, or null if the API is not deployed in exactly one label
+     */
+    private static DeployedRevisionDto getCacheableDeployment(Map<String, List<DeployedRevisionDto>> deployments,
+                                                              String apiId) {
+
+        if (deployments == null) {
+            return null;
+        }
+        List<DeployedRevisionDto> apiDeployments = deployments.get(apiId);
+        return apiDeployments != null && apiDeployments.size() == 1 ? apiDeployments.get(0) : null;
+    }
+
+    /**
+     * Deploys the APIs of a tenant at gateway startup, taking the artifacts of the APIs whose deployment has not
+     * changed from the local artifact cache and retrieving the other APIs from the storage in batches. The
+     * deployments are retrieved from the storage, so that an API is deployed even if its metadata was not loaded
+     * into the gateway.
+     *
+     * @param deployments           deployments of the API revisions by API UUID
+     * @param assignedGatewayLabels labels which the gateway subscribed to
+     * @param tenantDomain          tenant domain of the APIs
+     * @param apiGatewayAdmin       gateway admin used to deploy the APIs
+     * @return null if none of the deployments is in the local artifact cache, else false only if all the API
+     * deployments failed
+     */
+    private Boolean deployAllAPIsFromArtifactCache(Map<String, List<DeployedRevisionDto>> deployments,
+                                                   Set<String> assignedGatewayLabels, String tenantDomain,
+                                                   APIGatewayAdmin apiGatewayAdmin) {
+
+        List<GatewayAPIDTO> cachedArtifacts = new ArrayList<>();
+        List<String> missedApiIds = new ArrayList<>();
+        for (String apiId : deployments.keySet()) {
+            DeployedRevisionDto deployment = getCacheableDeployment(deployments, apiId);
+            GatewayAPIDTO gatewayAPIDTO = deployment != null ? artifactCache.get(tenantDomain, deployment) : null;
+            if (gatewayAPIDTO != null) {
+                cachedArtifacts.add(gatewayAPIDTO);
+            } else {
+                missedApiIds.add(apiId);
+            }
+        }
+        if (cachedArtifacts.isEmpty()) {
+            return null;
+        }
+        long startTime = System.currentTimeMillis();
+        int errorCount = 0;
+        for (GatewayAPIDTO gatewayAPIDTO : cachedArtifacts) {
+            try {
+                deployAPIFromDTO(gatewayAPIDTO, apiGatewayAdmin);
+            } catch (AxisFault e) {
+                log.error("Error in deploying API " + gatewayAPIDTO.getApiId() + " to the Gateway ", e);
+                errorCount++;
+            }
+        }
+        String encodedLabels = Base64.encodeBase64URLSafeString(String.join("|", assignedGatewayLabels).getBytes());
+        AtomicInteger retrievalErrorCount = new AtomicInteger();
+        Set<String> skippedApiIds = deployArtifactsInBatches(missedApiIds, null, deployments, encodedLabels,
+                tenantDomain, assignedGatewayLabels, apiGatewayAdmin, retrievalErrorCount);
+        errorCount += retrievalErrorCount.get() + skippedApiIds.size();
+        artifactCache.retainAll(tenantDomain, deployments.keySet());
+        log.info("Deployed " + (deployments.size() - errorCount) + " of " + deployments.size() + " APIs of tenant "
+                + tenantDomain + " in " + (System.currentTimeMillis() - startTime) + " ms (" + cachedArtifacts.size()
+                + " from the local artifact cache, " + (missedApiIds.size() - skippedApiIds.size())
+                + " retrieved from the storage)");
+        if (!skippedApiIds.isEmpty()) {
+            log.warn("Skipped deploying APIs " + String.join(",", skippedApiIds) + " of tenant " + tenantDomain
+                    + " as their artifacts could not be retrieved");
+        }
+        return errorCount < deployments.size();
+    }
+
+    /**
+     * Redeploys the APIs of a tenant whose deployed revision in the storage differs from the revision deployed in the
+     * gateway, retrieving only the artifacts of those APIs. The deployments are compared with the metadata of the
+     * deployed APIs, so an API is redeployed only if its metadata is loaded into the gateway.
+     *
+     * @param deployments           deployments of the API revisions by API UUID
+     * @param assignedGatewayLabels labels which the gateway subscribed to
+     * @param tenantDomain          tenant domain of the APIs
+     * @param apiGatewayAdmin       gateway admin used to deploy the APIs
+     * @return null if the deployed APIs of the tenant are not known, else false only if all the API redeployments
+     * failed
+     */
+    private Boolean redeployChangedAPIsFromDeployedRevisions(Map<String, List<DeployedRevisionDto>> deployments,
+                                                             Set<String> assignedGatewayLabels, String tenantDomain,
+                                                             APIGatewayAdmin apiGatewayAdmin) {
+
+        Map<String, org.wso2.carbon.apimgt.keymgt.model.entity.API> apiMap =
+                DataHolder.getInstance().getTenantAPIMap().get(tenantDomain);
+        if (apiMap == null) {
+            return null;
+        }
+        // The same API is mapped against its default version context as well
+        Set<String> changedApiIds = new HashSet<>();
+        for (org.wso2.carbon.apimgt.keymgt.model.entity.API api : apiMap.values()) {
+            List<DeployedRevisionDto> apiDeployments = deployments.get(api.getUuid());
+            if (apiDeployments != null && api.getRevisionId() != null
+                    && apiDeployments.stream().noneMatch(deployment ->
+                    api.getRevisionId().equalsIgnoreCase(deployment.getRevisionId()))) {
+                changedApiIds.add(api.getUuid());
+            }
+        }
+        if (changedApiIds.isEmpty()) {
+            if (log.isDebugEnabled()) {
+                log.debug("Deployed APIs of tenant " + tenantDomain + " are up to date");
+            }
+            return true;
+        }
+        long startTime = System.currentTimeMillis();
+        String encodedLabels = Base64.encodeBase64URLSafeString(String.join("|", assignedGatewayLabels).getBytes());
+        AtomicInteger errorCount = new AtomicInteger();
+        Set<String> skippedApiIds = deployArtifactsInBatches(new ArrayList<>(changedApiIds), apiMap, deployments,
+                encodedLabels, tenantDomain, assignedGatewayLabels, apiGatewayAdmin, errorCount);
+        errorCount.addAndGet(skippedApiIds.size());
+        DynamicProfileReloaderHolder.getInstance().reloadAllHandlers();
+        log.info("Redeployed " + (changedApiIds.size() - errorCount.get()) + " of " + changedApiIds.size()
+                + " changed APIs out of " + deployments.size() + " deployed APIs of tenant " + tenantDomain
+                + " in " + (System.currentTimeMillis() - startTime) + " ms");
+        if (!skippedApiIds.isEmpty()) {
+            log.warn("Skipped redeploying APIs " + String.join(",", skippedApiIds) + " of tenant " + tenantDomain
+                    + " as their artifacts could not be retrieved");
+        }
+        return errorCount.get() < changedApiIds.size();
+    }
+
+    /**
+     * Retrieves the artifacts of the given APIs from the storage in batches and deploys them.
+     *
+     * @param apiIds                UUIDs of the APIs to deploy
+     * @param apiMap                deployed APIs of the tenant when redeploying changed APIs, else null
+     * @param deployments           deployments of the API revisions by API UUID, or null if they are not known
+     * @param encodedLabels         encoded labels which the gateway subscribed to
+     * @param tenantDomain          tenant domain of the APIs
+     * @param assignedGatewayLabels labels which the gateway subscribed to
+     * @param apiGatewayAdmin       gateway admin used to deploy the APIs
+     * @param errorCount            incremented for each API whose deployment failed
+     * @return UUIDs of the APIs whose artifacts could not be retrieved
+     */
+    private Set<String> deployArtifactsInBatches(List<String> apiIds,
+                                                 Map<String, org.wso2.carbon.apimgt.keymgt.model.entity.API> apiMap,
+                                                 Map<String, List<DeployedRevisionDto>> deployments,
+                                                 String encodedLabels, String tenantDomain,
+                                                 Set<String> assignedGatewayLabels, APIGatewayAdmin apiGatewayAdmin,
+                                                 AtomicInteger errorCount) {
+
+        Set<String> skippedApiIds = new HashSet<>();
+        for (int i = 0; i < apiIds.size(); i += ARTIFACT_RETRIEVAL_BATCH_SIZE) {
+            List<String> batch = apiIds.subList(i, Math.min(i + ARTIFACT_RETRIEVAL_BATCH_SIZE, apiIds.size()));
+            Set<String> pendingApiIds = new HashSet<>(batch);
+            try {
+                for (String runtimeArtifact : artifactRetriever.retrieveArtifacts(batch, encodedLabels,
+                        tenantDomain)) {
+                    DecodedArtifact decodedArtifact = decodeArtifact(runtimeArtifact, true);
+                    if (decodedArtifact == null || !pendingApiIds.remove(decodedArtifact.gatewayAPIDTO.getApiId())) {
+                        continue;
+                    }
+                    if (!deployDecodedArtifact(decodedArtifact, apiMap, deployments, tenantDomain,
+                            assignedGatewayLabels, apiGatewayAdmin)) {
+                        errorCount.incrementAndGet();
+                    }
+                }
+            } catch (ArtifactSynchronizerException e) {
+                log.error("Error while retrieving artifacts of APIs " + String.join(",", pendingApiIds)
+                        + " of tenant " + tenantDomain, e);
+            }
+            skippedApiIds.addAll(pendingApiIds);
+        }
+        return skippedApiIds;
+    }
+
+    /**
+     * Deploys a decoded API artifact and stores it in the local artifact cache under its deployment. When redeploying
+     * changed APIs, the API is redeployed only if its revision differs from the deployed revision.
+     *
+     * @param decodedArtifact       decoded API artifact, or null for an empty artifact
+     * @param apiMap                deployed APIs of the tenant when redeploying changed APIs, else null
+     * @param deployments           deployments of the API revisions by API UUID, or null if they are not known
+     * @param tenantDomain          tenant domain of the APIs
+     * @param assignedGatewayLabels labels which the gateway subscribed to
+     * @param apiGatewayAdmin       gateway admin used to deploy the API
+     * @return false if the deployment of the API failed
+     */
+    private boolean deployDecodedArtifact(DecodedArtifact decodedArtifact,
+                                          Map<String, org.wso2.carbon.apimgt.keymgt.model.entity.API> apiMap,
+                                          Map<String, List<DeployedRevisionDto>> deployments, String tenantDomain,
+                                          Set<String> assignedGatewayLabels, APIGatewayAdmin apiGatewayAdmin) {
+
+        if (decodedArtifact == null) {
+            return true;
+        }
+        GatewayAPIDTO gatewayAPIDTO = decodedArtifact.gatewayAPIDTO;
+        try {
+            if (apiMap != null) {
+                org.wso2.carbon.apimgt.keymgt.model.entity.API api = apiMap.get(gatewayAPIDTO.getApiContext());
+                // Here, we redeploy APIs only if there is a new revision deployed in the
+                // Control Plane and not synced with the gateway due to connection issues.
+                if (api != null && api.getRevisionId() != null &&
+                        (!api.getRevisionId().equalsIgnoreCase(gatewayAPIDTO.getRevision()))) {
+                    DeployAPIInGatewayEvent deployAPIInGatewayEvent =
+                            new DeployAPIInGatewayEvent(UUID.randomUUID().toString(), System.currentTimeMillis(),
+                                    APIConstants.EventType.REMOVE_API_FROM_GATEWAY.name(), tenantDomain,
+                                    api.getApiId(), api.getUuid(), assignedGatewayLabels, api.getName(),
+                                    api.getVersion(), api.getApiProvider(), api.getApiType(), api.getContext());
+                    unDeployAPI(deployAPIInGatewayEvent);
+                    deployAPIFromDTO(gatewayAPIDTO, apiGatewayAdmin);
+                    addToArtifactCache(gatewayAPIDTO, getCacheableDeployment(deployments, gatewayAPIDTO.getApiId()));
+                } else {
+                    if (log.isDebugEnabled()) {
+                        log.debug("API " + gatewayAPIDTO.getName() + " is already deployed");
+                    }
+                }
+            } else {
+                deployAPIFromDTO(gatewayAPIDTO, decodedArtifact.graphQLSchemaDTO, apiGatewayAdmin);
+                addToArtifactCache(gatewayAPIDTO, getCacheableDeployment(deployments, gatewayAPIDTO.getApiId()));
+            }
+        } catch (AxisFault axisFault) {
+            log.error("Error in deploying " + gatewayAPIDTO.getName() + " to the Gateway ", axisFault);
+            return false;
+        }
+        return true;
+    }
+
     private void deployAPIFromDTO(GatewayAPIDTO gatewayAPIDTO, APIGatewayAdmin apiGatewayAdmin) throws AxisFault {
+
+        deployAPIFromDTO(gatewayAPIDTO, null, apiGatewayAdmin);
+    }
+
+    private void deployAPIFromDTO(GatewayAPIDTO gatewayAPIDTO, GraphQLSchemaDTO graphQLSchemaDTO,
+                                  APIGatewayAdmin apiGatewayAdmin) throws AxisFault {
         log.info("Deploying synapse artifacts of API ID: " + gatewayAPIDTO.getApiId() +
                 " and Context: " + gatewayAPIDTO.getApiContext());
         apiGatewayAdmin.deployAPI(gatewayAPIDTO);
         addDeployedCertificatesToAPIAssociation(gatewayAPIDTO);
-        addDeployedGraphqlQLToAPI(gatewayAPIDTO);
+        if (graphQLSchemaDTO != null) {
+            DataHolder.getInstance().addApiToGraphQLSchemaDTO(gatewayAPIDTO.getApiId(), graphQLSchemaDTO);
+        } else {
+            addDeployedGraphqlQLToAPI(gatewayAPIDTO);
+        }
         DataHolder.getInstance().addKeyManagerToAPIMapping(gatewayAPIDTO.getApiId(),
                 gatewayAPIDTO.getKeyManagers());
         DataHolder.getInstance().markAPIAsDeployed(gatewayAPIDTO);
     }
 
+    /**
+     * Stores a deployed API artifact in the local artifact cache under its deployment. When the deployment is not
+     * known, the stored artifacts of the API are removed instead, as they belong to an older deployment.
+     *
+     * @param gatewayAPIDTO deployed API artifact
+     * @param deployment    deployment of the API revision, or null if it is not known
+     */
+    private void addToArtifactCache(GatewayAPIDTO gatewayAPIDTO, DeployedRevisionDto deployment) {
+
+        if (artifactCache == null) {
+            return;
+        }
+        if (deployment != null && gatewayAPIDTO.getRevision() != null) {
+            artifactCache.put(gatewayAPIDTO, deployment);
+        } else {
+            artifactCache.remove(gatewayAPIDTO.getTenantDomain(), gatewayAPIDTO.getApiId());
+        }
+    }
+
 
     private void unDeployAPI(APIGatewayAdmin apiGatewayAdmin, DeployAPIInGatewayEvent gatewayEvent)
             throws AxisFault {
@@ -340,6 +648,7 @@ public class InMemoryAPIDeployer {
                                         .addStringToList(gatewayEvent.getUuid().concat(
                                                 "_graphQL"), gatewayAPIDTO.getLocalEntriesToBeRemove()));
                         DataHolder.getInstance().getApiToGraphQLSchemaDTOMap().remove(gatewayEvent.getUuid());
+                        DataHolder.getInstance().removePersistedQueryStore(gatewayEvent.getUuid());
                     }
                     if (APIConstants.APITransportType.WS.toString().equalsIgnoreCase(gatewayEvent.getApiType())) {
                         org.wso2.carbon.apimgt.gateway.utils.GatewayUtils.setWebsocketEndpointsToBeRemoved(
@@ -366,6 +675,9 @@ public class InMemoryAPIDeployer {
             APIGatewayAdmin apiGatewayAdmin = new APIGatewayAdmin();
             MessageContext.setCurrentMessageContext(org.wso2.carbon.apimgt.gateway.utils.GatewayUtils.createAxis2MessageContext());
             unDeployAPI(apiGatewayAdmin, gatewayEvent);
+            if (artifactCache != null) {
+                artifactCache.remove(gatewayEvent.getTenantDomain(), gatewayEvent.getUuid());
+            }
         } catch (AxisFault axisFault) {
             throw new ArtifactSynchronizerException("Error while unDeploying api ", axisFault);
         } finally {
@@ -438,11 +750,129 @@ public class InMemoryAPIDeployer {
 
         if (gatewayAPIDTO != null && gatewayAPIDTO.getGraphQLSchema() != null) {
             String apiId = gatewayAPIDTO.getApiId();
-            SchemaParser schemaParser = new SchemaParser();
-            TypeDefinitionRegistry registry = schemaParser.parse(gatewayAPIDTO.getGraphQLSchema());
-            GraphQLSchema schema = UnExecutableSchemaGenerator.makeUnExecutableSchema(registry);
-            GraphQLSchemaDTO schemaDTO = new GraphQLSchemaDTO(schema, registry);
-            DataHolder.getInstance().addApiToGraphQLSchemaDTO(apiId, schemaDTO);
+            DataHolder.getInstance().addApiToGraphQLSchemaDTO(apiId, buildGraphQLSchemaDTO(gatewayAPIDTO));
+        }
+    }
+
+    private static GraphQLSchemaDTO buildGraphQLSchemaDTO(GatewayAPIDTO gatewayAPIDTO) {
+
+        SchemaParser schemaParser = new SchemaParser();
+        TypeDefinitionRegistry registry = schemaParser.parse(gatewayAPIDTO.getGraphQLSchema());
+        GraphQLSchema schema = UnExecutableSchemaGenerator.makeUnExecutableSchema(registry);
+        return new GraphQLSchemaDTO(schema, registry);
+    }
+
+    /**
+     * Decodes retrieved API artifacts and hands them over to be deployed. When a deployment thread pool is configured
+     * the artifacts are decoded in parallel, as decoding the artifacts and parsing the GraphQL schemas of a large
+     * number of APIs takes most of the startup time. The decoded artifacts are still deployed one by one, in the order
+     * they were retrieved, on the thread feeding the pipeline. Only a bounded number of artifacts are held in the
+     * pipeline at a time.
+     */
+    private static class ArtifactDecodingPipeline {
+
+        private final ExecutorService executorService;
+        private final int maxPendingArtifacts;
+        private final boolean parseGraphQLSchemas;
+        private final Consumer<DecodedArtifact> deployer;
+        private final Deque<Future<DecodedArtifact>> pendingArtifacts = new ArrayDeque<>();
+        private int artifactCount;
+        private InterruptedException interruptedException;
+
+        ArtifactDecodingPipeline(int threadPoolSize, boolean parseGraphQLSchemas,
+                                 Consumer<DecodedArtifact> deployer) {
+
+            this.executorService = threadPoolSize > 1 ? Executors.newFixedThreadPool(threadPoolSize) : null;
+            this.maxPendingArtifacts = threadPoolSize * 2;
+            this.parseGraphQLSchemas = parseGraphQLSchemas;
+            this.deployer = deployer;
+        }
+
+        void accept(String runtimeArtifact) {
+
+            if (interruptedException != null) {
+                return;
+            }
+            artifactCount++;
+            if (executorService == null) {
+                deployer.accept(decodeArtifact(runtimeArtifact, parseGraphQLSchemas));
+                return;
+            }
+            pendingArtifacts.add(executorService.submit(() -> decodeArtifact(runtimeArtifact, parseGraphQLSchemas)));
+            if (pendingArtifacts.size() > maxPendingArtifacts) {
+                deployNext();
+            }
+        }
+
+        /**
+         * Deploys the artifacts remaining in the pipeline.
+         *
+         * @throws ArtifactSynchronizerException if the decoding was interrupted
+         */
+        void finish() throws ArtifactSynchronizerException {
+
+            while (!pendingArtifacts.isEmpty() && interruptedException == null) {
+                deployNext();
+            }
+            if (interruptedException != null) {
+                throw new ArtifactSynchronizerException("Interrupted while decoding API artifacts",
+                        interruptedException);
+            }
+        }
+
+        void close() {
+
+            if (executorService != null) {
+                executorService.shutdownNow();
+            }
+        }
+
+        int getArtifactCount() {
+
+            return artifactCount;
+        }
+
+        private void deployNext() {
+
+            try {
+                deployer.accept(pendingArtifacts.poll().get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                interruptedException = e;
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw new IllegalStateException("Error while decoding API artifact", e.getCause());
+            }
+        }
+    }
+
+    private static DecodedArtifact decodeArtifact(String runtimeArtifact, boolean parseGraphQLSchema) {
+
+        if (StringUtils.isEmpty(runtimeArtifact)) {
+            return null;
+        }
+        GatewayAPIDTO gatewayAPIDTO = new Gson().fromJson(runtimeArtifact, GatewayAPIDTO.class);
+        GraphQLSchemaDTO graphQLSchemaDTO = null;
+        if (parseGraphQLSchema && gatewayAPIDTO.getGraphQLSchema() != null) {
+            graphQLSchemaDTO = buildGraphQLSchemaDTO(gatewayAPIDTO);
+        }
+        return new DecodedArtifact(gatewayAPIDTO, graphQLSchemaDTO);
+    }
+
+    /**
+     * Decoded API artifact along with the GraphQL schema of the API, if parsed upfront.
+     */
+    private static class DecodedArtifact {
+
+        private final GatewayAPIDTO gatewayAPIDTO;
+        private final GraphQLSchemaDTO graphQLSchemaDTO;
+
+        DecodedArtifact(GatewayAPIDTO gatewayAPIDTO, GraphQLSchemaDTO graphQLSchemaDTO) {
+
+            this.gatewayAPIDTO = gatewayAPIDTO;
+            this.graphQLSchemaDTO = graphQLSchemaDTO;
         }
     }
 
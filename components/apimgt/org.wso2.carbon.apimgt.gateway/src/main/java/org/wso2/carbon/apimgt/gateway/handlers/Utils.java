@@ -51,6 +51,7 @@ import org.apache.synapse.transport.nhttp.NhttpConstants;
 import org.json.JSONObject;
 import org.wso2.carbon.apimgt.api.APIManagementException;
 import org.wso2.carbon.apimgt.gateway.APIMgtGatewayConstants;
+import org.wso2.carbon.apimgt.gateway.handlers.security.GatewayAuthCache;
 import org.wso2.carbon.apimgt.gateway.handlers.throttling.APIThrottleConstants;
 import org.wso2.carbon.apimgt.gateway.internal.DataHolder;
 import org.wso2.carbon.apimgt.gateway.internal.ServiceReferenceHolder;
@@ -369,6 +370,7 @@ public class Utils {
     public static void removeCacheEntryFromGatewayCache(String key) {
         Caching.getCacheManager(APIConstants.API_MANAGER_CACHE_MANAGER).getCache(APIConstants.GATEWAY_TOKEN_CACHE_NAME)
                 .remove(key);
+        GatewayAuthCache.getInstance().invalidate(key);
     }
 
     /**
@@ -0,0 +1,243 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.apimgt.gateway.handlers.analytics;
+
+import org.apache.synapse.MessageContext;
+import org.apache.synapse.rest.RESTConstants;
+import org.wso2.carbon.apimgt.common.analytics.collectors.AnalyticsDataProvider;
+import org.wso2.carbon.apimgt.common.analytics.exceptions.DataNotFoundException;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.API;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.Application;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.Error;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.Latencies;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.MetaInfo;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.Operation;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.Target;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.enums.EventCategory;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.enums.FaultCategory;
+import org.wso2.carbon.apimgt.gateway.APIMgtGatewayConstants;
+import org.wso2.carbon.apimgt.impl.APIConstants;
+
+import java.util.Map;
+
+/**
+ * Analytics data of a request, taken from its message context on the response thread, so that the analytics event
+ * can be built and published later by an {@link AnalyticsEventQueue} worker. Only the data the collectors use for the
+ * category of the request is taken. Resolving the API of the request, which may need a call to the control plane, is
+ * left to the worker.
+ */
+public class AnalyticsDataSnapshot implements AnalyticsDataProvider {
+
+    private final EventCategory eventCategory;
+    private final boolean authenticated;
+    private final boolean anonymous;
+    private final long requestTime;
+    private final int proxyResponseCode;
+    private final int targetResponseCode;
+    private final String userAgentHeader;
+    private final String userName;
+    private final String endUserIP;
+    private final Map<String, Object> properties;
+    private final Map<String, String> maskProperties;
+    private final MetaInfo metaInfo;
+    private final Target target;
+    private final Latencies latencies;
+    private final Application application;
+    private final DataNotFoundException applicationException;
+    private final FaultCategory faultType;
+    private final Error error;
+    private final String apiContext;
+    private final String apiVersion;
+    private final String httpMethod;
+    private final String electedResource;
+    private API api;
+
+    /**
+     * Takes the analytics data of a request. Must be called on the thread processing the request.
+     *
+     * @param messageContext message context of the request
+     * @param provider       analytics data provider reading the message context
+     */
+    public AnalyticsDataSnapshot(MessageContext messageContext, SynapseAnalyticsDataProvider provider) {
+
+        this.eventCategory = provider.getEventCategory();
+        this.authenticated = provider.isAuthenticated();
+        this.anonymous = provider.isAnonymous();
+        this.requestTime = provider.getRequestTime();
+        this.proxyResponseCode = provider.getProxyResponseCode();
+        this.targetResponseCode = provider.getTargetResponseCode();
+        this.endUserIP = provider.getEndUserIP();
+        this.properties = provider.getProperties();
+        this.metaInfo = provider.getMetaInfo();
+        Application requestApplication = null;
+        DataNotFoundException requestApplicationException = null;
+        try {
+            requestApplication = provider.getApplication();
+        } catch (DataNotFoundException e) {
+            requestApplicationException = e;
+        }
+        this.application = requestApplication;
+        this.applicationException = requestApplicationException;
+        if (eventCategory == EventCategory.SUCCESS) {
+            this.maskProperties = provider.getMaskProperties();
+            this.target = provider.getTarget();
+            this.latencies = provider.getLatencies();
+            this.userAgentHeader = provider.getUserAgentHeader();
+            this.userName = provider.getUserName();
+        } else {
+            this.maskProperties = null;
+            this.target = null;
+            this.latencies = null;
+            this.userAgentHeader = null;
+            this.userName = null;
+        }
+        if (eventCategory == EventCategory.FAULT) {
+            this.faultType = provider.getFaultType();
+            this.error = provider.getError(faultType);
+        } else {
+            this.faultType = null;
+            this.error = null;
+        }
+        this.apiContext = (String) messageContext.getProperty(RESTConstants.REST_API_CONTEXT);
+        this.apiVersion = (String) messageContext.getProperty(RESTConstants.SYNAPSE_REST_API_VERSION);
+        this.httpMethod = (String) messageContext.getProperty(APIMgtGatewayConstants.HTTP_METHOD);
+        this.electedResource = (String) messageContext.getProperty(APIConstants.API_ELECTED_RESOURCE);
+    }
+
+    @Override
+    public EventCategory getEventCategory() {
+
+        return eventCategory;
+    }
+
+    @Override
+    public boolean isAnonymous() {
+
+        return anonymous;
+    }
+
+    @Override
+    public boolean isAuthenticated() {
+
+        return authenticated;
+    }
+
+    @Override
+    public FaultCategory getFaultType() {
+
+        return faultType;
+    }
+
+    @Override
+    public API getApi() throws DataNotFoundException {
+
+        if (api == null) {
+            api = SynapseAnalyticsDataProvider.getApi(apiContext, apiVersion, httpMethod, electedResource);
+        }
+        return api;
+    }
+
+    @Override
+    public Application getApplication() throws DataNotFoundException {
+
+        if (applicationException != null) {
+            throw applicationException;
+        }
+        return application;
+    }
+
+    @Override
+    public Operation getOperation() throws DataNotFoundException {
+
+        return SynapseAnalyticsDataProvider.getOperation(httpMethod, electedResource, getApi());
+    }
+
+    @Override
+    public Target getTarget() {
+
+        return target;
+    }
+
+    @Override
+    public Latencies getLatencies() {
+
+        return latencies;
+    }
+
+    @Override
+    public MetaInfo getMetaInfo() {
+
+        return metaInfo;
+    }
+
+    @Override
+    public int getProxyResponseCode() {
+
+        return proxyResponseCode;
+    }
+
+    @Override
+    public int getTargetResponseCode() {
+
+        return targetResponseCode;
+    }
+
+    @Override
+    public long getRequestTime() {
+
+        return requestTime;
+    }
+
+    @Override
+    public Error getError(FaultCategory faultCategory) {
+
+        return error;
+    }
+
+    @Override
+    public String getUserAgentHeader() {
+
+        return userAgentHeader;
+    }
+
+    @Override
+    public String getUserName() {
+
+        return userName;
+    }
+
+    @Override
+    public String getEndUserIP() {
+
+        return endUserIP;
+    }
+
+    @Override
+    public Map<String, Object> getProperties() {
+
+        return properties;
+    }
+
+    @Override
+    public Map<String, String> getMaskProperties() {
+
+        return maskProperties;
+    }
+}
@@ -0,0 +1,245 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.apimgt.gateway.handlers.analytics;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.apimgt.common.analytics.collectors.AnalyticsDataProvider;
+import org.wso2.carbon.apimgt.common.analytics.collectors.impl.GenericRequestDataCollector;
+import org.wso2.carbon.apimgt.impl.APIConstants;
+import org.wso2.carbon.apimgt.impl.APIManagerConfiguration;
+import org.wso2.carbon.metrics.manager.Counter;
+import org.wso2.carbon.metrics.manager.Level;
+import org.wso2.carbon.metrics.manager.MetricManager;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Bounded queue of the analytics data of requests, drained by a pool of worker threads which build and publish the
+ * analytics events, so that a slow analytics reporter does not add latency to API responses.
+ * <p>
+ * Request threads add to the queue without locking and never wait. When the queue is full, the analytics data of the
+ * request is dropped. The number of queued and dropped requests is reported through the
+ * {@code QUEUE_SIZE} and {@code DROPPED} metrics.
+ */
+public class AnalyticsEventQueue {
+
+    private static final Log log = LogFactory.getLog(AnalyticsEventQueue.class);
+    private static final String QUEUE_SIZE = "QUEUE_SIZE";
+    private static final String DROPPED = "DROPPED";
+    private static final int DEFAULT_QUEUE_SIZE = 10000;
+    private static final int DEFAULT_WORKER_COUNT = 2;
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+    private static volatile AnalyticsEventQueue instance;
+    private static volatile boolean initialized;
+
+    private final Queue<AnalyticsDataProvider> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final Semaphore queuedEvents = new Semaphore(0);
+    private final int capacity;
+    private final Consumer<AnalyticsDataProvider> publisher;
+    private final ExecutorService workers;
+    private volatile boolean running = true;
+    private volatile Counter queueSizeCounter;
+    private volatile Counter droppedCounter;
+
+    public AnalyticsEventQueue(int capacity, int workerCount) {
+
+        this(capacity, workerCount, AnalyticsEventQueue::collectData);
+    }
+
+    AnalyticsEventQueue(int capacity, int workerCount, Consumer<AnalyticsDataProvider> publisher) {
+
+        this.capacity = Math.max(capacity, 1);
+        this.publisher = publisher;
+        AtomicInteger workerIndex = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(Math.max(workerCount, 1), runnable -> {
+            Thread thread = new Thread(runnable, "AnalyticsEventPublisher-" + workerIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < Math.max(workerCount, 1); i++) {
+            workers.execute(this::drain);
+        }
+    }
+
+    /**
+     * @return the analytics event queue of the gateway, or null if analytics events are published on the response
+     * thread
+     */
+    public static AnalyticsEventQueue getInstance() {
+
+        if (!initialized) {
+            synchronized (AnalyticsEventQueue.class) {
+                if (!initialized) {
+                    Map<String, String> configs = APIManagerConfiguration.getAnalyticsProperties();
+                    if (configs != null && Boolean.parseBoolean(configs.get(Constants.ASYNC_PUBLISHING_CONFIG))) {
+                        instance = new AnalyticsEventQueue(
+                                getIntConfig(configs, Constants.ASYNC_PUBLISHING_QUEUE_SIZE_CONFIG, DEFAULT_QUEUE_SIZE),
+                                getIntConfig(configs, Constants.ASYNC_PUBLISHING_WORKER_COUNT_CONFIG,
+                                        DEFAULT_WORKER_COUNT));
+                    }
+                    initialized = true;
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Stops the workers of the analytics event queue of the gateway, if it was started. The queued requests are
+     * published before the workers stop.
+     */
+    public static void shutdownInstance() {
+
+        AnalyticsEventQueue queue = instance;
+        if (queue != null) {
+            queue.shutdown();
+        }
+    }
+
+    /**
+     * Adds the analytics data of a request to the queue.
+     *
+     * @param provider analytics data of the request, which must not refer to the message context of the request
+     * @return false if the queue is full and the analytics data is dropped
+     */
+    public boolean offer(AnalyticsDataProvider provider) {
+
+        int queued;
+        do {
+            queued = size.get();
+            if (queued >= capacity || !running) {
+                getDroppedCounter().inc();
+                if (log.isDebugEnabled()) {
+                    log.debug("Analytics event queue is full. Dropping analytics data of the request.");
+                }
+                return false;
+            }
+        } while (!size.compareAndSet(queued, queued + 1));
+        queue.offer(provider);
+        getQueueSizeCounter().inc();
+        queuedEvents.release();
+        return true;
+    }
+
+    /**
+     * @return number of requests waiting to be published
+     */
+    public int size() {
+
+        return size.get();
+    }
+
+    /**
+     * Stops accepting requests and waits a bounded time for the workers to publish the queued requests. The requests
+     * still queued after the timeout are dropped.
+     */
+    public void shutdown() {
+
+        running = false;
+        workers.shutdown();
+        try {
+            if (!workers.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                log.warn("Analytics event queue did not drain within " + SHUTDOWN_TIMEOUT_SECONDS + " seconds. "
+                        + "Dropping the analytics data of " + size.get() + " requests.");
+                workers.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            workers.shutdownNow();
+        }
+    }
+
+    private void drain() {
+
+        while (running || size.get() > 0) {
+            try {
+                if (!queuedEvents.tryAcquire(1, TimeUnit.SECONDS)) {
+                    continue;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            AnalyticsDataProvider provider = queue.poll();
+            size.decrementAndGet();
+            getQueueSizeCounter().dec();
+            try {
+                publisher.accept(provider);
+            } catch (RuntimeException e) {
+                log.error("Error Occurred when collecting data", e);
+            }
+        }
+    }
+
+    private static void collectData(AnalyticsDataProvider provider) {
+
+        try {
+            new GenericRequestDataCollector(provider).collectData();
+        } catch (Exception e) {
+            log.error("Error Occurred when collecting data", e);
+        }
+    }
+
+    private static int getIntConfig(Map<String, String> configs, String name, int defaultValue) {
+
+        String value = configs.get(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            log.warn("Invalid value " + value + " for analytics property " + name + ". Using " + defaultValue);
+            return defaultValue;
+        }
+    }
+
+    private Counter getQueueSizeCounter() {
+
+        if (queueSizeCounter == null) {
+            queueSizeCounter = getCounter(QUEUE_SIZE);
+        }
+        return queueSizeCounter;
+    }
+
+    private Counter getDroppedCounter() {
+
+        if (droppedCounter == null) {
+            droppedCounter = getCounter(DROPPED);
+        }
+        return droppedCounter;
+    }
+
+    protected Counter getCounter(String metric) {
+
+        return MetricManager.counter(Level.INFO, MetricManager.name(APIConstants.METRICS_PREFIX,
+                AnalyticsEventQueue.class.getSimpleName(), metric));
+    }
+}
@@ -26,6 +26,8 @@ import org.apache.synapse.core.axis2.Axis2MessageContext;
 import org.wso2.carbon.apimgt.common.analytics.collectors.AnalyticsDataProvider;
 import org.wso2.carbon.apimgt.common.analytics.collectors.impl.GenericRequestDataCollector;
 import org.wso2.carbon.apimgt.common.analytics.exceptions.AnalyticsException;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.enums.EventCategory;
+import org.wso2.carbon.apimgt.common.analytics.publishers.impl.AnalyticsDataPublisher;
 import org.wso2.carbon.apimgt.gateway.handlers.DataPublisherUtil;
 import org.wso2.carbon.apimgt.gateway.handlers.streaming.AsyncAnalyticsDataProvider;
 import org.wso2.carbon.apimgt.gateway.internal.ServiceReferenceHolder;
@@ -87,8 +89,22 @@ public class AnalyticsMetricsHandler extends AbstractExtendedSynapseHandler {
         if (skipPublishMetrics != null && (Boolean) skipPublishMetrics) {
             provider = new AsyncAnalyticsDataProvider(messageContext);
         } else {
-            provider = new SynapseAnalyticsDataProvider(messageContext,
+            SynapseAnalyticsDataProvider synapseProvider = new SynapseAnalyticsDataProvider(messageContext,
                     ServiceReferenceHolder.getInstance().getAnalyticsCustomDataProvider());
+            AnalyticsEventQueue analyticsEventQueue = AnalyticsEventQueue.getInstance();
+            if (analyticsEventQueue != null) {
+                // Only the analytics data of the request is taken here. The event is built and published by the
+                // analytics event queue workers.
+                try {
+                    if (synapseProvider.getEventCategory() != EventCategory.INVALID) {
+                        analyticsEventQueue.offer(new AnalyticsDataSnapshot(messageContext, synapseProvider));
+                    }
+                } catch (Exception e) {
+                    log.error("Error Occurred when collecting data", e);
+                }
+                return true;
+            }
+            provider = synapseProvider;
         }
         GenericRequestDataCollector dataCollector = new GenericRequestDataCollector(provider);
         try {
@@ -107,7 +123,9 @@ public class AnalyticsMetricsHandler extends AbstractExtendedSynapseHandler {
 
     @Override
     public boolean handleServerShutDown() {
-        // Nothing to implement
+        AnalyticsEventQueue.shutdownInstance();
+        // Publishes the records aggregated so far, including those of the requests drained from the queue above
+        AnalyticsDataPublisher.getInstance().shutdown();
         return true;
     }
 
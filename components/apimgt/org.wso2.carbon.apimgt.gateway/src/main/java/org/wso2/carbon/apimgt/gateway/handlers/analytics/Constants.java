@@ -72,4 +72,7 @@ public class Constants {
     public static final String X_FORWARDED_FOR_HEADER = "X-Forwarded-For";
     public static final String HEADER_X_FORWARDED_FOR = "X-FORWARDED-FOR";
     public static final String BUILD_RESPONSE_MESSAGE_CONFIG = "build_response_message";
+    public static final String ASYNC_PUBLISHING_CONFIG = "async_publishing";
+    public static final String ASYNC_PUBLISHING_QUEUE_SIZE_CONFIG = "async_publishing_queue_size";
+    public static final String ASYNC_PUBLISHING_WORKER_COUNT_CONFIG = "async_publishing_worker_count";
 }
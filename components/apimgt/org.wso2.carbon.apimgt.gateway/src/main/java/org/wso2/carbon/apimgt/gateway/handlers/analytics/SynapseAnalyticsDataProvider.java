@@ -144,8 +144,26 @@ public class SynapseAnalyticsDataProvider implements AnalyticsDataProvider {
     @Override
     public API getApi() throws DataNotFoundException {
 
-        String apiContext = (String) messageContext.getProperty(RESTConstants.REST_API_CONTEXT);
-        String apiVersion = (String) messageContext.getProperty(RESTConstants.SYNAPSE_REST_API_VERSION);
+        return getApi((String) messageContext.getProperty(RESTConstants.REST_API_CONTEXT),
+                (String) messageContext.getProperty(RESTConstants.SYNAPSE_REST_API_VERSION),
+                messageContext.getProperty(APIMgtGatewayConstants.HTTP_METHOD),
+                messageContext.getProperty("API_ELECTED_RESOURCE"));
+    }
+
+    /**
+     * Resolves the API of a request from the subscription data store, or from the control plane if it is not in the
+     * store. The URI template matching the invoked HTTP method and elected resource is added to the API.
+     *
+     * @param apiContext      context of the invoked API
+     * @param apiVersion      version of the invoked API
+     * @param httpMethod      invoked HTTP method
+     * @param electedResource elected resource of the API
+     * @return analytics API of the request
+     * @throws DataNotFoundException if loading the API from the control plane fails
+     */
+    static API getApi(String apiContext, String apiVersion, Object httpMethod, Object electedResource)
+            throws DataNotFoundException {
+
         String tenantDomain = MultitenantUtils.getTenantDomainFromRequestURL(apiContext);
         if (tenantDomain == null) {
             tenantDomain = MultitenantConstants.SUPER_TENANT_DOMAIN_NAME;
@@ -173,10 +191,8 @@ public class SynapseAnalyticsDataProvider implements AnalyticsDataProvider {
             for (URLMapping uriTemplate : apiObj.getUrlMappings()) {
                 org.wso2.carbon.apimgt.common.analytics.publishers.dto.URITemplate uriTemplateObj
                         = new org.wso2.carbon.apimgt.common.analytics.publishers.dto.URITemplate();
-                if (uriTemplate.getHttpMethod() != null && uriTemplate.getHttpMethod()
-                        .equals(messageContext.getProperty(APIMgtGatewayConstants.HTTP_METHOD))
-                        && uriTemplate.getUrlPattern() != null && uriTemplate.getUrlPattern()
-                        .equals(messageContext.getProperty("API_ELECTED_RESOURCE"))) {
+                if (uriTemplate.getHttpMethod() != null && uriTemplate.getHttpMethod().equals(httpMethod)
+                        && uriTemplate.getUrlPattern() != null && uriTemplate.getUrlPattern().equals(electedResource)) {
                     uriTemplateObj.setResourceURI(uriTemplate.getUrlPattern());
                     uriTemplateObj.setHttpVerb(uriTemplate.getHttpMethod());
                     uriTemplateObj.setAuthScheme(uriTemplate.getAuthScheme());
@@ -235,9 +251,14 @@ public class SynapseAnalyticsDataProvider implements AnalyticsDataProvider {
 
         String httpMethod = (String) messageContext.getProperty(APIMgtGatewayConstants.HTTP_METHOD);
         String apiResourceTemplate = (String) messageContext.getProperty(APIConstants.API_ELECTED_RESOURCE);
+        return getOperation(httpMethod, apiResourceTemplate, getApi());
+    }
+
+    static Operation getOperation(String httpMethod, String apiResourceTemplate, API api) {
+
         Operation operation = new Operation();
         operation.setApiMethod(httpMethod);
-        if (APIConstants.GRAPHQL_API.equalsIgnoreCase(getApi().getApiType())) {
+        if (APIConstants.GRAPHQL_API.equalsIgnoreCase(api.getApiType())) {
             String orderedOperations = sortGraphQLOperations(apiResourceTemplate);
             operation.setApiResourceTemplate(orderedOperations);
         } else {
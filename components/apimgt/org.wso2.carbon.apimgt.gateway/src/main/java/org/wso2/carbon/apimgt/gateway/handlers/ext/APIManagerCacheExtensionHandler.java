@@ -8,6 +8,7 @@ import org.apache.synapse.core.axis2.Axis2MessageContext;
 import org.apache.synapse.rest.AbstractHandler;
 import org.apache.synapse.rest.RESTConstants;
 import org.wso2.carbon.apimgt.gateway.APIMgtGatewayConstants;
+import org.wso2.carbon.apimgt.gateway.handlers.security.GatewayAuthCache;
 import org.wso2.carbon.apimgt.impl.APIConstants;
 import org.wso2.carbon.apimgt.impl.caching.CacheProvider;
 import org.wso2.carbon.apimgt.impl.utils.APIUtil;
@@ -160,6 +161,7 @@ public class APIManagerCacheExtensionHandler extends AbstractHandler {
 
     protected void removeCacheEntryFromGatewayCache(String key) {
         CacheProvider.getGatewayTokenCache().remove(key);
+        GatewayAuthCache.getInstance().invalidate(key);
     }
 
     protected void putInvalidTokenEntryIntoInvalidTokenCache(String cachedToken, String tenantDomain) {
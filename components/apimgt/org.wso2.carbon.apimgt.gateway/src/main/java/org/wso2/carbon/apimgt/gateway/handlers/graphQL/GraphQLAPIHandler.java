@@ -27,18 +27,26 @@ import graphql.schema.GraphQLObjectType;
 import graphql.schema.GraphQLType;
 import graphql.validation.Validator;
 import org.apache.axiom.om.OMElement;
+import org.apache.axis2.AxisFault;
+import org.apache.axis2.Constants;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.apache.http.HttpStatus;
 import org.apache.synapse.Mediator;
 import org.apache.synapse.MessageContext;
 import org.apache.synapse.SynapseConstants;
+import org.apache.synapse.commons.json.JsonUtil;
 import org.apache.synapse.core.axis2.Axis2MessageContext;
 import org.apache.synapse.rest.AbstractHandler;
+import org.apache.synapse.transport.nhttp.NhttpConstants;
 import org.apache.synapse.transport.passthru.util.RelayUtils;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
 import org.wso2.carbon.apimgt.common.gateway.constants.GraphQLConstants;
 import org.wso2.carbon.apimgt.api.gateway.GraphQLSchemaDTO;
 import org.wso2.carbon.apimgt.common.gateway.graphql.QueryValidator;
+import org.wso2.carbon.apimgt.gateway.APIMgtGatewayConstants;
 import org.wso2.carbon.apimgt.gateway.handlers.Utils;
 import org.wso2.carbon.apimgt.common.gateway.graphql.GraphQLProcessorUtil;
 import org.wso2.carbon.apimgt.gateway.internal.DataHolder;
@@ -47,7 +55,9 @@ import org.wso2.carbon.apimgt.impl.APIConstants;
 import javax.xml.namespace.QName;
 import javax.xml.stream.XMLStreamException;
 import java.io.IOException;
+import java.io.UnsupportedEncodingException;
 import java.net.URLDecoder;
+import java.net.URLEncoder;
 import java.util.ArrayList;
 import java.util.Base64;
 import java.util.HashMap;
@@ -63,10 +73,18 @@ public class GraphQLAPIHandler extends AbstractHandler {
     private static final String GRAPHQL_API = "GRAPHQL";
     private static final String HTTP_VERB = "HTTP_VERB";
     private static final String UNICODE_TRANSFORMATION_FORMAT = "UTF-8";
+    private static final String PERSISTED_QUERY_EXTENSIONS = "extensions";
+    private static final String PERSISTED_QUERY = "persistedQuery";
+    private static final String PERSISTED_QUERY_HASH = "sha256Hash";
+    private static final String PERSISTED_QUERY_HASH_MISMATCH = "provided sha does not match query";
+    private static final String PERSISTED_QUERY_NOT_FOUND_PAYLOAD =
+            "{\"errors\":[{\"message\":\"PersistedQueryNotFound\","
+                    + "\"extensions\":{\"code\":\"PERSISTED_QUERY_NOT_FOUND\"}}]}";
     private static final Log log = LogFactory.getLog(GraphQLAPIHandler.class);
     private GraphQLSchemaDTO graphQLSchemaDTO;
     private String apiUUID;
     private QueryValidator queryValidator;
+    private volatile GraphQLQueryCache queryCache;
 
     public GraphQLAPIHandler() {
 
@@ -92,20 +110,27 @@ public class GraphQLAPIHandler extends AbstractHandler {
                 return true;
             }
             String payload;
-            Parser parser = new Parser();
             org.apache.axis2.context.MessageContext axis2MC = ((Axis2MessageContext) messageContext).
                     getAxis2MessageContext();
             String requestPath = messageContext.getProperty(REST_SUB_REQUEST_PATH).toString();
             if (requestPath != null && !requestPath.isEmpty()) {
                 String[] queryParams = ((Axis2MessageContext) messageContext).getProperties().
                         get(REST_SUB_REQUEST_PATH).toString().split(QUERY_PATH_STRING);
-                if (queryParams.length > 1) {
+                String persistedQueryHash = getPersistedQueryHash(requestPath);
+                boolean isQueryInRequestPath = true;
+                if (persistedQueryHash != null) {
+                    payload = getQueryParameter(requestPath, QUERY_PAYLOAD_STRING);
+                } else if (queryParams.length > 1) {
                     payload = URLDecoder.decode(queryParams[1], UNICODE_TRANSFORMATION_FORMAT);
                 } else {
+                    isQueryInRequestPath = false;
                     RelayUtils.buildMessage(axis2MC);
                     OMElement body = axis2MC.getEnvelope().getBody().getFirstElement();
+                    persistedQueryHash = getPersistedQueryHash(body);
                     if (body != null && body.getFirstChildWithName(QName.valueOf(QUERY_PAYLOAD_STRING)) != null){
                         payload = body.getFirstChildWithName(QName.valueOf(QUERY_PAYLOAD_STRING)).getText();
+                    } else if (persistedQueryHash != null) {
+                        payload = null;
                     } else {
                         if (log.isDebugEnabled()) {
                             log.debug("Invalid query parameter " + queryParams[0]);
@@ -114,51 +139,182 @@ public class GraphQLAPIHandler extends AbstractHandler {
                         return false;
                     }
                 }
+                if (persistedQueryHash != null) {
+                    payload = resolvePersistedQuery(messageContext, persistedQueryHash, payload,
+                            isQueryInRequestPath);
+                    if (payload == null) {
+                        return false;
+                    }
+                }
                 messageContext.setProperty(APIConstants.GRAPHQL_PAYLOAD, payload);
             } else {
                 handleFailure(messageContext, "Request path cannot be empty");
                 return false;
             }
 
+            // Get GraphQL schema data from gateway internal data holder
+            graphQLSchemaDTO = DataHolder.getInstance().getApiToGraphQLSchemaDTOMap().get(apiUUID);
+            GraphQLQueryCache.Entry cacheEntry = getQueryCacheEntry(payload);
+            messageContext.setProperty(APIMgtGatewayConstants.GRAPHQL_QUERY_CACHE_ENTRY, cacheEntry);
+
             // Validate payload with graphQLSchema
-            Document document = parser.parseDocument(payload);
-
-            if (validatePayloadWithSchema(messageContext, document)) {
-                supportForBasicAndAuthentication(messageContext);
-
-                // Extract the operation type and operations from the payload
-                for (Definition definition : document.getDefinitions()) {
-                    if (definition instanceof OperationDefinition) {
-                        OperationDefinition operation = (OperationDefinition) definition;
-                        if (operation.getOperation() != null) {
-                            String httpVerb = ((Axis2MessageContext) messageContext).getAxis2MessageContext().
-                                    getProperty(HTTP_METHOD).toString();
-                            messageContext.setProperty(HTTP_VERB, httpVerb);
-                            ((Axis2MessageContext) messageContext).getAxis2MessageContext().setProperty(HTTP_METHOD,
-                                    operation.getOperation().toString());
-                            String operationList = GraphQLProcessorUtil.getOperationListAsString(operation,
-                                    graphQLSchemaDTO.getTypeDefinitionRegistry());
-                            messageContext.setProperty(APIConstants.API_ELECTED_RESOURCE, operationList);
-                            if (log.isDebugEnabled()) {
-                                log.debug("Operation list has been successfully added to elected property");
-                            }
-                            return true;
-                        }
-                    } else {
-                        handleFailure(messageContext, "Operation definition cannot be empty");
-                        return false;
-                    }
-                }
-            } else {
+            if (cacheEntry.getValidationErrorMessage() != null) {
+                handleFailure(messageContext, cacheEntry.getValidationErrorMessage());
+                return false;
+            }
+            supportForBasicAndAuthentication(messageContext);
+
+            // Set the operation type and operations extracted from the payload
+            if (cacheEntry.isInvalidDefinition()) {
+                handleFailure(messageContext, "Operation definition cannot be empty");
                 return false;
             }
-        } catch (IOException | XMLStreamException | InvalidSyntaxException e) {
+            if (cacheEntry.getOperationType() != null) {
+                String httpVerb = ((Axis2MessageContext) messageContext).getAxis2MessageContext().
+                        getProperty(HTTP_METHOD).toString();
+                messageContext.setProperty(HTTP_VERB, httpVerb);
+                ((Axis2MessageContext) messageContext).getAxis2MessageContext().setProperty(HTTP_METHOD,
+                        cacheEntry.getOperationType());
+                messageContext.setProperty(APIConstants.API_ELECTED_RESOURCE, cacheEntry.getOperationList());
+                if (log.isDebugEnabled()) {
+                    log.debug("Operation list has been successfully added to elected property");
+                }
+                return true;
+            }
+        } catch (IOException | XMLStreamException | InvalidSyntaxException | ParseException e) {
             log.error(e.getMessage());
             handleFailure(messageContext, e.getMessage());
         }
         return false;
     }
 
+    /**
+     * This method resolves an automatic persisted query. A query sent along with its hash is checked against the
+     * hash and marked for registration, which GraphQLQueryAnalysisHandler does once the request is authenticated
+     * and the query has passed validation, so that unauthenticated or invalid requests cannot fill the store. A
+     * query sent only as a hash is looked up in the store and set to the request, so that the backend receives the
+     * full query.
+     *
+     * @param messageContext       message context of the request
+     * @param persistedQueryHash   SHA-256 hash of the query sent in the persistedQuery extension
+     * @param payload              query sent in the request, or null if only the hash was sent
+     * @param isQueryInRequestPath whether the query is sent as a query parameter
+     * @return query of the request, or null if it could not be resolved
+     */
+    private String resolvePersistedQuery(MessageContext messageContext, String persistedQueryHash, String payload,
+                                         boolean isQueryInRequestPath) throws IOException, ParseException {
+
+        GraphQLPersistedQueryStore persistedQueryStore = DataHolder.getInstance().getPersistedQueryStore(apiUUID);
+        if (payload != null) {
+            if (!GraphQLPersistedQueryStore.isHashOf(persistedQueryHash, payload)) {
+                handleFailure(messageContext, PERSISTED_QUERY_HASH_MISMATCH);
+                return null;
+            }
+            messageContext.setProperty(APIMgtGatewayConstants.GRAPHQL_PERSISTED_QUERY_HASH, persistedQueryHash);
+            messageContext.setProperty(APIMgtGatewayConstants.GRAPHQL_PERSISTED_QUERY_STORE, persistedQueryStore);
+            return payload;
+        }
+        String query = persistedQueryStore.get(persistedQueryHash);
+        if (query == null) {
+            if (log.isDebugEnabled()) {
+                log.debug("Persisted query " + persistedQueryHash + " is not registered for API " + apiUUID);
+            }
+            handlePersistedQueryNotFound(messageContext);
+            return null;
+        }
+        org.apache.axis2.context.MessageContext axis2MC = ((Axis2MessageContext) messageContext).
+                getAxis2MessageContext();
+        if (isQueryInRequestPath) {
+            String restUrlPostfix = (String) axis2MC.getProperty(NhttpConstants.REST_URL_POSTFIX);
+            restUrlPostfix = (restUrlPostfix == null ? "" : restUrlPostfix)
+                    + (restUrlPostfix != null && restUrlPostfix.contains("?") ? "&" : "?") + QUERY_PAYLOAD_STRING
+                    + "=" + URLEncoder.encode(query, UNICODE_TRANSFORMATION_FORMAT);
+            axis2MC.setProperty(NhttpConstants.REST_URL_POSTFIX, restUrlPostfix);
+        } else {
+            JSONObject requestPayload = (JSONObject) new JSONParser().parse(JsonUtil.jsonPayloadToString(axis2MC));
+            requestPayload.put(QUERY_PAYLOAD_STRING, query);
+            JsonUtil.removeJsonPayload(axis2MC);
+            JsonUtil.getNewJsonPayload(axis2MC, requestPayload.toJSONString(), true, true);
+        }
+        return query;
+    }
+
+    /**
+     * This method extracts the persisted query hash from the extensions query parameter of the request path.
+     *
+     * @param requestPath request path
+     * @return persisted query hash, or null if the request is not a persisted query request
+     */
+    private String getPersistedQueryHash(String requestPath) throws UnsupportedEncodingException {
+
+        String extensions = getQueryParameter(requestPath, PERSISTED_QUERY_EXTENSIONS);
+        if (extensions == null) {
+            return null;
+        }
+        try {
+            Object persistedQuery = ((JSONObject) new JSONParser().parse(extensions)).get(PERSISTED_QUERY);
+            if (persistedQuery instanceof JSONObject) {
+                Object hash = ((JSONObject) persistedQuery).get(PERSISTED_QUERY_HASH);
+                return hash != null ? hash.toString() : null;
+            }
+        } catch (ParseException | ClassCastException e) {
+            if (log.isDebugEnabled()) {
+                log.debug("Invalid extensions query parameter " + extensions, e);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * This method extracts the persisted query hash from the extensions of the request payload.
+     *
+     * @param body request payload
+     * @return persisted query hash, or null if the request is not a persisted query request
+     */
+    private String getPersistedQueryHash(OMElement body) {
+
+        if (body == null) {
+            return null;
+        }
+        OMElement extensions = body.getFirstChildWithName(QName.valueOf(PERSISTED_QUERY_EXTENSIONS));
+        OMElement persistedQuery = extensions != null ?
+                extensions.getFirstChildWithName(QName.valueOf(PERSISTED_QUERY)) : null;
+        OMElement hash = persistedQuery != null ?
+                persistedQuery.getFirstChildWithName(QName.valueOf(PERSISTED_QUERY_HASH)) : null;
+        return hash != null ? hash.getText() : null;
+    }
+
+    private String getQueryParameter(String requestPath, String name) throws UnsupportedEncodingException {
+
+        int queryStringIndex = requestPath.indexOf('?');
+        if (queryStringIndex < 0) {
+            return null;
+        }
+        for (String parameter : requestPath.substring(queryStringIndex + 1).split("&")) {
+            String[] nameAndValue = parameter.split("=", 2);
+            if (nameAndValue.length == 2 && name.equals(nameAndValue[0])) {
+                return URLDecoder.decode(nameAndValue[1], UNICODE_TRANSFORMATION_FORMAT);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * This method responds with the GraphQL error which asks the client to resend the query along with its hash.
+     *
+     * @param messageContext message context of the request
+     */
+    private void handlePersistedQueryNotFound(MessageContext messageContext) throws AxisFault {
+
+        org.apache.axis2.context.MessageContext axis2MC = ((Axis2MessageContext) messageContext).
+                getAxis2MessageContext();
+        JsonUtil.removeJsonPayload(axis2MC);
+        JsonUtil.getNewJsonPayload(axis2MC, PERSISTED_QUERY_NOT_FOUND_PAYLOAD, true, true);
+        axis2MC.setProperty(Constants.Configuration.MESSAGE_TYPE, APIConstants.APPLICATION_JSON_MEDIA_TYPE);
+        axis2MC.setProperty(Constants.Configuration.CONTENT_TYPE, APIConstants.APPLICATION_JSON_MEDIA_TYPE);
+        Utils.send(messageContext, HttpStatus.SC_OK);
+    }
+
     /**
      * Support GraphQL APIs for basic,JWT  authentication, this method extract the scopes and operations from
      * local Entry and set them to properties. If the operations have scopes, scopes operation mapping and scope
@@ -257,23 +413,60 @@ public class GraphQLAPIHandler extends AbstractHandler {
     }
 
     /**
-     * This method validate the payload
+     * This method returns the parse, validation and operation extraction results of the payload, processing the
+     * payload only if it is not already in the query cache of the current schema. Results of payloads which fail
+     * validation are not cached, since they are computed before the request is authenticated and caching them would
+     * let any client evict the valid queries of the API.
      *
-     * @param messageContext message context of the request
-     * @param document       graphQL schema of the request
-     * @return true or false
+     * @param payload payload of the request
+     * @return processing results of the payload
      */
-    private boolean validatePayloadWithSchema(MessageContext messageContext, Document document) {
+    private GraphQLQueryCache.Entry getQueryCacheEntry(String payload) {
+
+        GraphQLQueryCache cache = queryCache;
+        if (cache == null || !cache.isForSchema(graphQLSchemaDTO)) {
+            cache = new GraphQLQueryCache(graphQLSchemaDTO, GraphQLQueryCache.DEFAULT_MAX_SIZE);
+            queryCache = cache;
+        }
+        GraphQLQueryCache.Entry cacheEntry = cache.get(payload);
+        if (cacheEntry == null) {
+            cacheEntry = processPayload(payload);
+            if (cacheEntry.getValidationErrorMessage() == null && !cacheEntry.isInvalidDefinition()) {
+                cache.put(payload, cacheEntry);
+            }
+        } else if (log.isDebugEnabled()) {
+            log.debug("GraphQL query cache hit for API " + apiUUID);
+        }
+        return cacheEntry;
+    }
 
-        String validationErrorMessage;
-        // Get GraphQL schema data from gateway internal data holder
-        graphQLSchemaDTO = DataHolder.getInstance().getApiToGraphQLSchemaDTOMap().get(apiUUID);
-        validationErrorMessage = queryValidator.validatePayload(graphQLSchemaDTO.getGraphQLSchema(), document);
+    /**
+     * This method parses the payload, validates it with the schema and extracts the first operation
+     *
+     * @param payload payload of the request
+     * @return processing results of the payload
+     */
+    private GraphQLQueryCache.Entry processPayload(String payload) {
+
+        Document document = new Parser().parseDocument(payload);
+        String validationErrorMessage = queryValidator.validatePayload(graphQLSchemaDTO.getGraphQLSchema(), document);
         if (validationErrorMessage != null) {
-            handleFailure(messageContext, validationErrorMessage);
-            return false;
+            return new GraphQLQueryCache.Entry(document, validationErrorMessage, null, null, false);
         }
-        return true;
+        for (Definition definition : document.getDefinitions()) {
+            if (definition instanceof OperationDefinition) {
+                OperationDefinition operation = (OperationDefinition) definition;
+                if (operation.getOperation() != null) {
+                    String operationList = GraphQLProcessorUtil.getOperationListAsString(operation,
+                            graphQLSchemaDTO.getTypeDefinitionRegistry());
+                    return new GraphQLQueryCache.Entry(document, null, operation.getOperation().toString(),
+                            operationList, false);
+                }
+            } else {
+                return new GraphQLQueryCache.Entry(document, null, null, null, true);
+            }
+        }
+        return new GraphQLQueryCache.Entry(document, null, null, null, false);
     }
 
     /**
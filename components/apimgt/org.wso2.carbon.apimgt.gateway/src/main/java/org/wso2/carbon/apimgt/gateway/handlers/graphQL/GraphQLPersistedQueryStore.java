@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.apimgt.gateway.handlers.graphQL;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.wso2.carbon.apimgt.impl.utils.LRUCache;
+
+import java.util.Map;
+
+/**
+ * Node local, bounded store of the automatic persisted queries (APQ) of a GraphQL API revision. A client sends the
+ * SHA-256 hash of a query in the persistedQuery extension instead of the query. The first time a hash is not known,
+ * the client resends the hash along with the full query, which registers the query here once the request has been
+ * authenticated and the query has passed validation. When the store is full, the least recently used query is
+ * evicted.
+ */
+public class GraphQLPersistedQueryStore {
+
+    public static final int DEFAULT_MAX_SIZE = 1000;
+
+    private final Map<String, String> queries;
+
+    public GraphQLPersistedQueryStore(int maxSize) {
+
+        this.queries = new LRUCache<>(maxSize, true);
+    }
+
+    /**
+     * @param sha256Hash hex encoded SHA-256 hash of the query
+     * @return persisted query or null if the hash is not known
+     */
+    public String get(String sha256Hash) {
+
+        return queries.get(sha256Hash.toLowerCase());
+    }
+
+    /**
+     * Registers a query against its hash.
+     *
+     * @param sha256Hash hex encoded SHA-256 hash sent by the client
+     * @param query      query sent by the client
+     * @return false if the hash does not match the query, in which case the query is not registered
+     */
+    public boolean register(String sha256Hash, String query) {
+
+        if (!isHashOf(sha256Hash, query)) {
+            return false;
+        }
+        queries.put(sha256Hash.toLowerCase(), query);
+        return true;
+    }
+
+    /**
+     * @param sha256Hash hex encoded SHA-256 hash sent by the client
+     * @param query      query sent by the client
+     * @return true if the hash matches the query
+     */
+    public static boolean isHashOf(String sha256Hash, String query) {
+
+        return DigestUtils.sha256Hex(query).equalsIgnoreCase(sha256Hash);
+    }
+
+    public int size() {
+
+        return queries.size();
+    }
+}
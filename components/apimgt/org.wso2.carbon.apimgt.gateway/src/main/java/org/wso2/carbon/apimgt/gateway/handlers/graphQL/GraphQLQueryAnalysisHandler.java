@@ -29,6 +29,7 @@ import org.json.simple.parser.ParseException;
 import org.wso2.carbon.apimgt.common.gateway.constants.GraphQLConstants;
 import org.wso2.carbon.apimgt.common.gateway.dto.QueryAnalyzerResponseDTO;
 import org.wso2.carbon.apimgt.common.gateway.graphql.QueryAnalyzer;
+import org.wso2.carbon.apimgt.gateway.APIMgtGatewayConstants;
 import org.wso2.carbon.apimgt.gateway.handlers.Utils;
 import org.wso2.carbon.apimgt.gateway.handlers.security.APISecurityConstants;
 import org.wso2.carbon.apimgt.impl.APIConstants;
@@ -58,9 +59,26 @@ public class GraphQLQueryAnalysisHandler extends AbstractHandler {
             log.debug("Query was blocked by the static query analyser");
             return false;
         }
+        registerPersistedQuery(messageContext, payload);
         return true;
     }
 
+    /**
+     * This method registers the automatic persisted query sent along with its hash. It runs after the request has
+     * been authenticated and the query has passed schema, depth and complexity validation.
+     *
+     * @param messageContext message context of the request
+     * @param payload        payload of the request
+     */
+    private void registerPersistedQuery(MessageContext messageContext, String payload) {
+
+        Object hash = messageContext.getProperty(APIMgtGatewayConstants.GRAPHQL_PERSISTED_QUERY_HASH);
+        Object store = messageContext.getProperty(APIMgtGatewayConstants.GRAPHQL_PERSISTED_QUERY_STORE);
+        if (hash instanceof String && store instanceof GraphQLPersistedQueryStore) {
+            ((GraphQLPersistedQueryStore) store).register((String) hash, payload);
+        }
+    }
+
     /**
      * This method analyses the query.
      *
@@ -84,7 +102,15 @@ public class GraphQLQueryAnalysisHandler extends AbstractHandler {
         if (messageContext.getPropertyKeySet().contains(GraphQLConstants.MAXIMUM_QUERY_DEPTH)) {
             maxQueryDepth = (int) messageContext.getProperty(GraphQLConstants.MAXIMUM_QUERY_DEPTH);
         }
-        QueryAnalyzerResponseDTO responseDTO = queryAnalyzer.analyseQueryDepth(maxQueryDepth, payload);
+        GraphQLQueryCache.Entry cacheEntry = getQueryCacheEntry(messageContext);
+        String analysis = "depth:" + maxQueryDepth;
+        QueryAnalyzerResponseDTO responseDTO = cacheEntry != null ? cacheEntry.getAnalysisResult(analysis) : null;
+        if (responseDTO == null) {
+            responseDTO = queryAnalyzer.analyseQueryDepth(maxQueryDepth, payload);
+            if (cacheEntry != null) {
+                cacheEntry.putAnalysisResult(analysis, responseDTO);
+            }
+        }
         if (!responseDTO.isSuccess() && !responseDTO.getErrorList().isEmpty()) {
             handleFailure(GraphQLConstants.GRAPHQL_QUERY_TOO_DEEP, messageContext,
                     GraphQLConstants.GRAPHQL_QUERY_TOO_DEEP_MESSAGE, responseDTO.getErrorList().toString());
@@ -101,9 +127,18 @@ public class GraphQLQueryAnalysisHandler extends AbstractHandler {
         }
         String complexityInfoJson = (String) messageContext
                 .getProperty(APIConstants.GRAPHQL_ACCESS_CONTROL_POLICY);
-        QueryAnalyzerResponseDTO responseDTO = null;
+        // The access control policy is derived from the schema, which the query cache is bound to
+        GraphQLQueryCache.Entry cacheEntry = getQueryCacheEntry(messageContext);
+        String analysis = "complexity:" + queryComplexity;
+        QueryAnalyzerResponseDTO responseDTO = cacheEntry != null ? cacheEntry.getAnalysisResult(analysis) : null;
         try {
-            responseDTO = queryAnalyzer.analyseQueryMutationComplexity(payload, queryComplexity, complexityInfoJson);
+            if (responseDTO == null) {
+                responseDTO = queryAnalyzer.analyseQueryMutationComplexity(payload, queryComplexity,
+                        complexityInfoJson);
+                if (cacheEntry != null) {
+                    cacheEntry.putAnalysisResult(analysis, responseDTO);
+                }
+            }
         } catch (ParseException e) {
             String errorMessage = "Policy definition parsing failed. ";
             handleFailure(GraphQLConstants.GRAPHQL_INVALID_QUERY, messageContext, errorMessage, errorMessage);
@@ -117,6 +152,12 @@ public class GraphQLQueryAnalysisHandler extends AbstractHandler {
         return true;
     }
 
+    private GraphQLQueryCache.Entry getQueryCacheEntry(MessageContext messageContext) {
+
+        Object cacheEntry = messageContext.getProperty(APIMgtGatewayConstants.GRAPHQL_QUERY_CACHE_ENTRY);
+        return cacheEntry instanceof GraphQLQueryCache.Entry ? (GraphQLQueryCache.Entry) cacheEntry : null;
+    }
+
     /**
      * This method handle the failure.
      *
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.apimgt.gateway.handlers.graphQL;
+
+import graphql.language.Document;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.wso2.carbon.apimgt.api.gateway.GraphQLSchemaDTO;
+import org.wso2.carbon.apimgt.common.gateway.dto.QueryAnalyzerResponseDTO;
+import org.wso2.carbon.apimgt.impl.utils.LRUCache;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bounded cache of the processing results of GraphQL queries of an API, keyed by a hash of the query. GraphQL
+ * clients send the same queries over and over again, so a query is parsed, validated against the schema and
+ * analysed for depth and complexity once per limit instead of on every request. When the cache is full, the least
+ * recently used query is evicted.
+ * <p>
+ * A cache belongs to one {@link GraphQLSchemaDTO}. When the schema of the API is updated a new cache is used.
+ */
+public class GraphQLQueryCache {
+
+    public static final int DEFAULT_MAX_SIZE = 1000;
+
+    private final GraphQLSchemaDTO graphQLSchemaDTO;
+    private final Map<String, Entry> entries;
+
+    public GraphQLQueryCache(GraphQLSchemaDTO graphQLSchemaDTO, int maxSize) {
+
+        this.graphQLSchemaDTO = graphQLSchemaDTO;
+        this.entries = new LRUCache<>(maxSize, true);
+    }
+
+    /**
+     * @param graphQLSchemaDTO current schema of the API
+     * @return true if the cached results were computed against the given schema
+     */
+    public boolean isForSchema(GraphQLSchemaDTO graphQLSchemaDTO) {
+
+        return this.graphQLSchemaDTO == graphQLSchemaDTO;
+    }
+
+    public Entry get(String query) {
+
+        return entries.get(getKey(query));
+    }
+
+    public void put(String query, Entry entry) {
+
+        entries.put(getKey(query), entry);
+    }
+
+    public int size() {
+
+        return entries.size();
+    }
+
+    private static String getKey(String query) {
+
+        return DigestUtils.sha256Hex(query);
+    }
+
+    /**
+     * Processing results of a query.
+     */
+    public static final class Entry {
+
+        private final Document document;
+        private final String validationErrorMessage;
+        private final String operationType;
+        private final String operationList;
+        private final boolean invalidDefinition;
+        private final Map<String, QueryAnalyzerResponseDTO> analysisResults = new ConcurrentHashMap<>();
+
+        /**
+         * @param document               parsed query
+         * @param validationErrorMessage schema validation error, or null if the query is valid
+         * @param operationType          type of the first operation of the query
+         * @param operationList          operations of the first operation of the query as the elected resource
+         * @param invalidDefinition      whether the query has a definition which is not an operation
+         */
+        public Entry(Document document, String validationErrorMessage, String operationType, String operationList,
+                     boolean invalidDefinition) {
+
+            this.document = document;
+            this.validationErrorMessage = validationErrorMessage;
+            this.operationType = operationType;
+            this.operationList = operationList;
+            this.invalidDefinition = invalidDefinition;
+        }
+
+        public Document getDocument() {
+
+            return document;
+        }
+
+        public String getValidationErrorMessage() {
+
+            return validationErrorMessage;
+        }
+
+        public String getOperationType() {
+
+            return operationType;
+        }
+
+        public String getOperationList() {
+
+            return operationList;
+        }
+
+        public boolean isInvalidDefinition() {
+
+            return invalidDefinition;
+        }
+
+        /**
+         * @param analysis analysis and the limit it was done for, e.g. depth:10
+         * @return cached analysis result or null
+         */
+        public QueryAnalyzerResponseDTO getAnalysisResult(String analysis) {
+
+            return analysisResults.get(analysis);
+        }
+
+        public void putAnalysisResult(String analysis, QueryAnalyzerResponseDTO responseDTO) {
+
+            analysisResults.put(analysis, responseDTO);
+        }
+    }
+}
@@ -45,6 +45,10 @@ public class AuthenticationContext {
     private int applicationSpikesArrestLimit;
     private String subscriberTenantDomain;
     private String spikeArrestUnit;
+    private long subscriptionRequestCountLimit;
+    private long subscriptionRequestCountPeriod;
+    private long applicationRequestCountLimit;
+    private long applicationRequestCountPeriod;
     private boolean stopOnQuotaReach;
     private String productName;
     private String productProvider;
@@ -198,6 +202,38 @@ public class AuthenticationContext {
         this.applicationSpikesArrestLimit = applicationSpikesArrestLimit;
     }
 
+    public long getSubscriptionRequestCountLimit() {
+        return subscriptionRequestCountLimit;
+    }
+
+    public void setSubscriptionRequestCountLimit(long subscriptionRequestCountLimit) {
+        this.subscriptionRequestCountLimit = subscriptionRequestCountLimit;
+    }
+
+    public long getSubscriptionRequestCountPeriod() {
+        return subscriptionRequestCountPeriod;
+    }
+
+    public void setSubscriptionRequestCountPeriod(long subscriptionRequestCountPeriod) {
+        this.subscriptionRequestCountPeriod = subscriptionRequestCountPeriod;
+    }
+
+    public long getApplicationRequestCountLimit() {
+        return applicationRequestCountLimit;
+    }
+
+    public void setApplicationRequestCountLimit(long applicationRequestCountLimit) {
+        this.applicationRequestCountLimit = applicationRequestCountLimit;
+    }
+
+    public long getApplicationRequestCountPeriod() {
+        return applicationRequestCountPeriod;
+    }
+
+    public void setApplicationRequestCountPeriod(long applicationRequestCountPeriod) {
+        this.applicationRequestCountPeriod = applicationRequestCountPeriod;
+    }
+
     public int getSpikeArrestLimit() {
         return spikeArrestLimit;
     }
@@ -0,0 +1,332 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.apimgt.gateway.handlers.security;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.apimgt.common.gateway.dto.JWTValidationInfo;
+import org.wso2.carbon.apimgt.gateway.internal.ServiceReferenceHolder;
+import org.wso2.carbon.apimgt.impl.APIConstants;
+import org.wso2.carbon.apimgt.impl.APIManagerConfiguration;
+import org.wso2.carbon.apimgt.impl.caching.CacheProvider;
+import org.wso2.carbon.metrics.manager.Counter;
+import org.wso2.carbon.metrics.manager.Level;
+import org.wso2.carbon.metrics.manager.MetricManager;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Node local cache of the authentication result of a token. A single immutable {@link Entry} per token identifier
+ * holds whether the token is valid, its {@link JWTValidationInfo} and the backend JWTs generated for it, so a request
+ * carrying a cached token is authenticated with one hash lookup instead of a lookup in each of the gateway token,
+ * key, invalid token and JWT token caches. Those caches are still written through, as token revocation relies on
+ * them to find the tenant of a token.
+ * <p>
+ * The cache is bounded. When it grows beyond its maximum size, a small sample of entries is taken from a random
+ * position of the map. Expired entries of the sample are dropped, or else the least frequently used one, so tokens
+ * seen on every request are kept over tokens seen once. Expired entries are therefore swept a sample at a time as
+ * the cache is written to, and no write scans the whole map.
+ */
+public class GatewayAuthCache {
+
+    private static final Log log = LogFactory.getLog(GatewayAuthCache.class);
+    private static final String HITS = "HITS";
+    private static final String MISSES = "MISSES";
+    private static final String EVICTIONS = "EVICTIONS";
+    private static final int DEFAULT_MAX_SIZE = 10000;
+    private static final int EVICTION_SAMPLE_SIZE = 8;
+    private static final int MAX_EVICTION_ROUNDS = 16;
+    private static volatile GatewayAuthCache instance;
+
+    private final Map<String, Node> entries = new ConcurrentHashMap<>();
+    private final int maxSize;
+    private final long timeToLiveMillis;
+    private volatile Counter hitCounter;
+    private volatile Counter missCounter;
+    private volatile Counter evictionCounter;
+
+    public GatewayAuthCache(int maxSize, long timeToLiveMillis) {
+
+        this.maxSize = Math.max(maxSize, 1);
+        this.timeToLiveMillis = timeToLiveMillis;
+    }
+
+    public static GatewayAuthCache getInstance() {
+
+        if (instance == null) {
+            synchronized (GatewayAuthCache.class) {
+                if (instance == null) {
+                    instance = createInstance();
+                }
+            }
+        }
+        return instance;
+    }
+
+    private static GatewayAuthCache createInstance() {
+
+        int maxSize = DEFAULT_MAX_SIZE;
+        long timeToLive = APIConstants.DEFAULT_TIMEOUT;
+        try {
+            APIManagerConfiguration config = ServiceReferenceHolder.getInstance().getAPIManagerConfiguration();
+            String maxSizeValue = config.getFirstProperty(APIConstants.GATEWAY_AUTH_CACHE_SIZE);
+            if (maxSizeValue != null) {
+                maxSize = Integer.parseInt(maxSizeValue);
+            }
+            String timeToLiveValue = config.getFirstProperty(APIConstants.TOKEN_CACHE_EXPIRY);
+            timeToLive = timeToLiveValue != null ? Long.parseLong(timeToLiveValue)
+                    : CacheProvider.getDefaultCacheTimeout();
+        } catch (Exception e) {
+            log.error("Did not find a valid gateway auth cache configuration. Using the default configuration.", e);
+        }
+        return new GatewayAuthCache(maxSize, TimeUnit.SECONDS.toMillis(timeToLive));
+    }
+
+    /**
+     * Returns the cached authentication result of a token.
+     *
+     * @param tenantDomain    tenant domain of the API being invoked
+     * @param tokenIdentifier jti or signature of the token
+     * @return cached entry or null if the token is not cached for the tenant
+     */
+    public Entry get(String tenantDomain, String tokenIdentifier) {
+
+        Node node = entries.get(tokenIdentifier);
+        if (node == null || !node.entry.tenantDomain.equals(tenantDomain)) {
+            getMissCounter().inc();
+            return null;
+        }
+        if (node.expiryTime < System.currentTimeMillis()) {
+            entries.remove(tokenIdentifier, node);
+            getMissCounter().inc();
+            return null;
+        }
+        node.frequency++;
+        getHitCounter().inc();
+        return node.entry;
+    }
+
+    public void put(String tokenIdentifier, Entry entry) {
+
+        Node previous = entries.put(tokenIdentifier, new Node(entry, System.currentTimeMillis() + timeToLiveMillis));
+        if (previous == null && entries.size() > maxSize) {
+            evict();
+        }
+    }
+
+    /**
+     * Replaces the entry of a token without extending its lifetime, e.g. to add a backend JWT.
+     */
+    public void update(String tokenIdentifier, Entry entry) {
+
+        Node node = entries.get(tokenIdentifier);
+        if (node != null) {
+            Node updated = new Node(entry, node.expiryTime);
+            updated.frequency = node.frequency;
+            entries.replace(tokenIdentifier, node, updated);
+        }
+    }
+
+    public void invalidate(String tokenIdentifier) {
+
+        if (tokenIdentifier != null) {
+            entries.remove(tokenIdentifier);
+        }
+    }
+
+    public void invalidateAll() {
+
+        entries.clear();
+    }
+
+    public int size() {
+
+        return entries.size();
+    }
+
+    private void evict() {
+
+        long currentTime = System.currentTimeMillis();
+        int evicted = 0;
+        for (int round = 0; round < MAX_EVICTION_ROUNDS && entries.size() > maxSize; round++) {
+            String victim = null;
+            Node victimNode = null;
+            boolean expiredEvicted = false;
+            Iterator<Map.Entry<String, Node>> sample = Spliterators.iterator(sampleEntries());
+            for (int sampled = 0; sampled < EVICTION_SAMPLE_SIZE && sample.hasNext(); sampled++) {
+                Map.Entry<String, Node> candidate = sample.next();
+                String key = candidate.getKey();
+                Node node = candidate.getValue();
+                if (node.expiryTime < currentTime) {
+                    if (entries.remove(key, node)) {
+                        evicted++;
+                        expiredEvicted = true;
+                    }
+                    continue;
+                }
+                if (victimNode == null || node.frequency < victimNode.frequency) {
+                    victim = key;
+                    victimNode = node;
+                }
+                // Age the sampled entries so that tokens which were popular once do not stay forever.
+                node.frequency >>>= 1;
+            }
+            if (!expiredEvicted && victim != null && entries.remove(victim, victimNode)) {
+                evicted++;
+            }
+        }
+        if (evicted > 0) {
+            getEvictionCounter().inc(evicted);
+        }
+    }
+
+    /**
+     * Returns a spliterator over a random region of the map. Each split of a {@link ConcurrentHashMap} spliterator
+     * hands half of its table range to a new spliterator, so descending into a random half until about a sample is
+     * left picks a random position in a logarithmic number of steps, without walking the entries before it.
+     */
+    private Spliterator<Map.Entry<String, Node>> sampleEntries() {
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Spliterator<Map.Entry<String, Node>> spliterator = entries.entrySet().spliterator();
+        while (spliterator.estimateSize() > EVICTION_SAMPLE_SIZE) {
+            Spliterator<Map.Entry<String, Node>> prefix = spliterator.trySplit();
+            if (prefix == null) {
+                break;
+            }
+            if (random.nextBoolean()) {
+                spliterator = prefix;
+            }
+        }
+        return spliterator;
+    }
+
+    private Counter getHitCounter() {
+
+        if (hitCounter == null) {
+            hitCounter = getCounter(HITS);
+        }
+        return hitCounter;
+    }
+
+    private Counter getMissCounter() {
+
+        if (missCounter == null) {
+            missCounter = getCounter(MISSES);
+        }
+        return missCounter;
+    }
+
+    private Counter getEvictionCounter() {
+
+        if (evictionCounter == null) {
+            evictionCounter = getCounter(EVICTIONS);
+        }
+        return evictionCounter;
+    }
+
+    protected Counter getCounter(String metric) {
+
+        return MetricManager.counter(Level.INFO, MetricManager.name(APIConstants.METRICS_PREFIX,
+                GatewayAuthCache.class.getSimpleName(), metric));
+    }
+
+    private static final class Node {
+
+        private final Entry entry;
+        private final long expiryTime;
+        private int frequency;
+
+        Node(Entry entry, long expiryTime) {
+
+            this.entry = entry;
+            this.expiryTime = expiryTime;
+        }
+    }
+
+    /**
+     * Authentication result of a token for a tenant.
+     */
+    public static final class Entry {
+
+        private final String tenantDomain;
+        private final boolean valid;
+        private final JWTValidationInfo jwtValidationInfo;
+        private final Map<String, String> backendJWTs;
+
+        private Entry(String tenantDomain, boolean valid, JWTValidationInfo jwtValidationInfo,
+                      Map<String, String> backendJWTs) {
+
+            this.tenantDomain = tenantDomain;
+            this.valid = valid;
+            this.jwtValidationInfo = jwtValidationInfo;
+            this.backendJWTs = backendJWTs;
+        }
+
+        public static Entry valid(String tenantDomain, JWTValidationInfo jwtValidationInfo) {
+
+            return new Entry(tenantDomain, true, jwtValidationInfo, Collections.<String, String>emptyMap());
+        }
+
+        public static Entry invalid(String tenantDomain) {
+
+            return new Entry(tenantDomain, false, null, Collections.<String, String>emptyMap());
+        }
+
+        public String getTenantDomain() {
+
+            return tenantDomain;
+        }
+
+        public boolean isValid() {
+
+            return valid;
+        }
+
+        public JWTValidationInfo getJwtValidationInfo() {
+
+            return jwtValidationInfo;
+        }
+
+        /**
+         * @param api API context and version the backend JWT was generated for
+         * @return cached backend JWT or null
+         */
+        public String getBackendJWT(String api) {
+
+            return backendJWTs.get(api);
+        }
+
+        public Entry withBackendJWT(String api, String backendJWT) {
+
+            Map<String, String> updatedBackendJWTs = new HashMap<>(backendJWTs);
+            updatedBackendJWTs.put(api, backendJWT);
+            return new Entry(tenantDomain, valid, jwtValidationInfo, Collections.unmodifiableMap(updatedBackendJWTs));
+        }
+    }
+}
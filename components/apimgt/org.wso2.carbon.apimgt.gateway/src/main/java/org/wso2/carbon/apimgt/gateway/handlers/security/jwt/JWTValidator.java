@@ -41,6 +41,7 @@ import org.wso2.carbon.apimgt.gateway.handlers.security.APIKeyValidator;
 import org.wso2.carbon.apimgt.gateway.handlers.security.APISecurityConstants;
 import org.wso2.carbon.apimgt.gateway.handlers.security.APISecurityException;
 import org.wso2.carbon.apimgt.gateway.handlers.security.AuthenticationContext;
+import org.wso2.carbon.apimgt.gateway.handlers.security.GatewayAuthCache;
 import org.wso2.carbon.apimgt.gateway.handlers.streaming.websocket.WebSocketApiConstants;
 import org.wso2.carbon.apimgt.gateway.internal.ServiceReferenceHolder;
 import org.wso2.carbon.apimgt.gateway.jwt.RevokedJWTDataHolder;
@@ -61,6 +62,9 @@ import org.wso2.carbon.base.MultitenantConstants;
 import org.wso2.carbon.context.CarbonContext;
 import org.wso2.carbon.context.PrivilegedCarbonContext;
 import org.wso2.carbon.identity.oauth.config.OAuthServerConfiguration;
+import org.wso2.carbon.metrics.manager.Level;
+import org.wso2.carbon.metrics.manager.MetricManager;
+import org.wso2.carbon.metrics.manager.Timer;
 
 import java.security.cert.Certificate;
 import java.text.ParseException;
@@ -389,15 +393,21 @@ public class JWTValidator {
                                        APISecurityConstants.API_OAUTH_INVALID_AUDIENCES_DESCRIPTION);
     }
 
-    private String generateAndRetrieveJWTToken(String tokenSignature, JWTInfoDto jwtInfoDto)
+    private String generateAndRetrieveJWTToken(String tokenIdentifier, JWTInfoDto jwtInfoDto)
             throws APISecurityException {
 
         String endUserToken = null;
         boolean valid = false;
-        String jwtTokenCacheKey = jwtInfoDto.getApiContext().concat(":").concat(jwtInfoDto.getVersion()).concat(":")
-                .concat(tokenSignature);
+        String api = jwtInfoDto.getApiContext().concat(":").concat(jwtInfoDto.getVersion());
+        String jwtTokenCacheKey = api.concat(":").concat(tokenIdentifier);
         if (isGatewayTokenCacheEnabled) {
-            Object token = getGatewayJWTTokenCache().get(jwtTokenCacheKey);
+            // Entries are cached under the identifier the token was validated with
+            GatewayAuthCache.Entry authCacheEntry = getGatewayAuthCache().get(GatewayUtils.getTenantDomain(),
+                    tokenIdentifier);
+            Object token = authCacheEntry != null ? authCacheEntry.getBackendJWT(api) : null;
+            if (token == null) {
+                token = getGatewayJWTTokenCache().get(jwtTokenCacheKey);
+            }
             if (token != null) {
                 endUserToken = (String) token;
                 long timestampSkew = getTimeStampSkewInSeconds() * 1000;
@@ -405,9 +415,12 @@ public class JWTValidator {
             }
             if (StringUtils.isEmpty(endUserToken) || !valid) {
                 try {
-                    includeUserStoreClaimsIntoClaims(jwtInfoDto);
-                    endUserToken = apiMgtGatewayJWTGenerator.generateToken(jwtInfoDto);
+                    endUserToken = generateBackendJWT(jwtInfoDto);
                     getGatewayJWTTokenCache().put(jwtTokenCacheKey, endUserToken);
+                    if (authCacheEntry != null) {
+                        getGatewayAuthCache().update(tokenIdentifier,
+                                authCacheEntry.withBackendJWT(api, endUserToken));
+                    }
                 } catch (JWTGeneratorException e) {
                     log.error("Error while Generating Backend JWT", e);
                     throw new APISecurityException(APISecurityConstants.API_AUTH_GENERAL_ERROR,
@@ -416,8 +429,7 @@ public class JWTValidator {
             }
         } else {
             try {
-                includeUserStoreClaimsIntoClaims(jwtInfoDto);
-                endUserToken = apiMgtGatewayJWTGenerator.generateToken(jwtInfoDto);
+                endUserToken = generateBackendJWT(jwtInfoDto);
             } catch (JWTGeneratorException e) {
                 log.error("Error while Generating Backend JWT", e);
                 throw new APISecurityException(APISecurityConstants.API_AUTH_GENERAL_ERROR,
@@ -427,6 +439,23 @@ public class JWTValidator {
         return endUserToken;
     }
 
+    private String generateBackendJWT(JWTInfoDto jwtInfoDto) throws JWTGeneratorException {
+
+        Timer.Context context = getTimer(MetricManager.name(APIConstants.METRICS_PREFIX,
+                this.getClass().getSimpleName(), "GENERATE_BACKEND_JWT")).start();
+        try {
+            includeUserStoreClaimsIntoClaims(jwtInfoDto);
+            return apiMgtGatewayJWTGenerator.generateToken(jwtInfoDto);
+        } finally {
+            context.stop();
+        }
+    }
+
+    protected Timer getTimer(String name) {
+
+        return MetricManager.timer(Level.INFO, name);
+    }
+
     private void includeUserStoreClaimsIntoClaims(JWTInfoDto jwtInfoDto) {
 
         JWTInfoDto localJWTInfoDto = new JWTInfoDto(jwtInfoDto);
@@ -519,13 +548,13 @@ public class JWTValidator {
      * @param apiKeyValidationInfoDTO APIKeyValidationInfoDTO
      * @param apiContext              API Context
      * @param apiVersion              API Version
-     * @param tokenSignature          Token signature
+     * @param jti                     JTI, under which the validation result of the token is cached
      * @return Backend JWT String
      * @throws APISecurityException if an error ocurrs
      */
     private String generateBackendJWTForWS(JWTValidationInfo jwtValidationInfo,
                                            APIKeyValidationInfoDTO apiKeyValidationInfoDTO,
-                                           String apiContext, String apiVersion, String tokenSignature)
+                                           String apiContext, String apiVersion, String jti)
             throws APISecurityException {
 
         String endUserToken = null;
@@ -533,7 +562,7 @@ public class JWTValidator {
         if (jwtGenerationEnabled) {
             jwtInfoDto = GatewayUtils.generateJWTInfoDto(jwtValidationInfo,
                     apiKeyValidationInfoDTO, apiContext, apiVersion);
-            endUserToken = generateAndRetrieveJWTToken(tokenSignature, jwtInfoDto);
+            endUserToken = generateAndRetrieveJWTToken(jti, jwtInfoDto);
         }
         return endUserToken;
     }
@@ -575,7 +604,6 @@ public class JWTValidator {
                                                           boolean validateScopes)
             throws APISecurityException {
 
-        String tokenSignature = signedJWTInfo.getSignedJWT().getSignature().toString();
         JWTClaimsSet jwtClaimsSet = signedJWTInfo.getJwtClaimsSet();
         String jti = jwtClaimsSet.getJWTID();
         JWTValidationInfo jwtValidationInfo = validateTokenForWS(signedJWTInfo, jti);
@@ -591,7 +619,7 @@ public class JWTValidator {
                 }
                 log.debug("JWT authentication successful. user: " + apiKeyValidationInfoDTO.getEndUserName());
                 String endUserToken = generateBackendJWTForWS(jwtValidationInfo, apiKeyValidationInfoDTO, apiContext,
-                        apiVersion, tokenSignature);
+                        apiVersion, jti);
                 return generateAuthenticationContextForWS(jti, jwtValidationInfo, apiKeyValidationInfoDTO, endUserToken,
                         apiVersion);
             } else {
@@ -722,6 +750,7 @@ public class JWTValidator {
                 getGatewayTokenCache().remove(tokenIdentifier);
                 getGatewayJWTTokenCache().remove(tokenIdentifier);
                 getInvalidTokenCache().put(tokenIdentifier, tenantDomain);
+                getGatewayAuthCache().put(tokenIdentifier, GatewayAuthCache.Entry.invalid(tenantDomain));
             }
             payload.setValid(false);
             payload.setValidationCode(APISecurityConstants.API_AUTH_INVALID_CREDENTIALS);
@@ -753,11 +782,34 @@ public class JWTValidator {
         JWTValidationInfo jwtValidationInfo = null;
         if (isGatewayTokenCacheEnabled &&
                 !SignedJWTInfo.ValidationStatus.NOT_VALIDATED.equals(signedJWTInfo.getValidationStatus())) {
-            String cacheToken = (String) getGatewayTokenCache().get(jti);
+            GatewayAuthCache.Entry authCacheEntry = getGatewayAuthCache().get(tenantDomain, jti);
+            String cacheToken = null;
+            JWTValidationInfo tempJWTValidationInfo = null;
+            boolean invalidToken = false;
+            if (authCacheEntry != null) {
+                if (authCacheEntry.isValid()) {
+                    cacheToken = authCacheEntry.getTenantDomain();
+                    tempJWTValidationInfo = authCacheEntry.getJwtValidationInfo();
+                } else {
+                    invalidToken = true;
+                }
+            } else {
+                cacheToken = (String) getGatewayTokenCache().get(jti);
+                if (SignedJWTInfo.ValidationStatus.VALID.equals(signedJWTInfo.getValidationStatus())
+                        && cacheToken != null) {
+                    tempJWTValidationInfo = (JWTValidationInfo) getGatewayKeyCache().get(jti);
+                    if (tempJWTValidationInfo != null) {
+                        getGatewayAuthCache().put(jti,
+                                GatewayAuthCache.Entry.valid(tenantDomain, tempJWTValidationInfo));
+                    }
+                } else if (getInvalidTokenCache().get(jti) != null) {
+                    getGatewayAuthCache().put(jti, GatewayAuthCache.Entry.invalid(tenantDomain));
+                    invalidToken = true;
+                }
+            }
             if (SignedJWTInfo.ValidationStatus.VALID.equals(signedJWTInfo.getValidationStatus())
                     && cacheToken != null) {
-                if (getGatewayKeyCache().get(jti) != null) {
-                    JWTValidationInfo tempJWTValidationInfo = (JWTValidationInfo) getGatewayKeyCache().get(jti);
+                if (tempJWTValidationInfo != null) {
                     checkTokenExpiration(jti, tempJWTValidationInfo, tenantDomain);
                                         /* Only when cnf validation fails the validation info is updated when it passes the other
                      validations are performed */
@@ -773,7 +825,7 @@ public class JWTValidator {
                     }
                     jwtValidationInfo = tempJWTValidationInfo;
                 }
-            } else if (getInvalidTokenCache().get(jti) != null) {
+            } else if (invalidToken) {
                 if (log.isDebugEnabled()) {
                     log.debug("Token retrieved from the invalid token cache. Token: " + GatewayUtils
                             .getMaskedToken(jwtHeader));
@@ -797,8 +849,10 @@ public class JWTValidator {
                     if (jwtValidationInfo.isValid()) {
                         getGatewayTokenCache().put(jti, tenantDomain);
                         getGatewayKeyCache().put(jti, jwtValidationInfo);
+                        getGatewayAuthCache().put(jti, GatewayAuthCache.Entry.valid(tenantDomain, jwtValidationInfo));
                     } else {
                         getInvalidTokenCache().put(jti, tenantDomain);
+                        getGatewayAuthCache().put(jti, GatewayAuthCache.Entry.invalid(tenantDomain));
                     }
 
                     if (!MultitenantConstants.SUPER_TENANT_DOMAIN_NAME.equals(tenantDomain)) {
@@ -859,6 +913,11 @@ public class JWTValidator {
 
         return CacheProvider.getGatewayJWTTokenCache();
     }
+
+    protected GatewayAuthCache getGatewayAuthCache() {
+
+        return GatewayAuthCache.getInstance();
+    }
     private Map<String, String> getUserClaimsFromKeyManager(JWTInfoDto jwtInfoDto) {
 
         if (jwtConfigurationDto.isEnableUserClaimRetrievalFromUserStore()) {
@@ -366,6 +366,10 @@ public class OAuthAuthenticator implements Authenticator {
             authContext.setSpikeArrestUnit(info.getSpikeArrestUnit());
             authContext.setApplicationSpikesArrestLimit(info.getApplicationSpikeArrestLimit());
             authContext.setApplicationSpikesArrestUnit(info.getApplicationSpikeArrestUnit());
+            authContext.setSubscriptionRequestCountLimit(info.getSubscriptionRequestCountLimit());
+            authContext.setSubscriptionRequestCountPeriod(info.getSubscriptionRequestCountPeriod());
+            authContext.setApplicationRequestCountLimit(info.getApplicationRequestCountLimit());
+            authContext.setApplicationRequestCountPeriod(info.getApplicationRequestCountPeriod());
             authContext.setStopOnQuotaReach(info.isStopOnQuotaReach());
             authContext.setIsContentAware(info.isContentAware());
             APISecurityUtils.setAuthenticationContext(synCtx, authContext, securityContextHeader);
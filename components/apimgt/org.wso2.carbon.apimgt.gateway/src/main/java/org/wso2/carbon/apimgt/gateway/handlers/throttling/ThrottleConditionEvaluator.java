@@ -34,6 +34,7 @@ import org.wso2.carbon.apimgt.impl.APIConstants;
 import org.wso2.carbon.apimgt.impl.dto.ConditionDto;
 import org.wso2.carbon.apimgt.impl.dto.ThrottleProperties;
 import org.wso2.carbon.apimgt.impl.utils.APIUtil;
+import org.wso2.carbon.apimgt.impl.utils.LRUCache;
 
 import java.math.BigInteger;
 import java.util.ArrayList;
@@ -54,6 +55,13 @@ import java.util.regex.Pattern;
  */
 public class ThrottleConditionEvaluator {
 
+    private static final int MAX_CACHED_PATTERNS = 1000;
+    private static final int MAX_CONDITION_COST = 2;
+
+    // Condition values come from the throttle policies, so a changed policy yields new keys instead of stale patterns.
+    // The oldest patterns are evicted so that the patterns of removed conditions do not take up the cache.
+    private final Map<String, Pattern> patternCache = new LRUCache<>(MAX_CACHED_PATTERNS);
+
     private ThrottleConditionEvaluator() {
 
     }
@@ -111,18 +119,61 @@ public class ThrottleConditionEvaluator {
             evaluationState = false;
         }
 
-        // When multiple conditions have been specified, all the conditions should occur.
-        for (ConditionDTO condition : conditions) {
-            evaluationState = evaluationState & isConditionApplicable(synapseContext, authenticationContext, condition);
+        // When multiple conditions have been specified, all the conditions should occur. The conditions are evaluated
+        // from the cheapest to the most expensive one, as the first false condition decides the result.
+        for (int cost = 0; cost <= MAX_CONDITION_COST; cost++) {
+            for (ConditionDTO condition : conditions) {
+                if (getConditionCost(condition) != cost) {
+                    continue;
+                }
+                evaluationState = evaluationState
+                        & isConditionApplicable(synapseContext, authenticationContext, condition);
 
-            // If one of the conditions are false, rest will evaluate to false. So no need to check the rest.
-            if (!evaluationState) {
-                return false;
+                // If one of the conditions are false, rest will evaluate to false. So no need to check the rest.
+                if (!evaluationState) {
+                    return false;
+                }
             }
         }
         return evaluationState;
     }
 
+    /**
+     * @param condition throttle condition
+     * @return relative cost of evaluating the condition: 0 for IP conditions, 1 for header and query parameter
+     * conditions, which are matched against regular expressions, and 2 for other conditions such as JWT claim
+     * conditions, which also decode the caller token
+     */
+    private static int getConditionCost(ConditionDTO condition) {
+
+        String conditionType = condition.getConditionType();
+        if (PolicyConstants.IP_RANGE_TYPE.equals(conditionType)
+                || PolicyConstants.IP_SPECIFIC_TYPE.equals(conditionType)) {
+            return 0;
+        } else if (PolicyConstants.HEADER_TYPE.equals(conditionType)
+                || PolicyConstants.QUERY_PARAMETER_TYPE.equals(conditionType)) {
+            return 1;
+        }
+        return MAX_CONDITION_COST;
+    }
+
+    /**
+     * Returns the compiled pattern of a regular expression of a throttle condition. Patterns are compiled once and
+     * reused by the subsequent requests.
+     *
+     * @param regex regular expression of the condition
+     * @return compiled pattern
+     */
+    private Pattern getPattern(String regex) {
+
+        Pattern pattern = patternCache.get(regex);
+        if (pattern == null) {
+            pattern = Pattern.compile(regex);
+            patternCache.put(regex, pattern);
+        }
+        return pattern;
+    }
+
     private boolean isConditionApplicable(org.apache.synapse.MessageContext synapseContext,
                                           AuthenticationContext authenticationContext,
                                           ConditionDTO condition) {
@@ -170,7 +221,7 @@ public class ThrottleConditionEvaluator {
             if (value == null) {
                 return false;
             }
-            Pattern pattern = Pattern.compile(condition.getConditionValue());
+            Pattern pattern = getPattern(condition.getConditionValue());
             Matcher matcher = pattern.matcher(value);
             return matcher.find();
         }
@@ -189,7 +240,7 @@ public class ThrottleConditionEvaluator {
                     status = false;
                     break;
                 } else {
-                    Pattern pattern = Pattern.compile(headerEntry.getValue());
+                    Pattern pattern = getPattern(headerEntry.getValue());
                     Matcher matcher = pattern.matcher(value);
                     status = status && matcher.find();
                 }
@@ -211,7 +262,7 @@ public class ThrottleConditionEvaluator {
             if (value == null) {
                 return false;
             } else {
-                Pattern pattern = Pattern.compile(condition.getConditionValue());
+                Pattern pattern = getPattern(condition.getConditionValue());
                 Matcher matcher = pattern.matcher(value);
                 return matcher.find();
             }
@@ -235,7 +286,7 @@ public class ThrottleConditionEvaluator {
                 status = false;
                 break;
             } else {
-                Pattern pattern = Pattern.compile(jwtClaim.getValue());
+                Pattern pattern = getPattern(jwtClaim.getValue());
                 Matcher matcher = pattern.matcher(value);
                 status = status && matcher.find();
             }
@@ -257,7 +308,7 @@ public class ThrottleConditionEvaluator {
                 status = false;
                 break;
             } else {
-                Pattern pattern = Pattern.compile(queryParam.getValue());
+                Pattern pattern = getPattern(queryParam.getValue());
                 Matcher matcher = pattern.matcher(queryParamMap.get(queryParam.getKey()));
                 status = status && matcher.find();
             }
@@ -278,7 +329,7 @@ public class ThrottleConditionEvaluator {
             if (value == null) {
                 return false;
             }
-            Pattern pattern = Pattern.compile(condition.getConditionValue());
+            Pattern pattern = getPattern(condition.getConditionValue());
             Matcher matcher = pattern.matcher(value);
             return matcher.find();
         }
@@ -383,21 +434,24 @@ public class ThrottleConditionEvaluator {
                     status = false;
                 }
             }
-            if (condition.getHeaderConditions() != null && throttleProperties.isEnableHeaderConditions() &&
+            // The remaining conditions are skipped once the pipeline does not match, evaluating the JWT claim
+            // conditions, which decode the caller token, last
+            if (status && condition.getHeaderConditions() != null && throttleProperties.isEnableHeaderConditions() &&
                     !condition.getHeaderConditions().getValues().isEmpty()) {
                 if (!isHeaderPresent(axis2MessageContext, condition.getHeaderConditions())) {
                     status = false;
                 }
             }
-            if (condition.getJwtClaimConditions() != null && throttleProperties.isEnableJwtConditions() &&
-                    !condition.getJwtClaimConditions().getValues().isEmpty()) {
-                if (!isJWTClaimPresent(authContext, condition.getJwtClaimConditions())) {
+            if (status && condition.getQueryParameterConditions() != null
+                    && throttleProperties.isEnableQueryParamConditions()
+                    && !condition.getQueryParameterConditions().getValues().isEmpty()) {
+                if (!isQueryParamPresent(axis2MessageContext, condition.getQueryParameterConditions())) {
                     status = false;
                 }
             }
-            if (condition.getQueryParameterConditions() != null && throttleProperties.isEnableQueryParamConditions() &&
-                    !condition.getQueryParameterConditions().getValues().isEmpty()) {
-                if (!isQueryParamPresent(axis2MessageContext, condition.getQueryParameterConditions())) {
+            if (status && condition.getJwtClaimConditions() != null && throttleProperties.isEnableJwtConditions() &&
+                    !condition.getJwtClaimConditions().getValues().isEmpty()) {
+                if (!isJWTClaimPresent(authContext, condition.getJwtClaimConditions())) {
                     status = false;
                 }
             }
@@ -372,6 +372,11 @@ public class ThrottleHandler extends AbstractHandler implements ManagedLifecycle
                                 authContext, apiContext, apiVersion);
                         isSubscriptionLevelThrottled = getThrottleDataHolder().
                                 isThrottled(subscriptionLevelThrottleKey);
+                        if (!isSubscriptionLevelThrottled && authContext.getSubscriptionRequestCountLimit() > 0) {
+                            isSubscriptionLevelThrottled = getThrottleDataHolder().isLocallyThrottled(
+                                    subscriptionLevelThrottleKey, authContext.getSubscriptionRequestCountLimit(),
+                                    authContext.getSubscriptionRequestCountPeriod());
+                        }
                         if (!isSubscriptionLevelThrottled && authContext.getSpikeArrestLimit() > 0) {
                             isSubscriptionLevelSpikeThrottled = isSubscriptionLevelSpike(synCtx, subscriptionLevelThrottleKey);
                         }
@@ -382,6 +387,11 @@ public class ThrottleHandler extends AbstractHandler implements ManagedLifecycle
                             //Application Level Throttling
                             isApplicationLevelThrottled = getThrottleDataHolder().
                                     isThrottled(applicationLevelThrottleKey);
+                            if (!isApplicationLevelThrottled && authContext.getApplicationRequestCountLimit() > 0) {
+                                isApplicationLevelThrottled = getThrottleDataHolder().isLocallyThrottled(
+                                        applicationLevelThrottleKey, authContext.getApplicationRequestCountLimit(),
+                                        authContext.getApplicationRequestCountPeriod());
+                            }
                             //if application level not throttled means it does not throttled at any level.
                             if (!isApplicationLevelThrottled) {
                                 if (authenticationContext.getApplicationSpikesArrestLimit() > 0) {
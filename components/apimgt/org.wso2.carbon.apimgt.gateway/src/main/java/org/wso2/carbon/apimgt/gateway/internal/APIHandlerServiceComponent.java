@@ -42,11 +42,15 @@ import org.wso2.carbon.apimgt.gateway.handlers.security.keys.APIKeyValidatorClie
 import org.wso2.carbon.apimgt.gateway.jwt.RevokedJWTMapCleaner;
 import org.wso2.carbon.apimgt.gateway.listeners.GatewayStartupListener;
 import org.wso2.carbon.apimgt.gateway.listeners.ServerStartupListener;
+import org.wso2.carbon.apimgt.gateway.throttling.LocalThrottler;
+import org.wso2.carbon.apimgt.gateway.throttling.ThrottleDataHolder;
+import org.wso2.carbon.apimgt.gateway.throttling.publisher.ThrottleDataPublisher;
 import org.wso2.carbon.apimgt.impl.APIConstants;
 import org.wso2.carbon.apimgt.impl.APIManagerConfigurationService;
 import org.wso2.carbon.apimgt.impl.caching.CacheProvider;
 import org.wso2.carbon.apimgt.impl.dto.GatewayArtifactSynchronizerProperties;
 import org.wso2.carbon.apimgt.impl.dto.RedisConfig;
+import org.wso2.carbon.apimgt.impl.dto.ThrottleProperties;
 import org.wso2.carbon.apimgt.impl.gatewayartifactsynchronizer.ArtifactRetriever;
 import org.wso2.carbon.apimgt.impl.jms.listener.JMSListenerShutDownService;
 import org.wso2.carbon.apimgt.impl.jwt.JWTValidationService;
@@ -148,6 +152,14 @@ public class APIHandlerServiceComponent {
             }
         }
 
+        ThrottleProperties.LocalThrottling localThrottling = ServiceReferenceHolder.getInstance()
+                .getAPIManagerConfiguration().getThrottleProperties().getLocalThrottling();
+        if (localThrottling != null && localThrottling.isEnabled()) {
+            LocalThrottler localThrottler = new LocalThrottler(localThrottling.getGatewayCount());
+            localThrottler.start();
+            ThrottleDataHolder.getInstance().setLocalThrottler(localThrottler);
+        }
+
         // Create caches for the super tenant
         ServerConfiguration.getInstance().overrideConfigurationProperty("Cache.ForceLocalCache", "true");
         CacheProvider.createGatewayKeyCache();
@@ -177,6 +189,11 @@ public class APIHandlerServiceComponent {
             log.debug("Unregistering ThrottleDataService...");
             registration.unregister();
         }
+        LocalThrottler localThrottler = ThrottleDataHolder.getInstance().getLocalThrottler();
+        if (localThrottler != null) {
+            localThrottler.stop();
+        }
+        ThrottleDataPublisher.shutdown();
         if (ServiceReferenceHolder.getInstance().getRedisPool() != null &&
                 !ServiceReferenceHolder.getInstance().getRedisPool().isClosed()) {
             ServiceReferenceHolder.getInstance().getRedisPool().destroy();
@@ -23,6 +23,7 @@ import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.apimgt.api.APIManagementException;
 import org.wso2.carbon.apimgt.api.gateway.GatewayAPIDTO;
 import org.wso2.carbon.apimgt.api.gateway.GraphQLSchemaDTO;
+import org.wso2.carbon.apimgt.gateway.handlers.graphQL.GraphQLPersistedQueryStore;
 import org.wso2.carbon.apimgt.gateway.utils.GatewayUtils;
 import org.wso2.carbon.apimgt.gateway.webhooks.SubscriptionDataStore;
 import org.wso2.carbon.apimgt.impl.notifier.events.APIEvent;
@@ -34,6 +35,7 @@ import org.wso2.carbon.apimgt.keymgt.model.exception.DataLoadingException;
 import org.wso2.carbon.apimgt.keymgt.model.impl.SubscriptionDataLoaderImpl;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 public class DataHolder {
@@ -42,6 +44,7 @@ public class DataHolder {
     private Map<String, List<String>> apiToCertificatesMap = new HashMap();
     private Map<String, String> googleAnalyticsConfigMap = new HashMap<>();
     private Map<String, GraphQLSchemaDTO> apiToGraphQLSchemaDTOMap = new HashMap<>();
+    private Map<String, GraphQLPersistedQueryStore> apiToPersistedQueryStoreMap = new ConcurrentHashMap<>();
     private Map<String, List<String>> apiToKeyManagersMap = new HashMap<>();
     private Map<String,Map<String, API>> tenantAPIMap  = new HashMap<>();
     private Map<String, Boolean> tenantDeployStatus = new HashMap<>();
@@ -104,6 +107,26 @@ public class DataHolder {
     public void addApiToGraphQLSchemaDTO(String apiId, GraphQLSchemaDTO graphQLSchemaDTO) {
 
         apiToGraphQLSchemaDTOMap.put(apiId, graphQLSchemaDTO);
+        // Persisted queries are registered per deployed revision of the API
+        apiToPersistedQueryStoreMap.remove(apiId);
+    }
+
+    /**
+     * Returns the automatic persisted query store of the deployed revision of a GraphQL API, creating it on first use.
+     * The store can also be used to pre-seed known queries of the API.
+     *
+     * @param apiId API UUID
+     * @return persisted query store of the API
+     */
+    public GraphQLPersistedQueryStore getPersistedQueryStore(String apiId) {
+
+        return apiToPersistedQueryStoreMap.computeIfAbsent(apiId,
+                k -> new GraphQLPersistedQueryStore(GraphQLPersistedQueryStore.DEFAULT_MAX_SIZE));
+    }
+
+    public void removePersistedQueryStore(String apiId) {
+
+        apiToPersistedQueryStoreMap.remove(apiId);
     }
 
     public boolean isAllApisDeployed() {
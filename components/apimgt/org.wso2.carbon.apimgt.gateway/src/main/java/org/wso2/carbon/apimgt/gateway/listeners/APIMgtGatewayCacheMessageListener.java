@@ -28,6 +28,7 @@ import org.json.simple.JSONObject;
 import org.json.simple.parser.JSONParser;
 import org.json.simple.parser.ParseException;
 import org.wso2.carbon.apimgt.api.dto.ResourceCacheInvalidationDto;
+import org.wso2.carbon.apimgt.gateway.handlers.security.GatewayAuthCache;
 import org.wso2.carbon.apimgt.gateway.internal.ServiceReferenceHolder;
 import org.wso2.carbon.apimgt.impl.APIConstants;
 
@@ -88,8 +89,11 @@ public class APIMgtGatewayCacheMessageListener implements MessageListener {
     }
 
     private void handleKeyCacheInvalidationMessage(JSONArray jsonValue) throws ParseException {
-        ServiceReferenceHolder.getInstance().getCacheInvalidationService()
-                .invalidateCachedTokens((String[]) jsonValue.toArray(new String[0]));
+        String[] accessTokens = (String[]) jsonValue.toArray(new String[0]);
+        ServiceReferenceHolder.getInstance().getCacheInvalidationService().invalidateCachedTokens(accessTokens);
+        for (String accessToken : accessTokens) {
+            GatewayAuthCache.getInstance().invalidate(accessToken);
+        }
     }
 
     private void handleResourceCacheInvalidationMessage(JSONObject jsonValue) throws ParseException {
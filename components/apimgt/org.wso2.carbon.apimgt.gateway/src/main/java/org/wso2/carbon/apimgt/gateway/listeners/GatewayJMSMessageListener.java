@@ -61,8 +61,14 @@ import org.wso2.carbon.apimgt.impl.notifier.events.KeyTemplateEvent;
 import org.wso2.carbon.apimgt.impl.utils.APIUtil;
 import org.wso2.carbon.apimgt.keymgt.SubscriptionDataHolder;
 import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.metrics.manager.Level;
+import org.wso2.carbon.metrics.manager.MetricManager;
+import org.wso2.carbon.metrics.manager.Timer;
 
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -75,19 +81,35 @@ import javax.jms.Topic;
 public class GatewayJMSMessageListener implements MessageListener, JMSConnectionEventListener {
 
     private static final Log log = LogFactory.getLog(GatewayJMSMessageListener.class);
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final Gson GSON = new Gson();
+    private static final Map<String, EventType> EVENT_TYPES = new HashMap<>();
+
+    static {
+        for (EventType eventType : EventType.values()) {
+            EVENT_TYPES.put(eventType.name(), eventType);
+        }
+    }
+
     private boolean debugEnabled = log.isDebugEnabled();
     private boolean refreshOnReconnect = false;
+    // Time of the latest notification event applied. Along with the load time of the subscription data stores, this
+    // is the starting point of a delta sync on reconnection
+    private volatile long lastEventTimestamp;
     private InMemoryAPIDeployer inMemoryApiDeployer = new InMemoryAPIDeployer();
     private EventHubConfigurationDto eventHubConfigurationDto = ServiceReferenceHolder.getInstance()
             .getAPIManagerConfiguration().getEventHubConfigurationDto();
     private GatewayArtifactSynchronizerProperties gatewayArtifactSynchronizerProperties = ServiceReferenceHolder
             .getInstance().getAPIManagerConfiguration().getGatewayArtifactSynchronizerProperties();
     ExecutorService executor = Executors.newSingleThreadExecutor(r -> new Thread(r, "DeploymentThread"));
+    private final Map<EventType, NotificationEventHandler> notificationEventHandlers = new EnumMap<>(EventType.class);
 
     public GatewayJMSMessageListener() {
+        registerNotificationEventHandlers();
     }
 
     public GatewayJMSMessageListener(boolean refreshOnReconnect) {
+        this();
         this.refreshOnReconnect = refreshOnReconnect;
     }
 
@@ -111,7 +133,7 @@ public class GatewayJMSMessageListener implements MessageListener, JMSConnection
                 Topic jmsDestination = (Topic) message.getJMSDestination();
                 if (message instanceof TextMessage) {
                     String textMessage = ((TextMessage) message).getText();
-                    JsonNode payloadData =  new ObjectMapper().readTree(textMessage).path(APIConstants.EVENT_PAYLOAD).
+                    JsonNode payloadData = OBJECT_MAPPER.readTree(textMessage).path(APIConstants.EVENT_PAYLOAD).
                             path(APIConstants.EVENT_PAYLOAD_DATA);
 
                     if (APIConstants.TopicNames.TOPIC_NOTIFICATION.equalsIgnoreCase(jmsDestination.getTopicName())) {
@@ -125,9 +147,10 @@ public class GatewayJMSMessageListener implements MessageListener, JMSConnection
                             if (debugEnabled) {
                                 log.debug("Event received from the topic of " + jmsDestination.getTopicName());
                             }
+                            long eventTimestamp = payloadData.get(APIConstants.EVENT_TIMESTAMP).asLong();
                             handleNotificationMessage(payloadData.get(APIConstants.EVENT_TYPE).asText(),
-                                    payloadData.get(APIConstants.EVENT_TIMESTAMP).asLong(),
-                                    payloadData.get(APIConstants.EVENT_PAYLOAD).asText());
+                                    eventTimestamp, payloadData.get(APIConstants.EVENT_PAYLOAD).asText());
+                            lastEventTimestamp = Math.max(lastEventTimestamp, eventTimestamp);
                         }
                     } else if (APIConstants.TopicNames.TOPIC_ASYNC_WEBHOOKS_DATA.equalsIgnoreCase
                             (jmsDestination.getTopicName())) {
@@ -154,221 +177,325 @@ public class GatewayJMSMessageListener implements MessageListener, JMSConnection
 
     private void handleNotificationMessage(String eventType, long timestamp, String encodedEvent) {
 
-        byte[] eventDecoded = Base64.decodeBase64(encodedEvent);
-        String eventJson = new String(eventDecoded);
+        if (EventType.NOTIFICATION_BATCH.name().equals(eventType)) {
+            handleNotificationBatch(new String(Base64.decodeBase64(encodedEvent)));
+            return;
+        }
+        EventType type = EVENT_TYPES.get(eventType);
+        NotificationEventHandler handler = type != null ? notificationEventHandlers.get(type) : null;
+        if (handler == null) {
+            if (debugEnabled) {
+                log.debug("Ignoring the notification event of type " + eventType);
+            }
+            return;
+        }
+        handleNotificationEvent(type, handler, new String(Base64.decodeBase64(encodedEvent)));
+    }
+
+    /**
+     * Applies the events of a batch published by the control plane, in the order they are listed in the batch.
+     *
+     * @param batchJson JSON array of the type, timestamp and JSON of each event
+     */
+    private void handleNotificationBatch(String batchJson) {
+
+        JsonNode batch;
+        try {
+            batch = OBJECT_MAPPER.readTree(batchJson);
+        } catch (JsonProcessingException e) {
+            log.error("Error while reading a batch of notification events", e);
+            return;
+        }
+        if (debugEnabled) {
+            log.debug("Received a batch of " + batch.size() + " notification events");
+        }
+        for (JsonNode batchedEvent : batch) {
+            String eventType = batchedEvent.path(APIConstants.EVENT_TYPE).asText();
+            EventType type = EVENT_TYPES.get(eventType);
+            NotificationEventHandler handler = type != null ? notificationEventHandlers.get(type) : null;
+            if (handler == null) {
+                if (debugEnabled) {
+                    log.debug("Ignoring the notification event of type " + eventType);
+                }
+                continue;
+            }
+            try {
+                handleNotificationEvent(type, handler, batchedEvent.path(APIConstants.EVENT_PAYLOAD).asText());
+            } catch (RuntimeException e) {
+                log.error("Error while applying a notification event of type " + eventType + " in a batch", e);
+            }
+        }
+    }
+
+    private void handleNotificationEvent(EventType type, NotificationEventHandler handler, String eventJson) {
+
+        Timer.Context context = getTimer(MetricManager.name(APIConstants.METRICS_PREFIX,
+                this.getClass().getSimpleName(), type.name())).start();
+        try {
+            handler.handle(type, eventJson);
+        } finally {
+            context.stop();
+        }
+    }
+
+    private void registerNotificationEventHandlers() {
+
+        registerNotificationEventHandler(this::handleGatewayDeploymentEvent, EventType.DEPLOY_API_IN_GATEWAY,
+                EventType.REMOVE_API_FROM_GATEWAY);
+        registerNotificationEventHandler(this::handleApplicationEvent, EventType.APPLICATION_CREATE,
+                EventType.APPLICATION_UPDATE, EventType.APPLICATION_DELETE);
+        registerNotificationEventHandler(this::handleSubscriptionEvent, EventType.SUBSCRIPTIONS_CREATE,
+                EventType.SUBSCRIPTIONS_UPDATE, EventType.SUBSCRIPTIONS_DELETE);
+        registerNotificationEventHandler(this::handleAPIEvent, EventType.API_UPDATE, EventType.API_LIFECYCLE_CHANGE);
+        registerNotificationEventHandler(this::handleApplicationRegistrationEvent,
+                EventType.APPLICATION_REGISTRATION_CREATE, EventType.REMOVE_APPLICATION_KEYMAPPING);
+        registerNotificationEventHandler(this::handleScopeEvent, EventType.SCOPES_UPDATE, EventType.SCOPE_CREATE,
+                EventType.SCOPE_UPDATE, EventType.SCOPE_DELETE);
+        registerNotificationEventHandler(this::handlePolicyEvent, EventType.POLICY_CREATE, EventType.POLICY_UPDATE,
+                EventType.POLICY_DELETE);
+        registerNotificationEventHandler(this::handleCertificateEvent, EventType.ENDPOINT_CERTIFICATE_ADD,
+                EventType.ENDPOINT_CERTIFICATE_REMOVE);
+        registerNotificationEventHandler(this::handleGoogleAnalyticsConfigEvent, EventType.GA_CONFIG_UPDATE);
+        registerNotificationEventHandler(this::handleAPILogLevelEvent, EventType.UDATE_API_LOG_LEVEL);
+        registerNotificationEventHandler(this::handleKeyTemplateEvent, EventType.CUSTOM_POLICY_ADD,
+                EventType.CUSTOM_POLICY_DELETE, EventType.CUSTOM_POLICY_UPDATE);
+        registerNotificationEventHandler(this::handleGatewayPolicyEvent, EventType.DEPLOY_POLICY_MAPPING_IN_GATEWAY,
+                EventType.REMOVE_POLICY_MAPPING_FROM_GATEWAY);
+    }
 
-        if (APIConstants.EventType.DEPLOY_API_IN_GATEWAY.name().equals(eventType)
-                || APIConstants.EventType.REMOVE_API_FROM_GATEWAY.name().equals(eventType)) {
-            executor.submit(new Runnable() {
-                @Override
-                public void run() {
+    private void registerNotificationEventHandler(NotificationEventHandler handler, EventType... eventTypes) {
 
-                    DeployAPIInGatewayEvent gatewayEvent = new Gson().fromJson(new String(eventDecoded),
-                            DeployAPIInGatewayEvent.class);
-                    String tenantDomain = gatewayEvent.getTenantDomain();
-                    boolean tenantLoaded = ServiceReferenceHolder.getInstance().isTenantLoaded(tenantDomain);
+        for (EventType eventType : eventTypes) {
+            notificationEventHandlers.put(eventType, handler);
+        }
+    }
+
+    private void handleGatewayDeploymentEvent(EventType eventType, String eventJson) {
+
+        executor.submit(() -> {
+            DeployAPIInGatewayEvent gatewayEvent = GSON.fromJson(eventJson, DeployAPIInGatewayEvent.class);
+            String tenantDomain = gatewayEvent.getTenantDomain();
+            boolean tenantLoaded = ServiceReferenceHolder.getInstance().isTenantLoaded(tenantDomain);
+            if (!tenantLoaded) {
+                String syncKey = tenantDomain.concat("__").concat(this.getClass().getName());
+                synchronized (syncKey.intern()) {
+                    tenantLoaded = ServiceReferenceHolder.getInstance().isTenantLoaded(tenantDomain);
                     if (!tenantLoaded) {
-                        String syncKey = tenantDomain.concat("__").concat(this.getClass().getName());
-                        synchronized (syncKey.intern()) {
-                            tenantLoaded = ServiceReferenceHolder.getInstance().isTenantLoaded(tenantDomain);
-                            if (!tenantLoaded) {
-                                APIUtil.loadTenantConfigBlockingMode(tenantDomain);
-                            }
-                        }
+                        APIUtil.loadTenantConfigBlockingMode(tenantDomain);
                     }
+                }
+            }
 
-                    if (tenantLoaded) {
-                        Set<String> systemConfiguredGatewayLabels = new HashSet(gatewayEvent.getGatewayLabels());
-                        systemConfiguredGatewayLabels.retainAll(gatewayArtifactSynchronizerProperties.getGatewayLabels());
-                        if (!systemConfiguredGatewayLabels.isEmpty()) {
-                            ServiceReferenceHolder.getInstance().getKeyManagerDataService().updateDeployedAPIRevision(gatewayEvent);
-                            if (EventType.DEPLOY_API_IN_GATEWAY.name().equals(eventType)) {
-                                boolean tenantFlowStarted = false;
-                                try {
-                                    startTenantFlow(tenantDomain);
-                                    tenantFlowStarted = true;
-                                    inMemoryApiDeployer.deployAPI(gatewayEvent);
-                                } catch (ArtifactSynchronizerException e) {
-                                    log.error("Error in deploying artifacts for " + gatewayEvent.getUuid() +
-                                            "in the Gateway");
-                                } finally {
-                                    if (tenantFlowStarted) {
-                                        endTenantFlow();
-                                    }
-                                }
-                            }
-                            if (APIConstants.EventType.REMOVE_API_FROM_GATEWAY.name().equals(eventType)) {
-                                boolean tenantFlowStarted = false;
-                                try {
-                                    startTenantFlow(tenantDomain);
-                                    tenantFlowStarted = true;
-                                    inMemoryApiDeployer.unDeployAPI(gatewayEvent);
-                                } catch (ArtifactSynchronizerException e) {
-                                    log.error("Error in undeploying artifacts");
-                                } finally {
-                                    if (tenantFlowStarted) {
-                                        endTenantFlow();
-                                    }
-                                }
-                                DataHolder.getInstance().removeAPIFromAllTenantMap(gatewayEvent.getContext(),
-                                        gatewayEvent.getTenantDomain());
+            if (tenantLoaded) {
+                Set<String> systemConfiguredGatewayLabels = new HashSet(gatewayEvent.getGatewayLabels());
+                systemConfiguredGatewayLabels.retainAll(gatewayArtifactSynchronizerProperties.getGatewayLabels());
+                if (!systemConfiguredGatewayLabels.isEmpty()) {
+                    ServiceReferenceHolder.getInstance().getKeyManagerDataService()
+                            .updateDeployedAPIRevision(gatewayEvent);
+                    if (EventType.DEPLOY_API_IN_GATEWAY == eventType) {
+                        boolean tenantFlowStarted = false;
+                        try {
+                            startTenantFlow(tenantDomain);
+                            tenantFlowStarted = true;
+                            inMemoryApiDeployer.deployAPI(gatewayEvent);
+                        } catch (ArtifactSynchronizerException e) {
+                            log.error("Error in deploying artifacts for " + gatewayEvent.getUuid() +
+                                    "in the Gateway");
+                        } finally {
+                            if (tenantFlowStarted) {
+                                endTenantFlow();
                             }
                         }
-
-                        if (debugEnabled) {
-                            log.debug("Event with ID " + gatewayEvent.getEventId() + " is received and " +
-                                    gatewayEvent.getUuid() + " is successfully deployed/undeployed");
+                    }
+                    if (EventType.REMOVE_API_FROM_GATEWAY == eventType) {
+                        boolean tenantFlowStarted = false;
+                        try {
+                            startTenantFlow(tenantDomain);
+                            tenantFlowStarted = true;
+                            inMemoryApiDeployer.unDeployAPI(gatewayEvent);
+                        } catch (ArtifactSynchronizerException e) {
+                            log.error("Error in undeploying artifacts");
+                        } finally {
+                            if (tenantFlowStarted) {
+                                endTenantFlow();
+                            }
                         }
+                        DataHolder.getInstance().removeAPIFromAllTenantMap(gatewayEvent.getContext(),
+                                gatewayEvent.getTenantDomain());
                     }
                 }
-            });
-        }
-        if (EventType.APPLICATION_CREATE.toString().equals(eventType)
-                || EventType.APPLICATION_UPDATE.toString().equals(eventType)) {
-            ApplicationEvent event = new Gson().fromJson(eventJson, ApplicationEvent.class);
+
+                if (debugEnabled) {
+                    log.debug("Event with ID " + gatewayEvent.getEventId() + " is received and " +
+                            gatewayEvent.getUuid() + " is successfully deployed/undeployed");
+                }
+            }
+        });
+    }
+
+    private void handleApplicationEvent(EventType eventType, String eventJson) {
+
+        ApplicationEvent event = GSON.fromJson(eventJson, ApplicationEvent.class);
+        if (EventType.APPLICATION_DELETE == eventType) {
+            ServiceReferenceHolder.getInstance().getKeyManagerDataService().removeApplication(event);
+        } else {
             ServiceReferenceHolder.getInstance().getKeyManagerDataService().addOrUpdateApplication(event);
-        } else if (EventType.SUBSCRIPTIONS_CREATE.toString().equals(eventType)
-                || EventType.SUBSCRIPTIONS_UPDATE.toString().equals(eventType)) {
-            SubscriptionEvent event = new Gson().fromJson(eventJson, SubscriptionEvent.class);
+        }
+    }
+
+    private void handleSubscriptionEvent(EventType eventType, String eventJson) {
+
+        SubscriptionEvent event = GSON.fromJson(eventJson, SubscriptionEvent.class);
+        if (EventType.SUBSCRIPTIONS_DELETE == eventType) {
+            ServiceReferenceHolder.getInstance().getKeyManagerDataService().removeSubscription(event);
+        } else {
             ServiceReferenceHolder.getInstance().getKeyManagerDataService().addOrUpdateSubscription(event);
-        } else if (EventType.API_UPDATE.toString().equals(eventType)) {
-            APIEvent event = new Gson().fromJson(eventJson, APIEvent.class);
+        }
+    }
+
+    private void handleAPIEvent(EventType eventType, String eventJson) {
+
+        APIEvent event = GSON.fromJson(eventJson, APIEvent.class);
+        if (EventType.API_UPDATE == eventType) {
             ServiceReferenceHolder.getInstance().getKeyManagerDataService().addOrUpdateAPI(event);
             DataHolder.getInstance().addAPIMetaData(event);
-        } else if (EventType.API_LIFECYCLE_CHANGE.toString().equals(eventType)) {
-            APIEvent event = new Gson().fromJson(eventJson, APIEvent.class);
-            if (APIStatus.RETIRED.toString().equals(event.getApiStatus())) {
-                ServiceReferenceHolder.getInstance().getKeyManagerDataService().removeAPI(event);
-                DataHolder.getInstance().removeAPIFromAllTenantMap(event.getApiContext(), event.getTenantDomain());
-            } else {
-                ServiceReferenceHolder.getInstance().getKeyManagerDataService().addOrUpdateAPI(event);
-            }
-        } else if (EventType.APPLICATION_REGISTRATION_CREATE.toString().equals(eventType)) {
-            ApplicationRegistrationEvent event = new Gson().fromJson(eventJson, ApplicationRegistrationEvent.class);
-            ServiceReferenceHolder.getInstance().getKeyManagerDataService().addOrUpdateApplicationKeyMapping(event);
-        } else if (EventType.SUBSCRIPTIONS_DELETE.toString().equals(eventType)) {
-            SubscriptionEvent event = new Gson().fromJson(eventJson, SubscriptionEvent.class);
-            ServiceReferenceHolder.getInstance().getKeyManagerDataService().removeSubscription(event);
-        } else if (EventType.APPLICATION_DELETE.toString().equals(eventType)) {
-            ApplicationEvent event = new Gson().fromJson(eventJson, ApplicationEvent.class);
-            ServiceReferenceHolder.getInstance().getKeyManagerDataService().removeApplication(event);
-        } else if (EventType.REMOVE_APPLICATION_KEYMAPPING.toString().equals(eventType)) {
-            ApplicationRegistrationEvent event = new Gson().fromJson(eventJson, ApplicationRegistrationEvent.class);
+        } else if (APIStatus.RETIRED.toString().equals(event.getApiStatus())) {
+            ServiceReferenceHolder.getInstance().getKeyManagerDataService().removeAPI(event);
+            DataHolder.getInstance().removeAPIFromAllTenantMap(event.getApiContext(), event.getTenantDomain());
+        } else {
+            ServiceReferenceHolder.getInstance().getKeyManagerDataService().addOrUpdateAPI(event);
+        }
+    }
+
+    private void handleApplicationRegistrationEvent(EventType eventType, String eventJson) {
+
+        ApplicationRegistrationEvent event = GSON.fromJson(eventJson, ApplicationRegistrationEvent.class);
+        if (EventType.REMOVE_APPLICATION_KEYMAPPING == eventType) {
             ServiceReferenceHolder.getInstance().getKeyManagerDataService().removeApplicationKeyMapping(event);
-        } else if (EventType.SCOPES_UPDATE.toString().equals(eventType)) {
-            ScopesEvent event = new Gson().fromJson(eventJson, ScopesEvent.class);
+        } else {
+            ServiceReferenceHolder.getInstance().getKeyManagerDataService().addOrUpdateApplicationKeyMapping(event);
+        }
+    }
+
+    private void handleScopeEvent(EventType eventType, String eventJson) {
+
+        if (EventType.SCOPES_UPDATE == eventType) {
+            ScopesEvent event = GSON.fromJson(eventJson, ScopesEvent.class);
             for (ScopeEvent scopeEvent : event.getScopes()) {
                 ServiceReferenceHolder.getInstance().getKeyManagerDataService().addScope(scopeEvent);
             }
-        } else if (EventType.SCOPE_CREATE.toString().equals(eventType) ||
-                EventType.SCOPE_UPDATE.toString().equals(eventType)) {
-            ScopeEvent event = new Gson().fromJson(eventJson, ScopeEvent.class);
-            ServiceReferenceHolder.getInstance().getKeyManagerDataService().addScope(event);
-            APIUtil.logAuditMessage(APIConstants.AuditLogConstants.SCOPE, event.getName() + ": " + eventType,
-                    APIConstants.AuditLogConstants.DEPLOYED,
-                    APIConstants.AuditLogConstants.SYSTEM + ": " + event.getTenantDomain());
-        } else if (EventType.SCOPE_DELETE.toString().equals(eventType)) {
-            ScopeEvent event = new Gson().fromJson(eventJson, ScopeEvent.class);
+            return;
+        }
+        ScopeEvent event = GSON.fromJson(eventJson, ScopeEvent.class);
+        if (EventType.SCOPE_DELETE == eventType) {
             ServiceReferenceHolder.getInstance().getKeyManagerDataService().deleteScope(event);
-            APIUtil.logAuditMessage(APIConstants.AuditLogConstants.SCOPE, event.getName() + ": " + eventType,
-                    APIConstants.AuditLogConstants.DEPLOYED,
-                    APIConstants.AuditLogConstants.SYSTEM + ": " + event.getTenantDomain());
-        } else if (EventType.POLICY_CREATE.toString().equals(eventType) ||
-            EventType.POLICY_DELETE.toString().equals(eventType) ||
-            EventType.POLICY_UPDATE.toString().equals(eventType)) {
-            String policyName = null;
-            PolicyEvent event = new Gson().fromJson(eventJson, PolicyEvent.class);
-            boolean updatePolicy = false;
-            boolean deletePolicy = false;
-            if (EventType.POLICY_CREATE.toString().equals(eventType)
-                    || EventType.POLICY_UPDATE.toString().equals(eventType)) {
-                updatePolicy = true;
-            } else if (EventType.POLICY_DELETE.toString().equals(eventType)) {
-                deletePolicy = true;
+        } else {
+            ServiceReferenceHolder.getInstance().getKeyManagerDataService().addScope(event);
+        }
+        APIUtil.logAuditMessage(APIConstants.AuditLogConstants.SCOPE, event.getName() + ": " + eventType,
+                APIConstants.AuditLogConstants.DEPLOYED,
+                APIConstants.AuditLogConstants.SYSTEM + ": " + event.getTenantDomain());
+    }
+
+    private void handlePolicyEvent(EventType eventType, String eventJson) {
+
+        String policyName = null;
+        PolicyEvent event = GSON.fromJson(eventJson, PolicyEvent.class);
+        boolean updatePolicy = EventType.POLICY_CREATE == eventType || EventType.POLICY_UPDATE == eventType;
+        boolean deletePolicy = EventType.POLICY_DELETE == eventType;
+        if (event.getPolicyType() == PolicyType.API) {
+            APIPolicyEvent policyEvent = GSON.fromJson(eventJson, APIPolicyEvent.class);
+            if (updatePolicy) {
+                ServiceReferenceHolder.getInstance().getKeyManagerDataService()
+                        .addOrUpdateAPIPolicy(policyEvent);
+            } else if (deletePolicy) {
+                ServiceReferenceHolder.getInstance().getKeyManagerDataService()
+                        .removeAPIPolicy(policyEvent);
             }
-            if (event.getPolicyType() == PolicyType.API) {
-                APIPolicyEvent policyEvent = new Gson().fromJson(eventJson, APIPolicyEvent.class);
-                if (updatePolicy) {
-                    ServiceReferenceHolder.getInstance().getKeyManagerDataService()
-                            .addOrUpdateAPIPolicy(policyEvent);
-                } else if (deletePolicy) {
-                    ServiceReferenceHolder.getInstance().getKeyManagerDataService()
-                            .removeAPIPolicy(policyEvent);
-                }
-                policyName = policyEvent.getPolicyName();
-            } else if (event.getPolicyType() == PolicyType.SUBSCRIPTION) {
-                SubscriptionPolicyEvent policyEvent = new Gson().fromJson(eventJson, SubscriptionPolicyEvent.class);
-                if (updatePolicy) {
-                    ServiceReferenceHolder.getInstance().getKeyManagerDataService()
-                            .addOrUpdateSubscriptionPolicy(policyEvent);
-                } else if (deletePolicy) {
-                    ServiceReferenceHolder.getInstance().getKeyManagerDataService()
-                            .removeSubscriptionPolicy(policyEvent);
-                }
-                policyName = policyEvent.getPolicyName();
-            } else if (event.getPolicyType() == PolicyType.APPLICATION) {
-                ApplicationPolicyEvent policyEvent = new Gson().fromJson(eventJson, ApplicationPolicyEvent.class);
-                if (updatePolicy) {
-                    ServiceReferenceHolder.getInstance().getKeyManagerDataService()
-                            .addOrUpdateApplicationPolicy(policyEvent);
-                } else if (deletePolicy) {
-                    ServiceReferenceHolder.getInstance().getKeyManagerDataService()
-                            .removeApplicationPolicy(policyEvent);
-                }
-                policyName = policyEvent.getPolicyName();
+            policyName = policyEvent.getPolicyName();
+        } else if (event.getPolicyType() == PolicyType.SUBSCRIPTION) {
+            SubscriptionPolicyEvent policyEvent = GSON.fromJson(eventJson, SubscriptionPolicyEvent.class);
+            if (updatePolicy) {
+                ServiceReferenceHolder.getInstance().getKeyManagerDataService()
+                        .addOrUpdateSubscriptionPolicy(policyEvent);
+            } else if (deletePolicy) {
+                ServiceReferenceHolder.getInstance().getKeyManagerDataService()
+                        .removeSubscriptionPolicy(policyEvent);
             }
-            APIUtil.logAuditMessage(event.getPolicyType().toString(), policyName + ": " + eventType,
-                    APIConstants.AuditLogConstants.DEPLOYED,
-                    APIConstants.AuditLogConstants.SYSTEM + ": " + event.getTenantDomain());
-        } else if (EventType.ENDPOINT_CERTIFICATE_ADD.toString().equals(eventType) ||
-                EventType.ENDPOINT_CERTIFICATE_REMOVE.toString().equals(eventType)) {
-            CertificateEvent certificateEvent = new Gson().fromJson(eventJson, CertificateEvent.class);
-            if (EventType.ENDPOINT_CERTIFICATE_ADD.toString().equals(eventType)) {
-                try {
-                    new EndpointCertificateDeployer(certificateEvent.getTenantDomain())
-                            .deployCertificate(certificateEvent.getAlias());
-                } catch (APIManagementException e) {
-                    log.error(e);
-                }
-            } else if (EventType.ENDPOINT_CERTIFICATE_REMOVE.toString().equals(eventType)) {
-                boolean tenantFlowStarted = false;
-                try {
-                    PrivilegedCarbonContext.startTenantFlow();
-                    PrivilegedCarbonContext.getThreadLocalCarbonContext()
-                            .setTenantDomain(certificateEvent.getTenantDomain(), true);
-                    tenantFlowStarted = true;
-                    CertificateManagerImpl.getInstance().deleteCertificateFromGateway(certificateEvent.getAlias());
-                } finally {
-                    if (tenantFlowStarted) {
-                        PrivilegedCarbonContext.endTenantFlow();
-                    }
-                }
+            policyName = policyEvent.getPolicyName();
+        } else if (event.getPolicyType() == PolicyType.APPLICATION) {
+            ApplicationPolicyEvent policyEvent = GSON.fromJson(eventJson, ApplicationPolicyEvent.class);
+            if (updatePolicy) {
+                ServiceReferenceHolder.getInstance().getKeyManagerDataService()
+                        .addOrUpdateApplicationPolicy(policyEvent);
+            } else if (deletePolicy) {
+                ServiceReferenceHolder.getInstance().getKeyManagerDataService()
+                        .removeApplicationPolicy(policyEvent);
             }
-        } else if (EventType.GA_CONFIG_UPDATE.toString().equals(eventType)) {
-            GoogleAnalyticsConfigEvent googleAnalyticsConfigEvent =
-                    new Gson().fromJson(eventJson, GoogleAnalyticsConfigEvent.class);
+            policyName = policyEvent.getPolicyName();
+        }
+        APIUtil.logAuditMessage(event.getPolicyType().toString(), policyName + ": " + eventType,
+                APIConstants.AuditLogConstants.DEPLOYED,
+                APIConstants.AuditLogConstants.SYSTEM + ": " + event.getTenantDomain());
+    }
+
+    private void handleCertificateEvent(EventType eventType, String eventJson) {
+
+        CertificateEvent certificateEvent = GSON.fromJson(eventJson, CertificateEvent.class);
+        if (EventType.ENDPOINT_CERTIFICATE_ADD == eventType) {
             try {
-                new GoogleAnalyticsConfigDeployer(googleAnalyticsConfigEvent.getTenantDomain()).deploy();
+                new EndpointCertificateDeployer(certificateEvent.getTenantDomain())
+                        .deployCertificate(certificateEvent.getAlias());
             } catch (APIManagementException e) {
                 log.error(e);
             }
-        } else if (EventType.UDATE_API_LOG_LEVEL.toString().equals(eventType)) {
-            APIEvent apiEvent = new Gson().fromJson(eventJson, APIEvent.class);
-            APILoggerManager.getInstance().updateLoggerMap(apiEvent.getApiContext(), apiEvent.getLogLevel(),
-                    apiEvent.getResourceMethod(), apiEvent.getResourcePath());
-        } else if (EventType.CUSTOM_POLICY_ADD.toString().equals(eventType)) {
-            KeyTemplateEvent keyTemplateEvent = new Gson().fromJson(eventJson, KeyTemplateEvent.class);
+        } else if (EventType.ENDPOINT_CERTIFICATE_REMOVE == eventType) {
+            boolean tenantFlowStarted = false;
+            try {
+                PrivilegedCarbonContext.startTenantFlow();
+                PrivilegedCarbonContext.getThreadLocalCarbonContext()
+                        .setTenantDomain(certificateEvent.getTenantDomain(), true);
+                tenantFlowStarted = true;
+                CertificateManagerImpl.getInstance().deleteCertificateFromGateway(certificateEvent.getAlias());
+            } finally {
+                if (tenantFlowStarted) {
+                    PrivilegedCarbonContext.endTenantFlow();
+                }
+            }
+        }
+    }
+
+    private void handleGoogleAnalyticsConfigEvent(EventType eventType, String eventJson) {
+
+        GoogleAnalyticsConfigEvent googleAnalyticsConfigEvent =
+                GSON.fromJson(eventJson, GoogleAnalyticsConfigEvent.class);
+        try {
+            new GoogleAnalyticsConfigDeployer(googleAnalyticsConfigEvent.getTenantDomain()).deploy();
+        } catch (APIManagementException e) {
+            log.error(e);
+        }
+    }
+
+    private void handleAPILogLevelEvent(EventType eventType, String eventJson) {
+
+        APIEvent apiEvent = GSON.fromJson(eventJson, APIEvent.class);
+        APILoggerManager.getInstance().updateLoggerMap(apiEvent.getApiContext(), apiEvent.getLogLevel(),
+                apiEvent.getResourceMethod(), apiEvent.getResourcePath());
+    }
+
+    private void handleKeyTemplateEvent(EventType eventType, String eventJson) {
+
+        KeyTemplateEvent keyTemplateEvent = GSON.fromJson(eventJson, KeyTemplateEvent.class);
+        if (EventType.CUSTOM_POLICY_ADD == eventType) {
             String key = keyTemplateEvent.getKeyTemplate();
             String keyTemplateValue = keyTemplateEvent.getKeyTemplate();
             ServiceReferenceHolder.getInstance().getAPIThrottleDataService()
                     .addKeyTemplate(key, keyTemplateValue);
-        } else if (EventType.CUSTOM_POLICY_DELETE.toString().equals(eventType)) {
-            KeyTemplateEvent keyTemplateEvent = new Gson().fromJson(eventJson, KeyTemplateEvent.class);
+        } else if (EventType.CUSTOM_POLICY_DELETE == eventType) {
             String key = keyTemplateEvent.getKeyTemplate();
             ServiceReferenceHolder.getInstance().getAPIThrottleDataService()
                     .removeKeyTemplate(key);
-        } else if (EventType.CUSTOM_POLICY_UPDATE.toString().equals(eventType)) {
-            KeyTemplateEvent keyTemplateEvent = new Gson().fromJson(eventJson, KeyTemplateEvent.class);
+        } else if (EventType.CUSTOM_POLICY_UPDATE == eventType) {
             String oldKey = keyTemplateEvent.getOldKeyTemplate();
             String newKey = keyTemplateEvent.getNewKeyTemplate();
             String newTemplateValue = newKey;
@@ -376,51 +503,58 @@ public class GatewayJMSMessageListener implements MessageListener, JMSConnection
                     .removeKeyTemplate(oldKey);
             ServiceReferenceHolder.getInstance().getAPIThrottleDataService()
                     .addKeyTemplate(newKey, newTemplateValue);
-        } else if (EventType.DEPLOY_POLICY_MAPPING_IN_GATEWAY.toString().equals(eventType)
-                || EventType.REMOVE_POLICY_MAPPING_FROM_GATEWAY.toString().equals(eventType)) {
-            GatewayPolicyEvent gatewayPolicyEvent = new Gson().fromJson(eventJson, GatewayPolicyEvent.class);
-            Set<String> systemConfiguredGatewayLabels = new HashSet(gatewayPolicyEvent.getGatewayLabels());
-            systemConfiguredGatewayLabels.retainAll(gatewayArtifactSynchronizerProperties.getGatewayLabels());
-            if (!systemConfiguredGatewayLabels.isEmpty()) {
-                if (EventType.DEPLOY_POLICY_MAPPING_IN_GATEWAY.toString().equals(eventType)) {
-                    boolean tenantFlowStarted = false;
-                    try {
-                        PrivilegedCarbonContext.startTenantFlow();
-                        PrivilegedCarbonContext.getThreadLocalCarbonContext()
-                                .setTenantDomain(gatewayPolicyEvent.getTenantDomain(), true);
-                        tenantFlowStarted = true;
-                        new GatewayPolicyDeployer(
-                                gatewayPolicyEvent.getGatewayPolicyMappingUuid()).deployGatewayPolicyMapping();
-                    } catch (ArtifactSynchronizerException | APIManagementException e) {
-                        log.error("Error in deploying artifacts for " + gatewayPolicyEvent.getGatewayPolicyMappingUuid()
-                                + "in the Gateway");
-                    } finally {
-                        if (tenantFlowStarted) {
-                            PrivilegedCarbonContext.endTenantFlow();
-                        }
+        }
+    }
+
+    private void handleGatewayPolicyEvent(EventType eventType, String eventJson) {
+
+        GatewayPolicyEvent gatewayPolicyEvent = GSON.fromJson(eventJson, GatewayPolicyEvent.class);
+        Set<String> systemConfiguredGatewayLabels = new HashSet(gatewayPolicyEvent.getGatewayLabels());
+        systemConfiguredGatewayLabels.retainAll(gatewayArtifactSynchronizerProperties.getGatewayLabels());
+        if (!systemConfiguredGatewayLabels.isEmpty()) {
+            if (EventType.DEPLOY_POLICY_MAPPING_IN_GATEWAY == eventType) {
+                boolean tenantFlowStarted = false;
+                try {
+                    PrivilegedCarbonContext.startTenantFlow();
+                    PrivilegedCarbonContext.getThreadLocalCarbonContext()
+                            .setTenantDomain(gatewayPolicyEvent.getTenantDomain(), true);
+                    tenantFlowStarted = true;
+                    new GatewayPolicyDeployer(
+                            gatewayPolicyEvent.getGatewayPolicyMappingUuid()).deployGatewayPolicyMapping();
+                } catch (ArtifactSynchronizerException | APIManagementException e) {
+                    log.error("Error in deploying artifacts for " + gatewayPolicyEvent.getGatewayPolicyMappingUuid()
+                            + "in the Gateway");
+                } finally {
+                    if (tenantFlowStarted) {
+                        PrivilegedCarbonContext.endTenantFlow();
                     }
-                } else if (EventType.REMOVE_POLICY_MAPPING_FROM_GATEWAY.toString().equals(eventType)) {
-                    boolean tenantFlowStarted = false;
-                    try {
-                        PrivilegedCarbonContext.startTenantFlow();
-                        PrivilegedCarbonContext.getThreadLocalCarbonContext()
-                                .setTenantDomain(gatewayPolicyEvent.getTenantDomain(), true);
-                        tenantFlowStarted = true;
-                        new GatewayPolicyDeployer(
-                                gatewayPolicyEvent.getGatewayPolicyMappingUuid()).undeployGatewayPolicyMapping();
-                    } catch (ArtifactSynchronizerException | APIManagementException e) {
-                        log.error("Error while un-deploying artifacts for " + gatewayPolicyEvent.getGatewayPolicyMappingUuid()
-                                + "from the Gateway");
-                    } finally {
-                        if (tenantFlowStarted) {
-                            PrivilegedCarbonContext.endTenantFlow();
-                        }
+                }
+            } else if (EventType.REMOVE_POLICY_MAPPING_FROM_GATEWAY == eventType) {
+                boolean tenantFlowStarted = false;
+                try {
+                    PrivilegedCarbonContext.startTenantFlow();
+                    PrivilegedCarbonContext.getThreadLocalCarbonContext()
+                            .setTenantDomain(gatewayPolicyEvent.getTenantDomain(), true);
+                    tenantFlowStarted = true;
+                    new GatewayPolicyDeployer(
+                            gatewayPolicyEvent.getGatewayPolicyMappingUuid()).undeployGatewayPolicyMapping();
+                } catch (ArtifactSynchronizerException | APIManagementException e) {
+                    log.error("Error while un-deploying artifacts for "
+                            + gatewayPolicyEvent.getGatewayPolicyMappingUuid() + "from the Gateway");
+                } finally {
+                    if (tenantFlowStarted) {
+                        PrivilegedCarbonContext.endTenantFlow();
                     }
                 }
             }
         }
     }
 
+    protected Timer getTimer(String name) {
+
+        return MetricManager.timer(Level.INFO, name);
+    }
+
     private void endTenantFlow() {
 
         PrivilegedCarbonContext.endTenantFlow();
@@ -489,7 +623,20 @@ public class GatewayJMSMessageListener implements MessageListener, JMSConnection
             log.info("Refreshing gateway data stores and deployments.");
             new Thread(() -> {
                 synchronized (this) {
-                    SubscriptionDataHolder.getInstance().refreshSubscriptionStore();
+                    // Both the event timestamps and the store sync time are control plane times, so they can be
+                    // compared with the update times the control plane records
+                    long storeSyncTime = SubscriptionDataHolder.getInstance().getEarliestStoreSyncTime();
+                    if (eventHubConfigurationDto.isDeltaSyncOnReconnect() && storeSyncTime > 0) {
+                        long syncFrom = Math.max(lastEventTimestamp, storeSyncTime);
+                        SubscriptionDataHolder.getInstance().syncSubscriptionStore(
+                                syncFrom - eventHubConfigurationDto.getDeltaSyncTimeMargin());
+                    } else {
+                        if (eventHubConfigurationDto.isDeltaSyncOnReconnect()) {
+                            log.info("Control plane time of the loaded subscription data is not known. Reloading "
+                                    + "the subscription data stores in full.");
+                        }
+                        SubscriptionDataHolder.getInstance().refreshSubscriptionStore();
+                    }
                     redeployGatewayArtifacts();
                 }
             }).start();
@@ -521,4 +668,12 @@ public class GatewayJMSMessageListener implements MessageListener, JMSConnection
         // We currently do not have any logic to execute for this scenario.
         // Added in case we need to implement an operation in the future.
     }
+
+    /**
+     * Applies a decoded notification event of the types it is registered for.
+     */
+    private interface NotificationEventHandler {
+
+        void handle(EventType eventType, String eventJson);
+    }
 }
@@ -19,6 +19,7 @@
 package org.wso2.carbon.apimgt.gateway.service;
 
 import org.wso2.carbon.apimgt.gateway.handlers.Utils;
+import org.wso2.carbon.apimgt.gateway.handlers.security.GatewayAuthCache;
 import org.wso2.carbon.apimgt.gateway.jwt.RevokedJWTDataHolder;
 import org.wso2.carbon.apimgt.impl.token.RevokedTokenService;
 import org.wso2.carbon.base.MultitenantConstants;
@@ -38,6 +39,8 @@ public class RevokedTokenDataImpl implements RevokedTokenService {
             PrivilegedCarbonContext.startTenantFlow();
             PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantDomain(
                     MultitenantConstants.SUPER_TENANT_DOMAIN_NAME, true);
+            // The node local auth cache may hold the token even if the distributed cache has expired it
+            GatewayAuthCache.getInstance().invalidate(accessToken);
             cachedTenantDomain = Utils.getCachedTenantDomain(accessToken);
             if (cachedTenantDomain == null) { //the token is not in cache
                 return;
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.apimgt.gateway.throttling;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable view of all the blocking conditions known to the gateway at a point in time. A new snapshot is built and
+ * published whenever the blocking conditions change, so request threads evaluate a request against a single,
+ * consistent snapshot without any locking.
+ */
+public final class BlockingConditionSnapshot {
+
+    static final BlockingConditionSnapshot EMPTY = new BlockingConditionSnapshot(Collections.emptySet(),
+            Collections.emptySet(), Collections.emptySet(), Collections.emptySet(), Collections.emptyMap());
+
+    private final Set<String> apiConditions;
+    private final Set<String> applicationConditions;
+    private final Set<String> userConditions;
+    private final Set<String> subscriptionConditions;
+    private final Map<String, IPBlocklist> ipBlocklists;
+
+    private BlockingConditionSnapshot(Set<String> apiConditions, Set<String> applicationConditions,
+                                      Set<String> userConditions, Set<String> subscriptionConditions,
+                                      Map<String, IPBlocklist> ipBlocklists) {
+
+        this.apiConditions = apiConditions;
+        this.applicationConditions = applicationConditions;
+        this.userConditions = userConditions;
+        this.subscriptionConditions = subscriptionConditions;
+        this.ipBlocklists = ipBlocklists;
+    }
+
+    BlockingConditionSnapshot withApiConditions(Set<String> conditions) {
+
+        return new BlockingConditionSnapshot(copyOf(conditions), applicationConditions, userConditions,
+                subscriptionConditions, ipBlocklists);
+    }
+
+    BlockingConditionSnapshot withApplicationConditions(Set<String> conditions) {
+
+        return new BlockingConditionSnapshot(apiConditions, copyOf(conditions), userConditions,
+                subscriptionConditions, ipBlocklists);
+    }
+
+    BlockingConditionSnapshot withUserConditions(Set<String> conditions) {
+
+        return new BlockingConditionSnapshot(apiConditions, applicationConditions, copyOf(conditions),
+                subscriptionConditions, ipBlocklists);
+    }
+
+    BlockingConditionSnapshot withSubscriptionConditions(Set<String> conditions) {
+
+        return new BlockingConditionSnapshot(apiConditions, applicationConditions, userConditions,
+                copyOf(conditions), ipBlocklists);
+    }
+
+    BlockingConditionSnapshot withIpBlocklists(Map<String, IPBlocklist> blocklists) {
+
+        return new BlockingConditionSnapshot(apiConditions, applicationConditions, userConditions,
+                subscriptionConditions, Collections.unmodifiableMap(new HashMap<>(blocklists)));
+    }
+
+    /**
+     * Checks whether a request is blocked by any of the conditions in this snapshot.
+     *
+     * @param apiBlockingKey          API context of the request
+     * @param applicationBlockingKey  application level blocking key of the request
+     * @param userBlockingKey         user of the request
+     * @param ip                      client IP of the request
+     * @param apiTenantDomain         tenant domain of the API
+     * @param subscriptionBlockingKey subscription level blocking key of the request
+     * @return true if the request is blocked
+     */
+    public boolean isRequestBlocked(String apiBlockingKey, String applicationBlockingKey, String userBlockingKey,
+                                    String ip, String apiTenantDomain, String subscriptionBlockingKey) {
+
+        return apiConditions.contains(apiBlockingKey) ||
+                applicationConditions.contains(applicationBlockingKey) ||
+                userConditions.contains(userBlockingKey) ||
+                subscriptionConditions.contains(subscriptionBlockingKey) ||
+                isIpLevelBlocked(apiTenantDomain, ip);
+    }
+
+    private boolean isIpLevelBlocked(String apiTenantDomain, String ip) {
+
+        IPBlocklist ipBlocklist = apiTenantDomain != null ? ipBlocklists.get(apiTenantDomain) : null;
+        return ipBlocklist != null && ipBlocklist.isBlocked(ip);
+    }
+
+    private static Set<String> copyOf(Set<String> conditions) {
+
+        return conditions.isEmpty() ? Collections.emptySet() : Collections.unmodifiableSet(new HashSet<>(conditions));
+    }
+}
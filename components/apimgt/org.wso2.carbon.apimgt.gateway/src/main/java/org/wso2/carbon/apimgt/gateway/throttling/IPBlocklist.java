@@ -0,0 +1,253 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.apimgt.gateway.throttling;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.apimgt.gateway.dto.IPRange;
+import org.wso2.carbon.apimgt.impl.APIConstants;
+import org.wso2.carbon.apimgt.impl.utils.APIUtil;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Immutable, compiled form of the IP blocking conditions of a tenant. Fixed IP conditions are kept in hash sets and
+ * IP range conditions are merged into a sorted array of disjoint ranges held as primitive 128 bit values, so that a
+ * request IP is matched with a hash lookup and a binary search instead of a scan over all the conditions.
+ * <p>
+ * The matching semantics are the same as evaluating each {@link IPRange} on its own: a fixed IP condition matches
+ * the exact IP string, a range condition matches IPs strictly between its starting and ending IPs, and the request is
+ * blocked if any non inverted condition matches or any inverted condition does not match.
+ */
+public final class IPBlocklist {
+
+    private static final Log log = LogFactory.getLog(IPBlocklist.class);
+
+    private final Set<String> blockedIps;
+    private final Set<String> invertedIps;
+    private final long[] rangeStartHigh;
+    private final long[] rangeStartLow;
+    private final long[] rangeEndHigh;
+    private final long[] rangeEndLow;
+    private final boolean invertedRangePresent;
+    private final long invertedStartHigh;
+    private final long invertedStartLow;
+    private final long invertedEndHigh;
+    private final long invertedEndLow;
+
+    private IPBlocklist(Set<String> blockedIps, Set<String> invertedIps, List<long[]> ranges,
+                        long[] invertedRange) {
+
+        this.blockedIps = blockedIps;
+        this.invertedIps = invertedIps;
+        int rangeCount = ranges.size();
+        this.rangeStartHigh = new long[rangeCount];
+        this.rangeStartLow = new long[rangeCount];
+        this.rangeEndHigh = new long[rangeCount];
+        this.rangeEndLow = new long[rangeCount];
+        for (int i = 0; i < rangeCount; i++) {
+            long[] range = ranges.get(i);
+            rangeStartHigh[i] = range[0];
+            rangeStartLow[i] = range[1];
+            rangeEndHigh[i] = range[2];
+            rangeEndLow[i] = range[3];
+        }
+        this.invertedRangePresent = invertedRange != null;
+        this.invertedStartHigh = invertedRangePresent ? invertedRange[0] : 0;
+        this.invertedStartLow = invertedRangePresent ? invertedRange[1] : 0;
+        this.invertedEndHigh = invertedRangePresent ? invertedRange[2] : 0;
+        this.invertedEndLow = invertedRangePresent ? invertedRange[3] : 0;
+    }
+
+    /**
+     * Compiles the given IP blocking conditions.
+     *
+     * @param ipRanges IP blocking conditions of a tenant
+     * @return compiled blocklist
+     */
+    public static IPBlocklist compile(Collection<IPRange> ipRanges) {
+
+        Set<String> blockedIps = new HashSet<>();
+        Set<String> invertedIps = new HashSet<>();
+        List<long[]> ranges = new ArrayList<>();
+        long[] invertedRange = null;
+        for (IPRange ipRange : ipRanges) {
+            if (APIConstants.BLOCKING_CONDITIONS_IP.equals(ipRange.getType())) {
+                if (ipRange.isInvert()) {
+                    invertedIps.add(ipRange.getFixedIp());
+                } else {
+                    blockedIps.add(ipRange.getFixedIp());
+                }
+            } else if (APIConstants.BLOCK_CONDITION_IP_RANGE.equals(ipRange.getType())) {
+                if (ipRange.getStartingIpBigIntValue() == null || ipRange.getEndingIpBigIntValue() == null) {
+                    log.warn("Ignoring IP range blocking condition " + ipRange.getId() + " of tenant "
+                            + ipRange.getTenantDomain() + " since it does not have both starting and ending IPs");
+                    continue;
+                }
+                long[] range = toRange(ipRange.getStartingIpBigIntValue(), ipRange.getEndingIpBigIntValue());
+                if (!ipRange.isInvert()) {
+                    ranges.add(range);
+                } else if (invertedRange == null) {
+                    invertedRange = range;
+                } else {
+                    // An IP passes all the inverted ranges only if it is inside their intersection
+                    if (compare(range[0], range[1], invertedRange[0], invertedRange[1]) > 0) {
+                        invertedRange[0] = range[0];
+                        invertedRange[1] = range[1];
+                    }
+                    if (compare(range[2], range[3], invertedRange[2], invertedRange[3]) < 0) {
+                        invertedRange[2] = range[2];
+                        invertedRange[3] = range[3];
+                    }
+                }
+            }
+        }
+        return new IPBlocklist(blockedIps, invertedIps, mergeRanges(ranges), invertedRange);
+    }
+
+    /**
+     * Checks whether the given IP is blocked by any of the conditions.
+     *
+     * @param ip IP of the request
+     * @return true if the IP is blocked
+     */
+    public boolean isBlocked(String ip) {
+
+        if (ip == null) {
+            return false;
+        }
+        if (blockedIps.contains(ip)) {
+            return true;
+        }
+        // An IP can match at most one inverted fixed IP, hence any IP is blocked once there are two of them
+        if (!invertedIps.isEmpty() && (invertedIps.size() > 1 || !invertedIps.contains(ip))) {
+            return true;
+        }
+        if (rangeStartHigh.length == 0 && !invertedRangePresent) {
+            return false;
+        }
+        long ipv4 = parseIPv4(ip);
+        if (ipv4 >= 0) {
+            return isBlocked(0L, ipv4);
+        }
+        BigInteger ipValue = APIUtil.ipToBigInteger(ip);
+        return isBlocked(ipValue.shiftRight(Long.SIZE).longValue(), ipValue.longValue());
+    }
+
+    private boolean isBlocked(long ipHigh, long ipLow) {
+
+        if (invertedRangePresent && !(compare(ipHigh, ipLow, invertedStartHigh, invertedStartLow) > 0
+                && compare(ipHigh, ipLow, invertedEndHigh, invertedEndLow) < 0)) {
+            return true;
+        }
+        // Find the last range starting before the IP. Ranges are disjoint, so it is the only one which can match.
+        int low = 0;
+        int high = rangeStartHigh.length - 1;
+        int candidate = -1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (compare(rangeStartHigh[mid], rangeStartLow[mid], ipHigh, ipLow) < 0) {
+                candidate = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return candidate >= 0 && compare(ipHigh, ipLow, rangeEndHigh[candidate], rangeEndLow[candidate]) < 0;
+    }
+
+    /**
+     * Sorts the ranges by their starting IP and merges the overlapping ones. Ranges are exclusive of both ends, so two
+     * ranges overlap when the second one starts before the first one ends.
+     */
+    private static List<long[]> mergeRanges(List<long[]> ranges) {
+
+        ranges.sort((range1, range2) -> compare(range1[0], range1[1], range2[0], range2[1]));
+        List<long[]> merged = new ArrayList<>(ranges.size());
+        long[] current = null;
+        for (long[] range : ranges) {
+            if (current != null && compare(range[0], range[1], current[2], current[3]) < 0) {
+                if (compare(range[2], range[3], current[2], current[3]) > 0) {
+                    current[2] = range[2];
+                    current[3] = range[3];
+                }
+            } else {
+                current = range;
+                merged.add(current);
+            }
+        }
+        return merged;
+    }
+
+    private static long[] toRange(BigInteger start, BigInteger end) {
+
+        return new long[]{start.shiftRight(Long.SIZE).longValue(), start.longValue(),
+                end.shiftRight(Long.SIZE).longValue(), end.longValue()};
+    }
+
+    private static int compare(long high1, long low1, long high2, long low2) {
+
+        int result = Long.compareUnsigned(high1, high2);
+        return result != 0 ? result : Long.compareUnsigned(low1, low2);
+    }
+
+    /**
+     * Parses an IPv4 address in the canonical dotted decimal form without allocating.
+     *
+     * @return the numeric value of the address, or -1 if the IP is not in that form
+     */
+    static long parseIPv4(String ip) {
+
+        int length = ip.length();
+        long value = 0;
+        int octet = 0;
+        int digits = 0;
+        int dots = 0;
+        for (int i = 0; i < length; i++) {
+            char c = ip.charAt(i);
+            if (c >= '0' && c <= '9') {
+                // Leading zeros are left to the generic parser, which may read them differently
+                if (digits == 1 && octet == 0) {
+                    return -1;
+                }
+                octet = octet * 10 + (c - '0');
+                if (++digits > 3 || octet > 255) {
+                    return -1;
+                }
+            } else if (c == '.' && digits > 0 && dots < 3) {
+                value = (value << 8) | octet;
+                octet = 0;
+                digits = 0;
+                dots++;
+            } else {
+                return -1;
+            }
+        }
+        if (dots != 3 || digits == 0) {
+            return -1;
+        }
+        return (value << 8) | octet;
+    }
+}
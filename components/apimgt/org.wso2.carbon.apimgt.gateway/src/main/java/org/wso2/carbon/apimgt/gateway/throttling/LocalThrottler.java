@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.apimgt.gateway.throttling;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Node local quota buckets keyed by throttle key. A bucket holds this node's share of a request count quota, which is
+ * the quota divided by the number of gateways, for a fixed window of the quota period that starts with the first
+ * request of the key. The whole share is refilled when the window ends, the same way the traffic manager counts a
+ * quota, so a key is never let through more than its share within a window. This lets a gateway throttle a key as
+ * soon as its share is exhausted instead of waiting for the traffic manager decision, which remains the backstop for
+ * the cluster wide quota.
+ * <p>
+ * Unlimited quotas are not tracked. Buckets of idle keys are removed by a background sweep once their window has
+ * ended. The number of buckets is also capped, and keys that arrive while the cap is reached are left to the traffic
+ * manager until the next sweep, so neither memory nor the request path cost grows with the number of distinct keys.
+ */
+public class LocalThrottler {
+
+    private static final Log log = LogFactory.getLog(LocalThrottler.class);
+    private static final int DEFAULT_MAX_BUCKETS = 100000;
+    private static final long SWEEP_INTERVAL_MILLIS = 60000;
+    // Request count of the Unlimited policies
+    private static final long UNLIMITED_REQUEST_COUNT = Integer.MAX_VALUE;
+
+    private final Map<String, QuotaBucket> buckets = new ConcurrentHashMap<>();
+    private final int gatewayCount;
+    private final int maxBuckets;
+    private ScheduledExecutorService sweeper;
+
+    public LocalThrottler(int gatewayCount) {
+        this(gatewayCount, DEFAULT_MAX_BUCKETS);
+    }
+
+    LocalThrottler(int gatewayCount, int maxBuckets) {
+        this.gatewayCount = Math.max(1, gatewayCount);
+        this.maxBuckets = maxBuckets;
+    }
+
+    /**
+     * Starts the background sweep of idle buckets.
+     */
+    public synchronized void start() {
+        if (sweeper == null) {
+            sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "LocalThrottlerBucketSweeper");
+                thread.setDaemon(true);
+                return thread;
+            });
+            sweeper.scheduleWithFixedDelay(() -> sweep(System.currentTimeMillis()), SWEEP_INTERVAL_MILLIS,
+                    SWEEP_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Stops the background sweep of idle buckets.
+     */
+    public synchronized void stop() {
+        if (sweeper != null) {
+            sweeper.shutdownNow();
+            sweeper = null;
+        }
+    }
+
+    /**
+     * Takes a request from the bucket of the given key.
+     *
+     * @param key          throttle key
+     * @param limit        request count allowed for the whole cluster within the period
+     * @param periodMillis quota period in milliseconds
+     * @return true if the local share of the quota is exhausted for the key
+     */
+    public boolean isThrottled(String key, long limit, long periodMillis) {
+        return isThrottled(key, limit, periodMillis, System.currentTimeMillis());
+    }
+
+    boolean isThrottled(String key, long limit, long periodMillis, long currentTime) {
+        if (limit <= 0 || limit >= UNLIMITED_REQUEST_COUNT || periodMillis <= 0) {
+            return false;
+        }
+        long capacity = Math.max(1, limit / gatewayCount);
+        QuotaBucket bucket = buckets.get(key);
+        if (bucket == null) {
+            if (buckets.size() >= maxBuckets) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Local throttle bucket limit " + maxBuckets + " reached. Leaving key " + key
+                            + " to the traffic manager.");
+                }
+                return false;
+            }
+            QuotaBucket newBucket = new QuotaBucket(capacity, periodMillis, currentTime);
+            bucket = buckets.putIfAbsent(key, newBucket);
+            if (bucket == null) {
+                bucket = newBucket;
+            }
+        } else if (!bucket.hasLimit(capacity, periodMillis)) {
+            // Policy was updated, start over with the new limit.
+            bucket = new QuotaBucket(capacity, periodMillis, currentTime);
+            buckets.put(key, bucket);
+        }
+        return !bucket.tryAcquire(currentTime);
+    }
+
+    /**
+     * Returns the time at which the next request of the given key would be let through by this node.
+     *
+     * @param key throttle key
+     * @return next access timestamp in milliseconds
+     */
+    public long getNextAccessTimestamp(String key) {
+        long currentTime = System.currentTimeMillis();
+        QuotaBucket bucket = buckets.get(key);
+        return bucket != null ? bucket.getNextAccessTime(currentTime) : currentTime;
+    }
+
+    int size() {
+        return buckets.size();
+    }
+
+    /**
+     * A bucket whose window has ended behaves the same as a bucket that does not exist, so these are dropped to bound
+     * the memory held for keys that are no longer used. Runs on the sweeper thread, never on the request path.
+     */
+    void sweep(long currentTime) {
+        int before = buckets.size();
+        buckets.values().removeIf(bucket -> bucket.isIdle(currentTime));
+        if (log.isDebugEnabled()) {
+            log.debug("Removed " + (before - buckets.size()) + " idle local throttle buckets.");
+        }
+    }
+
+    private static final class QuotaBucket {
+
+        private final long capacity;
+        private final long periodMillis;
+        private long windowStartTime;
+        private long usedRequests;
+
+        QuotaBucket(long capacity, long periodMillis, long currentTime) {
+            this.capacity = capacity;
+            this.periodMillis = periodMillis;
+            this.windowStartTime = currentTime;
+        }
+
+        boolean hasLimit(long capacity, long periodMillis) {
+            return this.capacity == capacity && this.periodMillis == periodMillis;
+        }
+
+        synchronized boolean tryAcquire(long currentTime) {
+            refill(currentTime);
+            if (usedRequests < capacity) {
+                usedRequests++;
+                return true;
+            }
+            return false;
+        }
+
+        synchronized long getNextAccessTime(long currentTime) {
+            refill(currentTime);
+            return usedRequests < capacity ? currentTime : windowStartTime + periodMillis;
+        }
+
+        synchronized boolean isIdle(long currentTime) {
+            refill(currentTime);
+            return usedRequests == 0;
+        }
+
+        private void refill(long currentTime) {
+            if (currentTime - windowStartTime >= periodMillis) {
+                windowStartTime = currentTime;
+                usedRequests = 0;
+            }
+        }
+    }
+}
@@ -30,7 +30,7 @@ import org.wso2.carbon.apimgt.impl.APIConstants;
 import org.wso2.carbon.apimgt.impl.dto.ConditionDto;
 import org.wso2.carbon.apimgt.impl.utils.APIUtil;
 
-import java.math.BigInteger;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
@@ -51,12 +51,16 @@ public class ThrottleDataHolder {
     private Map<String, String> blockedApplicationConditionsMap = new ConcurrentHashMap<String, String>();
     private Map<String, String> blockedUserConditionsMap = new ConcurrentHashMap<String, String>();
     private Map<String, Set<IPRange>> blockedIpConditionsMap = new ConcurrentHashMap<>();
+    private Map<String, IPBlocklist> ipBlocklistMap = new HashMap<>();
+    // Published on every change of the blocking conditions and read by request threads without locking
+    private volatile BlockingConditionSnapshot blockingConditionSnapshot = BlockingConditionSnapshot.EMPTY;
     private Map<String, String> keyTemplateMap = new ConcurrentHashMap<String, String>();
     private boolean isBlockingConditionsPresent = true;
     private boolean isKeyTemplatesPresent = false;
     private Map<String, Long> throttleDataMap = new ConcurrentHashMap<String, Long>();
     private Map<String,Long> throttledAPIKeysMap = new ConcurrentHashMap<String, Long>();
     private Map<String, Map<String, List<ConditionDto>>> conditionDtoMap = new ConcurrentHashMap<>();
+    private volatile LocalThrottler localThrottler;
     public void addThrottleData(String key, Long value) {
         throttleDataMap.put(key, value);
     }
@@ -104,18 +108,24 @@ public class ThrottleDataHolder {
         }
     }
 
-    public void addSubscriptionBlockingCondition(String name, String value) {
+    public synchronized void addSubscriptionBlockingCondition(String name, String value) {
         blockedSubscriptionConditionsMap.put(name, value);
+        blockingConditionSnapshot =
+                blockingConditionSnapshot.withSubscriptionConditions(blockedSubscriptionConditionsMap.keySet());
     }
 
-    public void addSubscriptionBlockingConditionsFromMap(Map<String, String> data) {
+    public synchronized void addSubscriptionBlockingConditionsFromMap(Map<String, String> data) {
         if (data.size() > 0) {
             blockedSubscriptionConditionsMap.putAll(data);
+            blockingConditionSnapshot =
+                    blockingConditionSnapshot.withSubscriptionConditions(blockedSubscriptionConditionsMap.keySet());
         }
     }
 
-    public void removeSubscriptionBlockingCondition(String name) {
+    public synchronized void removeSubscriptionBlockingCondition(String name) {
         blockedSubscriptionConditionsMap.remove(name);
+        blockingConditionSnapshot =
+                blockingConditionSnapshot.withSubscriptionConditions(blockedSubscriptionConditionsMap.keySet());
     }
 
     public void removeThrottledAPIKey(String key){
@@ -150,20 +160,25 @@ public class ThrottleDataHolder {
         throttleDataMap.remove(key);
     }
 
-    public void addAPIBlockingCondition(String name, String value) {
+    public synchronized void addAPIBlockingCondition(String name, String value) {
         blockedAPIConditionsMap.put(name, value);
+        blockingConditionSnapshot = blockingConditionSnapshot.withApiConditions(blockedAPIConditionsMap.keySet());
     }
 
-    public void addApplicationBlockingCondition(String name, String value) {
+    public synchronized void addApplicationBlockingCondition(String name, String value) {
         blockedApplicationConditionsMap.put(name, value);
+        blockingConditionSnapshot =
+                blockingConditionSnapshot.withApplicationConditions(blockedApplicationConditionsMap.keySet());
     }
 
 
-    public void addUserBlockingCondition(String name, String value) {
+    public synchronized void addUserBlockingCondition(String name, String value) {
         blockedUserConditionsMap.put(name, value);
+        blockingConditionSnapshot = blockingConditionSnapshot.withUserConditions(blockedUserConditionsMap.keySet());
     }
 
-    public void addIpBlockingCondition(String tenantDomain, int conditionId, String value, String type) {
+    public synchronized void addIpBlockingCondition(String tenantDomain, int conditionId, String value,
+                                                    String type) {
 
         Set<IPRange> ipRanges = blockedIpConditionsMap.get(tenantDomain);
         if (ipRanges == null){
@@ -172,6 +187,24 @@ public class ThrottleDataHolder {
 
         ipRanges.add(convertValueToIPRange(tenantDomain, conditionId, value, type));
         blockedIpConditionsMap.put(tenantDomain, ipRanges);
+        compileIpBlocklist(tenantDomain);
+        blockingConditionSnapshot = blockingConditionSnapshot.withIpBlocklists(ipBlocklistMap);
+    }
+
+    /**
+     * Rebuilds the compiled IP blocklist of the tenant from its IP blocking conditions. The blocklists reach the
+     * request threads through the next published {@link BlockingConditionSnapshot}.
+     *
+     * @param tenantDomain tenant domain
+     */
+    private void compileIpBlocklist(String tenantDomain) {
+
+        Set<IPRange> ipRanges = blockedIpConditionsMap.get(tenantDomain);
+        if (ipRanges == null || ipRanges.isEmpty()) {
+            ipBlocklistMap.remove(tenantDomain);
+        } else {
+            ipBlocklistMap.put(tenantDomain, IPBlocklist.compile(ipRanges));
+        }
     }
 
     private IPRange convertValueToIPRange(String tenantDomain, int conditionId, String value, String type) {
@@ -221,44 +254,81 @@ public class ThrottleDataHolder {
         }
         return ipRange;
     }
-    public void addUserBlockingConditionsFromMap(Map<String, String> data) {
+    public synchronized void addUserBlockingConditionsFromMap(Map<String, String> data) {
         if(data.size() > 0) {
             blockedUserConditionsMap.putAll(data);
+            blockingConditionSnapshot =
+                    blockingConditionSnapshot.withUserConditions(blockedUserConditionsMap.keySet());
         }
     }
 
-    public void addIplockingConditionsFromMap(Map<String, Set<IPRange>> data) {
+    public synchronized void addIplockingConditionsFromMap(Map<String, Set<IPRange>> data) {
         if(data.size() > 0) {
             blockedIpConditionsMap.putAll(data);
+            data.keySet().forEach(this::compileIpBlocklist);
+            blockingConditionSnapshot = blockingConditionSnapshot.withIpBlocklists(ipBlocklistMap);
         }
     }
 
-    public void addAPIBlockingConditionsFromMap(Map<String, String> data) {
+    public synchronized void addAPIBlockingConditionsFromMap(Map<String, String> data) {
         if(data.size() > 0) {
             blockedAPIConditionsMap.putAll(data);
+            blockingConditionSnapshot = blockingConditionSnapshot.withApiConditions(blockedAPIConditionsMap.keySet());
         }
     }
 
-    public void addApplicationBlockingConditionsFromMap(Map<String, String> data) {
+    public synchronized void addApplicationBlockingConditionsFromMap(Map<String, String> data) {
         if(data.size() > 0) {
             blockedApplicationConditionsMap.putAll(data);
+            blockingConditionSnapshot =
+                    blockingConditionSnapshot.withApplicationConditions(blockedApplicationConditionsMap.keySet());
         }
     }
 
-    public void removeAPIBlockingCondition(String name) {
+    /**
+     * Adds the blocking conditions of all the types retrieved at once, e.g. at startup, and publishes them to the
+     * request threads together in a single snapshot.
+     *
+     * @param apiConditions         API blocking conditions
+     * @param applicationConditions application blocking conditions
+     * @param userConditions        user blocking conditions
+     * @param ipConditions          IP blocking conditions by tenant domain
+     */
+    public synchronized void addBlockingConditionsFromMap(Map<String, String> apiConditions,
+                                                          Map<String, String> applicationConditions,
+                                                          Map<String, String> userConditions,
+                                                          Map<String, Set<IPRange>> ipConditions) {
+
+        blockedAPIConditionsMap.putAll(apiConditions);
+        blockedApplicationConditionsMap.putAll(applicationConditions);
+        blockedUserConditionsMap.putAll(userConditions);
+        blockedIpConditionsMap.putAll(ipConditions);
+        ipConditions.keySet().forEach(this::compileIpBlocklist);
+        blockingConditionSnapshot = blockingConditionSnapshot
+                .withApiConditions(blockedAPIConditionsMap.keySet())
+                .withApplicationConditions(blockedApplicationConditionsMap.keySet())
+                .withUserConditions(blockedUserConditionsMap.keySet())
+                .withIpBlocklists(ipBlocklistMap);
+    }
+
+    public synchronized void removeAPIBlockingCondition(String name) {
         blockedAPIConditionsMap.remove(name);
+        blockingConditionSnapshot = blockingConditionSnapshot.withApiConditions(blockedAPIConditionsMap.keySet());
     }
 
-    public void removeApplicationBlockingCondition(String name) {
+    public synchronized void removeApplicationBlockingCondition(String name) {
         blockedApplicationConditionsMap.remove(name);
+        blockingConditionSnapshot =
+                blockingConditionSnapshot.withApplicationConditions(blockedApplicationConditionsMap.keySet());
     }
 
 
-    public void removeUserBlockingCondition(String name) {
+    public synchronized void removeUserBlockingCondition(String name) {
         blockedUserConditionsMap.remove(name);
+        blockingConditionSnapshot = blockingConditionSnapshot.withUserConditions(blockedUserConditionsMap.keySet());
     }
 
-    public void removeIpBlockingCondition(String tenantDomain, int conditionId) {
+    public synchronized void removeIpBlockingCondition(String tenantDomain, int conditionId) {
 
         Set<IPRange> ipRanges = blockedIpConditionsMap.get(tenantDomain);
         if (ipRanges != null) {
@@ -270,6 +340,8 @@ public class ThrottleDataHolder {
                     break;
                 }
             }
+            compileIpBlocklist(tenantDomain);
+            blockingConditionSnapshot = blockingConditionSnapshot.withIpBlocklists(ipBlocklistMap);
         }
     }
 
@@ -300,50 +372,18 @@ public class ThrottleDataHolder {
 
     public boolean isRequestBlocked(String apiBlockingKey, String applicationBlockingKey, String userBlockingKey,
                                     String ipBlockingKey, String apiTenantDomain, String subscriptionBlockingKey) {
-        return (blockedAPIConditionsMap.containsKey(apiBlockingKey) ||
-                blockedApplicationConditionsMap.containsKey(applicationBlockingKey) ||
-                blockedUserConditionsMap.containsKey(userBlockingKey) ||
-                blockedSubscriptionConditionsMap.containsKey(subscriptionBlockingKey) ||
-                isIpLevelBlocked(apiTenantDomain, ipBlockingKey));
-    }
-
-    private boolean isIpLevelBlocked(String apiTenantDomain, String ip) {
-
-        Set<IPRange> ipRanges = blockedIpConditionsMap.get(apiTenantDomain);
-        if (ipRanges != null && ipRanges.size() > 0) {
-            log.debug("Tenant " + apiTenantDomain + " contains block conditions");
-            for (IPRange ipRange : ipRanges) {
-                if (APIConstants.BLOCKING_CONDITIONS_IP.equals(ipRange.getType())) {
-                    if (ip.equals(ipRange.getFixedIp())) {
-                        if (!ipRange.isInvert()) {
-                            log.debug("Block IP selected for Blocked");
-                            return true;
-                        }
-                    } else {
-                        if (ipRange.isInvert()) {
-                            log.debug("Block IP selected for Blocked");
-                            return true;
-                        }
-                    }
-                } else if (APIConstants.BLOCK_CONDITION_IP_RANGE.equals(ipRange.getType())) {
-                    BigInteger ipBigIntegerValue = APIUtil.ipToBigInteger(ip);
-
-                    if (((ipBigIntegerValue.compareTo(ipRange.getStartingIpBigIntValue()) > 0) &&
-                            (ipBigIntegerValue.compareTo(ipRange.getEndingIpBigIntValue()) < 0))) {
-                        if (!ipRange.isInvert()) {
-                            log.debug("Block IPRange selected for Blocked");
-                            return true;
-                        }
-                    } else {
-                        if (ipRange.isInvert()) {
-                            log.debug("Block IPRange selected for Blocked");
-                            return true;
-                        }
-                    }
-                }
-            }
-        }
-        return false;
+        return blockingConditionSnapshot.isRequestBlocked(apiBlockingKey, applicationBlockingKey, userBlockingKey,
+                ipBlockingKey, apiTenantDomain, subscriptionBlockingKey);
+    }
+
+    /**
+     * Returns the latest published snapshot of the blocking conditions. The snapshot never changes, hence all the
+     * checks done on it for a request are consistent with each other.
+     *
+     * @return blocking condition snapshot
+     */
+    public BlockingConditionSnapshot getBlockingConditionSnapshot() {
+        return blockingConditionSnapshot;
     }
 
     /**
@@ -378,7 +418,34 @@ public class ThrottleDataHolder {
      * @return throttle next access timestamp
      */
     public long getThrottleNextAccessTimestamp(String key) {
-        return this.throttleDataMap.get(key);
+        Long timestamp = this.throttleDataMap.get(key);
+        LocalThrottler throttler = this.localThrottler;
+        if (timestamp == null && throttler != null) {
+            return throttler.getNextAccessTimestamp(key);
+        }
+        return timestamp;
+    }
+
+    /**
+     * This method checks the node local share of a request count quota before the global policy engine has
+     * throttled the key. Returns false when local throttling is not enabled.
+     *
+     * @param key          String unique key of throttle event.
+     * @param limit        request count allowed within the period across all gateways.
+     * @param periodMillis quota period in milliseconds.
+     * @return true if this node has exhausted its share of the quota for the key.
+     */
+    public boolean isLocallyThrottled(String key, long limit, long periodMillis) {
+        LocalThrottler throttler = this.localThrottler;
+        return throttler != null && throttler.isThrottled(key, limit, periodMillis);
+    }
+
+    public LocalThrottler getLocalThrottler() {
+        return localThrottler;
+    }
+
+    public void setLocalThrottler(LocalThrottler localThrottler) {
+        this.localThrottler = localThrottler;
     }
 
     public boolean isBlockingConditionsPresent() {
@@ -8,8 +8,8 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.apache.synapse.MessageContext;
 import org.apache.synapse.core.axis2.Axis2MessageContext;
+import org.apache.synapse.transport.nhttp.NhttpConstants;
 import org.apache.synapse.transport.passthru.util.RelayUtils;
-import org.json.simple.JSONObject;
 import org.wso2.carbon.apimgt.common.gateway.util.JWTUtil;
 import org.wso2.carbon.apimgt.gateway.handlers.security.AuthenticationContext;
 import org.wso2.carbon.apimgt.gateway.handlers.throttling.APIThrottleConstants;
@@ -35,10 +35,12 @@ import java.util.regex.Pattern;
 import javax.xml.stream.XMLStreamException;
 
 /**
- * This class is responsible for executing data publishing logic. This class implements runnable interface and
- * need to execute using thread pool executor. Primary task of this class it is accept message context as parameter
- * and perform time consuming data extraction and publish event to data publisher. Having data extraction and
- * transformation logic in this class will help to reduce overhead added to main message flow.
+ * This class is responsible for executing data publishing logic. Instances are pre-allocated slots of a
+ * {@link ThrottleEventRingBuffer}. The request thread copies every value the event needs out of the message context
+ * into the slot, and a publisher thread performs the time consuming transformation and publishes the event to data
+ * publisher. The publisher thread never reads the message context, since the request thread keeps changing it once
+ * the slot is handed over. Having data extraction and transformation logic in this class will help to reduce
+ * overhead added to main message flow.
  */
 public class DataProcessAndPublishingAgent implements Runnable {
     private static final Log log = LogFactory.getLog(DataProcessAndPublishingAgent.class);
@@ -47,8 +49,9 @@ public class DataProcessAndPublishingAgent implements Runnable {
     private static final Pattern IPV6_PATTERN = Pattern.compile(
             "([0-9a-fA-F]{1,4}:){7}([0-9a-fA-F]{1,4})");
     private static String streamID = "org.wso2.throttle.request.stream:1.0.0";
-    private MessageContext messageContext;
     private DataPublisher dataPublisher;
+    // Sequence of the ring buffer slot this agent currently holds
+    long sequence;
 
 
 
@@ -70,7 +73,13 @@ public class DataProcessAndPublishingAgent implements Runnable {
     String ipAddress;
     Map<String, String> headersMap;
     Map<String, Object> customPropertyMap;
-    private AuthenticationContext authenticationContext;
+    String messageId;
+    String queryString;
+    String callerToken;
+    String applicationName;
+    boolean contentAware;
+    boolean productSubscription;
+    private boolean dataReferenceSet;
 
     private long messageSizeInBytes;
 
@@ -81,15 +90,20 @@ public class DataProcessAndPublishingAgent implements Runnable {
 
     /**
      * This method will clean data references. This method should call whenever we return data process and publish
-     * agent back to pool. Every time when we add new property we need to implement cleaning logic as well.
+     * agent back to the ring buffer. Every time when we add new property we need to implement cleaning logic as well.
      */
     public void clearDataReference() {
-        this.authenticationContext = null;
-        this.messageContext = null;
+        this.dataReferenceSet = false;
+        this.messageId = null;
+        this.queryString = null;
+        this.callerToken = null;
+        this.applicationName = null;
+        this.contentAware = false;
+        this.productSubscription = false;
         this.applicationLevelThrottleKey = null;
         this.applicationLevelTier = null;
         this.apiLevelThrottleKey = null;
-        this.applicationLevelTier = null;
+        this.apiLevelTier = null;
         this.subscriptionLevelThrottleKey = null;
         this.subscriptionLevelTier = null;
         this.resourceLevelThrottleKey = null;
@@ -108,7 +122,8 @@ public class DataProcessAndPublishingAgent implements Runnable {
     }
 
     /**
-     * This method will use to set message context.
+     * This method copies the event data out of the message context and the authentication context. Neither context
+     * is referenced by the agent once this method returns.
      */
     public void setDataReference(String applicationLevelThrottleKey, String applicationLevelTier,
                                  String apiLevelThrottleKey, String apiLevelTier,
@@ -121,11 +136,11 @@ public class DataProcessAndPublishingAgent implements Runnable {
             resourceLevelTier = apiLevelTier;
             resourceLevelThrottleKey = apiLevelThrottleKey;
         }
-        this.authenticationContext = authenticationContext;
-        this.messageContext = messageContext;
+        this.messageId = messageContext.getMessageID();
         this.applicationLevelThrottleKey = applicationLevelThrottleKey;
         this.applicationLevelTier = applicationLevelTier;
         this.apiLevelThrottleKey = apiLevelThrottleKey;
+        this.apiLevelTier = apiLevelTier;
         this.subscriptionLevelThrottleKey = subscriptionLevelThrottleKey;
         this.subscriptionLevelTier = subscriptionLevelTier;
         this.resourceLevelThrottleKey = resourceLevelThrottleKey;
@@ -149,6 +164,16 @@ public class DataProcessAndPublishingAgent implements Runnable {
         //in axis2MessageContext is modified.
         org.apache.axis2.context.MessageContext axis2MessageContext = ((Axis2MessageContext) messageContext)
                 .getAxis2MessageContext();
+        this.contentAware = authenticationContext.isContentAwareTierPresent() || isVerbInfoContentAware;
+        this.applicationName = authenticationContext.getApplicationName();
+        this.productSubscription = !StringUtils.isEmpty(authenticationContext.getProductName())
+                && !StringUtils.isEmpty(authenticationContext.getProductProvider());
+        if (getThrottleProperties().isEnableJwtConditions()) {
+            this.callerToken = authenticationContext.getCallerToken();
+        }
+        if (getThrottleProperties().isEnableQueryParamConditions()) {
+            this.queryString = (String) axis2MessageContext.getProperty(NhttpConstants.REST_URL_POSTFIX);
+        }
         Map<String, String> transportHeaderMap = (Map<String, String>) axis2MessageContext
                 .getProperty(org.apache.axis2.context.MessageContext.TRANSPORT_HEADERS);
         if (transportHeaderMap != null) {
@@ -158,7 +183,7 @@ public class DataProcessAndPublishingAgent implements Runnable {
             for (Map.Entry<String, String> entry : transportHeaderMap.entrySet()) {
                 lowerCaseTransportHeaderMap.put(entry.getKey().toLowerCase(), String.valueOf(entry.getValue()));
             }
-            this.headersMap = new HashMap<>(lowerCaseTransportHeaderMap);
+            this.headersMap = lowerCaseTransportHeaderMap;
         }
 
         if (messageContext.getProperty(APIThrottleConstants.CUSTOM_PROPERTY) != null) {
@@ -175,7 +200,7 @@ public class DataProcessAndPublishingAgent implements Runnable {
             log.debug("Remote IP address : " + ipAddress);
         }
 
-        if (authenticationContext.isContentAwareTierPresent() || isVerbInfoContentAware) {
+        if (contentAware) {
             Object contentLength = null;
             if (transportHeaderMap != null) {
                 contentLength = transportHeaderMap.get(APIThrottleConstants.CONTENT_LENGTH);
@@ -201,97 +226,106 @@ public class DataProcessAndPublishingAgent implements Runnable {
                 } 
             }
         }
+        this.dataReferenceSet = true;
+    }
+
+    boolean hasDataReference() {
+        return dataReferenceSet;
     }
 
     public void run() {
-        JSONObject jsonObMap = new JSONObject();
-        org.apache.axis2.context.MessageContext axis2MessageContext = ((Axis2MessageContext) messageContext)
-                .getAxis2MessageContext();
+        publish(new ThrottleEventPropertiesWriter());
+    }
 
-        if (ipAddress != null && ipAddress.length() > 0) {
-            if (ipAddress.contains(":") && ipAddress.split(":").length == 2) {
-                log.warn("Client port will be ignored and only the IP address (IPV4) will concern from " + ipAddress);
-                ipAddress = ipAddress.split(":")[0];
+    /**
+     * Builds the throttle event from the data references and publishes it to the data publisher.
+     *
+     * @param properties reusable writer of the event properties attribute
+     * @return false if the data publisher dropped the event
+     */
+    boolean publish(ThrottleEventPropertiesWriter properties) {
+        // Properties are written from the highest precedence to the lowest, and a property keeps the first value
+        // written for it. Hence, the content aware properties override the JWT claims, which override the query
+        // parameters, custom properties, headers and finally the client IP.
+        properties.reset();
+
+        //this parameter will be used to capture message size and pass it to calculation logic
+        if (contentAware) {
+            if (log.isDebugEnabled()) {
+                log.debug("Message size: " + messageSizeInBytes + "B");
             }
-            if (IPV4_PATTERN.matcher(ipAddress).matches()) {
-                jsonObMap.put(APIThrottleConstants.IP, APIUtil.ipToLong(ipAddress));
-                jsonObMap.put(APIThrottleConstants.IPv6, 0);
-            } else if (IPV6_PATTERN.matcher(ipAddress).matches()) {
-                jsonObMap.put(APIThrottleConstants.IPv6, APIUtil.ipToBigInteger(ipAddress));
-                jsonObMap.put(APIThrottleConstants.IP, 0);
+            properties.put(APIThrottleConstants.MESSAGE_SIZE, messageSizeInBytes);
+            if (!StringUtils.isEmpty(applicationName)) {
+                properties.put(APIThrottleConstants.APPLICATION_NAME, applicationName);
+            }
+            if (productSubscription) {
+                properties.put(APIThrottleConstants.SUBSCRIPTION_TYPE, APIConstants.API_PRODUCT_SUBSCRIPTION_TYPE);
             } else {
-                log.error("Error while parsing host IP " + ipAddress);
-                jsonObMap.put(APIThrottleConstants.IPv6, 0);
-                jsonObMap.put(APIThrottleConstants.IP, 0);
+                properties.put(APIThrottleConstants.SUBSCRIPTION_TYPE, APIConstants.API_SUBSCRIPTION_TYPE);
             }
+
         }
 
-        //HeaderMap will only be set if the Header Publishing has been enabled.
-        if (getThrottleProperties().isEnableHeaderConditions()) {
-            if (this.headersMap != null) {
-                jsonObMap.putAll(this.headersMap);
+        //Publish jwt claims
+        if (getThrottleProperties().isEnableJwtConditions()) {
+            if (callerToken != null) {
+                Map<String, String> assertions = JWTUtil.getJWTClaims(callerToken);
+                if (assertions != null) {
+                    properties.putAll(assertions);
+                }
             }
         }
-        //adding any custom property if available to stream's property map
-        if (this.customPropertyMap != null) {
-            jsonObMap.putAll(this.customPropertyMap);
-        }
 
         //Setting query parameters
         if (getThrottleProperties().isEnableQueryParamConditions()) {
-            Map<String, String> queryParams = GatewayUtils.getQueryParams(axis2MessageContext);
+            Map<String, String> queryParams = GatewayUtils.getQueryParams(queryString);
             if (queryParams != null) {
-                jsonObMap.putAll(queryParams);
+                properties.putAll(queryParams);
             }
 
         }
 
-        //Publish jwt claims
-        if (getThrottleProperties().isEnableJwtConditions()) {
-            if (authenticationContext.getCallerToken() != null) {
-                Map<String, String> assertions = JWTUtil.getJWTClaims(authenticationContext.getCallerToken());
-                if (assertions != null) {
-                    jsonObMap.putAll(assertions);
-                }
-            }
+        //adding any custom property if available to stream's property map
+        if (this.customPropertyMap != null) {
+            properties.putAll(this.customPropertyMap);
         }
 
-        //this parameter will be used to capture message size and pass it to calculation logic
-        
-        ArrayList<VerbInfoDTO> list = (ArrayList<VerbInfoDTO>) messageContext.getProperty(APIConstants.VERB_INFO_DTO);
-        boolean isVerbInfoContentAware = false;
-        if (list != null && !list.isEmpty()) {
-            VerbInfoDTO verbInfoDTO = list.get(0);
-            isVerbInfoContentAware = verbInfoDTO.isContentAware();
+        //HeaderMap will only be set if the Header Publishing has been enabled.
+        if (getThrottleProperties().isEnableHeaderConditions()) {
+            if (this.headersMap != null) {
+                properties.putAll(this.headersMap);
+            }
         }
 
-        if (authenticationContext.isContentAwareTierPresent() || isVerbInfoContentAware) {
-            if (log.isDebugEnabled()) {
-                log.debug("Message size: " + messageSizeInBytes + "B");
-            }
-            jsonObMap.put(APIThrottleConstants.MESSAGE_SIZE, messageSizeInBytes);
-            if (!StringUtils.isEmpty(authenticationContext.getApplicationName())) {
-                jsonObMap.put(APIThrottleConstants.APPLICATION_NAME, authenticationContext.getApplicationName());
+        if (ipAddress != null && ipAddress.length() > 0) {
+            if (ipAddress.contains(":") && ipAddress.split(":").length == 2) {
+                log.warn("Client port will be ignored and only the IP address (IPV4) will concern from " + ipAddress);
+                ipAddress = ipAddress.split(":")[0];
             }
-            if (!StringUtils.isEmpty(authenticationContext.getProductName()) && !StringUtils
-                    .isEmpty(authenticationContext.getProductProvider())) {
-                jsonObMap.put(APIThrottleConstants.SUBSCRIPTION_TYPE, APIConstants.API_PRODUCT_SUBSCRIPTION_TYPE);
+            if (IPV4_PATTERN.matcher(ipAddress).matches()) {
+                properties.put(APIThrottleConstants.IP, APIUtil.ipToLong(ipAddress));
+                properties.put(APIThrottleConstants.IPv6, 0);
+            } else if (IPV6_PATTERN.matcher(ipAddress).matches()) {
+                properties.put(APIThrottleConstants.IPv6, APIUtil.ipToBigInteger(ipAddress));
+                properties.put(APIThrottleConstants.IP, 0);
             } else {
-                jsonObMap.put(APIThrottleConstants.SUBSCRIPTION_TYPE, APIConstants.API_SUBSCRIPTION_TYPE);
+                log.error("Error while parsing host IP " + ipAddress);
+                properties.put(APIThrottleConstants.IPv6, 0);
+                properties.put(APIThrottleConstants.IP, 0);
             }
-
         }
 
-        Object[] objects = new Object[]{messageContext.getMessageID(),
+        Object[] objects = new Object[]{this.messageId,
                                         this.applicationLevelThrottleKey, this.applicationLevelTier,
                                         this.apiLevelThrottleKey, this.apiLevelTier,
                                         this.subscriptionLevelThrottleKey, this.subscriptionLevelTier,
                                         this.resourceLevelThrottleKey, this.resourceLevelTier,
                                         this.authorizedUser, this.apiContext, this.apiVersion,
-                                        this.appTenant, this.apiTenant, this.appId, this.apiName, jsonObMap.toString()};
+                                        this.appTenant, this.apiTenant, this.appId, this.apiName,
+                                        properties.toJSONString()};
         org.wso2.carbon.databridge.commons.Event event = new org.wso2.carbon.databridge.commons.Event(streamID,
                                                                                                       System.currentTimeMillis(), null, null, objects);
-        dataPublisher.tryPublish(event);
+        return dataPublisher.tryPublish(event);
     }
 
     protected void buildMessage(org.apache.axis2.context.MessageContext axis2MessageContext) throws IOException,
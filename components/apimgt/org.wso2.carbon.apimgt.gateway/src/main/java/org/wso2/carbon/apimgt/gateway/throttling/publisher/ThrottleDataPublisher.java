@@ -34,10 +34,6 @@ import org.wso2.carbon.databridge.commons.exception.TransportException;
 
 import java.text.SimpleDateFormat;
 import java.util.Date;
-import java.util.concurrent.Executor;
-import java.util.concurrent.LinkedBlockingDeque;
-import java.util.concurrent.ThreadPoolExecutor;
-import java.util.concurrent.TimeUnit;
 
 /**
  * Throttle data publisher class is here to publish throttle data to global policy engine.
@@ -45,7 +41,6 @@ import java.util.concurrent.TimeUnit;
  * When we use this for high concurrency usecases proper tuning is mandatory.
  */
 public class ThrottleDataPublisher {
-    public static ThrottleDataPublisherPool dataPublisherPool;
 
     public static final Log log = LogFactory.getLog(ThrottleDataPublisher.class);
 
@@ -55,11 +50,26 @@ public class ThrottleDataPublisher {
 
     private static volatile DataPublisher dataPublisher = null;
 
-    Executor executor;
+    private static volatile ThrottleEventBatchPublisher eventBatchPublisher = null;
+
+    public static ThrottleEventBatchPublisher getEventBatchPublisher() {
+        return eventBatchPublisher;
+    }
 
     /**
-     * This method will initialize throttle data publisher. Inside this we will start executor and initialize data
-     * publisher which we used to publish throttle data.
+     * Stops accepting throttle events and publishes the events already held by the batch publisher.
+     */
+    public static void shutdown() {
+        ThrottleEventBatchPublisher batchPublisher = eventBatchPublisher;
+        eventBatchPublisher = null;
+        if (batchPublisher != null) {
+            batchPublisher.shutdown();
+        }
+    }
+
+    /**
+     * This method will initialize throttle data publisher. Inside this we will initialize data publisher which we
+     * used to publish throttle data and start the batch publisher which feeds it.
      */
     public ThrottleDataPublisher() {
         ThrottleProperties throttleProperties = ServiceReferenceHolder.getInstance().getThrottleProperties();
@@ -67,22 +77,15 @@ public class ThrottleDataPublisher {
             ThrottleProperties.DataPublisher dataPublisherConfiguration = ServiceReferenceHolder.getInstance()
                     .getThrottleProperties().getDataPublisher();
             if (dataPublisherConfiguration != null && dataPublisherConfiguration.isEnabled()) {
-                dataPublisherPool = ThrottleDataPublisherPool.getInstance();
-                ThrottleProperties.DataPublisherThreadPool dataPublisherThreadPoolConfiguration = ServiceReferenceHolder
-                        .getInstance().getThrottleProperties().getDataPublisherThreadPool();
-
                 try {
-                    executor = new DataPublisherThreadPoolExecutor(dataPublisherThreadPoolConfiguration.getCorePoolSize(),
-                            dataPublisherThreadPoolConfiguration.getMaximumPoolSize(), dataPublisherThreadPoolConfiguration
-                            .getKeepAliveTime(),
-                            TimeUnit
-                                    .SECONDS,
-                            new LinkedBlockingDeque<Runnable>() {
-                            });
                     dataPublisher = new DataPublisher(dataPublisherConfiguration.getType(), dataPublisherConfiguration
                             .getReceiverUrlGroup(), dataPublisherConfiguration.getAuthUrlGroup(), dataPublisherConfiguration
                             .getUsername(),
                             dataPublisherConfiguration.getPassword());
+                    ThrottleEventBatchPublisher batchPublisher = new ThrottleEventBatchPublisher(
+                            throttleProperties.getDataPublisherEventBuffer());
+                    batchPublisher.start();
+                    eventBatchPublisher = batchPublisher;
 
                 } catch (DataEndpointAgentConfigurationException e) {
                     log.error("Error in initializing binary data-publisher to send requests to global throttling engine " +
@@ -118,60 +121,43 @@ public class ThrottleDataPublisher {
             String appId, MessageContext messageContext,
             AuthenticationContext authenticationContext) {
         try {
-            if (dataPublisherPool != null) {
-                DataProcessAndPublishingAgent agent = dataPublisherPool.get();
-                agent.setDataReference(applicationLevelThrottleKey, applicationLevelTier,
-                        apiLevelThrottleKey, apiLevelTier,
-                        subscriptionLevelThrottleKey, subscriptionLevelTier,
-                        resourceLevelThrottleKey, resourceLevelTier,
-                        authorizedUser, apiContext, apiVersion, appTenant, apiTenant, appId, messageContext,
-                        authenticationContext);
-                if (log.isDebugEnabled()) {
-                    log.debug("Publishing throttle data from gateway to traffic-manager for: " + apiContext
-                            + " with ID: " + messageContext.getMessageID() + " started" + " at "
-                            + new SimpleDateFormat("[yyyy.MM.dd HH:mm:ss,SSS zzz]").format(new Date()));
+            ThrottleEventBatchPublisher batchPublisher = eventBatchPublisher;
+            if (batchPublisher != null) {
+                DataProcessAndPublishingAgent agent = batchPublisher.claim();
+                if (agent == null) {
+                    return;
+                }
+                // Nothing may run between the claim and this block, as a claimed slot that is never published
+                // stalls the ring buffer
+                try {
+                    if (log.isDebugEnabled()) {
+                        log.debug("Publishing throttle data from gateway to traffic-manager for: " + apiContext
+                                + " with ID: " + messageContext.getMessageID() + " started" + " at "
+                                + new SimpleDateFormat("[yyyy.MM.dd HH:mm:ss,SSS zzz]").format(new Date()));
+                    }
+                    agent.setDataReference(applicationLevelThrottleKey, applicationLevelTier,
+                            apiLevelThrottleKey, apiLevelTier,
+                            subscriptionLevelThrottleKey, subscriptionLevelTier,
+                            resourceLevelThrottleKey, resourceLevelTier,
+                            authorizedUser, apiContext, apiVersion, appTenant, apiTenant, appId, messageContext,
+                            authenticationContext);
+                } catch (RuntimeException e) {
+                    // The claimed slot is still handed back so the publisher thread can skip it and move on
+                    agent.clearDataReference();
+                    throw e;
+                } finally {
+                    batchPublisher.publish(agent);
                 }
-                executor.execute(agent);
                 if (log.isDebugEnabled()) {
                     log.debug("Publishing throttle data from gateway to traffic-manager for: " + apiContext
                             + " with ID: " + messageContext.getMessageID() + " ended" + " at "
                             + new SimpleDateFormat("[yyyy.MM.dd HH:mm:ss,SSS zzz]").format(new Date()));
                 }
             } else {
-                log.debug("Throttle data publisher pool is not initialized.");
+                log.debug("Throttle event batch publisher is not initialized.");
             }
         } catch (Exception e) {
             log.error("Error while publishing throttling events to global policy server", e);
         }
     }
-
-    /**
-     * This class will act as thread pool executor and after executing each thread it will return runnable
-     * object back to pool. This implementation specifically used to minimize number of objectes created during
-     * runtime. In this queuing strategy the submitted task will wait in the queue if the corePoolsize theads are
-     * busy and the task will be allocated if any of the threads become idle.Thus ThreadPool will always have number
-     * of threads running  as mentioned in the corePoolSize.
-     * LinkedBlockingQueue without the capacity can be used for this queuing strategy.If the corePoolsize of the
-     * threadpool is less and there are more number of time consuming task were submitted,there is more possibility
-     * that the task has to wait in the queue for more time before it is run by any of the ideal thread.
-     * So tuning core pool size is something we need to tune properly.
-     * Also no task will be rejected in Threadpool until the threadpool was shutdown.
-     */
-    private class DataPublisherThreadPoolExecutor extends ThreadPoolExecutor {
-        public DataPublisherThreadPoolExecutor(int corePoolSize, int maximumPoolSize, long keepAliveTime,
-                                               TimeUnit unit, LinkedBlockingDeque<Runnable> workQueue) {
-            super(corePoolSize, maximumPoolSize, keepAliveTime, unit, workQueue);
-        }
-
-        protected void afterExecute(java.lang.Runnable r, java.lang.Throwable t) {
-            try {
-                DataProcessAndPublishingAgent agent = (DataProcessAndPublishingAgent) r;
-                //agent.setDataReference(null);
-                ThrottleDataPublisher.dataPublisherPool.release(agent);
-            } catch (Exception e) {
-                log.error("Error while returning Throttle data publishing agent back to pool" + e.getMessage());
-            }
-        }
-    }
 }
-
@@ -0,0 +1,240 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.apimgt.gateway.throttling.publisher;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.apimgt.impl.APIConstants;
+import org.wso2.carbon.apimgt.impl.dto.ThrottleProperties;
+import org.wso2.carbon.metrics.manager.Counter;
+import org.wso2.carbon.metrics.manager.Level;
+import org.wso2.carbon.metrics.manager.MetricManager;
+import org.wso2.carbon.metrics.manager.Timer;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Publishes the throttle events of the gateway to the traffic manager in batches. Request threads write each event
+ * into a pre-allocated slot of a {@link ThrottleEventRingBuffer}, so no object is borrowed from a pool and no task
+ * is handed to an executor per request. Each ring buffer is drained by its own publisher thread, which collects
+ * published slots into a batch and flushes it once it reaches the configured batch size or once the flush interval
+ * has elapsed since the first slot of the batch. A flush builds and publishes the events of the batch and then
+ * releases the slots. A request thread always writes to
+ * the same ring buffer. Events are dropped when that ring buffer is full, in the same way the data publisher drops
+ * events when its own queue is full.
+ */
+public class ThrottleEventBatchPublisher {
+
+    private static final Log log = LogFactory.getLog(ThrottleEventBatchPublisher.class);
+    private static final String QUEUE_DEPTH = "QUEUE_DEPTH";
+    private static final String DROPPED_EVENTS = "DROPPED_EVENTS";
+    private static final String FLUSH = "FLUSH";
+    private static final long DEFAULT_FLUSH_INTERVAL_MILLIS = 20;
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 10000;
+
+    private final ThrottleEventRingBuffer[] ringBuffers;
+    private final Thread[] publishers;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private volatile boolean running = true;
+
+    public ThrottleEventBatchPublisher(ThrottleProperties.DataPublisherEventBuffer eventBufferConfiguration) {
+
+        this(eventBufferConfiguration, DataProcessAndPublishingAgent::new);
+    }
+
+    ThrottleEventBatchPublisher(ThrottleProperties.DataPublisherEventBuffer eventBufferConfiguration,
+                                Supplier<DataProcessAndPublishingAgent> slotFactory) {
+
+        int publisherThreads = Math.max(eventBufferConfiguration.getPublisherThreads(), 1);
+        int ringBufferSize = Math.max(eventBufferConfiguration.getSize() / publisherThreads, 1);
+        this.batchSize = Math.max(eventBufferConfiguration.getBatchSize(), 1);
+        long flushInterval = eventBufferConfiguration.getFlushInterval();
+        if (flushInterval <= 0) {
+            log.warn("Invalid throttle event flush interval " + flushInterval + ". The flush interval should be "
+                    + "positive. Using the default flush interval " + DEFAULT_FLUSH_INTERVAL_MILLIS + " ms");
+            flushInterval = DEFAULT_FLUSH_INTERVAL_MILLIS;
+        }
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushInterval);
+        this.ringBuffers = new ThrottleEventRingBuffer[publisherThreads];
+        this.publishers = new Thread[publisherThreads];
+        for (int i = 0; i < publisherThreads; i++) {
+            ThrottleEventRingBuffer ringBuffer = new ThrottleEventRingBuffer(ringBufferSize, slotFactory);
+            ringBuffers[i] = ringBuffer;
+            publishers[i] = new Thread(() -> publishEvents(ringBuffer), "ThrottleEventBatchPublisher-" + i);
+            publishers[i].setDaemon(true);
+        }
+    }
+
+    public void start() {
+
+        for (Thread publisher : publishers) {
+            publisher.start();
+        }
+    }
+
+    /**
+     * Stops the publisher threads after the events already written to the ring buffers are published. Waits for the
+     * publisher threads to finish for at most {@value #SHUTDOWN_TIMEOUT_MILLIS} ms in total.
+     */
+    public void shutdown() {
+
+        running = false;
+        for (Thread publisher : publishers) {
+            LockSupport.unpark(publisher);
+        }
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(SHUTDOWN_TIMEOUT_MILLIS);
+        try {
+            for (Thread publisher : publishers) {
+                long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (remainingMillis <= 0) {
+                    break;
+                }
+                publisher.join(remainingMillis);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        for (Thread publisher : publishers) {
+            if (publisher.isAlive()) {
+                log.warn("Throttle event publisher thread " + publisher.getName() + " did not finish publishing "
+                        + "the pending throttle events within " + SHUTDOWN_TIMEOUT_MILLIS + " ms");
+            }
+        }
+    }
+
+    /**
+     * Claims a slot for an event of the calling thread. The slot must be handed back through {@link #publish} once
+     * its data references are set, or once setting them failed.
+     *
+     * @return the slot to write the event to, or null if the ring buffer is full and the event is dropped
+     */
+    public DataProcessAndPublishingAgent claim() {
+
+        DataProcessAndPublishingAgent slot = getRingBuffer().claim();
+        if (slot == null) {
+            getCounter(DROPPED_EVENTS).inc();
+            if (log.isDebugEnabled()) {
+                log.debug("Throttle event ring buffer is full. Dropping throttle event.");
+            }
+        }
+        return slot;
+    }
+
+    /**
+     * Hands a claimed slot over to the publisher thread of the calling thread.
+     */
+    public void publish(DataProcessAndPublishingAgent slot) {
+
+        getRingBuffer().publish(slot);
+    }
+
+    private ThrottleEventRingBuffer getRingBuffer() {
+
+        return ringBuffers[(int) (Thread.currentThread().getId() % ringBuffers.length)];
+    }
+
+    private void publishEvents(ThrottleEventRingBuffer ringBuffer) {
+
+        DataProcessAndPublishingAgent[] batch = new DataProcessAndPublishingAgent[batchSize];
+        ThrottleEventPropertiesWriter properties = new ThrottleEventPropertiesWriter();
+        int reportedQueueDepth = 0;
+        int count = 0;
+        long deadline = 0;
+        while (running) {
+            int drained = ringBuffer.drain(batch, count);
+            if (count == 0 && drained > 0) {
+                deadline = System.nanoTime() + flushIntervalNanos;
+            }
+            count += drained;
+            if (count == 0) {
+                ringBuffer.awaitPublished(flushIntervalNanos, 0);
+            } else if (count == batchSize || deadline - System.nanoTime() <= 0) {
+                flush(ringBuffer, batch, count, properties);
+                count = 0;
+            } else {
+                ringBuffer.awaitPublished(deadline - System.nanoTime(), count);
+            }
+            reportedQueueDepth = reportQueueDepth(ringBuffer, reportedQueueDepth);
+        }
+        count += ringBuffer.drain(batch, count);
+        while (count > 0) {
+            flush(ringBuffer, batch, count, properties);
+            count = ringBuffer.drain(batch, 0);
+        }
+        reportQueueDepth(ringBuffer, reportedQueueDepth);
+    }
+
+    void flush(ThrottleEventRingBuffer ringBuffer, DataProcessAndPublishingAgent[] batch, int count,
+               ThrottleEventPropertiesWriter properties) {
+
+        Timer.Context context = getTimer(FLUSH).start();
+        int dropped = 0;
+        for (int i = 0; i < count; i++) {
+            DataProcessAndPublishingAgent agent = batch[i];
+            try {
+                // A slot without data references was claimed by a request thread that failed to write it
+                if (agent.hasDataReference() && !agent.publish(properties)) {
+                    dropped++;
+                }
+            } catch (RuntimeException e) {
+                dropped++;
+                log.error("Error while publishing throttle event to the traffic manager", e);
+            }
+        }
+        context.stop();
+        ringBuffer.release(batch, count);
+        if (dropped > 0) {
+            getCounter(DROPPED_EVENTS).inc(dropped);
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Flushed " + (count - dropped) + " throttle events to the traffic manager. " + dropped
+                    + " events were dropped by the data publisher.");
+        }
+    }
+
+    /**
+     * Moves the shared queue depth counter by the change in the depth of the ring buffer since the last report.
+     */
+    private int reportQueueDepth(ThrottleEventRingBuffer ringBuffer, int reportedQueueDepth) {
+
+        int queueDepth = ringBuffer.size();
+        if (queueDepth > reportedQueueDepth) {
+            getCounter(QUEUE_DEPTH).inc(queueDepth - reportedQueueDepth);
+        } else if (queueDepth < reportedQueueDepth) {
+            getCounter(QUEUE_DEPTH).dec(reportedQueueDepth - queueDepth);
+        }
+        return queueDepth;
+    }
+
+    protected Counter getCounter(String metric) {
+
+        return MetricManager.counter(Level.INFO, MetricManager.name(APIConstants.METRICS_PREFIX,
+                ThrottleEventBatchPublisher.class.getSimpleName(), metric));
+    }
+
+    protected Timer getTimer(String metric) {
+
+        return MetricManager.timer(Level.INFO, MetricManager.name(APIConstants.METRICS_PREFIX,
+                ThrottleEventBatchPublisher.class.getSimpleName(), metric));
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.apimgt.gateway.throttling.publisher;
+
+import org.json.simple.JSONValue;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Writes the properties attribute of a throttle event straight into a reusable buffer. The traffic manager reads
+ * the attribute as a JSON object, so the output is the same JSON the properties used to be serialized to, without
+ * building an intermediate map for every request.
+ * <p>
+ * A key keeps the first value written for it. Callers therefore write the properties from the highest precedence
+ * to the lowest. Instances are not thread safe and are meant to be reused by a single publishing agent.
+ */
+final class ThrottleEventPropertiesWriter {
+
+    private final StringBuilder json = new StringBuilder(256);
+    private final Set<String> keys = new HashSet<>();
+
+    /**
+     * Clears the properties written for the previous event.
+     */
+    void reset() {
+
+        json.setLength(0);
+        keys.clear();
+    }
+
+    void put(String key, long value) {
+
+        if (startProperty(key)) {
+            json.append(value);
+        }
+    }
+
+    void put(String key, Object value) {
+
+        if (startProperty(key)) {
+            if (value instanceof String) {
+                appendString((String) value);
+            } else if (value instanceof Long || value instanceof Integer) {
+                json.append(value);
+            } else {
+                json.append(JSONValue.toJSONString(value));
+            }
+        }
+    }
+
+    void putAll(Map<String, ?> properties) {
+
+        for (Map.Entry<String, ?> property : properties.entrySet()) {
+            put(property.getKey(), property.getValue());
+        }
+    }
+
+    /**
+     * @return the properties written since the last reset as a JSON object
+     */
+    String toJSONString() {
+
+        return json.length() == 0 ? "{}" : json.toString() + '}';
+    }
+
+    private boolean startProperty(String key) {
+
+        if (!keys.add(key)) {
+            return false;
+        }
+        json.append(json.length() == 0 ? '{' : ',');
+        appendString(key);
+        json.append(':');
+        return true;
+    }
+
+    /**
+     * Appends a quoted string escaped the same way as {@link JSONValue#escape(String)}.
+     */
+    private void appendString(String value) {
+
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char ch = value.charAt(i);
+            switch (ch) {
+                case '"':
+                    json.append("\\\"");
+                    break;
+                case '\\':
+                    json.append("\\\\");
+                    break;
+                case '\b':
+                    json.append("\\b");
+                    break;
+                case '\f':
+                    json.append("\\f");
+                    break;
+                case '\n':
+                    json.append("\\n");
+                    break;
+                case '\r':
+                    json.append("\\r");
+                    break;
+                case '\t':
+                    json.append("\\t");
+                    break;
+                case '/':
+                    json.append("\\/");
+                    break;
+                default:
+                    if (ch <= '\u001F' || (ch >= '\u007F' && ch <= '\u009F')
+                            || (ch >= '\u2000' && ch <= '\u20FF')) {
+                        String hex = Integer.toHexString(ch).toUpperCase();
+                        json.append("\\u");
+                        for (int k = hex.length(); k < 4; k++) {
+                            json.append('0');
+                        }
+                        json.append(hex);
+                    } else {
+                        json.append(ch);
+                    }
+            }
+        }
+        json.append('"');
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.apimgt.gateway.throttling.publisher;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Lock free ring buffer of pre-allocated throttle event records, written by many request threads and read by a
+ * single publisher thread.
+ * <p>
+ * A request thread claims the next sequence with a CAS on the producer cursor, writes the event fields into the
+ * {@link DataProcessAndPublishingAgent} slot of that sequence and then publishes the sequence. The publisher thread
+ * reads the published slots in order, publishes the events and releases the slots by moving the consumer cursor.
+ * A claim fails instead of waiting when every slot is claimed but not yet released.
+ */
+final class ThrottleEventRingBuffer {
+
+    private final DataProcessAndPublishingAgent[] slots;
+    private final int mask;
+    private final AtomicLong producerSequence = new AtomicLong();
+    // Sequence held by each slot once the request thread has finished writing it
+    private final AtomicLongArray publishedSequences;
+    // Next sequence to be read. Only the publisher thread writes it.
+    private volatile long consumerSequence;
+    private volatile Thread waitingConsumer;
+
+    ThrottleEventRingBuffer(int capacity, Supplier<DataProcessAndPublishingAgent> slotFactory) {
+
+        int size = Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1;
+        this.slots = new DataProcessAndPublishingAgent[size];
+        this.mask = size - 1;
+        this.publishedSequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            slots[i] = slotFactory.get();
+            publishedSequences.set(i, -1);
+        }
+    }
+
+    int capacity() {
+
+        return slots.length;
+    }
+
+    /**
+     * Claims the next free slot. The caller must publish the returned slot through {@link #publish} after writing
+     * it, even if writing it fails.
+     *
+     * @return the claimed slot, or null if the ring buffer is full
+     */
+    DataProcessAndPublishingAgent claim() {
+
+        long sequence;
+        do {
+            sequence = producerSequence.get();
+            if (sequence - consumerSequence >= slots.length) {
+                return null;
+            }
+        } while (!producerSequence.compareAndSet(sequence, sequence + 1));
+        DataProcessAndPublishingAgent slot = slots[(int) sequence & mask];
+        slot.sequence = sequence;
+        return slot;
+    }
+
+    /**
+     * Makes a claimed slot visible to the publisher thread and wakes the publisher thread if it is waiting.
+     */
+    void publish(DataProcessAndPublishingAgent slot) {
+
+        publishedSequences.set((int) slot.sequence & mask, slot.sequence);
+        Thread consumer = waitingConsumer;
+        if (consumer != null) {
+            LockSupport.unpark(consumer);
+        }
+    }
+
+    /**
+     * Copies the published slots that follow the slots already in the batch into the batch, in sequence order. The
+     * slots stay claimed until they are released. Called by the publisher thread only.
+     *
+     * @param batch  batch holding the first {@code offset} slots after the consumer cursor
+     * @param offset number of slots already in the batch
+     * @return number of slots added to the batch
+     */
+    int drain(DataProcessAndPublishingAgent[] batch, int offset) {
+
+        long next = consumerSequence + offset;
+        int count = offset;
+        while (count < batch.length) {
+            int index = (int) next & mask;
+            if (publishedSequences.get(index) != next) {
+                break;
+            }
+            batch[count++] = slots[index];
+            next++;
+        }
+        return count - offset;
+    }
+
+    /**
+     * Clears the drained slots and hands them back to the request threads. Called by the publisher thread only.
+     */
+    void release(DataProcessAndPublishingAgent[] batch, int count) {
+
+        for (int i = 0; i < count; i++) {
+            batch[i].clearDataReference();
+            batch[i] = null;
+        }
+        consumerSequence = consumerSequence + count;
+    }
+
+    /**
+     * Parks the publisher thread until the slot following the given number of drained slots is published or the
+     * timeout elapses. Called by the publisher thread only.
+     */
+    void awaitPublished(long timeoutNanos, int offset) {
+
+        waitingConsumer = Thread.currentThread();
+        try {
+            long next = consumerSequence + offset;
+            if (publishedSequences.get((int) next & mask) != next) {
+                LockSupport.parkNanos(this, timeoutNanos);
+            }
+        } finally {
+            waitingConsumer = null;
+        }
+    }
+
+    /**
+     * @return number of slots claimed and not yet released
+     */
+    int size() {
+
+        return (int) (producerSequence.get() - consumerSequence);
+    }
+}
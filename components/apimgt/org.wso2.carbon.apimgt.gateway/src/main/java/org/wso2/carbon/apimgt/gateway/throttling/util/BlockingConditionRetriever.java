@@ -97,22 +97,12 @@ public class BlockingConditionRetriever extends TimerTask {
     public void loadBlockingConditionsFromWebService() {
         BlockConditionsDTO blockConditionsDTO = retrieveBlockConditionsData();
         if (blockConditionsDTO != null) {
-            if (!blockConditionsDTO.getApi().isEmpty()) {
-                getThrottleDataHolder().addAPIBlockingConditionsFromMap(
-                        GatewayUtils.generateMap(blockConditionsDTO.getApi()));
-            }
-            if (!blockConditionsDTO.getApplication().isEmpty()) {
-                getThrottleDataHolder().addApplicationBlockingConditionsFromMap(
-                        GatewayUtils.generateMap(blockConditionsDTO.getApplication()));
-            }
-            if (!blockConditionsDTO.getUser().isEmpty()) {
-                getThrottleDataHolder().addUserBlockingConditionsFromMap(
-                        GatewayUtils.generateMap(blockConditionsDTO.getUser()));
-            }
-            if (!blockConditionsDTO.getIp().isEmpty()) {
-                getThrottleDataHolder()
-                        .addIplockingConditionsFromMap(GatewayUtils.generateIpRangeMap(blockConditionsDTO.getIp()));
-            }
+            // All the retrieved conditions are published to the request threads together in a single snapshot
+            getThrottleDataHolder().addBlockingConditionsFromMap(
+                    GatewayUtils.generateMap(blockConditionsDTO.getApi()),
+                    GatewayUtils.generateMap(blockConditionsDTO.getApplication()),
+                    GatewayUtils.generateMap(blockConditionsDTO.getUser()),
+                    GatewayUtils.generateIpRangeMap(blockConditionsDTO.getIp()));
         }
     }
 
@@ -237,7 +237,17 @@ public class GatewayUtils {
      */
     public static Map<String, String> getQueryParams(MessageContext messageContext) {
 
-        String queryString = (String) messageContext.getProperty(NhttpConstants.REST_URL_POSTFIX);
+        return getQueryParams((String) messageContext.getProperty(NhttpConstants.REST_URL_POSTFIX));
+    }
+
+    /**
+     * Parses the query parameters of a request path postfix, such as the REST_URL_POSTFIX property of a request.
+     *
+     * @param queryString request path postfix, with or without the leading path
+     * @return query parameters of the postfix, or null if it is empty
+     */
+    public static Map<String, String> getQueryParams(String queryString) {
+
         if (!StringUtils.isEmpty(queryString)) {
             if (queryString.indexOf("?") > -1) {
                 queryString = queryString.substring(queryString.indexOf("?") + 1);
@@ -602,6 +612,10 @@ public class GatewayUtils {
             authContext.setSpikeArrestUnit(apiKeyValidationInfoDTO.getSpikeArrestUnit());
             authContext.setApplicationSpikesArrestLimit(apiKeyValidationInfoDTO.getApplicationSpikeArrestLimit());
             authContext.setApplicationSpikesArrestUnit(apiKeyValidationInfoDTO.getApplicationSpikeArrestUnit());
+            authContext.setSubscriptionRequestCountLimit(apiKeyValidationInfoDTO.getSubscriptionRequestCountLimit());
+            authContext.setSubscriptionRequestCountPeriod(apiKeyValidationInfoDTO.getSubscriptionRequestCountPeriod());
+            authContext.setApplicationRequestCountLimit(apiKeyValidationInfoDTO.getApplicationRequestCountLimit());
+            authContext.setApplicationRequestCountPeriod(apiKeyValidationInfoDTO.getApplicationRequestCountPeriod());
             authContext.setConsumerKey(apiKeyValidationInfoDTO.getConsumerKey());
             authContext.setIsContentAware(apiKeyValidationInfoDTO.isContentAware());
             authContext.setGraphQLMaxDepth(apiKeyValidationInfoDTO.getGraphQLMaxDepth());
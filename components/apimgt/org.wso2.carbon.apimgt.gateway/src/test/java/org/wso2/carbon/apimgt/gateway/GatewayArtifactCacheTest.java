@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.apimgt.gateway;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.wso2.carbon.apimgt.api.gateway.GatewayAPIDTO;
+import org.wso2.carbon.apimgt.impl.gatewayartifactsynchronizer.dto.DeployedRevisionDto;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+
+public class GatewayArtifactCacheTest {
+
+    private static final String TENANT_DOMAIN = "carbon.super";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private GatewayArtifactCache artifactCache;
+
+    @Before
+    public void setup() {
+
+        artifactCache = new GatewayArtifactCache(temporaryFolder.getRoot().toPath());
+    }
+
+    @Test
+    public void testGetStoredRevision() {
+
+        artifactCache.put(createGatewayAPIDTO("api1", "revision1"), createDeployment("api1", "revision1"));
+        Assert.assertTrue(artifactCache.contains(TENANT_DOMAIN, createDeployment("api1", "revision1")));
+        GatewayAPIDTO gatewayAPIDTO = artifactCache.get(TENANT_DOMAIN, createDeployment("api1", "revision1"));
+        Assert.assertNotNull(gatewayAPIDTO);
+        Assert.assertEquals("api1", gatewayAPIDTO.getApiId());
+        Assert.assertEquals("PizzaShackAPI", gatewayAPIDTO.getName());
+        Assert.assertNull(artifactCache.get(TENANT_DOMAIN, createDeployment("api1", "revision2")));
+        Assert.assertNull(artifactCache.get("wso2.com", createDeployment("api1", "revision1")));
+    }
+
+    @Test
+    public void testChangedDeploymentOfSameRevisionIsNotFound() {
+
+        artifactCache.put(createGatewayAPIDTO("api1", "revision1"), createDeployment("api1", "revision1"));
+        DeployedRevisionDto deployment = createDeployment("api1", "revision1");
+        deployment.setLabel("Production");
+        Assert.assertFalse(artifactCache.contains(TENANT_DOMAIN, deployment));
+        deployment = createDeployment("api1", "revision1");
+        deployment.setVhost("api.wso2.com");
+        Assert.assertFalse(artifactCache.contains(TENANT_DOMAIN, deployment));
+        deployment = createDeployment("api1", "revision1");
+        deployment.setDeployedTimeStamp(deployment.getDeployedTimeStamp() + 1);
+        Assert.assertNull(artifactCache.get(TENANT_DOMAIN, deployment));
+        Assert.assertTrue(artifactCache.contains(TENANT_DOMAIN, createDeployment("api1", "revision1")));
+    }
+
+    @Test
+    public void testArtifactOfAnotherRevisionIsNotStored() {
+
+        artifactCache.put(createGatewayAPIDTO("api1", "revision2"), createDeployment("api1", "revision1"));
+        Assert.assertFalse(artifactCache.contains(TENANT_DOMAIN, createDeployment("api1", "revision1")));
+        Assert.assertEquals(0, temporaryFolder.getRoot().list().length);
+    }
+
+    @Test
+    public void testPutReplacesOtherRevisions() {
+
+        artifactCache.put(createGatewayAPIDTO("api1", "revision1"), createDeployment("api1", "revision1"));
+        artifactCache.put(createGatewayAPIDTO("api1", "revision2"), createDeployment("api1", "revision2"));
+        Assert.assertFalse(artifactCache.contains(TENANT_DOMAIN, createDeployment("api1", "revision1")));
+        Assert.assertNotNull(artifactCache.get(TENANT_DOMAIN, createDeployment("api1", "revision2")));
+        Assert.assertEquals(1, new File(temporaryFolder.getRoot(), TENANT_DOMAIN).list().length);
+    }
+
+    @Test
+    public void testRemoveAndRetainAll() {
+
+        artifactCache.put(createGatewayAPIDTO("api1", "revision1"), createDeployment("api1", "revision1"));
+        artifactCache.put(createGatewayAPIDTO("api2", "revision1"), createDeployment("api2", "revision1"));
+        artifactCache.put(createGatewayAPIDTO("api3", "revision1"), createDeployment("api3", "revision1"));
+        artifactCache.remove(TENANT_DOMAIN, "api1");
+        Assert.assertFalse(artifactCache.contains(TENANT_DOMAIN, createDeployment("api1", "revision1")));
+        artifactCache.retainAll(TENANT_DOMAIN, Collections.singleton("api2"));
+        Assert.assertTrue(artifactCache.contains(TENANT_DOMAIN, createDeployment("api2", "revision1")));
+        Assert.assertFalse(artifactCache.contains(TENANT_DOMAIN, createDeployment("api3", "revision1")));
+    }
+
+    @Test
+    public void testCorruptArtifactIsDiscarded() throws Exception {
+
+        artifactCache.put(createGatewayAPIDTO("api1", "revision1"), createDeployment("api1", "revision1"));
+        File[] artifacts = new File(temporaryFolder.getRoot(), TENANT_DOMAIN).listFiles();
+        Assert.assertNotNull(artifacts);
+        Files.write(artifacts[0].toPath(), "{\"apiId\":\"api2\"}".getBytes(StandardCharsets.UTF_8));
+        Assert.assertNull(artifactCache.get(TENANT_DOMAIN, createDeployment("api1", "revision1")));
+        Assert.assertFalse(artifactCache.contains(TENANT_DOMAIN, createDeployment("api1", "revision1")));
+    }
+
+    @Test
+    public void testInvalidNamesAreNotStored() {
+
+        artifactCache.put(createGatewayAPIDTO("../api1", "revision1"), createDeployment("../api1", "revision1"));
+        Assert.assertFalse(artifactCache.contains(TENANT_DOMAIN, createDeployment("../api1", "revision1")));
+        Assert.assertEquals(0, temporaryFolder.getRoot().list().length);
+    }
+
+    private GatewayAPIDTO createGatewayAPIDTO(String apiId, String revision) {
+
+        GatewayAPIDTO gatewayAPIDTO = new GatewayAPIDTO();
+        gatewayAPIDTO.setApiId(apiId);
+        gatewayAPIDTO.setRevision(revision);
+        gatewayAPIDTO.setTenantDomain(TENANT_DOMAIN);
+        gatewayAPIDTO.setName("PizzaShackAPI");
+        return gatewayAPIDTO;
+    }
+
+    private DeployedRevisionDto createDeployment(String apiId, String revision) {
+
+        DeployedRevisionDto deployment = new DeployedRevisionDto();
+        deployment.setApiId(apiId);
+        deployment.setRevisionId(revision);
+        deployment.setLabel("Default");
+        deployment.setVhost("localhost");
+        deployment.setDeployedTimeStamp(1704067200000L);
+        return deployment;
+    }
+}
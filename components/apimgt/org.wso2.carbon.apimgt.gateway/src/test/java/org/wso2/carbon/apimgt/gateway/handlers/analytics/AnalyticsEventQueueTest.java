@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.apimgt.gateway.handlers.analytics;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.wso2.carbon.apimgt.common.analytics.collectors.AnalyticsDataProvider;
+import org.wso2.carbon.metrics.manager.Counter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+public class AnalyticsEventQueueTest {
+
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    @Test
+    public void testQueuedEventsArePublished() throws Exception {
+
+        List<AnalyticsDataProvider> published = new CopyOnWriteArrayList<>();
+        CountDownLatch publishedLatch = new CountDownLatch(3);
+        AnalyticsEventQueue queue = createQueue(10, 2, provider -> {
+            published.add(provider);
+            publishedLatch.countDown();
+        });
+        try {
+            for (int i = 0; i < 3; i++) {
+                Assert.assertTrue(queue.offer(Mockito.mock(AnalyticsDataProvider.class)));
+            }
+            Assert.assertTrue(publishedLatch.await(5, TimeUnit.SECONDS));
+            Assert.assertEquals(3, published.size());
+            Mockito.verify(counters.get("QUEUE_SIZE"), Mockito.times(3)).inc();
+        } finally {
+            queue.shutdown();
+        }
+    }
+
+    @Test
+    public void testEventsAreDroppedWhenQueueIsFull() throws Exception {
+
+        CountDownLatch publishingStarted = new CountDownLatch(1);
+        CountDownLatch publishingReleased = new CountDownLatch(1);
+        AnalyticsEventQueue queue = createQueue(1, 1, provider -> {
+            publishingStarted.countDown();
+            try {
+                publishingReleased.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        try {
+            Assert.assertTrue(queue.offer(Mockito.mock(AnalyticsDataProvider.class)));
+            Assert.assertTrue(publishingStarted.await(5, TimeUnit.SECONDS));
+            // The worker is blocked publishing the first event, so the queue holds one more event only
+            Assert.assertTrue(queue.offer(Mockito.mock(AnalyticsDataProvider.class)));
+            Assert.assertFalse(queue.offer(Mockito.mock(AnalyticsDataProvider.class)));
+            Assert.assertEquals(1, queue.size());
+            Mockito.verify(counters.get("DROPPED")).inc();
+        } finally {
+            publishingReleased.countDown();
+            queue.shutdown();
+        }
+    }
+
+    @Test
+    public void testShutdownWaitsForQueuedEventsToBePublished() throws Exception {
+
+        List<AnalyticsDataProvider> published = new CopyOnWriteArrayList<>();
+        AnalyticsEventQueue queue = createQueue(10, 1, provider -> {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            published.add(provider);
+        });
+        for (int i = 0; i < 3; i++) {
+            Assert.assertTrue(queue.offer(Mockito.mock(AnalyticsDataProvider.class)));
+        }
+        queue.shutdown();
+        Assert.assertEquals(3, published.size());
+        Assert.assertEquals(0, queue.size());
+        Assert.assertFalse(queue.offer(Mockito.mock(AnalyticsDataProvider.class)));
+    }
+
+    private AnalyticsEventQueue createQueue(int capacity, int workerCount,
+                                            Consumer<AnalyticsDataProvider> publisher) {
+
+        return new AnalyticsEventQueue(capacity, workerCount, publisher) {
+            @Override
+            protected Counter getCounter(String metric) {
+
+                return counters.computeIfAbsent(metric, name -> Mockito.mock(Counter.class));
+            }
+        };
+    }
+}
@@ -25,23 +25,30 @@ import graphql.schema.idl.UnExecutableSchemaGenerator;
 import org.apache.axiom.om.OMElement;
 import org.apache.axiom.soap.SOAPBody;
 import org.apache.axiom.soap.SOAPEnvelope;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.commons.io.IOUtils;
+import org.apache.synapse.Mediator;
 import org.apache.synapse.core.axis2.Axis2MessageContext;
+import org.apache.synapse.transport.nhttp.NhttpConstants;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.powermock.api.mockito.PowerMockito;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
 import org.wso2.carbon.apimgt.api.gateway.GraphQLSchemaDTO;
+import org.wso2.carbon.apimgt.common.gateway.constants.GraphQLConstants;
+import org.wso2.carbon.apimgt.gateway.APIMgtGatewayConstants;
 import org.wso2.carbon.apimgt.gateway.internal.DataHolder;
 import org.wso2.carbon.apimgt.impl.APIConstants;
 
 import javax.xml.namespace.QName;
 import java.io.File;
 import java.io.IOException;
+import java.net.URLEncoder;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -128,4 +135,84 @@ public class GraphQLAPIHandlerTest {
         graphQLAPIHandler.setApiUUID("12345");
         Assert.assertTrue(graphQLAPIHandler.handleRequest(messageContext));
     }
+
+    /**
+     * This method will test that a repeated Graphql Query is served from the query cache.
+     */
+    @Test
+    public void testHandleRequestForRepeatedGraphQLQueries() {
+        Mockito.when(messageContext.getProperty(APIConstants.GRAPHQL_SUBSCRIPTION_REQUEST)).thenReturn(false);
+        Mockito.when(axis2MessageContext.getProperty(HTTP_METHOD)).thenReturn("QUERY");
+        Mockito.when(omElement.getText()).thenReturn(("{allLifts{name}}"));
+        GraphQLAPIHandler graphQLAPIHandler = new GraphQLAPIHandler();
+        graphQLAPIHandler.setApiUUID("12345");
+        Assert.assertTrue(graphQLAPIHandler.handleRequest(messageContext));
+        Assert.assertTrue(graphQLAPIHandler.handleRequest(messageContext));
+
+        ArgumentCaptor<Object> cacheEntries = ArgumentCaptor.forClass(Object.class);
+        Mockito.verify(messageContext, Mockito.times(2))
+                .setProperty(Mockito.eq(APIMgtGatewayConstants.GRAPHQL_QUERY_CACHE_ENTRY), cacheEntries.capture());
+        Assert.assertSame(cacheEntries.getAllValues().get(0), cacheEntries.getAllValues().get(1));
+        Mockito.verify(axis2MessageContext, Mockito.times(2)).setProperty(HTTP_METHOD, "QUERY");
+    }
+
+    /**
+     * This method will test that a Graphql Query which fails validation is not served from the query cache.
+     */
+    @Test
+    public void testHandleRequestForRepeatedInvalidGraphQLQueries() {
+        Mediator failureSequence = Mockito.mock(Mediator.class);
+        Mockito.when(messageContext.getSequence(GraphQLConstants.GRAPHQL_API_FAILURE_HANDLER))
+                .thenReturn(failureSequence);
+        Mockito.when(messageContext.getProperty(APIConstants.GRAPHQL_SUBSCRIPTION_REQUEST)).thenReturn(false);
+        Mockito.when(axis2MessageContext.getProperty(HTTP_METHOD)).thenReturn("QUERY");
+        Mockito.when(omElement.getText()).thenReturn(("{allLifts{unknownField}}"));
+        GraphQLAPIHandler graphQLAPIHandler = new GraphQLAPIHandler();
+        graphQLAPIHandler.setApiUUID("12345");
+        Assert.assertFalse(graphQLAPIHandler.handleRequest(messageContext));
+        Assert.assertFalse(graphQLAPIHandler.handleRequest(messageContext));
+
+        ArgumentCaptor<Object> cacheEntries = ArgumentCaptor.forClass(Object.class);
+        Mockito.verify(messageContext, Mockito.times(2))
+                .setProperty(Mockito.eq(APIMgtGatewayConstants.GRAPHQL_QUERY_CACHE_ENTRY), cacheEntries.capture());
+        Assert.assertNotSame(cacheEntries.getAllValues().get(0), cacheEntries.getAllValues().get(1));
+        Mockito.verify(failureSequence, Mockito.times(2)).mediate(messageContext);
+    }
+
+    /**
+     * This method will test that an automatic persisted query is only marked for registration by this handler, and
+     * is resolved from its hash once registered.
+     */
+    @Test
+    public void testHandleRequestForPersistedQueries() throws Exception {
+        String query = "{allLifts{name}}";
+        String hash = DigestUtils.sha256Hex(query);
+        String extensions = URLEncoder.encode("{\"persistedQuery\":{\"version\":1,\"sha256Hash\":\"" + hash + "\"}}",
+                "UTF-8");
+        GraphQLPersistedQueryStore persistedQueryStore = new GraphQLPersistedQueryStore(10);
+        Mockito.when(dataHolder.getPersistedQueryStore("12345")).thenReturn(persistedQueryStore);
+        Mockito.when(messageContext.getProperty(APIConstants.GRAPHQL_SUBSCRIPTION_REQUEST)).thenReturn(false);
+        Mockito.when(axis2MessageContext.getProperty(HTTP_METHOD)).thenReturn("GET");
+        GraphQLAPIHandler graphQLAPIHandler = new GraphQLAPIHandler();
+        graphQLAPIHandler.setApiUUID("12345");
+
+        // Register the query sent along with its hash
+        String requestPath = "/?query=" + URLEncoder.encode(query, "UTF-8") + "&extensions=" + extensions;
+        Mockito.when(messageContext.getProperty(REST_SUB_REQUEST_PATH)).thenReturn(requestPath);
+        Assert.assertTrue(graphQLAPIHandler.handleRequest(messageContext));
+        Assert.assertNull(persistedQueryStore.get(hash));
+        Mockito.verify(messageContext).setProperty(APIMgtGatewayConstants.GRAPHQL_PERSISTED_QUERY_HASH, hash);
+        Mockito.verify(messageContext).setProperty(APIMgtGatewayConstants.GRAPHQL_PERSISTED_QUERY_STORE,
+                persistedQueryStore);
+        persistedQueryStore.register(hash, query);
+
+        // Resolve the query sent only as its hash and pass it to the backend
+        requestPath = "/?extensions=" + extensions;
+        Mockito.when(messageContext.getProperty(REST_SUB_REQUEST_PATH)).thenReturn(requestPath);
+        Mockito.when(axis2MessageContext.getProperty(NhttpConstants.REST_URL_POSTFIX)).thenReturn(requestPath);
+        Assert.assertTrue(graphQLAPIHandler.handleRequest(messageContext));
+        Mockito.verify(messageContext, Mockito.times(2)).setProperty(APIConstants.GRAPHQL_PAYLOAD, query);
+        Mockito.verify(axis2MessageContext).setProperty(NhttpConstants.REST_URL_POSTFIX,
+                requestPath + "&query=" + URLEncoder.encode(query, "UTF-8"));
+    }
 }
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.apimgt.gateway.handlers.graphQL;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit test cases related GraphQLPersistedQueryStore.
+ */
+public class GraphQLPersistedQueryStoreTest {
+
+    @Test
+    public void testRegisterAndGet() {
+
+        GraphQLPersistedQueryStore store = new GraphQLPersistedQueryStore(10);
+        String query = "{allLifts{name}}";
+        String hash = DigestUtils.sha256Hex(query);
+        Assert.assertNull(store.get(hash));
+        Assert.assertTrue(store.register(hash.toUpperCase(), query));
+        Assert.assertEquals(query, store.get(hash));
+    }
+
+    @Test
+    public void testRegisterWithMismatchingHash() {
+
+        GraphQLPersistedQueryStore store = new GraphQLPersistedQueryStore(10);
+        String hash = DigestUtils.sha256Hex("{allLifts{name}}");
+        Assert.assertFalse(store.register(hash, "{allLifts{name status}}"));
+        Assert.assertNull(store.get(hash));
+        Assert.assertEquals(0, store.size());
+    }
+
+    @Test
+    public void testStoreIsBounded() {
+
+        GraphQLPersistedQueryStore store = new GraphQLPersistedQueryStore(2);
+        for (int i = 0; i < 5; i++) {
+            String query = "{lift(id:" + i + "){name}}";
+            store.register(DigestUtils.sha256Hex(query), query);
+        }
+        Assert.assertEquals(2, store.size());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedQueryIsEvicted() {
+
+        GraphQLPersistedQueryStore store = new GraphQLPersistedQueryStore(2);
+        String[] queries = {"{allLifts{name}}", "{allTrails{name}}", "{lift(id:1){name}}"};
+        store.register(DigestUtils.sha256Hex(queries[0]), queries[0]);
+        store.register(DigestUtils.sha256Hex(queries[1]), queries[1]);
+        Assert.assertEquals(queries[0], store.get(DigestUtils.sha256Hex(queries[0])));
+        store.register(DigestUtils.sha256Hex(queries[2]), queries[2]);
+        Assert.assertEquals(queries[0], store.get(DigestUtils.sha256Hex(queries[0])));
+        Assert.assertNull(store.get(DigestUtils.sha256Hex(queries[1])));
+    }
+}
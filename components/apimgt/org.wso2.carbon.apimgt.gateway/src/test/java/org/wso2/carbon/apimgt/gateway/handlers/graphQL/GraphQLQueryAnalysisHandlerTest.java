@@ -17,10 +17,12 @@
  */
 package org.wso2.carbon.apimgt.gateway.handlers.graphQL;
 
+import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.synapse.core.axis2.Axis2MessageContext;
 import org.junit.Assert;
 import org.junit.Test;
 import org.mockito.Mockito;
+import org.wso2.carbon.apimgt.gateway.APIMgtGatewayConstants;
 import org.wso2.carbon.apimgt.impl.APIConstants;
 
 /**
@@ -46,4 +48,31 @@ public class GraphQLQueryAnalysisHandlerTest {
         Mockito.when(axis2MessageContext.getIncomingTransportName()).thenReturn("wss");
         Assert.assertTrue(graphQLQueryAnalysisHandler.handleRequest(messageContext));
     }
+
+    /**
+     * This method will test that an automatic persisted query marked by GraphQLAPIHandler is registered once the
+     * query has passed the analysis, and that nothing is registered for a request which was not marked.
+     */
+    @Test
+    public void testPersistedQueryIsRegisteredAfterAnalysis() {
+        String query = "{allLifts{name}}";
+        String hash = DigestUtils.sha256Hex(query);
+        GraphQLPersistedQueryStore persistedQueryStore = new GraphQLPersistedQueryStore(10);
+        Axis2MessageContext messageContext = Mockito.mock(Axis2MessageContext.class);
+        org.apache.axis2.context.MessageContext axis2MessageContext =
+                Mockito.mock(org.apache.axis2.context.MessageContext.class);
+        Mockito.when(messageContext.getAxis2MessageContext()).thenReturn(axis2MessageContext);
+        Mockito.when(axis2MessageContext.getIncomingTransportName()).thenReturn("https");
+        Mockito.when(messageContext.getProperty(APIConstants.GRAPHQL_PAYLOAD)).thenReturn(query);
+        GraphQLQueryAnalysisHandler graphQLQueryAnalysisHandler = new GraphQLQueryAnalysisHandler();
+
+        Assert.assertTrue(graphQLQueryAnalysisHandler.handleRequest(messageContext));
+        Assert.assertEquals(0, persistedQueryStore.size());
+
+        Mockito.when(messageContext.getProperty(APIMgtGatewayConstants.GRAPHQL_PERSISTED_QUERY_HASH)).thenReturn(hash);
+        Mockito.when(messageContext.getProperty(APIMgtGatewayConstants.GRAPHQL_PERSISTED_QUERY_STORE))
+                .thenReturn(persistedQueryStore);
+        Assert.assertTrue(graphQLQueryAnalysisHandler.handleRequest(messageContext));
+        Assert.assertEquals(query, persistedQueryStore.get(hash));
+    }
 }
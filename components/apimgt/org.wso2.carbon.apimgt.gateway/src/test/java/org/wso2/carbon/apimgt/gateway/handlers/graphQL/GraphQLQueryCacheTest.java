@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.apimgt.gateway.handlers.graphQL;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.wso2.carbon.apimgt.api.gateway.GraphQLSchemaDTO;
+import org.wso2.carbon.apimgt.common.gateway.dto.QueryAnalyzerResponseDTO;
+
+/**
+ * Unit test cases related GraphQLQueryCache.
+ */
+public class GraphQLQueryCacheTest {
+
+    @Test
+    public void testGetCachedEntry() {
+
+        GraphQLQueryCache cache = new GraphQLQueryCache(Mockito.mock(GraphQLSchemaDTO.class), 10);
+        GraphQLQueryCache.Entry entry = new GraphQLQueryCache.Entry(null, null, "QUERY", "allLifts", false);
+        cache.put("{allLifts{name}}", entry);
+        Assert.assertSame(entry, cache.get("{allLifts{name}}"));
+        Assert.assertNull(cache.get("{allLifts{name status}}"));
+    }
+
+    @Test
+    public void testCacheIsBoundedAndBoundToSchema() {
+
+        GraphQLSchemaDTO schemaDTO = Mockito.mock(GraphQLSchemaDTO.class);
+        GraphQLQueryCache cache = new GraphQLQueryCache(schemaDTO, 2);
+        for (int i = 0; i < 5; i++) {
+            cache.put("{lift(id:" + i + "){name}}", new GraphQLQueryCache.Entry(null, null, null, null, false));
+        }
+        Assert.assertEquals(2, cache.size());
+        Assert.assertTrue(cache.isForSchema(schemaDTO));
+        Assert.assertFalse(cache.isForSchema(Mockito.mock(GraphQLSchemaDTO.class)));
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEntryIsEvicted() {
+
+        GraphQLQueryCache cache = new GraphQLQueryCache(Mockito.mock(GraphQLSchemaDTO.class), 2);
+        GraphQLQueryCache.Entry allLifts = new GraphQLQueryCache.Entry(null, null, "QUERY", "allLifts", false);
+        cache.put("{allLifts{name}}", allLifts);
+        cache.put("{allTrails{name}}", new GraphQLQueryCache.Entry(null, null, "QUERY", "allTrails", false));
+        Assert.assertSame(allLifts, cache.get("{allLifts{name}}"));
+        cache.put("{lift(id:1){name}}", new GraphQLQueryCache.Entry(null, null, "QUERY", "Lift", false));
+        Assert.assertSame(allLifts, cache.get("{allLifts{name}}"));
+        Assert.assertNull(cache.get("{allTrails{name}}"));
+    }
+
+    @Test
+    public void testAnalysisResultsAreCachedPerLimit() {
+
+        GraphQLQueryCache.Entry entry = new GraphQLQueryCache.Entry(null, null, "QUERY", "allLifts", false);
+        QueryAnalyzerResponseDTO responseDTO = new QueryAnalyzerResponseDTO();
+        entry.putAnalysisResult("depth:5", responseDTO);
+        Assert.assertSame(responseDTO, entry.getAnalysisResult("depth:5"));
+        Assert.assertNull(entry.getAnalysisResult("depth:10"));
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.apimgt.gateway.handlers.security;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.wso2.carbon.apimgt.common.gateway.dto.JWTValidationInfo;
+import org.wso2.carbon.metrics.manager.Counter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class GatewayAuthCacheTest {
+
+    private static final String TENANT_DOMAIN = "carbon.super";
+
+    @Test
+    public void returnsEntryOnlyForOwningTenant() {
+        GatewayAuthCache cache = newCache(10, 60000);
+        JWTValidationInfo jwtValidationInfo = new JWTValidationInfo();
+        cache.put("jti-1", GatewayAuthCache.Entry.valid(TENANT_DOMAIN, jwtValidationInfo));
+        GatewayAuthCache.Entry entry = cache.get(TENANT_DOMAIN, "jti-1");
+        Assert.assertNotNull(entry);
+        Assert.assertTrue(entry.isValid());
+        Assert.assertSame(jwtValidationInfo, entry.getJwtValidationInfo());
+        Assert.assertNull(cache.get("abc.com", "jti-1"));
+        Assert.assertNull(cache.get(TENANT_DOMAIN, "jti-2"));
+    }
+
+    @Test
+    public void cachesInvalidTokens() {
+        GatewayAuthCache cache = newCache(10, 60000);
+        cache.put("jti-1", GatewayAuthCache.Entry.invalid(TENANT_DOMAIN));
+        GatewayAuthCache.Entry entry = cache.get(TENANT_DOMAIN, "jti-1");
+        Assert.assertNotNull(entry);
+        Assert.assertFalse(entry.isValid());
+        Assert.assertNull(entry.getJwtValidationInfo());
+    }
+
+    @Test
+    public void expiresEntries() throws InterruptedException {
+        GatewayAuthCache cache = newCache(10, 1);
+        cache.put("jti-1", GatewayAuthCache.Entry.invalid(TENANT_DOMAIN));
+        Thread.sleep(5);
+        Assert.assertNull(cache.get(TENANT_DOMAIN, "jti-1"));
+        Assert.assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void invalidatesEntries() {
+        GatewayAuthCache cache = newCache(10, 60000);
+        cache.put("jti-1", GatewayAuthCache.Entry.invalid(TENANT_DOMAIN));
+        cache.put("jti-2", GatewayAuthCache.Entry.invalid(TENANT_DOMAIN));
+        cache.invalidate("jti-1");
+        cache.invalidate(null);
+        Assert.assertNull(cache.get(TENANT_DOMAIN, "jti-1"));
+        Assert.assertNotNull(cache.get(TENANT_DOMAIN, "jti-2"));
+        cache.invalidateAll();
+        Assert.assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void evictsLeastFrequentlyUsedEntriesBeyondMaxSize() {
+        GatewayAuthCache cache = newCache(4, 60000);
+        cache.put("hot", GatewayAuthCache.Entry.invalid(TENANT_DOMAIN));
+        for (int i = 0; i < 10; i++) {
+            cache.get(TENANT_DOMAIN, "hot");
+        }
+        for (int i = 0; i < 20; i++) {
+            cache.put("jti-" + i, GatewayAuthCache.Entry.invalid(TENANT_DOMAIN));
+            Assert.assertTrue(cache.size() <= 4);
+            Assert.assertNotNull(cache.get(TENANT_DOMAIN, "hot"));
+        }
+        Assert.assertNotNull(cache.get(TENANT_DOMAIN, "hot"));
+    }
+
+    @Test
+    public void dropsExpiredEntriesWhenFull() throws InterruptedException {
+        GatewayAuthCache cache = newCache(4, 1);
+        for (int i = 0; i < 4; i++) {
+            cache.put("expired-" + i, GatewayAuthCache.Entry.invalid(TENANT_DOMAIN));
+        }
+        Thread.sleep(5);
+        cache.put("jti-1", GatewayAuthCache.Entry.invalid(TENANT_DOMAIN));
+        Assert.assertEquals(1, cache.size());
+        Assert.assertNotNull(cache.get(TENANT_DOMAIN, "jti-1"));
+    }
+
+    @Test
+    public void samplesEvictionCandidatesAcrossTheWholeCache() {
+        int maxSize = 1000;
+        GatewayAuthCache cache = newCache(maxSize, 60000);
+        Map<String, Boolean> iterationOrder = new ConcurrentHashMap<>();
+        for (int i = 0; i < maxSize; i++) {
+            cache.put("jti-" + i, GatewayAuthCache.Entry.invalid(TENANT_DOMAIN));
+            iterationOrder.put("jti-" + i, Boolean.TRUE);
+        }
+        for (int i = 0; i < maxSize / 2; i++) {
+            cache.put("new-jti-" + i, GatewayAuthCache.Entry.invalid(TENANT_DOMAIN));
+        }
+        Assert.assertEquals(maxSize, cache.size());
+        // Sampling from the head of the map would evict the entries that come first in its iteration order
+        List<String> firstEntries = new ArrayList<>(iterationOrder.keySet()).subList(0, maxSize / 4);
+        int survivors = 0;
+        for (String tokenIdentifier : firstEntries) {
+            if (cache.get(TENANT_DOMAIN, tokenIdentifier) != null) {
+                survivors++;
+            }
+        }
+        Assert.assertTrue("Only " + survivors + " of the first entries survived", survivors > maxSize / 16);
+    }
+
+    @Test
+    public void updatesBackendJWTWithoutChangingValidationResult() {
+        GatewayAuthCache cache = newCache(10, 60000);
+        JWTValidationInfo jwtValidationInfo = new JWTValidationInfo();
+        GatewayAuthCache.Entry entry = GatewayAuthCache.Entry.valid(TENANT_DOMAIN, jwtValidationInfo);
+        cache.put("jti-1", entry);
+        cache.update("jti-1", entry.withBackendJWT("/api1:1.0", "backend-jwt"));
+        cache.update("jti-2", entry.withBackendJWT("/api1:1.0", "backend-jwt"));
+        GatewayAuthCache.Entry updated = cache.get(TENANT_DOMAIN, "jti-1");
+        Assert.assertEquals("backend-jwt", updated.getBackendJWT("/api1:1.0"));
+        Assert.assertNull(updated.getBackendJWT("/api2:1.0"));
+        Assert.assertSame(jwtValidationInfo, updated.getJwtValidationInfo());
+        Assert.assertNull(entry.getBackendJWT("/api1:1.0"));
+        Assert.assertNull(cache.get(TENANT_DOMAIN, "jti-2"));
+    }
+
+    private GatewayAuthCache newCache(int maxSize, long timeToLiveMillis) {
+        return new GatewayAuthCache(maxSize, timeToLiveMillis) {
+            @Override
+            protected Counter getCounter(String metric) {
+                return Mockito.mock(Counter.class);
+            }
+        };
+    }
+}
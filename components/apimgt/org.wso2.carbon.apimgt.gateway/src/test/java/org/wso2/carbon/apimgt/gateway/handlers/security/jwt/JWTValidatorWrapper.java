@@ -1,12 +1,15 @@
 package org.wso2.carbon.apimgt.gateway.handlers.security.jwt;
 
+import org.mockito.Mockito;
 import org.wso2.carbon.apimgt.api.APIManagementException;
 import org.wso2.carbon.apimgt.gateway.handlers.security.APIKeyValidator;
+import org.wso2.carbon.apimgt.gateway.handlers.security.GatewayAuthCache;
 import org.wso2.carbon.apimgt.common.gateway.jwtgenerator.AbstractAPIMgtGatewayJWTGenerator;
 import org.wso2.carbon.apimgt.impl.APIManagerConfiguration;
 import org.wso2.carbon.apimgt.common.gateway.dto.JWTConfigurationDto;
 import org.wso2.carbon.apimgt.impl.dto.ExtendedJWTConfigurationDto;
 import org.wso2.carbon.apimgt.impl.jwt.JWTValidationService;
+import org.wso2.carbon.metrics.manager.Counter;
 
 import javax.cache.Cache;
 
@@ -16,6 +19,20 @@ public class JWTValidatorWrapper extends JWTValidator {
     private Cache invalidTokenCache;
     private Cache gatewayKeyCache;
     private Cache gatewayJWTTokenCache;
+    // Always misses, so that the tests exercise the gateway caches behind the node local auth cache
+    private GatewayAuthCache gatewayAuthCache = new GatewayAuthCache(100, 60000) {
+        @Override
+        public Entry get(String tenantDomain, String tokenIdentifier) {
+
+            return null;
+        }
+
+        @Override
+        protected Counter getCounter(String metric) {
+
+            return Mockito.mock(Counter.class);
+        }
+    };
     private APIManagerConfiguration apiManagerConfiguration;
     public JWTValidatorWrapper(APIKeyValidator apiKeyValidator) throws APIManagementException {
         super(apiKeyValidator, "carbon.super");
@@ -60,6 +77,12 @@ public class JWTValidatorWrapper extends JWTValidator {
         return gatewayJWTTokenCache;
     }
 
+    @Override
+    protected GatewayAuthCache getGatewayAuthCache() {
+
+        return gatewayAuthCache;
+    }
+
     public void setApiManagerConfiguration(APIManagerConfiguration apiManagerConfiguration) {
 
         this.apiManagerConfiguration = apiManagerConfiguration;
@@ -23,6 +23,7 @@ import org.apache.synapse.core.axis2.Axis2MessageContext;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.Mockito;
 import org.wso2.carbon.apimgt.api.dto.ConditionDTO;
 import org.wso2.carbon.apimgt.api.dto.ConditionGroupDTO;
 import org.wso2.carbon.apimgt.gateway.TestUtils;
@@ -346,6 +347,32 @@ public class ThrottleConditionEvaluatorTest {
         Assert.assertNull(matchingConditionGroups.get(0));
     }
 
+    @Test
+    public void testJWTClaimsConditionIsNotEvaluatedWhenIPConditionDoesNotMatch() {
+
+        ConditionGroupDTO conditionGroupDTO = new ConditionGroupDTO();
+        conditionGroupDTO.setConditionGroupId("JWTClaimsAndIPConditionGroup");
+        ConditionDTO jwtClaimsCondition = new ConditionDTO();
+        jwtClaimsCondition.setConditionType("JWTClaims");
+        jwtClaimsCondition.setConditionName("http://wso2.org/claims/subscriber");
+        jwtClaimsCondition.setConditionValue("admin");
+        ConditionDTO nonMatchingIPCondition = new ConditionDTO();
+        nonMatchingIPCondition.setConditionType("IPSpecific");
+        nonMatchingIPCondition.setConditionValue("10.0.0.1");
+
+        ConditionDTO[] conditionDTOS = {jwtClaimsCondition, nonMatchingIPCondition};
+        conditionGroupDTO.setConditions(conditionDTOS);
+        ConditionGroupDTO[] conditionGroupDTOS = {conditionGroupDTO};
+
+        AuthenticationContext authenticationContext = Mockito.spy(new AuthenticationContext());
+        authenticationContext.setCallerToken(JWTToken);
+
+        List<ConditionGroupDTO> matchingConditionGroups = throttleConditionEvaluator.getApplicableConditions(TestUtils
+                .getMessageContext(apiContext, apiVersion), authenticationContext, conditionGroupDTOS);
+        Assert.assertNull(matchingConditionGroups.get(0));
+        Mockito.verify(authenticationContext, Mockito.never()).getCallerToken();
+    }
+
     @Test
     public void testApplicabilityOfMatchingHeaderCondition() {
 
@@ -20,6 +20,7 @@ package org.wso2.carbon.apimgt.gateway.listeners;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 import org.mockito.Mockito;
@@ -40,6 +41,7 @@ import org.wso2.carbon.apimgt.impl.dto.EventHubConfigurationDto;
 import org.wso2.carbon.apimgt.gateway.internal.ServiceReferenceHolder;
 import org.wso2.carbon.apimgt.impl.dto.GatewayArtifactSynchronizerProperties;
 import org.wso2.carbon.apimgt.impl.gatewayartifactsynchronizer.ArtifactRetriever;
+import org.wso2.carbon.metrics.manager.Timer;
 
 /*
  * Unit test cases related GatewayJMSMessageListener
@@ -50,6 +52,7 @@ public class GatewayJMSMessageListenerTest {
 
     private GatewayJMSMessageListener gatewayJMSMessageListener;
     private ServiceReferenceHolder serviceReferenceHolder;
+    private Timer timer;
 
     @Before
     public void setup() {
@@ -66,7 +69,14 @@ public class GatewayJMSMessageListenerTest {
                 .thenReturn(gatewayArtifactSynchronizerProperties);
         EventHubConfigurationDto eventHubConfigurationDto = Mockito.mock(EventHubConfigurationDto.class);
         Mockito.when(apiManagerConfiguration.getEventHubConfigurationDto()).thenReturn(eventHubConfigurationDto);
-        gatewayJMSMessageListener = new GatewayJMSMessageListener();
+        timer = Mockito.mock(Timer.class);
+        Mockito.when(timer.start()).thenReturn(Mockito.mock(Timer.Context.class));
+        gatewayJMSMessageListener = new GatewayJMSMessageListener() {
+            @Override
+            protected Timer getTimer(String name) {
+                return timer;
+            }
+        };
     }
 
     @Test
@@ -88,6 +98,46 @@ public class GatewayJMSMessageListenerTest {
         PowerMockito.when(serviceReferenceHolder.getKeyManagerDataService()).thenReturn(keyManagerDataService);
         gatewayJMSMessageListener.onMessage(textMessage);
         assertTrue(keyManagerDataService.isSubscriptionPolicyUpdated());
+        Mockito.verify(timer).start();
+    }
+
+    @Test
+    public void testUnsupportedEventTypeIsIgnored() throws JMSException {
+        String messageBody = "{\"event\":{\"payloadData\":{\"eventType\":\"UNKNOWN_EVENT\"," +
+                "\"timestamp\":1670477868131,\"event\":\"e30=\"}}}\n";
+        TextMessage textMessage = Mockito.mock(JMSTextMessage.class);
+        Topic topic = Mockito.mock(AMQTopic.class);
+        Mockito.when(textMessage.getJMSDestination()).thenReturn(topic);
+        Mockito.when(textMessage.getText()).thenReturn(messageBody);
+        Mockito.when(topic.getTopicName()).thenReturn(APIConstants.TopicNames.TOPIC_NOTIFICATION);
+        KeyManagerDataServiceImplWrapper keyManagerDataService = new KeyManagerDataServiceImplWrapper();
+        PowerMockito.when(serviceReferenceHolder.getKeyManagerDataService()).thenReturn(keyManagerDataService);
+        gatewayJMSMessageListener.onMessage(textMessage);
+        assertFalse(keyManagerDataService.isSubscriptionPolicyUpdated());
+        Mockito.verify(timer, Mockito.never()).start();
+    }
+
+    @Test
+    public void testSubscriptionPolicyUpdateInNotificationBatch() throws JMSException {
+        String messageBody = "{\"event\":{\"payloadData\":{\"eventType\":\"NOTIFICATION_BATCH\"," +
+                "\"timestamp\":1670477868200,\"event\":\"" +
+                "W3siZXZlbnRUeXBlIjoiUE9MSUNZX1VQREFURSIsInRpbWVzdGFtcCI6MTY3MDQ3Nzg2ODEzMSwiZXZlbnQiOiJ7" +
+                "XCJwb2xpY3lJZFwiOjUsXCJwb2xpY3lOYW1lXCI6XCJVbmxpbWl0ZWRcIixcInF1b3RhVHlwZVwiOlwicmVxdWVz" +
+                "dENvdW50XCIsXCJzdWJzY3JpYmVyQ291bnRcIjowLFwicmF0ZUxpbWl0Q291bnRcIjowLFwicmF0ZUxpbWl0VGlt" +
+                "ZVVuaXRcIjpcInNlY1wiLFwic3RvcE9uUXVvdGFSZWFjaFwiOnRydWUsXCJncmFwaFFMTWF4RGVwdGhcIjowLFwi" +
+                "Z3JhcGhRTE1heENvbXBsZXhpdHlcIjowLFwicG9saWN5VHlwZVwiOlwiU1VCU0NSSVBUSU9OXCIsXCJldmVudElk" +
+                "XCI6XCI4NTZjZGMzZC04NDg1LTRjMjAtODZhNC03Mzg1MGQ2NzFlMDZcIixcInRpbWVTdGFtcFwiOjE2NzA0Nzc4" +
+                "NjgxMzEsXCJ0eXBlXCI6XCJQT0xJQ1lfVVBEQVRFXCIsXCJ0ZW5hbnRJZFwiOi0xMjM0LFwidGVuYW50RG9tYWlu" +
+                "XCI6XCJjYXJib24uc3VwZXJcIn0ifV0=\"}}}\n";
+        TextMessage textMessage = Mockito.mock(JMSTextMessage.class);
+        Topic topic = Mockito.mock(AMQTopic.class);
+        Mockito.when(textMessage.getJMSDestination()).thenReturn(topic);
+        Mockito.when(textMessage.getText()).thenReturn(messageBody);
+        Mockito.when(topic.getTopicName()).thenReturn(APIConstants.TopicNames.TOPIC_NOTIFICATION);
+        KeyManagerDataServiceImplWrapper keyManagerDataService = new KeyManagerDataServiceImplWrapper();
+        PowerMockito.when(serviceReferenceHolder.getKeyManagerDataService()).thenReturn(keyManagerDataService);
+        gatewayJMSMessageListener.onMessage(textMessage);
+        assertTrue(keyManagerDataService.isSubscriptionPolicyUpdated());
     }
 
 }
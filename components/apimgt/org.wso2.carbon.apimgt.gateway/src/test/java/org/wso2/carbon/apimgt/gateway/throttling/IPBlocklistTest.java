@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.apimgt.gateway.throttling;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.wso2.carbon.apimgt.gateway.dto.IPRange;
+import org.wso2.carbon.apimgt.impl.APIConstants;
+
+import java.math.BigInteger;
+import java.net.InetAddress;
+import java.util.Arrays;
+import java.util.Collections;
+
+public class IPBlocklistTest {
+
+    @Test
+    public void testFixedIpConditions() throws Exception {
+
+        IPBlocklist ipBlocklist = IPBlocklist.compile(Arrays.asList(fixedIp(1, "10.0.0.1", false),
+                fixedIp(2, "10.0.0.2", false)));
+        Assert.assertTrue(ipBlocklist.isBlocked("10.0.0.1"));
+        Assert.assertTrue(ipBlocklist.isBlocked("10.0.0.2"));
+        Assert.assertFalse(ipBlocklist.isBlocked("10.0.0.3"));
+    }
+
+    @Test
+    public void testInvertedFixedIpConditions() throws Exception {
+
+        IPBlocklist ipBlocklist = IPBlocklist.compile(Collections.singletonList(fixedIp(1, "10.0.0.1", true)));
+        Assert.assertFalse(ipBlocklist.isBlocked("10.0.0.1"));
+        Assert.assertTrue(ipBlocklist.isBlocked("10.0.0.2"));
+
+        ipBlocklist = IPBlocklist.compile(Arrays.asList(fixedIp(1, "10.0.0.1", true), fixedIp(2, "10.0.0.2", true)));
+        Assert.assertTrue(ipBlocklist.isBlocked("10.0.0.1"));
+        Assert.assertTrue(ipBlocklist.isBlocked("10.0.0.2"));
+    }
+
+    @Test
+    public void testRangeConditionsExcludeBounds() throws Exception {
+
+        IPBlocklist ipBlocklist = IPBlocklist.compile(Collections.singletonList(
+                ipRange(1, "192.168.1.10", "192.168.1.20", false)));
+        Assert.assertFalse(ipBlocklist.isBlocked("192.168.1.10"));
+        Assert.assertTrue(ipBlocklist.isBlocked("192.168.1.11"));
+        Assert.assertTrue(ipBlocklist.isBlocked("192.168.1.19"));
+        Assert.assertFalse(ipBlocklist.isBlocked("192.168.1.20"));
+        Assert.assertFalse(ipBlocklist.isBlocked("192.168.2.15"));
+    }
+
+    @Test
+    public void testOverlappingAndDisjointRanges() throws Exception {
+
+        IPBlocklist ipBlocklist = IPBlocklist.compile(Arrays.asList(
+                ipRange(1, "10.0.0.50", "10.0.0.100", false),
+                ipRange(2, "10.0.0.0", "10.0.0.60", false),
+                ipRange(3, "10.0.1.0", "10.0.2.0", false),
+                ipRange(4, "10.0.0.10", "10.0.0.20", false)));
+        Assert.assertFalse(ipBlocklist.isBlocked("10.0.0.0"));
+        Assert.assertTrue(ipBlocklist.isBlocked("10.0.0.1"));
+        Assert.assertTrue(ipBlocklist.isBlocked("10.0.0.55"));
+        Assert.assertTrue(ipBlocklist.isBlocked("10.0.0.99"));
+        Assert.assertFalse(ipBlocklist.isBlocked("10.0.0.100"));
+        Assert.assertFalse(ipBlocklist.isBlocked("10.0.0.200"));
+        Assert.assertTrue(ipBlocklist.isBlocked("10.0.1.128"));
+        Assert.assertFalse(ipBlocklist.isBlocked("10.0.3.1"));
+    }
+
+    @Test
+    public void testInvertedRangeConditions() throws Exception {
+
+        IPBlocklist ipBlocklist = IPBlocklist.compile(Arrays.asList(
+                ipRange(1, "10.0.0.0", "10.0.0.100", true),
+                ipRange(2, "10.0.0.50", "10.0.0.200", true)));
+        Assert.assertTrue(ipBlocklist.isBlocked("10.0.0.10"));
+        Assert.assertFalse(ipBlocklist.isBlocked("10.0.0.75"));
+        Assert.assertTrue(ipBlocklist.isBlocked("10.0.0.150"));
+        Assert.assertTrue(ipBlocklist.isBlocked("172.16.0.1"));
+    }
+
+    @Test
+    public void testIPv6Ranges() throws Exception {
+
+        IPBlocklist ipBlocklist = IPBlocklist.compile(Collections.singletonList(
+                ipRange(1, "2001:db8::", "2001:db8::ffff", false)));
+        Assert.assertTrue(ipBlocklist.isBlocked("2001:db8::1"));
+        Assert.assertFalse(ipBlocklist.isBlocked("2001:db9::1"));
+        Assert.assertFalse(ipBlocklist.isBlocked("10.0.0.1"));
+    }
+
+    @Test
+    public void testParseIPv4() {
+
+        Assert.assertEquals(0L, IPBlocklist.parseIPv4("0.0.0.0"));
+        Assert.assertEquals(0xFFFFFFFFL, IPBlocklist.parseIPv4("255.255.255.255"));
+        Assert.assertEquals(0xC0A8010AL, IPBlocklist.parseIPv4("192.168.1.10"));
+        Assert.assertEquals(-1L, IPBlocklist.parseIPv4("256.1.1.1"));
+        Assert.assertEquals(-1L, IPBlocklist.parseIPv4("1.2.3"));
+        Assert.assertEquals(-1L, IPBlocklist.parseIPv4("1.2.3.4.5"));
+        Assert.assertEquals(-1L, IPBlocklist.parseIPv4("01.2.3.4"));
+        Assert.assertEquals(-1L, IPBlocklist.parseIPv4("::1"));
+    }
+
+    private static IPRange fixedIp(int id, String ip, boolean invert) {
+
+        IPRange ipRange = new IPRange();
+        ipRange.setId(id);
+        ipRange.setType(APIConstants.BLOCKING_CONDITIONS_IP);
+        ipRange.setFixedIp(ip);
+        ipRange.setInvert(invert);
+        return ipRange;
+    }
+
+    private static IPRange ipRange(int id, String startingIp, String endingIp, boolean invert) throws Exception {
+
+        IPRange ipRange = new IPRange();
+        ipRange.setId(id);
+        ipRange.setType(APIConstants.BLOCK_CONDITION_IP_RANGE);
+        ipRange.setStartingIP(startingIp);
+        ipRange.setStartingIpBigIntValue(new BigInteger(1, InetAddress.getByName(startingIp).getAddress()));
+        ipRange.setEndingIp(endingIp);
+        ipRange.setEndingIpBigIntValue(new BigInteger(1, InetAddress.getByName(endingIp).getAddress()));
+        ipRange.setInvert(invert);
+        return ipRange;
+    }
+}
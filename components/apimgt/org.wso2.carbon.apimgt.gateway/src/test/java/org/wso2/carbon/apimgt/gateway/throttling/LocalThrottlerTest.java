@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.apimgt.gateway.throttling;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class LocalThrottlerTest {
+
+    private static final String KEY = "carbon.super:/pizzashack/1.0.0:admin:Gold";
+
+    @Test
+    public void throttlesAfterLocalShareIsConsumed() {
+        LocalThrottler localThrottler = new LocalThrottler(2);
+        long now = 1000000L;
+        for (int i = 0; i < 5; i++) {
+            Assert.assertFalse(localThrottler.isThrottled(KEY, 10, 60000, now));
+        }
+        Assert.assertTrue(localThrottler.isThrottled(KEY, 10, 60000, now));
+        Assert.assertFalse(localThrottler.isThrottled("another-key", 10, 60000, now));
+    }
+
+    @Test
+    public void refillsWhenTheWindowEnds() {
+        LocalThrottler localThrottler = new LocalThrottler(1);
+        long now = 1000000L;
+        for (int i = 0; i < 6; i++) {
+            localThrottler.isThrottled(KEY, 6, 60000, now);
+        }
+        Assert.assertTrue(localThrottler.isThrottled(KEY, 6, 60000, now));
+        // Nothing is refilled within the window, so a key never gets more than its quota in a window
+        Assert.assertTrue(localThrottler.isThrottled(KEY, 6, 60000, now + 30000));
+        Assert.assertTrue(localThrottler.isThrottled(KEY, 6, 60000, now + 59999));
+        for (int i = 0; i < 6; i++) {
+            Assert.assertFalse(localThrottler.isThrottled(KEY, 6, 60000, now + 60000));
+        }
+        Assert.assertTrue(localThrottler.isThrottled(KEY, 6, 60000, now + 60000));
+    }
+
+    @Test
+    public void doesNotTrackUnlimitedQuotas() {
+        LocalThrottler localThrottler = new LocalThrottler(1);
+        long now = 1000000L;
+        Assert.assertFalse(localThrottler.isThrottled(KEY, Integer.MAX_VALUE, 60000, now));
+        Assert.assertFalse(localThrottler.isThrottled(KEY, Long.MAX_VALUE, 60000, now));
+        Assert.assertEquals(0, localThrottler.size());
+    }
+
+    @Test
+    public void resetsBucketWhenLimitChanges() {
+        LocalThrottler localThrottler = new LocalThrottler(1);
+        long now = 1000000L;
+        Assert.assertFalse(localThrottler.isThrottled(KEY, 1, 60000, now));
+        Assert.assertTrue(localThrottler.isThrottled(KEY, 1, 60000, now));
+        Assert.assertFalse(localThrottler.isThrottled(KEY, 2, 60000, now));
+    }
+
+    @Test
+    public void ignoresUnknownLimits() {
+        LocalThrottler localThrottler = new LocalThrottler(0);
+        Assert.assertFalse(localThrottler.isThrottled(KEY, 0, 60000));
+        Assert.assertFalse(localThrottler.isThrottled(KEY, 10, 0));
+        Assert.assertEquals(0, localThrottler.size());
+    }
+
+    @Test
+    public void sweepRemovesOnlyBucketsOfEndedWindows() {
+        LocalThrottler localThrottler = new LocalThrottler(1);
+        long now = 1000000L;
+        localThrottler.isThrottled(KEY, 6, 60000, now);
+        localThrottler.isThrottled("idle-key", 6, 60000, now - 60000);
+        localThrottler.sweep(now);
+        Assert.assertEquals(1, localThrottler.size());
+    }
+
+    @Test
+    public void newKeysAreNotTrackedOnceBucketLimitIsReached() {
+        LocalThrottler localThrottler = new LocalThrottler(1, 2);
+        long now = 1000000L;
+        Assert.assertFalse(localThrottler.isThrottled("key-1", 1, 60000, now));
+        Assert.assertFalse(localThrottler.isThrottled("key-2", 1, 60000, now));
+        Assert.assertFalse(localThrottler.isThrottled("key-3", 1, 60000, now));
+        Assert.assertFalse(localThrottler.isThrottled("key-3", 1, 60000, now));
+        Assert.assertEquals(2, localThrottler.size());
+        Assert.assertTrue(localThrottler.isThrottled("key-1", 1, 60000, now));
+
+        localThrottler.sweep(now + 60000);
+        Assert.assertEquals(0, localThrottler.size());
+        Assert.assertFalse(localThrottler.isThrottled("key-3", 1, 60000, now + 60000));
+        Assert.assertTrue(localThrottler.isThrottled("key-3", 1, 60000, now + 60000));
+    }
+
+    @Test
+    public void throttleDataHolderFallsBackToLocalDecision() {
+        ThrottleDataHolder throttleDataHolder = ThrottleDataHolder.getInstance();
+        Assert.assertFalse(throttleDataHolder.isLocallyThrottled(KEY, 1, 60000));
+        throttleDataHolder.setLocalThrottler(new LocalThrottler(1));
+        try {
+            Assert.assertFalse(throttleDataHolder.isLocallyThrottled(KEY, 1, 60000));
+            Assert.assertTrue(throttleDataHolder.isLocallyThrottled(KEY, 1, 60000));
+            Assert.assertTrue(throttleDataHolder.getThrottleNextAccessTimestamp(KEY) > System.currentTimeMillis());
+        } finally {
+            throttleDataHolder.setLocalThrottler(null);
+        }
+    }
+}
@@ -18,6 +18,7 @@
 
 package org.wso2.carbon.apimgt.gateway.throttling;
 
+import org.junit.Assert;
 import org.junit.Test;
 
 import java.util.HashMap;
@@ -56,6 +57,23 @@ public class ThrottleDataHolderTest {
         throttleDataHolder.setKeyTemplatesPresent(true);
     }
 
+    @Test
+    public void blockingConditionSnapshot() throws Exception {
+        ThrottleDataHolder throttleDataHolder = ThrottleDataHolder.getInstance();
+        BlockingConditionSnapshot snapshot = throttleDataHolder.getBlockingConditionSnapshot();
+        throttleDataHolder.addAPIBlockingCondition("/snapshot/1.0.0", "enabled");
+        Assert.assertFalse(snapshot.isRequestBlocked("/snapshot/1.0.0", null, null, null, null, null));
+        Assert.assertTrue(throttleDataHolder.isRequestBlocked("/snapshot/1.0.0", null, null, null, null, null));
+        throttleDataHolder.addIpBlockingCondition("snapshot.com", 1, "{\"fixedIp\":\"10.0.0.1\",\"invert\":false}",
+                "IP");
+        Assert.assertTrue(throttleDataHolder.isRequestBlocked(null, null, null, "10.0.0.1", "snapshot.com", null));
+        Assert.assertFalse(throttleDataHolder.isRequestBlocked(null, null, null, "10.0.0.1", "carbon.super", null));
+        throttleDataHolder.removeAPIBlockingCondition("/snapshot/1.0.0");
+        throttleDataHolder.removeIpBlockingCondition("snapshot.com", 1);
+        Assert.assertFalse(throttleDataHolder.isRequestBlocked("/snapshot/1.0.0", null, null, "10.0.0.1",
+                "snapshot.com", null));
+    }
+
     @Test
     public void addApplicationBlockingCondition() throws Exception {
     }
@@ -24,7 +24,9 @@ import org.apache.synapse.MessageContext;
 import org.apache.synapse.core.axis2.Axis2MessageContext;
 import org.apache.synapse.rest.RESTConstants;
 import org.apache.synapse.transport.nhttp.NhttpConstants;
+import org.junit.Assert;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.wso2.carbon.apimgt.gateway.APIMgtGatewayConstants;
@@ -416,6 +418,56 @@ public class DataProcessAndPublishingAgentTest {
         dataProcessAndPublishingAgent.run();
     }
 
+    @Test
+    public void testEventIsBuiltFromDataCapturedOnRequestThread() throws Exception {
+        ThrottleProperties throttleProperties = new ThrottleProperties();
+        throttleProperties.setEnableQueryParamConditions(true);
+        DataPublisher dataPublisher = Mockito.mock(DataPublisher.class);
+        Mockito.when(dataPublisher.tryPublish(Mockito.any(Event.class))).thenReturn(true);
+        DataProcessAndPublishingAgent dataProcessAndPublishingAgent = new DataProcessAndPublishingAgentWrapper
+                (throttleProperties) {
+            @Override
+            protected DataPublisher getDataPublisher() {
+                return dataPublisher;
+            }
+        };
+        AuthenticationContext authenticationContext = new AuthenticationContext();
+        MessageContext messageContext = Mockito.mock(Axis2MessageContext.class);
+        org.apache.axis2.context.MessageContext axis2MsgCntxt = Mockito.mock(org.apache.axis2.context.MessageContext
+                .class);
+        Mockito.when(((Axis2MessageContext) messageContext).getAxis2MessageContext()).thenReturn(axis2MsgCntxt);
+        Mockito.when(messageContext.getMessageID()).thenReturn("request-1");
+        Mockito.when(axis2MsgCntxt.getProperty(NhttpConstants.REST_URL_POSTFIX)).thenReturn("?a=1");
+        Mockito.when(axis2MsgCntxt.getProperty(org.apache.axis2.context.MessageContext.TRANSPORT_HEADERS))
+                .thenReturn(new TreeMap<>());
+        API api = new API();
+        api.setApiName(apiName);
+        api.setApiVersion(apiVersion);
+        Mockito.when(messageContext.getProperty(APIMgtGatewayConstants.API_OBJECT)).thenReturn(api);
+        dataProcessAndPublishingAgent.setDataReference(applicationLevelThrottleKey, applicationLevelTier,
+                apiLevelThrottleKey, apiLevelTier, subscriptionLevelThrottleKey, subscriptionLevelTier,
+                resourceLevelThrottleKey, resourceLevelTier, authorizedUser, apiContext, apiVersion, appTenant,
+                apiTenant, appId, messageContext, authenticationContext);
+        // The request thread reuses the message context once the slot is handed over to the publisher thread
+        Mockito.reset(messageContext, axis2MsgCntxt);
+
+        Assert.assertTrue(dataProcessAndPublishingAgent.publish(new ThrottleEventPropertiesWriter()));
+        ArgumentCaptor<Event> eventCaptor = ArgumentCaptor.forClass(Event.class);
+        Mockito.verify(dataPublisher).tryPublish(eventCaptor.capture());
+        Object[] payload = eventCaptor.getValue().getPayloadData();
+        Assert.assertEquals("request-1", payload[0]);
+        Assert.assertEquals(apiLevelTier, payload[4]);
+        Assert.assertEquals("{\"a\":\"1\"}", payload[16]);
+        Mockito.verifyZeroInteractions(messageContext, axis2MsgCntxt);
+
+        dataProcessAndPublishingAgent.clearDataReference();
+        Assert.assertFalse(dataProcessAndPublishingAgent.hasDataReference());
+        Assert.assertNull(dataProcessAndPublishingAgent.apiLevelTier);
+        Assert.assertNull(dataProcessAndPublishingAgent.applicationLevelTier);
+        Assert.assertNull(dataProcessAndPublishingAgent.messageId);
+        Assert.assertNull(dataProcessAndPublishingAgent.queryString);
+    }
+
     @Test
     public void testXForwardedForHeaderIPV6() throws Exception {
         ThrottleProperties throttleProperties = new ThrottleProperties();
@@ -0,0 +1,247 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.apimgt.gateway.throttling.publisher;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.wso2.carbon.apimgt.impl.dto.ThrottleProperties;
+import org.wso2.carbon.metrics.manager.Counter;
+import org.wso2.carbon.metrics.manager.Timer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ThrottleEventBatchPublisherTest {
+
+    private AtomicInteger publishedEvents;
+    private Counter counter;
+    private Counter queueDepthCounter;
+    private Timer timer;
+    private ThrottleProperties.DataPublisherEventBuffer eventBufferConfiguration;
+
+    @Before
+    public void setup() {
+
+        publishedEvents = new AtomicInteger();
+        counter = Mockito.mock(Counter.class);
+        queueDepthCounter = Mockito.mock(Counter.class);
+        timer = Mockito.mock(Timer.class);
+        Mockito.when(timer.start()).thenReturn(Mockito.mock(Timer.Context.class));
+        eventBufferConfiguration = new ThrottleProperties.DataPublisherEventBuffer();
+        eventBufferConfiguration.setSize(4);
+        eventBufferConfiguration.setBatchSize(3);
+        eventBufferConfiguration.setFlushInterval(10);
+        eventBufferConfiguration.setPublisherThreads(1);
+    }
+
+    @Test
+    public void testEventsAreDroppedWhenRingBufferIsFull() {
+
+        ThrottleEventBatchPublisher batchPublisher = new BatchPublisherWrapper();
+        for (int i = 0; i < 4; i++) {
+            DataProcessAndPublishingAgent slot = batchPublisher.claim();
+            Assert.assertNotNull(slot);
+            batchPublisher.publish(slot);
+        }
+        Assert.assertNull(batchPublisher.claim());
+        Mockito.verify(counter, Mockito.times(1)).inc();
+    }
+
+    @Test
+    public void testPublisherThreadPublishesAndReleasesSlots() throws Exception {
+
+        ThrottleEventBatchPublisher batchPublisher = new BatchPublisherWrapper();
+        batchPublisher.start();
+        try {
+            for (int i = 0; i < 20; i++) {
+                DataProcessAndPublishingAgent slot = batchPublisher.claim();
+                while (slot == null) {
+                    Thread.sleep(1);
+                    slot = batchPublisher.claim();
+                }
+                batchPublisher.publish(slot);
+            }
+            long deadline = System.currentTimeMillis() + 5000;
+            while (publishedEvents.get() < 20 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            Assert.assertEquals(20, publishedEvents.get());
+        } finally {
+            batchPublisher.shutdown();
+        }
+    }
+
+    @Test
+    public void testBatchIsFlushedOnBatchSizeOrFlushInterval() throws Exception {
+
+        eventBufferConfiguration.setSize(8);
+        eventBufferConfiguration.setFlushInterval(500);
+        ThrottleEventBatchPublisher batchPublisher = new BatchPublisherWrapper();
+        batchPublisher.start();
+        try {
+            for (int i = 0; i < 2; i++) {
+                batchPublisher.publish(batchPublisher.claim());
+            }
+            Thread.sleep(100);
+            Assert.assertEquals(0, publishedEvents.get());
+            batchPublisher.publish(batchPublisher.claim());
+            long deadline = System.currentTimeMillis() + 400;
+            while (publishedEvents.get() < 3 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(5);
+            }
+            Assert.assertEquals(3, publishedEvents.get());
+
+            long publishedAt = System.currentTimeMillis();
+            batchPublisher.publish(batchPublisher.claim());
+            deadline = publishedAt + 5000;
+            while (publishedEvents.get() < 4 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(5);
+            }
+            Assert.assertEquals(4, publishedEvents.get());
+            Assert.assertTrue(System.currentTimeMillis() - publishedAt >= 450);
+        } finally {
+            batchPublisher.shutdown();
+        }
+    }
+
+    @Test
+    public void testShutdownPublishesPendingEvents() throws Exception {
+
+        eventBufferConfiguration.setFlushInterval(60000);
+        ThrottleEventBatchPublisher batchPublisher = new BatchPublisherWrapper();
+        batchPublisher.start();
+        for (int i = 0; i < 2; i++) {
+            batchPublisher.publish(batchPublisher.claim());
+        }
+        batchPublisher.shutdown();
+        Assert.assertEquals(2, publishedEvents.get());
+    }
+
+    @Test
+    public void testNonPositiveFlushIntervalFallsBackToTheDefault() throws Exception {
+
+        eventBufferConfiguration.setFlushInterval(0);
+        ThrottleEventBatchPublisher batchPublisher = new BatchPublisherWrapper();
+        batchPublisher.start();
+        try {
+            batchPublisher.publish(batchPublisher.claim());
+            long deadline = System.currentTimeMillis() + 5000;
+            while (publishedEvents.get() < 1 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(5);
+            }
+            Assert.assertEquals(1, publishedEvents.get());
+        } finally {
+            batchPublisher.shutdown();
+        }
+    }
+
+    @Test
+    public void testRingBufferWithConcurrentProducers() throws Exception {
+
+        ThrottleEventRingBuffer ringBuffer = new ThrottleEventRingBuffer(8, this::newSlot);
+        Assert.assertEquals(8, ringBuffer.capacity());
+        int producers = 4;
+        int eventsPerProducer = 10000;
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < producers; i++) {
+            Thread producer = new Thread(() -> {
+                for (int k = 0; k < eventsPerProducer; k++) {
+                    DataProcessAndPublishingAgent slot = ringBuffer.claim();
+                    while (slot == null) {
+                        Thread.yield();
+                        slot = ringBuffer.claim();
+                    }
+                    ringBuffer.publish(slot);
+                }
+            });
+            threads.add(producer);
+            producer.start();
+        }
+        DataProcessAndPublishingAgent[] batch = new DataProcessAndPublishingAgent[3];
+        int drained = 0;
+        long deadline = System.currentTimeMillis() + 10000;
+        while (drained < producers * eventsPerProducer && System.currentTimeMillis() < deadline) {
+            int count = ringBuffer.drain(batch, 0);
+            if (count == 0) {
+                ringBuffer.awaitPublished(1000000L, 0);
+                continue;
+            }
+            for (int i = 0; i < count; i++) {
+                Assert.assertEquals(drained + i, batch[i].sequence);
+            }
+            ringBuffer.release(batch, count);
+            drained += count;
+        }
+        for (Thread producer : threads) {
+            producer.join();
+        }
+        Assert.assertEquals(producers * eventsPerProducer, drained);
+        Assert.assertEquals(0, ringBuffer.size());
+    }
+
+    @Test
+    public void testPropertiesKeepTheFirstValueWritten() {
+
+        ThrottleEventPropertiesWriter properties = new ThrottleEventPropertiesWriter();
+        Assert.assertEquals("{}", properties.toJSONString());
+        properties.put("messageSize", 10L);
+        properties.putAll(Collections.singletonMap("messageSize", "20"));
+        properties.put("header", "a\"b/c\n\u0001");
+        Assert.assertEquals("{\"messageSize\":10,\"header\":\"a\\\"b\\/c\\n\\u0001\"}", properties.toJSONString());
+        properties.reset();
+        properties.put("ip", 0);
+        Assert.assertEquals("{\"ip\":0}", properties.toJSONString());
+    }
+
+    private DataProcessAndPublishingAgent newSlot() {
+
+        DataProcessAndPublishingAgent slot = Mockito.mock(DataProcessAndPublishingAgent.class);
+        Mockito.when(slot.hasDataReference()).thenReturn(true);
+        Mockito.when(slot.publish(Mockito.any(ThrottleEventPropertiesWriter.class))).thenAnswer(invocation -> {
+            publishedEvents.incrementAndGet();
+            return true;
+        });
+        return slot;
+    }
+
+    private class BatchPublisherWrapper extends ThrottleEventBatchPublisher {
+
+        BatchPublisherWrapper() {
+
+            super(eventBufferConfiguration, ThrottleEventBatchPublisherTest.this::newSlot);
+        }
+
+        @Override
+        protected Counter getCounter(String metric) {
+
+            return "DROPPED_EVENTS".equals(metric) ? counter : queueDepthCounter;
+        }
+
+        @Override
+        protected Timer getTimer(String metric) {
+
+            return timer;
+        }
+    }
+}
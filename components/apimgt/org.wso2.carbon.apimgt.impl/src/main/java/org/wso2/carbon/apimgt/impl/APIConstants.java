@@ -773,6 +773,9 @@ public final class APIConstants {
     public static final String ENABLED_JWT_CLAIM_CACHE = CACHE_CONFIGS + "EnableJWTClaimCache";
     public static final String KEY_MANAGER_TOKEN_CACHE = CACHE_CONFIGS + "EnableKeyManagerTokenCache";
     public static final String TOKEN_CACHE_EXPIRY = CACHE_CONFIGS + "TokenCacheExpiry";
+    public static final String GATEWAY_AUTH_CACHE_SIZE = CACHE_CONFIGS + "GatewayAuthCacheSize";
+    public static final String JWT_SIGNATURE_CACHE_SIZE = CACHE_CONFIGS + "JWTSignatureCacheSize";
+    public static final String JWKS_REFRESH_INTERVAL = CACHE_CONFIGS + "JWKSRefreshInterval";
     public static final String REST_API_TOKEN_CACHE_ENABLED = CACHE_CONFIGS + "EnableRESTAPITokenCache";
     public static final String REST_API_TOKEN_CACHE_EXPIRY = CACHE_CONFIGS + "RESTAPITokenCacheExpiry";
     public static final String REST_API_CACHE_CONTROL_HEADERS_ENABLED = CACHE_CONFIGS
@@ -2031,8 +2034,6 @@ public final class APIConstants {
         public static final String PASSWORD = "Password";
 
         public static final String DATA_PUBLISHER_POOL_CONFIGURATION = "DataPublisherPool";
-        public static final String DATA_PUBLISHER_POOL_CONFIGURAION_MAX_IDLE = "MaxIdle";
-        public static final String DATA_PUBLISHER_POOL_CONFIGURAION_INIT_IDLE = "InitIdleCapacity";
 
         public static final String GLOBAL_POLICY_ENGINE_WS_CONFIGURATION = "GlobalPolicyEngineWSConnectionDetails";
         public static final String SERVICE_URL = "ServiceURL";
@@ -2052,10 +2053,14 @@ public final class APIConstants {
         public static final String POLICY_DEPLOYER_CONFIGURATION = "PolicyDeployer";
         public static final String BLOCK_CONDITION_RETRIEVER_CONFIGURATION = "BlockCondition";
         public static final String DATA_PUBLISHER_THREAD_POOL_CONFIGURATION = "DataPublisherThreadPool";
-        public static final String DATA_PUBLISHER_THREAD_POOL_CONFIGURATION_CORE_POOL_SIZE = "CorePoolSize";
-        public static final String DATA_PUBLISHER_THREAD_POOL_CONFIGURATION_MAXMIMUM_POOL_SIZE = "MaxmimumPoolSize";
-        public static final String DATA_PUBLISHER_THREAD_POOL_CONFIGURATION_KEEP_ALIVE_TIME = "KeepAliveTime";
+        public static final String DATA_PUBLISHER_EVENT_BUFFER_CONFIGURATION = "EventBuffer";
+        public static final String DATA_PUBLISHER_EVENT_BUFFER_CONFIGURATION_SIZE = "Size";
+        public static final String DATA_PUBLISHER_EVENT_BUFFER_CONFIGURATION_BATCH_SIZE = "BatchSize";
+        public static final String DATA_PUBLISHER_EVENT_BUFFER_CONFIGURATION_FLUSH_INTERVAL = "FlushInterval";
+        public static final String DATA_PUBLISHER_EVENT_BUFFER_CONFIGURATION_PUBLISHER_THREADS = "PublisherThreads";
         public static final String BLOCK_CONDITION_RETRIEVER_INIT_DELAY = "InitDelay";
+        public static final String LOCAL_THROTTLING_CONFIGURATION = "LocalThrottling";
+        public static final String LOCAL_THROTTLING_CONFIGURATION_GATEWAY_COUNT = "GatewayCount";
         public static final String BLOCK_CONDITION_RETRIEVER_PERIOD = "Period";
         public static final String ENABLE_SUBSCRIPTION_SPIKE_ARREST = "EnableSubscriptionSpikeArrest";
         public static final String ENABLE_HEADER_CONDITIONS = "EnableHeaderConditions";
@@ -2639,6 +2644,13 @@ public final class APIConstants {
 
         public static final String SERVICE_URL = "ServiceURL";
         public static final String INIT_DELAY = "InitDelay";
+        public static final String DATA_LOAD_PAGE_SIZE = "DataLoadPageSize";
+        public static final String DATA_LOAD_CONCURRENCY = "DataLoadConcurrency";
+        public static final String DELTA_SYNC_ON_RECONNECT = "DeltaSyncOnReconnect";
+        public static final String DELTA_SYNC_TIME_MARGIN = "DeltaSyncTimeMargin";
+        public static final String BATCH_NOTIFICATIONS = "BatchNotifications";
+        public static final String NOTIFICATION_BATCH_WINDOW = "NotificationBatchWindow";
+        public static final String NOTIFICATION_MAX_BATCH_SIZE = "NotificationMaxBatchSize";
         public static final String INTROSPECTION_ENDPOINT = "introspection_endpoint";
         public static final String CLIENT_REGISTRATION_ENDPOINT = "client_registration_endpoint";
         public static final String KEY_MANAGER_OPERATIONS_DCR_ENDPOINT = "/keymanager-operations/dcr/register";
@@ -2804,7 +2816,8 @@ public final class APIConstants {
         CUSTOM_POLICY_UPDATE,
         UPDATE_CORRELATION_CONFIGS,
         DEPLOY_POLICY_MAPPING_IN_GATEWAY,
-        REMOVE_POLICY_MAPPING_FROM_GATEWAY
+        REMOVE_POLICY_MAPPING_FROM_GATEWAY,
+        NOTIFICATION_BATCH
     }
 
     public enum EventAction {
@@ -2832,6 +2845,8 @@ public final class APIConstants {
         public static final String SYNAPSE_ATTRIBUTES = "/synapse-attributes";
         public static final String GATEAY_SYNAPSE_ARTIFACTS = "/runtime-artifacts";
         public static final String GATEWAY_POLICY_SYNAPSE_ARTIFACTS = "/gateway-policy-artifacts";
+        public static final String DEPLOYED_REVISIONS = "/deployed-revisions";
+        public static final String RETRIEVE_API_ARTIFACTS = "/retrieve-api-artifacts";
         public static final String DATA_SOURCE_NAME = "DataSourceName";
         public static final String DATA_RETRIEVAL_MODE = "DataRetrievalMode";
         public static final String GATEWAY_STARTUP_SYNC = "sync";
@@ -2840,6 +2855,8 @@ public final class APIConstants {
         public static final String LABEL = "label";
         public static final String LABELS = "labels";
         public static final String EnableOnDemandLoadingAPIS = "EnableOnDemandLoadingAPIS";
+        public static final String DEPLOYMENT_THREAD_POOL_SIZE = "DeploymentThreadPoolSize";
+        public static final String ENABLE_LOCAL_ARTIFACT_CACHE = "EnableLocalArtifactCache";
 
     }
 
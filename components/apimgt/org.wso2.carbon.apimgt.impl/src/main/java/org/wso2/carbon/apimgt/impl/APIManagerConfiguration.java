@@ -1297,66 +1297,53 @@ public class APIManagerConfiguration {
 
                     throttleProperties.setDataPublisher(dataPublisher);
 
-                    // Data publisher pool configuration
-
-                    OMElement dataPublisherPoolConfigurationElement = dataPublisherConfigurationElement
-                            .getFirstChildWithName(new
-                                    QName
-                                    (APIConstants.AdvancedThrottleConstants.DATA_PUBLISHER_POOL_CONFIGURATION));
-
-                    ThrottleProperties.DataPublisherPool dataPublisherPool = new ThrottleProperties
-                            .DataPublisherPool();
-                    OMElement maxIdleElement = dataPublisherPoolConfigurationElement.getFirstChildWithName(new QName
-                            (APIConstants.AdvancedThrottleConstants.DATA_PUBLISHER_POOL_CONFIGURAION_MAX_IDLE));
-                    if (maxIdleElement != null) {
-                        dataPublisherPool.setMaxIdle(Integer.parseInt(maxIdleElement.getText()));
-                    }
-                    OMElement initIdleElement = dataPublisherPoolConfigurationElement.getFirstChildWithName(new QName
-                            (APIConstants.AdvancedThrottleConstants.DATA_PUBLISHER_POOL_CONFIGURAION_INIT_IDLE));
-                    if (initIdleElement != null) {
-                        dataPublisherPool.setInitIdleCapacity(Integer.parseInt(initIdleElement.getText()));
+                    // The data publisher pool and thread pool are no longer used by the throttle event publisher
+
+                    for (String removedElement : new String[]{
+                            APIConstants.AdvancedThrottleConstants.DATA_PUBLISHER_POOL_CONFIGURATION,
+                            APIConstants.AdvancedThrottleConstants.DATA_PUBLISHER_THREAD_POOL_CONFIGURATION}) {
+                        if (dataPublisherConfigurationElement.getFirstChildWithName(new QName(removedElement))
+                                != null) {
+                            log.warn("DataPublisher/" + removedElement + " is deprecated and ignored. Throttle "
+                                    + "events are published from the EventBuffer configuration.");
+                        }
                     }
-                    throttleProperties.setDataPublisherPool(dataPublisherPool);
-
-                    // Data publisher thread pool configuration
-
-                    OMElement dataPublisherThreadPoolConfigurationElement = dataPublisherConfigurationElement
-                            .getFirstChildWithName(new
-                                    QName
-                                    (APIConstants.AdvancedThrottleConstants.DATA_PUBLISHER_THREAD_POOL_CONFIGURATION));
-
-                    ThrottleProperties.DataPublisherThreadPool dataPublisherThreadPool = new ThrottleProperties
-                            .DataPublisherThreadPool();
-                    if (dataPublisherThreadPoolConfigurationElement != null) {
-                        OMElement corePoolSizeElement = dataPublisherThreadPoolConfigurationElement
-                                .getFirstChildWithName
-                                        (new
-                                                QName
-                                                (APIConstants.AdvancedThrottleConstants
-                                                        .DATA_PUBLISHER_THREAD_POOL_CONFIGURATION_CORE_POOL_SIZE));
-                        if (corePoolSizeElement != null) {
-                            dataPublisherThreadPool.setCorePoolSize(Integer.parseInt(corePoolSizeElement.getText()));
+
+                    // Data publisher event buffer configuration
+
+                    OMElement dataPublisherEventBufferConfigurationElement = dataPublisherConfigurationElement
+                            .getFirstChildWithName(new QName(
+                                    APIConstants.AdvancedThrottleConstants.DATA_PUBLISHER_EVENT_BUFFER_CONFIGURATION));
+                    ThrottleProperties.DataPublisherEventBuffer dataPublisherEventBuffer =
+                            new ThrottleProperties.DataPublisherEventBuffer();
+                    if (dataPublisherEventBufferConfigurationElement != null) {
+                        OMElement sizeElement = dataPublisherEventBufferConfigurationElement.getFirstChildWithName(
+                                new QName(APIConstants.AdvancedThrottleConstants
+                                        .DATA_PUBLISHER_EVENT_BUFFER_CONFIGURATION_SIZE));
+                        if (sizeElement != null) {
+                            dataPublisherEventBuffer.setSize(Integer.parseInt(sizeElement.getText()));
                         }
-                        OMElement maximumPoolSizeElement = dataPublisherThreadPoolConfigurationElement
-                                .getFirstChildWithName(new
-                                        QName
-                                        (APIConstants.AdvancedThrottleConstants
-                                                .DATA_PUBLISHER_THREAD_POOL_CONFIGURATION_MAXMIMUM_POOL_SIZE));
-                        if (maximumPoolSizeElement != null) {
-                            dataPublisherThreadPool.setMaximumPoolSize(Integer.parseInt(maximumPoolSizeElement
-                                    .getText()));
+                        OMElement batchSizeElement = dataPublisherEventBufferConfigurationElement
+                                .getFirstChildWithName(new QName(APIConstants.AdvancedThrottleConstants
+                                        .DATA_PUBLISHER_EVENT_BUFFER_CONFIGURATION_BATCH_SIZE));
+                        if (batchSizeElement != null) {
+                            dataPublisherEventBuffer.setBatchSize(Integer.parseInt(batchSizeElement.getText()));
+                        }
+                        OMElement flushIntervalElement = dataPublisherEventBufferConfigurationElement
+                                .getFirstChildWithName(new QName(APIConstants.AdvancedThrottleConstants
+                                        .DATA_PUBLISHER_EVENT_BUFFER_CONFIGURATION_FLUSH_INTERVAL));
+                        if (flushIntervalElement != null) {
+                            dataPublisherEventBuffer.setFlushInterval(Long.parseLong(flushIntervalElement.getText()));
                         }
-                        OMElement keepAliveTimeElement = dataPublisherThreadPoolConfigurationElement
-                                .getFirstChildWithName
-                                        (new
-                                                QName
-                                                (APIConstants.AdvancedThrottleConstants
-                                                        .DATA_PUBLISHER_THREAD_POOL_CONFIGURATION_KEEP_ALIVE_TIME));
-                        if (keepAliveTimeElement != null) {
-                            dataPublisherThreadPool.setKeepAliveTime(Long.parseLong(keepAliveTimeElement.getText()));
+                        OMElement publisherThreadsElement = dataPublisherEventBufferConfigurationElement
+                                .getFirstChildWithName(new QName(APIConstants.AdvancedThrottleConstants
+                                        .DATA_PUBLISHER_EVENT_BUFFER_CONFIGURATION_PUBLISHER_THREADS));
+                        if (publisherThreadsElement != null) {
+                            dataPublisherEventBuffer.setPublisherThreads(
+                                    Integer.parseInt(publisherThreadsElement.getText()));
                         }
                     }
-                    throttleProperties.setDataPublisherThreadPool(dataPublisherThreadPool);
+                    throttleProperties.setDataPublisherEventBuffer(dataPublisherEventBuffer);
                 }
 
                 // Configuring JMSConnectionDetails
@@ -1644,6 +1631,26 @@ public class APIManagerConfiguration {
                 }
                 throttleProperties.setBlockCondition(blockConditionRetrieverConfiguration);
 
+                //Configuring gateway local throttling
+                OMElement localThrottlingElement = throttleConfigurationElement.getFirstChildWithName(new
+                        QName(APIConstants.AdvancedThrottleConstants.LOCAL_THROTTLING_CONFIGURATION));
+                ThrottleProperties.LocalThrottling localThrottling = new ThrottleProperties.LocalThrottling();
+                if (localThrottlingElement != null) {
+                    OMElement localThrottlingEnabledElement = localThrottlingElement
+                            .getFirstChildWithName(new QName(APIConstants.AdvancedThrottleConstants.ENABLED));
+                    if (localThrottlingEnabledElement != null) {
+                        localThrottling.setEnabled(JavaUtils.isTrueExplicitly(localThrottlingEnabledElement
+                                .getText()));
+                    }
+                    OMElement gatewayCountElement = localThrottlingElement
+                            .getFirstChildWithName(new QName(APIConstants.AdvancedThrottleConstants
+                                    .LOCAL_THROTTLING_CONFIGURATION_GATEWAY_COUNT));
+                    if (gatewayCountElement != null) {
+                        localThrottling.setGatewayCount(Integer.parseInt(gatewayCountElement.getText()));
+                    }
+                }
+                throttleProperties.setLocalThrottling(localThrottling);
+
         }
     }
 
@@ -2089,6 +2096,46 @@ public class APIManagerConfiguration {
             if (initDelay != null) {
                 eventHubConfigurationDto.setInitDelay(Integer.parseInt(initDelay.getText()));
             }
+            OMElement dataLoadPageSizeElement =
+                    omElement.getFirstChildWithName(new QName(APIConstants.KeyManager.DATA_LOAD_PAGE_SIZE));
+            if (dataLoadPageSizeElement != null) {
+                eventHubConfigurationDto.setDataLoadPageSize(Integer.parseInt(dataLoadPageSizeElement.getText()));
+            }
+            OMElement dataLoadConcurrencyElement =
+                    omElement.getFirstChildWithName(new QName(APIConstants.KeyManager.DATA_LOAD_CONCURRENCY));
+            if (dataLoadConcurrencyElement != null) {
+                eventHubConfigurationDto.setDataLoadConcurrency(
+                        Integer.parseInt(dataLoadConcurrencyElement.getText()));
+            }
+            OMElement deltaSyncOnReconnectElement =
+                    omElement.getFirstChildWithName(new QName(APIConstants.KeyManager.DELTA_SYNC_ON_RECONNECT));
+            if (deltaSyncOnReconnectElement != null) {
+                eventHubConfigurationDto.setDeltaSyncOnReconnect(
+                        Boolean.parseBoolean(deltaSyncOnReconnectElement.getText()));
+            }
+            OMElement deltaSyncTimeMarginElement =
+                    omElement.getFirstChildWithName(new QName(APIConstants.KeyManager.DELTA_SYNC_TIME_MARGIN));
+            if (deltaSyncTimeMarginElement != null) {
+                eventHubConfigurationDto.setDeltaSyncTimeMargin(Long.parseLong(deltaSyncTimeMarginElement.getText()));
+            }
+            OMElement batchNotificationsElement =
+                    omElement.getFirstChildWithName(new QName(APIConstants.KeyManager.BATCH_NOTIFICATIONS));
+            if (batchNotificationsElement != null) {
+                eventHubConfigurationDto.setBatchNotifications(
+                        Boolean.parseBoolean(batchNotificationsElement.getText()));
+            }
+            OMElement notificationBatchWindowElement =
+                    omElement.getFirstChildWithName(new QName(APIConstants.KeyManager.NOTIFICATION_BATCH_WINDOW));
+            if (notificationBatchWindowElement != null) {
+                eventHubConfigurationDto.setNotificationBatchWindow(
+                        Long.parseLong(notificationBatchWindowElement.getText()));
+            }
+            OMElement notificationMaxBatchSizeElement =
+                    omElement.getFirstChildWithName(new QName(APIConstants.KeyManager.NOTIFICATION_MAX_BATCH_SIZE));
+            if (notificationMaxBatchSizeElement != null) {
+                eventHubConfigurationDto.setNotificationMaxBatchSize(
+                        Integer.parseInt(notificationMaxBatchSizeElement.getText()));
+            }
             OMElement usernameElement = omElement.getFirstChildWithName(new QName(APIConstants.KeyManager.USERNAME));
             if (usernameElement != null) {
                 eventHubConfigurationDto.setUsername(usernameElement.getText());
@@ -2321,6 +2368,20 @@ public class APIManagerConfiguration {
         if (enableEagerLoading != null){
             gatewayArtifactSynchronizerProperties.setOnDemandLoading(Boolean.parseBoolean(enableEagerLoading.getText()));
         }
+        OMElement deploymentThreadPoolSizeElement = omElement.getFirstChildWithName(
+                new QName(APIConstants.GatewayArtifactSynchronizer.DEPLOYMENT_THREAD_POOL_SIZE));
+        if (deploymentThreadPoolSizeElement != null) {
+            gatewayArtifactSynchronizerProperties.setDeploymentThreadPoolSize(
+                    Integer.parseInt(deploymentThreadPoolSizeElement.getText()));
+        } else {
+            log.debug("Deployment thread pool size is not set. APIs are decoded and deployed in a single thread");
+        }
+        OMElement localArtifactCacheElement = omElement.getFirstChildWithName(
+                new QName(APIConstants.GatewayArtifactSynchronizer.ENABLE_LOCAL_ARTIFACT_CACHE));
+        if (localArtifactCacheElement != null) {
+            gatewayArtifactSynchronizerProperties.setLocalArtifactCacheEnabled(
+                    Boolean.parseBoolean(localArtifactCacheElement.getText()));
+        }
     }
 
     public GatewayArtifactSynchronizerProperties getGatewayArtifactSynchronizerProperties() {
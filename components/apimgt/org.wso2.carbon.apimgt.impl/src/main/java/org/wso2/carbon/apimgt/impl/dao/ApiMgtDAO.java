@@ -683,7 +683,8 @@ public class ApiMgtDAO {
             preparedStForUpdate = conn.prepareStatement(sqlQuery);
             preparedStForUpdate.setString(1, requestedThrottlingTier);
             preparedStForUpdate.setString(2, status);
-            preparedStForUpdate.setString(3, inputSubscriptionUUId);
+            preparedStForUpdate.setTimestamp(3, new Timestamp(System.currentTimeMillis()));
+            preparedStForUpdate.setString(4, inputSubscriptionUUId);
             preparedStForUpdate.executeUpdate();
 
             // finally commit transaction
@@ -797,7 +798,8 @@ public class ApiMgtDAO {
             if (APIConstants.SubscriptionStatus.BLOCKED.equals(subStatus) || APIConstants.SubscriptionStatus
                     .PROD_ONLY_BLOCKED.equals(subStatus)) {
                 preparedStForUpdateOrDelete = conn.prepareStatement(updateQuery);
-                preparedStForUpdateOrDelete.setString(1, subscription.getUUID());
+                preparedStForUpdateOrDelete.setTimestamp(1, new Timestamp(System.currentTimeMillis()));
+                preparedStForUpdateOrDelete.setString(2, subscription.getUUID());
             } else {
                 preparedStForUpdateOrDelete = conn.prepareStatement(deleteQuery);
                 preparedStForUpdateOrDelete.setString(1, subscription.getUUID());
@@ -2240,7 +2242,8 @@ public class ApiMgtDAO {
 
             ps = conn.prepareStatement(sqlQuery);
             ps.setString(1, status);
-            ps.setInt(2, subscriptionId);
+            ps.setTimestamp(2, new Timestamp(System.currentTimeMillis()));
+            ps.setInt(3, subscriptionId);
             ps.execute();
 
             //Commit transaction
@@ -2279,7 +2282,8 @@ public class ApiMgtDAO {
                 ps.setString(2, subscribedAPI.getRequestedTier().getName());
             }
             ps.setString(3, status);
-            ps.setInt(4, subscriptionId);
+            ps.setTimestamp(4, new Timestamp(System.currentTimeMillis()));
+            ps.setInt(5, subscriptionId);
             ps.execute();
 
             //Commit transaction
@@ -2312,7 +2316,8 @@ public class ApiMgtDAO {
             conn.setAutoCommit(false);
             try (PreparedStatement ps = conn.prepareStatement(sqlQuery)) {
                 ps.setString(1, subscriptionTier);
-                ps.setInt(2, subscriptionId);
+                ps.setTimestamp(2, new Timestamp(System.currentTimeMillis()));
+                ps.setInt(3, subscriptionId);
                 ps.execute();
                 conn.commit();
             } catch (SQLException e) {
@@ -4087,7 +4092,8 @@ public class ApiMgtDAO {
                 prepStmt = connection.prepareStatement(sqlQuery);
                 prepStmt.setString(1, userName);
                 prepStmt.setInt(2, subscriberId);
-                prepStmt.setString(3, application.getUUID());
+                prepStmt.setTimestamp(3, new Timestamp(System.currentTimeMillis()));
+                prepStmt.setString(4, application.getUUID());
                 prepStmt.executeUpdate();
                 connection.commit();
                 isAppUpdated = true;
@@ -14748,6 +14754,7 @@ public class ApiMgtDAO {
             ps.setString(1, attributeKey);
             ps.setInt(2, applicationId);
             ps.execute();
+            touchApplication(connection, applicationId);
             connection.commit();
         } catch (SQLException e) {
             handleException("Error in establishing SQL connection ", e);
@@ -14756,6 +14763,23 @@ public class ApiMgtDAO {
         }
     }
 
+    /**
+     * Advances UPDATED_TIME of an application whose dependent rows (attributes) changed, so that gateways
+     * picking up changes since a timestamp see the application again.
+     *
+     * @param connection    connection of the ongoing transaction
+     * @param applicationId Id of the modified application
+     * @throws SQLException
+     */
+    private void touchApplication(Connection connection, int applicationId) throws SQLException {
+
+        try (PreparedStatement ps = connection.prepareStatement(SQLConstants.UPDATE_APPLICATION_UPDATED_TIME_SQL)) {
+            ps.setTimestamp(1, new Timestamp(System.currentTimeMillis()));
+            ps.setInt(2, applicationId);
+            ps.executeUpdate();
+        }
+    }
+
     /**
      * Add new attributes against an Application in API Store
      *
@@ -14772,6 +14796,7 @@ public class ApiMgtDAO {
             connection = APIMgtDBUtil.getConnection();
             connection.setAutoCommit(false);
             addApplicationAttributes(connection, applicationAttributes, applicationId, tenantId);
+            touchApplication(connection, applicationId);
             connection.commit();
         } catch (SQLException sqlException) {
             if (connection != null) {
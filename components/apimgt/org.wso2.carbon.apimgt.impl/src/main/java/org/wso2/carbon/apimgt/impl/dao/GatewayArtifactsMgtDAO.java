@@ -8,6 +8,8 @@ import org.wso2.carbon.apimgt.api.model.APIRevisionDeployment;
 import org.wso2.carbon.apimgt.impl.dao.constants.SQLConstants;
 import org.wso2.carbon.apimgt.impl.dto.APIRuntimeArtifactDto;
 import org.wso2.carbon.apimgt.impl.dto.APIArtifactPropertyValues;
+import org.wso2.carbon.apimgt.impl.gatewayartifactsynchronizer.ArtifactConsumer;
+import org.wso2.carbon.apimgt.impl.gatewayartifactsynchronizer.dto.DeployedRevisionDto;
 import org.wso2.carbon.apimgt.impl.utils.APIMgtDBUtil;
 import org.wso2.carbon.apimgt.impl.utils.GatewayArtifactsMgtDBUtil;
 import org.wso2.carbon.apimgt.impl.utils.VHostUtils;
@@ -675,9 +677,61 @@ public class GatewayArtifactsMgtDAO {
     public List<APIRuntimeArtifactDto> retrieveGatewayArtifactsByLabel(String[] labels, String tenantDomain)
             throws APIManagementException {
 
-        String query = SQLConstants.RETRIEVE_ARTIFACTS_BY_LABEL;
-        query = query.replaceAll(SQLConstants.GATEWAY_LABEL_REGEX, String.join(",",Collections.nCopies(labels.length, "?")));
         List<APIRuntimeArtifactDto> apiRuntimeArtifactDtoList = new ArrayList<>();
+        retrieveGatewayArtifactsByLabel(labels, tenantDomain, apiRuntimeArtifactDto ->
+                apiRuntimeArtifactDtoList.add(bufferArtifact(apiRuntimeArtifactDto)));
+        return apiRuntimeArtifactDtoList;
+    }
+
+    public List<APIRuntimeArtifactDto> retrieveAllGatewayArtifactsByLabel(String[] labels)
+            throws APIManagementException {
+
+        List<APIRuntimeArtifactDto> apiRuntimeArtifactDtoList = new ArrayList<>();
+        retrieveAllGatewayArtifactsByLabel(labels, apiRuntimeArtifactDto ->
+                apiRuntimeArtifactDtoList.add(bufferArtifact(apiRuntimeArtifactDto)));
+        return apiRuntimeArtifactDtoList;
+    }
+
+    /**
+     * Reads the runtime artifacts of the APIs deployed in the given gateway labels of a tenant one by one, handing
+     * each over to the consumer while the result set is positioned on it. The artifact stream of a runtime artifact
+     * is read from the database as it is consumed and is only valid until the consumer returns, so the artifacts of
+     * all the APIs are never held in memory at once.
+     *
+     * @param labels           gateway labels
+     * @param tenantDomain     tenant domain of the APIs
+     * @param artifactConsumer consumer of the runtime artifacts
+     * @throws APIManagementException if the artifacts cannot be retrieved or the consumer fails
+     */
+    public void retrieveGatewayArtifactsByLabel(String[] labels, String tenantDomain,
+                                                ArtifactConsumer<APIRuntimeArtifactDto> artifactConsumer)
+            throws APIManagementException {
+
+        retrieveGatewayArtifactsByLabel(SQLConstants.RETRIEVE_ARTIFACTS_BY_LABEL, labels, tenantDomain,
+                artifactConsumer);
+    }
+
+    /**
+     * Reads the runtime artifacts of the APIs of all the tenants deployed in the given gateway labels one by one.
+     *
+     * @param labels           gateway labels
+     * @param artifactConsumer consumer of the runtime artifacts
+     * @throws APIManagementException if the artifacts cannot be retrieved or the consumer fails
+     * @see #retrieveGatewayArtifactsByLabel(String[], String, ArtifactConsumer)
+     */
+    public void retrieveAllGatewayArtifactsByLabel(String[] labels,
+                                                   ArtifactConsumer<APIRuntimeArtifactDto> artifactConsumer)
+            throws APIManagementException {
+
+        retrieveGatewayArtifactsByLabel(SQLConstants.RETRIEVE_ALL_ARTIFACTS_BY_LABEL, labels, null, artifactConsumer);
+    }
+
+    private void retrieveGatewayArtifactsByLabel(String query, String[] labels, String tenantDomain,
+                                                 ArtifactConsumer<APIRuntimeArtifactDto> artifactConsumer)
+            throws APIManagementException {
+
+        query = query.replaceAll(SQLConstants.GATEWAY_LABEL_REGEX,
+                String.join(",", Collections.nCopies(labels.length, "?")));
         try (Connection connection = GatewayArtifactsMgtDBUtil.getArtifactSynchronizerConnection();
              PreparedStatement preparedStatement = connection.prepareStatement(query)) {
             int index = 1;
@@ -685,63 +739,133 @@ public class GatewayArtifactsMgtDAO {
                 preparedStatement.setString(index, label);
                 index++;
             }
-            preparedStatement.setString(index, tenantDomain);
+            if (tenantDomain != null) {
+                preparedStatement.setString(index, tenantDomain);
+            }
             try (ResultSet resultSet = preparedStatement.executeQuery()) {
                 while (resultSet.next()) {
-                    String apiId = resultSet.getString("API_ID");
-                    String label = resultSet.getString("LABEL");
+                    APIRuntimeArtifactDto apiRuntimeArtifactDto = getRuntimeArtifact(resultSet, tenantDomain);
+                    if (apiRuntimeArtifactDto == null) {
+                        continue;
+                    }
                     try {
-                        APIRuntimeArtifactDto apiRuntimeArtifactDto = new APIRuntimeArtifactDto();
-                        apiRuntimeArtifactDto.setTenantDomain(resultSet.getString("TENANT_DOMAIN"));
-                        apiRuntimeArtifactDto.setApiId(apiId);
-                        String resolvedVhost = VHostUtils.resolveIfNullToDefaultVhost(label,
-                                resultSet.getString("VHOST"));
-                        apiRuntimeArtifactDto.setLabel(label);
-                        apiRuntimeArtifactDto.setVhost(resolvedVhost);
-                        apiRuntimeArtifactDto.setName(resultSet.getString("API_NAME"));
-                        apiRuntimeArtifactDto.setVersion(resultSet.getString("API_VERSION"));
-                        apiRuntimeArtifactDto.setProvider(resultSet.getString("API_PROVIDER"));
-                        apiRuntimeArtifactDto.setRevision(resultSet.getString("REVISION_ID"));
-                        apiRuntimeArtifactDto.setType(resultSet.getString("API_TYPE"));
-                        apiRuntimeArtifactDto.setContext(resultSet.getString("CONTEXT"));
-                        InputStream artifact = resultSet.getBinaryStream("ARTIFACT");
-                        if (artifact != null) {
-                            byte[] artifactByte = APIMgtDBUtil.getBytesFromInputStream(artifact);
-                            try (InputStream newArtifact = new ByteArrayInputStream(artifactByte)) {
-                                apiRuntimeArtifactDto.setArtifact(newArtifact);
-                            }
-                        }
-                        apiRuntimeArtifactDto.setFile(true);
-                        apiRuntimeArtifactDtoList.add(apiRuntimeArtifactDto);
-                    } catch (APIManagementException e) {
-                        // handle exception inside the loop and continue with other API artifacts
-                        log.error(String.format("Error resolving vhost while retrieving runtime artifact for API %s, "
-                                + "gateway environment \"%s\", tenant: \"%s\"." +
-                                "Skipping runtime artifact for the API.", apiId, label, tenantDomain), e);
-                    } catch (IOException e) {
-                        // handle exception inside the loop and continue with other API artifacts
-                        log.error(String.format("Error occurred retrieving input stream from byte array of " +
-                                "API: %s, gateway environment \"%s\", tenant: \"%s\".", apiId, label, tenantDomain), e);
-                    } catch (SQLException e) {
-                        // handle exception inside the loop and continue with other API artifacts
-                        log.error(String.format("Failed to retrieve Gateway Artifact of API: %s, " +
-                                "gateway environment \"%s\", tenant: \"%s\".", apiId, label, tenantDomain), e);
+                        artifactConsumer.accept(apiRuntimeArtifactDto);
+                    } finally {
+                        closeArtifact(apiRuntimeArtifactDto);
                     }
                 }
             }
         } catch (SQLException e) {
-            handleException("Failed to retrieve Gateway Artifact for labels : " + StringUtils.join(",", labels), e);
+            handleException("Failed to retrieve Gateway Artifact for labels : " + String.join(",", labels), e);
         }
+    }
 
-        return apiRuntimeArtifactDtoList;
+    /**
+     * Reads the runtime artifact in the current row of a result set, leaving the artifact to be streamed from the
+     * database.
+     *
+     * @param resultSet    result set positioned on a runtime artifact
+     * @param tenantDomain tenant domain of the APIs, or null if the artifacts of all the tenants are retrieved
+     * @return runtime artifact, or null if it could not be read
+     */
+    private APIRuntimeArtifactDto getRuntimeArtifact(ResultSet resultSet, String tenantDomain) {
+
+        String apiId = null;
+        String label = null;
+        try {
+            apiId = resultSet.getString("API_ID");
+            label = resultSet.getString("LABEL");
+            APIRuntimeArtifactDto apiRuntimeArtifactDto = new APIRuntimeArtifactDto();
+            if (tenantDomain != null) {
+                apiRuntimeArtifactDto.setTenantDomain(resultSet.getString("TENANT_DOMAIN"));
+            }
+            apiRuntimeArtifactDto.setApiId(apiId);
+            String resolvedVhost = VHostUtils.resolveIfNullToDefaultVhost(label, resultSet.getString("VHOST"));
+            apiRuntimeArtifactDto.setLabel(label);
+            apiRuntimeArtifactDto.setVhost(resolvedVhost);
+            apiRuntimeArtifactDto.setName(resultSet.getString("API_NAME"));
+            apiRuntimeArtifactDto.setVersion(resultSet.getString("API_VERSION"));
+            apiRuntimeArtifactDto.setProvider(resultSet.getString("API_PROVIDER"));
+            apiRuntimeArtifactDto.setRevision(resultSet.getString("REVISION_ID"));
+            apiRuntimeArtifactDto.setType(resultSet.getString("API_TYPE"));
+            apiRuntimeArtifactDto.setContext(resultSet.getString("CONTEXT"));
+            apiRuntimeArtifactDto.setArtifact(resultSet.getBinaryStream("ARTIFACT"));
+            apiRuntimeArtifactDto.setFile(true);
+            return apiRuntimeArtifactDto;
+        } catch (APIManagementException e) {
+            // handle exception inside the loop and continue with other API artifacts
+            log.error(String.format("Error resolving vhost while retrieving runtime artifact for API %s, "
+                    + "gateway environment \"%s\", tenant: \"%s\"." +
+                    "Skipping runtime artifact for the API.", apiId, label, tenantDomain), e);
+        } catch (SQLException e) {
+            // handle exception inside the loop and continue with other API artifacts
+            log.error(String.format("Failed to retrieve Gateway Artifact of API: %s, " +
+                    "gateway environment \"%s\", tenant: \"%s\".", apiId, label, tenantDomain), e);
+        }
+        return null;
     }
 
-    public List<APIRuntimeArtifactDto> retrieveAllGatewayArtifactsByLabel(String[] labels)
+    /**
+     * Copies the artifact stream of a runtime artifact into memory, so that the artifact remains readable after the
+     * result set it was read from is closed.
+     */
+    private static APIRuntimeArtifactDto bufferArtifact(APIRuntimeArtifactDto apiRuntimeArtifactDto) {
+
+        InputStream artifact = (InputStream) apiRuntimeArtifactDto.getArtifact();
+        if (artifact != null) {
+            byte[] artifactByte = APIMgtDBUtil.getBytesFromInputStream(artifact);
+            apiRuntimeArtifactDto.setArtifact(artifactByte != null ? new ByteArrayInputStream(artifactByte) : null);
+        }
+        return apiRuntimeArtifactDto;
+    }
+
+    private static void closeArtifact(APIRuntimeArtifactDto apiRuntimeArtifactDto) {
+
+        if (apiRuntimeArtifactDto.getArtifact() instanceof InputStream) {
+            try {
+                ((InputStream) apiRuntimeArtifactDto.getArtifact()).close();
+            } catch (IOException e) {
+                log.warn("Error while closing the runtime artifact of API " + apiRuntimeArtifactDto.getApiId(), e);
+            }
+        }
+    }
+
+    /**
+     * Retrieves the API revisions deployed in the given gateway labels of a tenant, without reading the artifacts.
+     *
+     * @param labels       gateway labels
+     * @param tenantDomain tenant domain of the APIs
+     * @return deployed revisions
+     * @throws APIManagementException if the revisions cannot be retrieved
+     */
+    public List<DeployedRevisionDto> retrieveDeployedRevisionsByLabel(String[] labels, String tenantDomain)
             throws APIManagementException {
 
-        String query = SQLConstants.RETRIEVE_ALL_ARTIFACTS_BY_LABEL;
-        query = query.replaceAll(SQLConstants.GATEWAY_LABEL_REGEX, String.join(",",Collections.nCopies(labels.length, "?")));
-        List<APIRuntimeArtifactDto> apiRuntimeArtifactDtoList = new ArrayList<>();
+        return retrieveDeployedRevisionsByLabel(SQLConstants.RETRIEVE_DEPLOYED_REVISIONS_BY_LABEL, labels,
+                tenantDomain);
+    }
+
+    /**
+     * Retrieves the API revisions of all the tenants deployed in the given gateway labels, without reading the
+     * artifacts.
+     *
+     * @param labels gateway labels
+     * @return deployed revisions
+     * @throws APIManagementException if the revisions cannot be retrieved
+     */
+    public List<DeployedRevisionDto> retrieveAllDeployedRevisionsByLabel(String[] labels)
+            throws APIManagementException {
+
+        return retrieveDeployedRevisionsByLabel(SQLConstants.RETRIEVE_ALL_DEPLOYED_REVISIONS_BY_LABEL, labels, null);
+    }
+
+    private List<DeployedRevisionDto> retrieveDeployedRevisionsByLabel(String query, String[] labels,
+                                                                       String tenantDomain)
+            throws APIManagementException {
+
+        query = query.replaceAll(SQLConstants.GATEWAY_LABEL_REGEX,
+                String.join(",", Collections.nCopies(labels.length, "?")));
+        List<DeployedRevisionDto> deployedRevisions = new ArrayList<>();
         try (Connection connection = GatewayArtifactsMgtDBUtil.getArtifactSynchronizerConnection();
              PreparedStatement preparedStatement = connection.prepareStatement(query)) {
             int index = 1;
@@ -749,53 +873,37 @@ public class GatewayArtifactsMgtDAO {
                 preparedStatement.setString(index, label);
                 index++;
             }
+            if (tenantDomain != null) {
+                preparedStatement.setString(index, tenantDomain);
+            }
             try (ResultSet resultSet = preparedStatement.executeQuery()) {
                 while (resultSet.next()) {
                     String apiId = resultSet.getString("API_ID");
                     String label = resultSet.getString("LABEL");
                     try {
-                        APIRuntimeArtifactDto apiRuntimeArtifactDto = new APIRuntimeArtifactDto();
-                        apiRuntimeArtifactDto.setApiId(apiId);
-                        String resolvedVhost = VHostUtils.resolveIfNullToDefaultVhost(label,
-                                resultSet.getString("VHOST"));
-                        apiRuntimeArtifactDto.setLabel(label);
-                        apiRuntimeArtifactDto.setVhost(resolvedVhost);
-                        apiRuntimeArtifactDto.setName(resultSet.getString("API_NAME"));
-                        apiRuntimeArtifactDto.setVersion(resultSet.getString("API_VERSION"));
-                        apiRuntimeArtifactDto.setProvider(resultSet.getString("API_PROVIDER"));
-                        apiRuntimeArtifactDto.setRevision(resultSet.getString("REVISION_ID"));
-                        apiRuntimeArtifactDto.setType(resultSet.getString("API_TYPE"));
-                        apiRuntimeArtifactDto.setContext(resultSet.getString("CONTEXT"));
-                        InputStream artifact = resultSet.getBinaryStream("ARTIFACT");
-                        if (artifact != null) {
-                            byte[] artifactByte = APIMgtDBUtil.getBytesFromInputStream(artifact);
-                            try (InputStream newArtifact = new ByteArrayInputStream(artifactByte)) {
-                                apiRuntimeArtifactDto.setArtifact(newArtifact);
-                            }
+                        DeployedRevisionDto deployedRevisionDto = new DeployedRevisionDto();
+                        deployedRevisionDto.setApiId(apiId);
+                        deployedRevisionDto.setRevisionId(resultSet.getString("REVISION_ID"));
+                        deployedRevisionDto.setLabel(label);
+                        deployedRevisionDto.setVhost(VHostUtils.resolveIfNullToDefaultVhost(label,
+                                resultSet.getString("VHOST")));
+                        Timestamp deployedTime = resultSet.getTimestamp("DEPLOYED_TIME");
+                        if (deployedTime != null) {
+                            deployedRevisionDto.setDeployedTimeStamp(deployedTime.getTime());
                         }
-                        apiRuntimeArtifactDto.setFile(true);
-                        apiRuntimeArtifactDtoList.add(apiRuntimeArtifactDto);
+                        deployedRevisions.add(deployedRevisionDto);
                     } catch (APIManagementException e) {
-                        // handle exception inside the loop and continue with other API artifacts
-                        log.error(String.format("Error resolving vhost while retrieving runtime artifact for API %s, "
-                                + "gateway environment \"%s\"." +
-                                "Skipping runtime artifact for the API.", apiId, label), e);
-                    } catch (IOException e) {
-                        // handle exception inside the loop and continue with other API artifacts
-                        log.error(String.format("Error occurred retrieving input stream from byte array of " +
-                                "API: %s, gateway environment \"%s\".", apiId, label), e);
-                    } catch (SQLException e) {
-                        // handle exception inside the loop and continue with other API artifacts
-                        log.error(String.format("Failed to retrieve Gateway Artifact of API: %s, " +
-                                "gateway environment \"%s\".", apiId, label), e);
+                        // handle exception inside the loop and continue with other API revisions
+                        log.error(String.format("Error resolving vhost while retrieving deployed revision of API %s, "
+                                + "gateway environment \"%s\". Skipping the revision.", apiId, label), e);
                     }
                 }
             }
         } catch (SQLException e) {
-            handleException("Failed to retrieve Gateway Artifact for labels : " + StringUtils.join(",", labels), e);
+            handleException("Failed to retrieve deployed API revisions for labels : "
+                    + String.join(",", labels), e);
         }
-
-        return apiRuntimeArtifactDtoList;
+        return deployedRevisions;
     }
 
     public List<APIRuntimeArtifactDto> retrieveGatewayArtifacts(String tenantDomain)
@@ -46,6 +46,7 @@ import org.wso2.carbon.apimgt.impl.APIManagerConfiguration;
 import org.wso2.carbon.apimgt.impl.ThrottlePolicyConstants;
 import org.wso2.carbon.apimgt.impl.dao.constants.SQLConstants;
 import org.wso2.carbon.apimgt.impl.dao.constants.SubscriptionValidationSQLConstants;
+import org.wso2.carbon.apimgt.impl.dto.CursorPage;
 import org.wso2.carbon.apimgt.impl.internal.ServiceReferenceHolder;
 import org.wso2.carbon.apimgt.impl.utils.APIMgtDBUtil;
 import org.wso2.carbon.apimgt.impl.utils.APIUtil;
@@ -57,7 +58,9 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Timestamp;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Hashtable;
 import java.util.List;
 import java.util.Map;
@@ -118,6 +121,77 @@ public class SubscriptionValidationDAO {
         return subscriptions;
     }
 
+    /*
+     * This method can be used to retrieve a page of the Subscriptions of a given organization, ordered by the
+     * subscription ID. The cursor is the subscription ID of the last entry of the previous page.
+     *
+     * @param organization : organization Id
+     * @param cursor       : subscription ID after which the page starts
+     * @param limit        : maximum number of subscriptions in the page
+     * @return {@link List<Subscription>}
+     * @throws APIManagementException if the page could not be read from the database
+     * */
+    public List<Subscription> getSubscriptionsByOrganization(String organization, int cursor, int limit)
+            throws APIManagementException {
+
+        List<Subscription> subscriptions = new ArrayList<>();
+        try (Connection conn = APIMgtDBUtil.getConnection();
+             PreparedStatement ps = conn.prepareStatement(
+                     SubscriptionValidationSQLConstants.GET_ORGANIZATION_SUBSCRIPTIONS_PAGINATED_SQL)) {
+            ps.setString(1, organization);
+            ps.setInt(2, cursor);
+            ps.setMaxRows(limit);
+            ps.setFetchSize(limit);
+            try (ResultSet resultSet = ps.executeQuery()) {
+                populateSubscriptionsList(subscriptions, resultSet);
+            }
+        } catch (SQLException e) {
+            throw new APIManagementException("Error in loading Subscriptions for the organization : " + organization
+                    + " after cursor : " + cursor, e);
+        }
+        return subscriptions;
+    }
+
+    /*
+     * This method can be used to retrieve the Subscriptions of a given organization which were created or updated
+     * at or after the given time.
+     *
+     * @param organization : organization Id
+     * @param updatedSince : time in milliseconds from which the changes are retrieved
+     * @return {@link List<Subscription>}
+     * @throws APIManagementException if the changes could not be read from the database
+     * */
+    public List<Subscription> getSubscriptionsUpdatedSince(String organization, long updatedSince)
+            throws APIManagementException {
+
+        List<Subscription> subscriptions = new ArrayList<>();
+        try (Connection conn = APIMgtDBUtil.getConnection();
+             PreparedStatement ps = conn.prepareStatement(
+                     SubscriptionValidationSQLConstants.GET_ORGANIZATION_SUBSCRIPTIONS_UPDATED_SINCE_SQL)) {
+            ps.setString(1, organization);
+            ps.setTimestamp(2, new Timestamp(updatedSince));
+            try (ResultSet resultSet = ps.executeQuery()) {
+                populateSubscriptionsList(subscriptions, resultSet);
+            }
+        } catch (SQLException e) {
+            throw new APIManagementException("Error in loading Subscriptions updated since " + updatedSince
+                    + " for the organization : " + organization, e);
+        }
+        return subscriptions;
+    }
+
+    /*
+     * This method can be used to retrieve the number of Subscriptions of a given organization
+     *
+     * @param organization : organization Id
+     * @return number of subscriptions, -1 if the count could not be retrieved
+     * */
+    public int getSubscriptionCountByOrganization(String organization) {
+
+        return getEntityCount(SubscriptionValidationSQLConstants.GET_ORGANIZATION_SUBSCRIPTION_COUNT_SQL,
+                organization);
+    }
+
     /*
      * This method can be used to retrieve all the Applications in the database
      *
@@ -525,6 +599,211 @@ public class SubscriptionValidationDAO {
         return applications;
     }
 
+    /*
+     * This method can be used to retrieve a page of the Applications of a given organization, ordered by the
+     * application ID. The cursor is the application ID of the last entry of the previous page.
+     *
+     * @param organization : organization Id
+     * @param cursor       : application ID after which the page starts
+     * @param limit        : maximum number of applications in the page
+     * @return {@link CursorPage<Application>}
+     * @throws APIManagementException if the page could not be read from the database
+     * */
+    public CursorPage<Application> getApplicationsByOrganization(String organization, int cursor, int limit)
+            throws APIManagementException {
+
+        List<Application> applications = new ArrayList<>();
+        Integer nextCursor;
+        try (Connection conn = APIMgtDBUtil.getConnection()) {
+            // An application spans several rows because of its attributes and groups, hence the page is bounded by
+            // the ID of the last application it may hold instead of by a row count.
+            List<Integer> pageAppIds = getPageApplicationIds(conn,
+                    SubscriptionValidationSQLConstants.GET_APPLICATION_IDS_BY_ORGANIZATION_SQL, organization, cursor,
+                    limit);
+            if (pageAppIds.isEmpty()) {
+                return new CursorPage<>(applications, null);
+            }
+            int lastAppId = pageAppIds.get(pageAppIds.size() - 1);
+            nextCursor = pageAppIds.size() >= limit ? lastAppId : null;
+            try (PreparedStatement ps = conn.prepareStatement(
+                    SubscriptionValidationSQLConstants.GET_APPLICATIONS_BY_ORGANIZATION_PAGINATED_SQL)) {
+                ps.setString(1, organization);
+                ps.setInt(2, cursor);
+                ps.setInt(3, lastAppId);
+                ps.setFetchSize(limit);
+                try (ResultSet resultSet = ps.executeQuery()) {
+                    addToApplicationPage(applications, resultSet);
+                }
+            }
+        } catch (SQLException e) {
+            throw new APIManagementException("Error in loading Applications for organization : " + organization
+                    + " after cursor : " + cursor, e);
+        }
+        return new CursorPage<>(applications, nextCursor);
+    }
+
+    private void addToApplicationPage(List<Application> applications, ResultSet resultSet) throws SQLException {
+
+        Map<Integer, Application> applicationsById = new HashMap<>();
+        while (resultSet.next()) {
+            int appId = resultSet.getInt("APP_ID");
+            Application application = applicationsById.get(appId);
+            if (application == null) {
+                application = new Application();
+                application.setId(appId);
+                application.setUuid(resultSet.getString("APP_UUID"));
+                application.setPolicy(resultSet.getString("TIER"));
+                application.setSubName(resultSet.getString("SUB_NAME"));
+                application.setName(resultSet.getString("APS_NAME"));
+                application.setTokenType(resultSet.getString("TOKEN_TYPE"));
+                application.setOrganization(resultSet.getString("ORGANIZATION"));
+                applicationsById.put(appId, application);
+                applications.add(application);
+            }
+            String attributeName = resultSet.getString("ATTRIBUTE_NAME");
+            String attributeValue = resultSet.getString("ATTRIBUTE_VALUE");
+            if (StringUtils.isNotEmpty(attributeName)) {
+                application.addAttribute(attributeName, attributeValue);
+            }
+            String groupId = resultSet.getString("GROUP_ID");
+            if (StringUtils.isNotEmpty(groupId)) {
+                application.addGroupId(groupId);
+            }
+        }
+    }
+
+    /*
+     * Returns the IDs of the applications of a page starting after the given cursor. The ID query is read with the
+     * page size as the maximum number of rows, so the database never returns more than one page of IDs. The last ID
+     * bounds the page query, and a full list of IDs means that the next page starts after it.
+     *
+     * @return the application IDs of the page in ascending order, empty if there are no entries after the cursor
+     * */
+    private List<Integer> getPageApplicationIds(Connection conn, String idQuery, String organization, int cursor,
+                                                int limit) throws SQLException {
+
+        List<Integer> applicationIds = new ArrayList<>();
+        try (PreparedStatement ps = conn.prepareStatement(idQuery)) {
+            ps.setString(1, organization);
+            ps.setInt(2, cursor);
+            ps.setMaxRows(limit);
+            ps.setFetchSize(limit);
+            try (ResultSet resultSet = ps.executeQuery()) {
+                while (resultSet.next()) {
+                    applicationIds.add(resultSet.getInt("APP_ID"));
+                }
+            }
+        }
+        return applicationIds;
+    }
+
+    /*
+     * This method can be used to retrieve the Applications of a given organization which were created or updated
+     * at or after the given time.
+     *
+     * @param organization : organization Id
+     * @param updatedSince : time in milliseconds from which the changes are retrieved
+     * @return {@link List<Application>}
+     * @throws APIManagementException if the changes could not be read from the database
+     * */
+    public List<Application> getApplicationsUpdatedSince(String organization, long updatedSince)
+            throws APIManagementException {
+
+        ArrayList<Application> applications = new ArrayList<>();
+        try (Connection conn = APIMgtDBUtil.getConnection();
+             PreparedStatement ps = conn.prepareStatement(
+                     SubscriptionValidationSQLConstants.GET_APPLICATIONS_BY_ORGANIZATION_UPDATED_SINCE_SQL)) {
+            ps.setString(1, organization);
+            ps.setTimestamp(2, new Timestamp(updatedSince));
+            try (ResultSet resultSet = ps.executeQuery()) {
+                addToApplicationList(applications, resultSet);
+            }
+        } catch (SQLException e) {
+            throw new APIManagementException("Error in loading Applications updated since " + updatedSince
+                    + " for organization : " + organization, e);
+        }
+        return applications;
+    }
+
+    /*
+     * This method can be used to retrieve the number of Applications of a given organization
+     *
+     * @param organization : organization Id
+     * @return number of applications, -1 if the count could not be retrieved
+     * */
+    public int getApplicationCountByOrganization(String organization) {
+
+        return getEntityCount(SubscriptionValidationSQLConstants.GET_APPLICATION_COUNT_BY_ORGANIZATION_SQL,
+                organization);
+    }
+
+    private int getEntityCount(String countQuery, String organization) {
+
+        try (Connection conn = APIMgtDBUtil.getConnection();
+             PreparedStatement ps = conn.prepareStatement(countQuery)) {
+            ps.setString(1, organization);
+            try (ResultSet resultSet = ps.executeQuery()) {
+                if (resultSet.next()) {
+                    return resultSet.getInt("ENTITY_COUNT");
+                }
+            }
+        } catch (SQLException e) {
+            log.error("Error in counting entities for organization : " + organization, e);
+        }
+        return -1;
+    }
+
+    /*
+     * This method can be used to retrieve a page of the Application key mappings of a given organization, ordered by
+     * the application ID. The cursor is the application ID of the last entry of the previous page. Key mappings of
+     * an application are never split across pages, so a page holds the key mappings of at most limit applications.
+     *
+     * @param organization : organization Id
+     * @param cursor       : application ID after which the page starts
+     * @param limit        : maximum number of applications whose key mappings are in the page
+     * @return {@link CursorPage<ApplicationKeyMapping>}
+     * @throws APIManagementException if the page could not be read from the database
+     * */
+    public CursorPage<ApplicationKeyMapping> getApplicationKeyMappingsByOrganization(String organization, int cursor,
+                                                                                     int limit)
+            throws APIManagementException {
+
+        List<ApplicationKeyMapping> keyMappings = new ArrayList<>();
+        Integer nextCursor;
+        try (Connection conn = APIMgtDBUtil.getConnection()) {
+            List<Integer> pageAppIds = getPageApplicationIds(conn,
+                    SubscriptionValidationSQLConstants.GET_ORGANIZATION_AM_KEY_MAPPING_APPLICATION_IDS_SQL,
+                    organization, cursor, limit);
+            if (pageAppIds.isEmpty()) {
+                return new CursorPage<>(keyMappings, null);
+            }
+            int lastAppId = pageAppIds.get(pageAppIds.size() - 1);
+            nextCursor = pageAppIds.size() >= limit ? lastAppId : null;
+            try (PreparedStatement ps = conn.prepareStatement(
+                    SubscriptionValidationSQLConstants.GET_ORGANIZATION_AM_KEY_MAPPING_PAGINATED_SQL)) {
+                ps.setString(1, organization);
+                ps.setInt(2, cursor);
+                ps.setInt(3, lastAppId);
+                ps.setFetchSize(limit);
+                try (ResultSet resultSet = ps.executeQuery()) {
+                    while (resultSet.next()) {
+                        ApplicationKeyMapping keyMapping = new ApplicationKeyMapping();
+                        keyMapping.setApplicationId(resultSet.getInt("APPLICATION_ID"));
+                        keyMapping.setConsumerKey(resultSet.getString("CONSUMER_KEY"));
+                        keyMapping.setKeyType(resultSet.getString("KEY_TYPE"));
+                        keyMapping.setKeyManager(resultSet.getString("KEY_MANAGER"));
+                        keyMapping.setApplicationUUID(resultSet.getString("UUID"));
+                        keyMappings.add(keyMapping);
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            throw new APIManagementException("Error in loading Application key mappings for organization : "
+                    + organization + " after cursor : " + cursor, e);
+        }
+        return new CursorPage<>(keyMappings, nextCursor);
+    }
+
     /*
      * @param subscriptionId : unique identifier of a subscription
      * @return {@link Subscription}
@@ -272,6 +272,7 @@ public class SQLConstants {
             " UPDATE AM_SUBSCRIPTION " +
             " SET TIER_ID_PENDING = ? " +
             " , SUB_STATUS = ? " +
+            " , UPDATED_TIME = ? " +
             " WHERE UUID = ?";
 
     public static final String GET_SUBSCRIPTION_UUID_SQL =
@@ -297,7 +298,8 @@ public class SQLConstants {
 
     public static final String UPDATE_SUBSCRIPTION_SQL =
             " UPDATE AM_SUBSCRIPTION " +
-            " SET SUBS_CREATE_STATE = '" + APIConstants.SubscriptionCreatedStatus.UN_SUBSCRIBE + "' " +
+            " SET SUBS_CREATE_STATE = '" + APIConstants.SubscriptionCreatedStatus.UN_SUBSCRIBE + "', " +
+            " UPDATED_TIME = ? " +
             " WHERE UUID = ?";
 
     public static final String REMOVE_SUBSCRIPTION_SQL =
@@ -751,6 +753,7 @@ public class SQLConstants {
     public static final String UPDATE_SUBSCRIPTION_STATUS_SQL =
             " UPDATE AM_SUBSCRIPTION " +
             " SET SUB_STATUS = ? " +
+            " , UPDATED_TIME = ? " +
             " WHERE SUBSCRIPTION_ID = ?";
 
     public static final String UPDATE_SUBSCRIPTION_STATUS_AND_TIER_SQL =
@@ -758,11 +761,13 @@ public class SQLConstants {
                     " SET TIER_ID_PENDING = ? " +
                     " , TIER_ID = ? " +
                     " , SUB_STATUS = ? " +
+                    " , UPDATED_TIME = ? " +
                     " WHERE SUBSCRIPTION_ID = ?";
 
     public static final String UPDATE_SUBSCRIPTION_TIER_SQL =
             " UPDATE AM_SUBSCRIPTION " +
                     " SET TIER_ID = ? " +
+                    " , UPDATED_TIME = ? " +
                     " WHERE SUBSCRIPTION_ID = ?";
 
     public static final String GET_REGISTRATION_APPROVAL_STATUS_SQL =
@@ -1172,10 +1177,14 @@ public class SQLConstants {
             "UPDATE AM_APPLICATION " +
             " SET " +
                 "CREATED_BY = ? , " +
-                "SUBSCRIBER_ID = ? " +
+                "SUBSCRIBER_ID = ? , " +
+                "UPDATED_TIME = ? " +
             " WHERE " +
             "   UUID = ? ";
 
+    public static final String UPDATE_APPLICATION_UPDATED_TIME_SQL =
+            "UPDATE AM_APPLICATION SET UPDATED_TIME = ? WHERE APPLICATION_ID = ?";
+
         public static final String GET_APPLICATIONS_COUNNT_CASESENSITVE_WITHGROUPID = "SELECT " +
                 "   count(*) count " +
                 " FROM" +
@@ -3004,6 +3013,25 @@ public class SQLConstants {
                     "AM_API.API_UUID=AM_GW_API_DEPLOYMENTS.API_ID AND " +
                     "AM_GW_API_ARTIFACTS.REVISION_ID=AM_GW_API_DEPLOYMENTS.REVISION_ID";
 
+    public static final String RETRIEVE_DEPLOYED_REVISIONS_BY_LABEL =
+            "SELECT AM_GW_API_DEPLOYMENTS.API_ID AS API_ID,AM_GW_API_DEPLOYMENTS.REVISION_ID AS REVISION_ID," +
+                    "AM_GW_API_DEPLOYMENTS.LABEL AS LABEL,AM_GW_API_DEPLOYMENTS.VHOST AS VHOST," +
+                    "AM_DEPLOYMENT_REVISION_MAPPING.DEPLOYED_TIME AS DEPLOYED_TIME FROM " +
+                    "AM_GW_API_DEPLOYMENTS INNER JOIN AM_GW_PUBLISHED_API_DETAILS ON " +
+                    "AM_GW_PUBLISHED_API_DETAILS.API_ID=AM_GW_API_DEPLOYMENTS.API_ID " +
+                    "LEFT JOIN AM_DEPLOYMENT_REVISION_MAPPING ON " +
+                    "AM_DEPLOYMENT_REVISION_MAPPING.NAME=AM_GW_API_DEPLOYMENTS.LABEL AND " +
+                    "AM_DEPLOYMENT_REVISION_MAPPING.REVISION_UUID=AM_GW_API_DEPLOYMENTS.REVISION_ID WHERE " +
+                    "AM_GW_API_DEPLOYMENTS.LABEL IN (_GATEWAY_LABELS_) AND " +
+                    "AM_GW_PUBLISHED_API_DETAILS.TENANT_DOMAIN = ?";
+    public static final String RETRIEVE_ALL_DEPLOYED_REVISIONS_BY_LABEL =
+            "SELECT AM_GW_API_DEPLOYMENTS.API_ID AS API_ID,AM_GW_API_DEPLOYMENTS.REVISION_ID AS REVISION_ID," +
+                    "AM_GW_API_DEPLOYMENTS.LABEL AS LABEL,AM_GW_API_DEPLOYMENTS.VHOST AS VHOST," +
+                    "AM_DEPLOYMENT_REVISION_MAPPING.DEPLOYED_TIME AS DEPLOYED_TIME FROM " +
+                    "AM_GW_API_DEPLOYMENTS LEFT JOIN AM_DEPLOYMENT_REVISION_MAPPING ON " +
+                    "AM_DEPLOYMENT_REVISION_MAPPING.NAME=AM_GW_API_DEPLOYMENTS.LABEL AND " +
+                    "AM_DEPLOYMENT_REVISION_MAPPING.REVISION_UUID=AM_GW_API_DEPLOYMENTS.REVISION_ID WHERE " +
+                    "AM_GW_API_DEPLOYMENTS.LABEL IN (_GATEWAY_LABELS_)";
     public static final String RETRIEVE_ALL_ARTIFACTS_BY_LABEL =
             "SELECT AM_GW_API_DEPLOYMENTS.API_ID AS API_ID,AM_GW_API_DEPLOYMENTS.REVISION_ID AS REVISION_ID," +
                     "AM_GW_PUBLISHED_API_DETAILS" +
@@ -61,6 +61,18 @@ public class SubscriptionValidationSQLConstants {
                     "   APP.SUBSCRIBER_ID = SUB.SUBSCRIBER_ID AND" +
                     "   SUB.TENANT_ID = ? ";
 
+    private static final String APPLICATIONS_BY_ORGANIZATION_FROM_WHERE =
+            " FROM " +
+                    "   AM_SUBSCRIBER SUB," +
+                    "   AM_APPLICATION APP" +
+                    "   LEFT OUTER JOIN AM_APPLICATION_ATTRIBUTES ATTRIBUTES" +
+                    "  ON APP.APPLICATION_ID = ATTRIBUTES.APPLICATION_ID" +
+                    "   LEFT OUTER JOIN AM_APPLICATION_GROUP_MAPPING GROUP_MAP" +
+                    "  ON APP.APPLICATION_ID = GROUP_MAP.APPLICATION_ID" +
+                    " WHERE " +
+                    "   APP.SUBSCRIBER_ID = SUB.SUBSCRIBER_ID AND" +
+                    "   APP.ORGANIZATION = ? ";
+
     public static final String GET_APPLICATIONS_BY_ORGANIZATION_SQL =
             " SELECT " +
                     "   APP.UUID AS APP_UUID," +
@@ -73,13 +85,33 @@ public class SubscriptionValidationSQLConstants {
                     "   ATTRIBUTES.NAME AS ATTRIBUTE_NAME," +
                     "   ATTRIBUTES.APP_ATTRIBUTE AS ATTRIBUTE_VALUE," +
                     "   GROUP_MAP.GROUP_ID AS GROUP_ID" +
+                    APPLICATIONS_BY_ORGANIZATION_FROM_WHERE;
+
+    public static final String GET_APPLICATIONS_BY_ORGANIZATION_PAGINATED_SQL =
+            GET_APPLICATIONS_BY_ORGANIZATION_SQL +
+                    " AND APP.APPLICATION_ID > ?" +
+                    " AND APP.APPLICATION_ID <= ?" +
+                    " ORDER BY APP.APPLICATION_ID";
+
+    // Read with the page size as the maximum number of rows; the last ID returned bounds the page. Shares the FROM
+    // and WHERE clauses of the page query so that every ID counted here has its rows in the page.
+    public static final String GET_APPLICATION_IDS_BY_ORGANIZATION_SQL =
+            " SELECT DISTINCT " +
+                    "   APP.APPLICATION_ID AS APP_ID" +
+                    APPLICATIONS_BY_ORGANIZATION_FROM_WHERE +
+                    " AND APP.APPLICATION_ID > ?" +
+                    " ORDER BY APP.APPLICATION_ID";
+
+    public static final String GET_APPLICATIONS_BY_ORGANIZATION_UPDATED_SINCE_SQL =
+            GET_APPLICATIONS_BY_ORGANIZATION_SQL +
+                    " AND APP.UPDATED_TIME >= ?";
+
+    public static final String GET_APPLICATION_COUNT_BY_ORGANIZATION_SQL =
+            " SELECT " +
+                    "   COUNT(APP.APPLICATION_ID) AS ENTITY_COUNT" +
                     " FROM " +
                     "   AM_SUBSCRIBER SUB," +
                     "   AM_APPLICATION APP" +
-                    "   LEFT OUTER JOIN AM_APPLICATION_ATTRIBUTES ATTRIBUTES" +
-                    "  ON APP.APPLICATION_ID = ATTRIBUTES.APPLICATION_ID" +
-                    "   LEFT OUTER JOIN AM_APPLICATION_GROUP_MAPPING GROUP_MAP" +
-                    "  ON APP.APPLICATION_ID = GROUP_MAP.APPLICATION_ID" +
                     " WHERE " +
                     "   APP.SUBSCRIBER_ID = SUB.SUBSCRIBER_ID AND" +
                     "   APP.ORGANIZATION = ? ";
@@ -132,6 +164,26 @@ public class SubscriptionValidationSQLConstants {
                     "   SUBS.APPLICATION_ID = APP.APPLICATION_ID AND " +
                     "   APP.SUBSCRIBER_ID = SUB.SUBSCRIBER_ID AND " +
                     "   APP.ORGANIZATION = ? ";
+    public static final String GET_ORGANIZATION_SUBSCRIPTIONS_PAGINATED_SQL =
+            GET_ORGANIZATION_SUBSCRIPTIONS_SQL +
+                    " AND SUBS.SUBSCRIPTION_ID > ?" +
+                    " ORDER BY SUBS.SUBSCRIPTION_ID";
+    public static final String GET_ORGANIZATION_SUBSCRIPTIONS_UPDATED_SINCE_SQL =
+            GET_ORGANIZATION_SUBSCRIPTIONS_SQL +
+                    " AND SUBS.UPDATED_TIME >= ?";
+    public static final String GET_ORGANIZATION_SUBSCRIPTION_COUNT_SQL =
+            "SELECT " +
+                    "   COUNT(SUBS.SUBSCRIPTION_ID) AS ENTITY_COUNT" +
+                    " FROM " +
+                    "   AM_SUBSCRIPTION SUBS," +
+                    "   AM_APPLICATION APP," +
+                    "   AM_API API," +
+                    "   AM_SUBSCRIBER SUB" +
+                    " WHERE " +
+                    "   SUBS.API_ID = API.API_ID AND " +
+                    "   SUBS.APPLICATION_ID = APP.APPLICATION_ID AND " +
+                    "   APP.SUBSCRIBER_ID = SUB.SUBSCRIBER_ID AND " +
+                    "   APP.ORGANIZATION = ? ";
     public static final String GET_ALL_SUBSCRIPTIONS_SQL =
             "SELECT " +
                     "   SUBS.UUID AS SUBSCRIPTION_UUID," +
@@ -543,14 +595,29 @@ public class SubscriptionValidationSQLConstants {
                     " WHERE " +
                     "   MAPPING.APPLICATION_ID = APP.APPLICATION_ID AND APP.SUBSCRIBER_ID = SUB.SUBSCRIBER_ID AND" +
                     "   MAPPING.KEY_MANAGER = KEYM.UUID";
-    public static final String GET_ORGANIZATION_AM_KEY_MAPPING_SQL =
-            "SELECT APP.UUID,MAPPING.APPLICATION_ID, MAPPING.CONSUMER_KEY,MAPPING.KEY_TYPE,KEYM.NAME AS KEY_MANAGER," +
-                    "MAPPING.STATE" +
-                    " FROM " +
+    private static final String ORGANIZATION_AM_KEY_MAPPING_FROM_WHERE =
+            " FROM " +
                     "   AM_APPLICATION_KEY_MAPPING MAPPING,AM_APPLICATION APP,AM_SUBSCRIBER SUB,AM_KEY_MANAGER KEYM" +
                     " WHERE " +
                     "   MAPPING.APPLICATION_ID = APP.APPLICATION_ID AND APP.SUBSCRIBER_ID = SUB.SUBSCRIBER_ID AND" +
                     "   MAPPING.KEY_MANAGER = KEYM.UUID AND APP.ORGANIZATION = ?";
+    public static final String GET_ORGANIZATION_AM_KEY_MAPPING_SQL =
+            "SELECT APP.UUID,MAPPING.APPLICATION_ID, MAPPING.CONSUMER_KEY,MAPPING.KEY_TYPE,KEYM.NAME AS KEY_MANAGER," +
+                    "MAPPING.STATE" +
+                    ORGANIZATION_AM_KEY_MAPPING_FROM_WHERE;
+    public static final String GET_ORGANIZATION_AM_KEY_MAPPING_PAGINATED_SQL =
+            GET_ORGANIZATION_AM_KEY_MAPPING_SQL +
+                    " AND MAPPING.APPLICATION_ID > ?" +
+                    " AND MAPPING.APPLICATION_ID <= ?" +
+                    " ORDER BY MAPPING.APPLICATION_ID";
+
+    // Read with the page size as the maximum number of rows; the last ID returned bounds the page. Shares the FROM
+    // and WHERE clauses of the page query, so mappings of a deleted key manager are skipped by both.
+    public static final String GET_ORGANIZATION_AM_KEY_MAPPING_APPLICATION_IDS_SQL =
+            "SELECT DISTINCT MAPPING.APPLICATION_ID AS APP_ID" +
+                    ORGANIZATION_AM_KEY_MAPPING_FROM_WHERE +
+                    " AND MAPPING.APPLICATION_ID > ?" +
+                    " ORDER BY MAPPING.APPLICATION_ID";
 
     public static final String GET_ALL_GLOBAL_POLICIES_SQL =
             " SELECT " +
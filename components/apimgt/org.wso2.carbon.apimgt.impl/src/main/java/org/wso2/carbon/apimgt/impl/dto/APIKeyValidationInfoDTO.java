@@ -61,6 +61,10 @@ public class APIKeyValidationInfoDTO implements Serializable {
     private String subscriberTenantDomain;
     private String spikeArrestUnit;
     private String applicationSpikeArrestUnit;
+    private long subscriptionRequestCountLimit;
+    private long subscriptionRequestCountPeriod;
+    private long applicationRequestCountLimit;
+    private long applicationRequestCountPeriod;
     private boolean stopOnQuotaReach;
     //keeps productId of product for which the key was validated, if key was validated for an api this will be null
     private String productName;
@@ -119,6 +123,39 @@ public class APIKeyValidationInfoDTO implements Serializable {
     public void setApplicationSpikeArrestLimit(int applicationSpikeArrestLimit) {
         this.applicationSpikeArrestLimit = applicationSpikeArrestLimit;
     }
+
+    public long getSubscriptionRequestCountLimit() {
+        return subscriptionRequestCountLimit;
+    }
+
+    public void setSubscriptionRequestCountLimit(long subscriptionRequestCountLimit) {
+        this.subscriptionRequestCountLimit = subscriptionRequestCountLimit;
+    }
+
+    public long getSubscriptionRequestCountPeriod() {
+        return subscriptionRequestCountPeriod;
+    }
+
+    public void setSubscriptionRequestCountPeriod(long subscriptionRequestCountPeriod) {
+        this.subscriptionRequestCountPeriod = subscriptionRequestCountPeriod;
+    }
+
+    public long getApplicationRequestCountLimit() {
+        return applicationRequestCountLimit;
+    }
+
+    public void setApplicationRequestCountLimit(long applicationRequestCountLimit) {
+        this.applicationRequestCountLimit = applicationRequestCountLimit;
+    }
+
+    public long getApplicationRequestCountPeriod() {
+        return applicationRequestCountPeriod;
+    }
+
+    public void setApplicationRequestCountPeriod(long applicationRequestCountPeriod) {
+        this.applicationRequestCountPeriod = applicationRequestCountPeriod;
+    }
+
     public boolean isAuthorized() {
         return authorized;
     }
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.impl.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A page of entries read after a keyset cursor, together with the cursor of the page that follows it.
+ *
+ * @param <T> entry type
+ */
+public class CursorPage<T> {
+
+    private final List<T> entries;
+    private final Integer nextCursor;
+
+    public CursorPage(List<T> entries, Integer nextCursor) {
+
+        this.entries = entries != null ? entries : new ArrayList<>();
+        this.nextCursor = nextCursor;
+    }
+
+    public List<T> getEntries() {
+
+        return entries;
+    }
+
+    /**
+     * Returns the cursor after which the next page starts.
+     *
+     * @return the next cursor, or null if this is the last page
+     */
+    public Integer getNextCursor() {
+
+        return nextCursor;
+    }
+}
@@ -24,6 +24,13 @@ public class EventHubConfigurationDto {
     private boolean enabled = false;
     private String serviceUrl;
     private int initDelay = 1000;
+    private int dataLoadPageSize = 0;
+    private int dataLoadConcurrency = 7;
+    private boolean deltaSyncOnReconnect = false;
+    private long deltaSyncTimeMargin = 60000;
+    private boolean batchNotifications = false;
+    private long notificationBatchWindow = 100;
+    private int notificationMaxBatchSize = 500;
     private String username;
     private char[] password;
     private EventHubReceiverConfiguration eventHubReceiverConfiguration;
@@ -60,6 +67,101 @@ public class EventHubConfigurationDto {
         this.initDelay = initDelay;
     }
 
+    /**
+     * Page size used when loading subscriptions, applications and key mappings from the internal data service.
+     * A value less than or equal to zero loads each entity type in a single call.
+     */
+    public int getDataLoadPageSize() {
+
+        return dataLoadPageSize;
+    }
+
+    public void setDataLoadPageSize(int dataLoadPageSize) {
+
+        this.dataLoadPageSize = dataLoadPageSize;
+    }
+
+    /**
+     * Number of threads used to load the subscription data of a tenant during the initial data load.
+     */
+    public int getDataLoadConcurrency() {
+
+        return dataLoadConcurrency;
+    }
+
+    public void setDataLoadConcurrency(int dataLoadConcurrency) {
+
+        this.dataLoadConcurrency = dataLoadConcurrency;
+    }
+
+    /**
+     * Whether the subscription data stores are synced with the changes since the last received event on a
+     * reconnection to the event hub, instead of being reloaded in full.
+     */
+    public boolean isDeltaSyncOnReconnect() {
+
+        return deltaSyncOnReconnect;
+    }
+
+    public void setDeltaSyncOnReconnect(boolean deltaSyncOnReconnect) {
+
+        this.deltaSyncOnReconnect = deltaSyncOnReconnect;
+    }
+
+    /**
+     * Time in milliseconds by which the delta sync goes back beyond the last received event, to tolerate clock
+     * differences between the control plane nodes and events delivered out of order.
+     */
+    public long getDeltaSyncTimeMargin() {
+
+        return deltaSyncTimeMargin;
+    }
+
+    public void setDeltaSyncTimeMargin(long deltaSyncTimeMargin) {
+
+        this.deltaSyncTimeMargin = deltaSyncTimeMargin;
+    }
+
+    /**
+     * Whether subscription, application and application key mapping events are coalesced per entity and published
+     * to the gateways in batches, instead of one notification per event.
+     */
+    public boolean isBatchNotifications() {
+
+        return batchNotifications;
+    }
+
+    public void setBatchNotifications(boolean batchNotifications) {
+
+        this.batchNotifications = batchNotifications;
+    }
+
+    /**
+     * Time in milliseconds events are held to be coalesced before their batch is published.
+     */
+    public long getNotificationBatchWindow() {
+
+        return notificationBatchWindow;
+    }
+
+    public void setNotificationBatchWindow(long notificationBatchWindow) {
+
+        this.notificationBatchWindow = notificationBatchWindow;
+    }
+
+    /**
+     * Number of events after which a batch is published without waiting for the end of the batch window.
+     */
+    public int getNotificationMaxBatchSize() {
+
+        return notificationMaxBatchSize;
+    }
+
+    public void setNotificationMaxBatchSize(int notificationMaxBatchSize) {
+
+        this.notificationMaxBatchSize = notificationMaxBatchSize;
+    }
+
     public EventHubReceiverConfiguration getEventHubReceiverConfiguration() {
 
         return eventHubReceiverConfiguration;
@@ -19,6 +19,8 @@ public class GatewayArtifactSynchronizerProperties {
     private String gatewayStartup = "sync";
     private long eventWaitingTime = 1;
     private boolean onDemandLoading;
+    private int deploymentThreadPoolSize = 1;
+    private boolean localArtifactCacheEnabled;
 
 
     public String getSaverName() {
@@ -148,4 +150,32 @@ public class GatewayArtifactSynchronizerProperties {
     public boolean isOnDemandLoading() {
         return onDemandLoading;
     }
+
+    /**
+     * @return number of threads decoding the API artifacts in parallel when deploying all APIs. The APIs are
+     * deployed one by one, in order, using the decoded artifacts.
+     */
+    public int getDeploymentThreadPoolSize() {
+
+        return deploymentThreadPoolSize;
+    }
+
+    public void setDeploymentThreadPoolSize(int deploymentThreadPoolSize) {
+
+        this.deploymentThreadPoolSize = deploymentThreadPoolSize;
+    }
+
+    /**
+     * @return true if the deployed API artifacts are stored on the local disk, so that the APIs whose revision has
+     * not changed are deployed from disk at the next gateway startup
+     */
+    public boolean isLocalArtifactCacheEnabled() {
+
+        return localArtifactCacheEnabled;
+    }
+
+    public void setLocalArtifactCacheEnabled(boolean localArtifactCacheEnabled) {
+
+        this.localArtifactCacheEnabled = localArtifactCacheEnabled;
+    }
 }
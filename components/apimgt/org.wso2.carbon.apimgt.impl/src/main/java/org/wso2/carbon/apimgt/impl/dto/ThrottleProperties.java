@@ -24,8 +24,8 @@ public class ThrottleProperties {
     private boolean enabledSubscriptionLevelSpikeArrest;
     private DataPublisher dataPublisher;
     private GlobalEngineWSConnection globalEngineWSConnection;
-    private DataPublisherPool dataPublisherPool;
-    private DataPublisherThreadPool dataPublisherThreadPool;
+    private DataPublisherEventBuffer dataPublisherEventBuffer = new DataPublisherEventBuffer();
+    private LocalThrottling localThrottling = new LocalThrottling();
     private JMSConnectionProperties jmsConnectionProperties;
     private boolean enableUnlimitedTier;
     private String throttleDataSourceName;
@@ -57,12 +57,20 @@ public class ThrottleProperties {
         this.enabledSubscriptionLevelSpikeArrest = enabledSubscriptionLevelSpikeArrest;
     }
 
-    public DataPublisherThreadPool getDataPublisherThreadPool() {
-        return dataPublisherThreadPool;
+    public DataPublisherEventBuffer getDataPublisherEventBuffer() {
+        return dataPublisherEventBuffer;
     }
 
-    public void setDataPublisherThreadPool(DataPublisherThreadPool dataPublisherThreadPool) {
-        this.dataPublisherThreadPool = dataPublisherThreadPool;
+    public void setDataPublisherEventBuffer(DataPublisherEventBuffer dataPublisherEventBuffer) {
+        this.dataPublisherEventBuffer = dataPublisherEventBuffer;
+    }
+
+    public LocalThrottling getLocalThrottling() {
+        return localThrottling;
+    }
+
+    public void setLocalThrottling(LocalThrottling localThrottling) {
+        this.localThrottling = localThrottling;
     }
 
     public BlockCondition getBlockCondition() {
@@ -113,14 +121,6 @@ public class ThrottleProperties {
         this.globalEngineWSConnection = globalEngineWSConnection;
     }
 
-    public DataPublisherPool getDataPublisherPool() {
-        return dataPublisherPool;
-    }
-
-    public void setDataPublisherPool(DataPublisherPool dataPublisherPool) {
-        this.dataPublisherPool = dataPublisherPool;
-    }
-
     public JMSConnectionProperties getJmsConnectionProperties() {
         return jmsConnectionProperties;
     }
@@ -277,27 +277,6 @@ public class ThrottleProperties {
     }
 
 
-    public static class DataPublisherPool {
-        private int maxIdle = 1000;
-        private int initIdleCapacity = 200;
-
-        public int getMaxIdle() {
-            return maxIdle;
-        }
-
-        public void setMaxIdle(int maxIdle) {
-            this.maxIdle = maxIdle;
-        }
-
-        public int getInitIdleCapacity() {
-            return initIdleCapacity;
-        }
-
-        public void setInitIdleCapacity(int initIdleCapacity) {
-            this.initIdleCapacity = initIdleCapacity;
-        }
-    }
-
     public static class GlobalEngineWSConnection {
         private String dataSource;
         private boolean enabled = false;
@@ -576,34 +555,73 @@ public class ThrottleProperties {
         }
     }
 
-    public static class DataPublisherThreadPool {
-        private int corePoolSize = 200;
-        private int maximumPoolSize = 500;
-        private long keepAliveTime = 100;
+    /**
+     * Ring buffers in which the gateway writes throttle events before they are flushed to the traffic manager in
+     * batches. The slots are split across the publisher threads. A publisher thread flushes up to the batch size at
+     * a time and waits at most the flush interval (in milliseconds) when its ring buffer is empty.
+     */
+    public static class DataPublisherEventBuffer {
+        private int size = 16384;
+        private int batchSize = 200;
+        private long flushInterval = 20;
+        private int publisherThreads = 4;
 
-        public int getCorePoolSize() {
+        public int getSize() {
+            return size;
+        }
 
-            return corePoolSize;
+        public void setSize(int size) {
+            this.size = size;
         }
 
-        public void setCorePoolSize(int corePoolSize) {
-            this.corePoolSize = corePoolSize;
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        public void setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        public long getFlushInterval() {
+            return flushInterval;
+        }
+
+        public void setFlushInterval(long flushInterval) {
+            this.flushInterval = flushInterval;
+        }
+
+        public int getPublisherThreads() {
+            return publisherThreads;
+        }
+
+        public void setPublisherThreads(int publisherThreads) {
+            this.publisherThreads = publisherThreads;
         }
+    }
+
+    /**
+     * Node local token buckets that throttle subscription and application level requests before the traffic
+     * manager decision arrives. Each gateway enforces its share of the quota, that is the policy limit divided by
+     * the gateway count, while the global decision remains the backstop.
+     */
+    public static class LocalThrottling {
+        private boolean enabled = false;
+        private int gatewayCount = 1;
 
-        public int getMaximumPoolSize() {
-            return maximumPoolSize;
+        public boolean isEnabled() {
+            return enabled;
         }
 
-        public void setMaximumPoolSize(int maximumPoolSize) {
-            this.maximumPoolSize = maximumPoolSize;
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
         }
 
-        public long getKeepAliveTime() {
-            return keepAliveTime;
+        public int getGatewayCount() {
+            return gatewayCount;
         }
 
-        public void setKeepAliveTime(long keepAliveTime) {
-            this.keepAliveTime = keepAliveTime;
+        public void setGatewayCount(int gatewayCount) {
+            this.gatewayCount = gatewayCount;
         }
     }
 
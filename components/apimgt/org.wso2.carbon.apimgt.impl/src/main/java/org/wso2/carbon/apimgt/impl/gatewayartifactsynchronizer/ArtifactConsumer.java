@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.impl.gatewayartifactsynchronizer;
+
+import org.wso2.carbon.apimgt.api.APIManagementException;
+
+/**
+ * Consumer of gateway artifacts which are handed over one by one while they are being read or generated, so that the
+ * artifacts of all the APIs need not be held in memory at once.
+ *
+ * @param <T> artifact type
+ */
+@FunctionalInterface
+public interface ArtifactConsumer<T> {
+
+    /**
+     * @param artifact artifact read or generated
+     * @throws APIManagementException if the artifact could not be consumed, which stops reading further artifacts
+     */
+    void accept(T artifact) throws APIManagementException;
+}
@@ -18,10 +18,13 @@
 
 package org.wso2.carbon.apimgt.impl.gatewayartifactsynchronizer;
 
+import org.wso2.carbon.apimgt.impl.gatewayartifactsynchronizer.dto.DeployedRevisionDto;
 import org.wso2.carbon.apimgt.impl.gatewayartifactsynchronizer.exception.ArtifactSynchronizerException;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * This is a Artifact Retriever type. this interface let users to retriever API artifacts from a storage.
@@ -67,6 +70,62 @@ public interface ArtifactRetriever {
      */
      List<String> retrieveAllArtifacts(String gatewayLabel, String tenantDomain) throws ArtifactSynchronizerException;
 
+    /**
+     * This method is used to retrieve data from the storage, handing over each artifact to the consumer as soon as it
+     * is retrieved. Retrievers which can read the artifacts one by one should override this method, so that the
+     * artifacts of all the APIs need not be held in memory at once. The consumer may deploy each artifact before
+     * returning, so that the artifacts are deployed as they arrive.
+     *
+     * @param gatewayLabel     - Label subscribed by the gateway
+     * @param tenantDomain     - Tenant Domain
+     * @param artifactConsumer - Consumer of the information about each API and its gateway artifacts
+     * @throws ArtifactSynchronizerException if there are any errors when retrieving the Artifacts
+     */
+    default void retrieveAllArtifacts(String gatewayLabel, String tenantDomain, Consumer<String> artifactConsumer)
+            throws ArtifactSynchronizerException {
+
+        for (String artifact : retrieveAllArtifacts(gatewayLabel, tenantDomain)) {
+            artifactConsumer.accept(artifact);
+        }
+    }
+
+    /**
+     * This method is used to retrieve the revisions of the APIs deployed in the gateway labels from the storage.
+     *
+     * @param gatewayLabel - Label subscribed by the gateway
+     * @param tenantDomain - Tenant Domain
+     * @return Deployments of the API revisions in the labels, or null if the retriever does not support it
+     * @throws ArtifactSynchronizerException if there are any errors when retrieving the revisions
+     */
+    default List<DeployedRevisionDto> retrieveDeployedRevisions(String gatewayLabel, String tenantDomain)
+            throws ArtifactSynchronizerException {
+
+        return null;
+    }
+
+    /**
+     * This method is used to retrieve the artifacts of a set of APIs from the storage in one go. Artifacts which are
+     * not found are left out of the result.
+     *
+     * @param apiIds       - UUIDs of the APIs
+     * @param gatewayLabel - Label subscribed by the gateway
+     * @param tenantDomain - Tenant Domain
+     * @return A List of String contains the information about the APIs and their corresponding gateway artifacts
+     * @throws ArtifactSynchronizerException if there are any errors when retrieving the Artifacts
+     */
+    default List<String> retrieveArtifacts(List<String> apiIds, String gatewayLabel, String tenantDomain)
+            throws ArtifactSynchronizerException {
+
+        List<String> artifacts = new ArrayList<>();
+        for (String apiId : apiIds) {
+            String artifact = retrieveArtifact(apiId, gatewayLabel);
+            if (artifact != null) {
+                artifacts.add(artifact);
+            }
+        }
+        return artifacts;
+    }
+
     /**
      * Will be called after all publishing is done or if init fails
      */
@@ -20,12 +20,18 @@ package org.wso2.carbon.apimgt.impl.gatewayartifactsynchronizer;
 
 import com.google.gson.Gson;
 import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 import org.apache.commons.codec.binary.Base64;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.apache.http.client.HttpClient;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.StringEntity;
 import org.apache.http.util.EntityUtils;
 import org.json.JSONArray;
 import org.json.JSONObject;
@@ -34,12 +40,14 @@ import org.wso2.carbon.apimgt.api.ExceptionCodes;
 import org.wso2.carbon.apimgt.impl.APIConstants;
 import org.wso2.carbon.apimgt.impl.dto.EventHubConfigurationDto;
 import org.wso2.carbon.apimgt.impl.dto.GatewayArtifactSynchronizerProperties;
+import org.wso2.carbon.apimgt.impl.gatewayartifactsynchronizer.dto.DeployedRevisionDto;
 import org.wso2.carbon.apimgt.impl.gatewayartifactsynchronizer.exception.ArtifactSynchronizerException;
 import org.wso2.carbon.apimgt.impl.internal.ServiceReferenceHolder;
 import org.wso2.carbon.apimgt.impl.utils.APIUtil;
 import org.wso2.carbon.context.PrivilegedCarbonContext;
 
 import java.io.IOException;
+import java.io.InputStreamReader;
 import java.net.URL;
 import java.net.URLEncoder;
 import java.util.ArrayList;
@@ -48,6 +56,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 
 public class DBRetriever implements ArtifactRetriever {
 
@@ -123,21 +132,30 @@ public class DBRetriever implements ArtifactRetriever {
     @Override
     public List<String> retrieveAllArtifacts(String label, String tenantDomain) throws ArtifactSynchronizerException {
         List<String> gatewayRuntimeArtifactsArray = new ArrayList<>();
+        retrieveAllArtifacts(label, tenantDomain, gatewayRuntimeArtifactsArray::add);
+        return gatewayRuntimeArtifactsArray;
+    }
+
+    @Override
+    public void retrieveAllArtifacts(String label, String tenantDomain, Consumer<String> artifactConsumer)
+            throws ArtifactSynchronizerException {
         try {
             String endcodedgatewayLabel = URLEncoder.encode(label, APIConstants.DigestAuthConstants.CHARSET);
             String path = APIConstants.GatewayArtifactSynchronizer.GATEAY_SYNAPSE_ARTIFACTS
                     + "?gatewayLabel=" + endcodedgatewayLabel + "&type=Synapse";
             String endpoint = baseURL + path;
-            try (CloseableHttpResponse httpResponse = invokeService(endpoint,tenantDomain)) {
-                JSONArray jsonArray = retrieveArtifact(httpResponse);
-                if (jsonArray != null) {
-                    for (int i = 0; i < jsonArray.length(); i++) {
-                        gatewayRuntimeArtifactsArray.add(jsonArray.getString(i));
+            try (CloseableHttpResponse httpResponse = invokeService(endpoint, tenantDomain)) {
+                if (httpResponse.getStatusLine().getStatusCode() == 200 && httpResponse.getEntity() != null) {
+                    // The control plane streams the artifacts while generating them, so each artifact is handed over
+                    // as soon as it arrives instead of buffering the whole response
+                    try (JsonReader jsonReader = new JsonReader(new InputStreamReader(
+                            httpResponse.getEntity().getContent(), APIConstants.DigestAuthConstants.CHARSET))) {
+                        readArtifactList(jsonReader, artifactConsumer);
                     }
+                } else {
+                    retrieveArtifact(httpResponse);
                 }
-
             }
-            return gatewayRuntimeArtifactsArray;
         } catch (IOException e) {
             String msg = "Error while executing the http client";
             log.error(msg, e);
@@ -149,6 +167,105 @@ public class DBRetriever implements ArtifactRetriever {
         }
     }
 
+    /**
+     * Reads the artifacts in the list of a synapse artifact list response.
+     *
+     * @param jsonReader       reader of the response
+     * @param artifactConsumer consumer of the artifacts
+     * @throws IOException if the response could not be read
+     */
+    private void readArtifactList(JsonReader jsonReader, Consumer<String> artifactConsumer) throws IOException {
+
+        jsonReader.beginObject();
+        while (jsonReader.hasNext()) {
+            if ("list".equals(jsonReader.nextName()) && jsonReader.peek() == JsonToken.BEGIN_ARRAY) {
+                jsonReader.beginArray();
+                while (jsonReader.hasNext()) {
+                    if (jsonReader.peek() == JsonToken.NULL) {
+                        jsonReader.nextNull();
+                    } else {
+                        artifactConsumer.accept(jsonReader.nextString());
+                    }
+                }
+                jsonReader.endArray();
+            } else {
+                jsonReader.skipValue();
+            }
+        }
+        jsonReader.endObject();
+    }
+
+    @Override
+    public List<DeployedRevisionDto> retrieveDeployedRevisions(String gatewayLabel, String tenantDomain)
+            throws ArtifactSynchronizerException {
+
+        try {
+            String encodedGatewayLabel = URLEncoder.encode(gatewayLabel, APIConstants.DigestAuthConstants.CHARSET);
+            String path = APIConstants.GatewayArtifactSynchronizer.DEPLOYED_REVISIONS + "?gatewayLabel="
+                    + encodedGatewayLabel;
+            List<DeployedRevisionDto> deployedRevisions = new ArrayList<>();
+            try (CloseableHttpResponse httpResponse = invokeService(baseURL + path, tenantDomain)) {
+                int statusCode = httpResponse.getStatusLine().getStatusCode();
+                if (statusCode != 200 || httpResponse.getEntity() == null) {
+                    throw new ArtifactSynchronizerException("Error while retrieving deployed revisions. Event-Hub "
+                            + "status code is : " + statusCode);
+                }
+                JSONObject deployedRevisionList = new JSONObject(EntityUtils.toString(httpResponse.getEntity(),
+                        APIConstants.DigestAuthConstants.CHARSET));
+                JSONArray list = deployedRevisionList.optJSONArray("list");
+                if (list == null) {
+                    return deployedRevisions;
+                }
+                for (int i = 0; i < list.length(); i++) {
+                    JSONObject deployment = list.getJSONObject(i);
+                    DeployedRevisionDto deployedRevisionDto = new DeployedRevisionDto();
+                    deployedRevisionDto.setApiId(deployment.optString("apiId", null));
+                    deployedRevisionDto.setRevisionId(deployment.optString("revisionId", null));
+                    deployedRevisionDto.setLabel(deployment.optString("label", null));
+                    deployedRevisionDto.setVhost(deployment.optString("vhost", null));
+                    deployedRevisionDto.setDeployedTimeStamp(deployment.optLong("deployedTime"));
+                    if (deployedRevisionDto.getApiId() != null && deployedRevisionDto.getRevisionId() != null) {
+                        deployedRevisions.add(deployedRevisionDto);
+                    }
+                }
+            }
+            return deployedRevisions;
+        } catch (IOException e) {
+            String msg = "Error while executing the http client";
+            log.error(msg, e);
+            throw new ArtifactSynchronizerException(msg, e);
+        }
+    }
+
+    @Override
+    public List<String> retrieveArtifacts(List<String> apiIds, String gatewayLabel, String tenantDomain)
+            throws ArtifactSynchronizerException {
+
+        List<String> artifacts = new ArrayList<>();
+        try {
+            String encodedGatewayLabel = URLEncoder.encode(gatewayLabel, APIConstants.DigestAuthConstants.CHARSET);
+            String path = APIConstants.GatewayArtifactSynchronizer.RETRIEVE_API_ARTIFACTS + "?gatewayLabel="
+                    + encodedGatewayLabel + "&type=Synapse";
+            HttpPost method = new HttpPost(baseURL + path);
+            JSONObject uuidList = new JSONObject();
+            uuidList.put("uuids", new JSONArray(apiIds));
+            method.setEntity(new StringEntity(uuidList.toString(), ContentType.APPLICATION_JSON));
+            try (CloseableHttpResponse httpResponse = invokeService(method, tenantDomain)) {
+                JSONArray jsonArray = retrieveArtifact(httpResponse);
+                if (jsonArray != null) {
+                    for (int i = 0; i < jsonArray.length(); i++) {
+                        artifacts.add(jsonArray.getString(i));
+                    }
+                }
+            }
+            return artifacts;
+        } catch (IOException e) {
+            String msg = "Error while executing the http client";
+            log.error(msg, e);
+            throw new ArtifactSynchronizerException(msg, e);
+        }
+    }
+
     @Override
     public Map<String, String> retrieveAttributes(String apiName, String version, String tenantDomain)
             throws ArtifactSynchronizerException {
@@ -203,8 +320,13 @@ public class DBRetriever implements ArtifactRetriever {
     private CloseableHttpResponse invokeService(String endpoint,String tenantDomain) throws IOException,
             ArtifactSynchronizerException {
 
-        HttpGet method = new HttpGet(endpoint);
-        URL url = new URL(endpoint);
+        return invokeService(new HttpGet(endpoint), tenantDomain);
+    }
+
+    private CloseableHttpResponse invokeService(HttpRequestBase method, String tenantDomain) throws IOException,
+            ArtifactSynchronizerException {
+
+        URL url = method.getURI().toURL();
         String username = eventHubConfigurationDto.getUsername();
         String password = eventHubConfigurationDto.getPassword();
         byte[] credentials = Base64.encodeBase64((username + APIConstants.DELEM_COLON + password).
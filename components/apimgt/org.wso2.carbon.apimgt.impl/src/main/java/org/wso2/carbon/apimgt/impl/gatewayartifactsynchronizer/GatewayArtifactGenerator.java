@@ -28,6 +28,32 @@ public interface GatewayArtifactGenerator {
     RuntimeArtifactDto generateGatewayArtifact(List<APIRuntimeArtifactDto> apiRuntimeArtifactDtoList)
             throws APIManagementException;
 
+    /**
+     * Generators which produce a separate gateway artifact for each runtime artifact can generate the artifacts one
+     * by one with {@link #generateGatewayArtifact(APIRuntimeArtifactDto)}, so that they can be streamed to the
+     * gateway while the runtime artifacts are being read.
+     *
+     * @return true if the gateway artifacts can be generated one by one
+     */
+    default boolean isArtifactStreamingSupported() {
+
+        return false;
+    }
+
+    /**
+     * Generates the gateway artifact of a single runtime artifact.
+     *
+     * @param apiRuntimeArtifactDto runtime artifact of an API
+     * @return gateway artifact, or null if no artifact could be generated for the API
+     * @throws APIManagementException if the generator does not support generating the artifacts one by one
+     */
+    default String generateGatewayArtifact(APIRuntimeArtifactDto apiRuntimeArtifactDto)
+            throws APIManagementException {
+
+        throw new APIManagementException("Gateway type " + getType() + " does not support generating artifacts "
+                + "one by one");
+    }
+
     RuntimeArtifactDto generateGatewayPolicyArtifact(List<GatewayPolicyArtifactDto> gatewayPolicyArtifactDtoList)
             throws APIManagementException;
 
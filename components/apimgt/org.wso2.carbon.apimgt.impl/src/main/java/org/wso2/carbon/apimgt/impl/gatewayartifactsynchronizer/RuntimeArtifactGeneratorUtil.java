@@ -28,6 +28,7 @@ import org.wso2.carbon.apimgt.impl.dao.GatewayArtifactsMgtDAO;
 import org.wso2.carbon.apimgt.impl.dto.APIRuntimeArtifactDto;
 import org.wso2.carbon.apimgt.impl.dto.RuntimeArtifactDto;
 import org.wso2.carbon.apimgt.impl.gatewayartifactsynchronizer.dto.ApiMetadataProjectDto;
+import org.wso2.carbon.apimgt.impl.gatewayartifactsynchronizer.dto.DeployedRevisionDto;
 import org.wso2.carbon.apimgt.impl.gatewayartifactsynchronizer.dto.EnvironmentDto;
 import org.wso2.carbon.apimgt.impl.gatewayartifactsynchronizer.dto.MetadataDescriptorDto;
 import org.wso2.carbon.apimgt.impl.importexport.APIImportExportException;
@@ -86,6 +87,86 @@ public class RuntimeArtifactGeneratorUtil {
         }
     }
 
+    /**
+     * @param type gateway type
+     * @return true if the gateway artifacts of the type can be generated and streamed one by one
+     */
+    public static boolean isArtifactStreamingSupported(String type) {
+
+        GatewayArtifactGenerator gatewayArtifactGenerator =
+                ServiceReferenceHolder.getInstance().getGatewayArtifactGenerator(type);
+        return gatewayArtifactGenerator != null && gatewayArtifactGenerator.isArtifactStreamingSupported();
+    }
+
+    /**
+     * Generates the gateway artifacts of the APIs deployed in the given labels of a tenant one by one while their
+     * runtime artifacts are read from the database, handing each over to the consumer as soon as it is generated.
+     *
+     * @param gatewayLabel     base64 encoded gateway labels separated by |
+     * @param type             gateway type, which should support streaming the artifacts
+     * @param tenantDomain     tenant domain of the APIs
+     * @param artifactConsumer consumer of the generated gateway artifacts
+     * @throws APIManagementException if the artifacts cannot be retrieved or the consumer fails
+     */
+    public static void generateRuntimeArtifacts(String gatewayLabel, String type, String tenantDomain,
+                                                ArtifactConsumer<String> artifactConsumer)
+            throws APIManagementException {
+
+        GatewayArtifactGenerator gatewayArtifactGenerator = getStreamingGatewayArtifactGenerator(type);
+        gatewayArtifactsMgtDAO.retrieveGatewayArtifactsByLabel(decodeGatewayLabels(gatewayLabel), tenantDomain,
+                apiRuntimeArtifactDto -> generateRuntimeArtifact(gatewayArtifactGenerator, apiRuntimeArtifactDto,
+                        artifactConsumer));
+    }
+
+    /**
+     * Generates the gateway artifacts of the APIs of all the tenants deployed in the given labels one by one.
+     *
+     * @param gatewayLabel     base64 encoded gateway labels separated by |
+     * @param type             gateway type, which should support streaming the artifacts
+     * @param artifactConsumer consumer of the generated gateway artifacts
+     * @throws APIManagementException if the artifacts cannot be retrieved or the consumer fails
+     * @see #generateRuntimeArtifacts(String, String, String, ArtifactConsumer)
+     */
+    public static void generateAllRuntimeArtifacts(String gatewayLabel, String type,
+                                                   ArtifactConsumer<String> artifactConsumer)
+            throws APIManagementException {
+
+        GatewayArtifactGenerator gatewayArtifactGenerator = getStreamingGatewayArtifactGenerator(type);
+        gatewayArtifactsMgtDAO.retrieveAllGatewayArtifactsByLabel(decodeGatewayLabels(gatewayLabel),
+                apiRuntimeArtifactDto -> generateRuntimeArtifact(gatewayArtifactGenerator, apiRuntimeArtifactDto,
+                        artifactConsumer));
+    }
+
+    private static GatewayArtifactGenerator getStreamingGatewayArtifactGenerator(String type)
+            throws APIManagementException {
+
+        GatewayArtifactGenerator gatewayArtifactGenerator =
+                ServiceReferenceHolder.getInstance().getGatewayArtifactGenerator(type);
+        if (gatewayArtifactGenerator == null) {
+            Set<String> gatewayArtifactGeneratorTypes =
+                    ServiceReferenceHolder.getInstance().getGatewayArtifactGeneratorTypes();
+            throw new APIManagementException("Couldn't find gateway Type",
+                    ExceptionCodes.from(ExceptionCodes.GATEWAY_TYPE_NOT_FOUND, String.join(",",
+                            gatewayArtifactGeneratorTypes)));
+        }
+        if (!gatewayArtifactGenerator.isArtifactStreamingSupported()) {
+            throw new APIManagementException("Gateway type " + type + " does not support streaming artifacts");
+        }
+        return gatewayArtifactGenerator;
+    }
+
+    private static void generateRuntimeArtifact(GatewayArtifactGenerator gatewayArtifactGenerator,
+                                                APIRuntimeArtifactDto apiRuntimeArtifactDto,
+                                                ArtifactConsumer<String> artifactConsumer)
+            throws APIManagementException {
+
+        ArtifactSynchronizerUtil.setArtifactProperties(apiRuntimeArtifactDto);
+        String gatewayArtifact = gatewayArtifactGenerator.generateGatewayArtifact(apiRuntimeArtifactDto);
+        if (gatewayArtifact != null) {
+            artifactConsumer.accept(gatewayArtifact);
+        }
+    }
+
     public static RuntimeArtifactDto generateMetadataArtifact(String tenantDomain, String apiId, String gatewayLabel)
             throws APIManagementException {
 
@@ -192,6 +273,41 @@ public class RuntimeArtifactGeneratorUtil {
         }
     }
 
+    /**
+     * Retrieves the API revisions deployed in the given gateway labels of a tenant, without generating artifacts.
+     *
+     * @param gatewayLabel base64 encoded gateway labels separated by |
+     * @param tenantDomain tenant domain of the APIs
+     * @return deployed revisions
+     * @throws APIManagementException if the revisions cannot be retrieved
+     */
+    public static List<DeployedRevisionDto> getDeployedRevisions(String gatewayLabel, String tenantDomain)
+            throws APIManagementException {
+
+        return gatewayArtifactsMgtDAO.retrieveDeployedRevisionsByLabel(decodeGatewayLabels(gatewayLabel),
+                tenantDomain);
+    }
+
+    /**
+     * Retrieves the API revisions of all the tenants deployed in the given gateway labels, without generating
+     * artifacts.
+     *
+     * @param gatewayLabel base64 encoded gateway labels separated by |
+     * @return deployed revisions
+     * @throws APIManagementException if the revisions cannot be retrieved
+     */
+    public static List<DeployedRevisionDto> getAllDeployedRevisions(String gatewayLabel)
+            throws APIManagementException {
+
+        return gatewayArtifactsMgtDAO.retrieveAllDeployedRevisionsByLabel(decodeGatewayLabels(gatewayLabel));
+    }
+
+    private static String[] decodeGatewayLabels(String gatewayLabel) {
+
+        byte[] decodedValue = Base64.decodeBase64(gatewayLabel.getBytes());
+        return new String(decodedValue).split("\\|");
+    }
+
     private static List<APIRuntimeArtifactDto> getRuntimeArtifacts(String apiId, String gatewayLabel,
                                                                    String tenantDomain) throws APIManagementException {
 
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.impl.gatewayartifactsynchronizer.dto;
+
+/**
+ * DeployedRevisionDto represents the deployment of an API revision in a gateway environment, without the artifact.
+ * apiId: UUID of the API.
+ * revisionId: UUID of the deployed revision.
+ * label: Name of the gateway environment.
+ * vhost: Deployed Vhost.
+ * deployedTimeStamp: Revision deployed time.
+ */
+public class DeployedRevisionDto {
+
+    private String apiId;
+    private String revisionId;
+    private String label;
+    private String vhost;
+    private long deployedTimeStamp;
+
+    public String getApiId() {
+
+        return apiId;
+    }
+
+    public void setApiId(String apiId) {
+
+        this.apiId = apiId;
+    }
+
+    public String getRevisionId() {
+
+        return revisionId;
+    }
+
+    public void setRevisionId(String revisionId) {
+
+        this.revisionId = revisionId;
+    }
+
+    public String getLabel() {
+
+        return label;
+    }
+
+    public void setLabel(String label) {
+
+        this.label = label;
+    }
+
+    public String getVhost() {
+
+        return vhost;
+    }
+
+    public void setVhost(String vhost) {
+
+        this.vhost = vhost;
+    }
+
+    public long getDeployedTimeStamp() {
+
+        return deployedTimeStamp;
+    }
+
+    public void setDeployedTimeStamp(long deployedTimeStamp) {
+
+        this.deployedTimeStamp = deployedTimeStamp;
+    }
+}
@@ -89,6 +89,7 @@ import org.wso2.carbon.apimgt.impl.notifier.ScopesNotifier;
 import org.wso2.carbon.apimgt.impl.notifier.SubscriptionsNotifier;
 import org.wso2.carbon.apimgt.impl.notifier.KeyTemplateNotifier;
 import org.wso2.carbon.apimgt.impl.notifier.MarketplaceAssistantApiPublisherNotifier;
+import org.wso2.carbon.apimgt.impl.notifier.NotificationEventBatcher;
 import org.wso2.carbon.apimgt.impl.observers.APIStatusObserverList;
 import org.wso2.carbon.apimgt.impl.observers.CommonConfigDeployer;
 import org.wso2.carbon.apimgt.impl.observers.KeyMgtConfigDeployer;
@@ -361,6 +362,7 @@ public class APIManagerComponent {
             log.debug("Deactivating API manager component");
         }
 
+        NotificationEventBatcher.shutdownInstance();
         registration.unregister();
         APIManagerFactory.getInstance().clearAll();
     }
@@ -0,0 +1,249 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.apimgt.impl.jwt;
+
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.apimgt.api.APIManagementException;
+import org.wso2.carbon.apimgt.impl.APIConstants;
+import org.wso2.carbon.apimgt.impl.APIManagerConfiguration;
+import org.wso2.carbon.apimgt.impl.internal.ServiceReferenceHolder;
+import org.wso2.carbon.apimgt.impl.utils.JWTUtil;
+
+import java.io.IOException;
+import java.text.ParseException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Holds the JWKS of a token issuer, indexed by key id.
+ * <p>
+ * Only the first retrieval of a JWKS blocks the request thread. Once a key set is held, a request that finds it older
+ * than the refresh interval triggers a refresh in the background and is served from the current set. A request for
+ * an unknown key id refreshes the set on the request thread so that rotated keys are picked up, but such refreshes
+ * are done by one thread at a time and at most once per minimum refresh interval, so that a rotation or a token with
+ * a bogus key id does not make every request call the JWKS endpoint. If a refresh fails the last retrieved set is kept.
+ * <p>
+ * Failed retrievals back off exponentially, from the minimum refresh interval up to the refresh interval. Within the
+ * backoff window neither a background refresh is started nor the endpoint is called from a request thread, and a
+ * request fails fast if no key set was ever retrieved.
+ */
+public class JWKSHolder {
+
+    private static final Log log = LogFactory.getLog(JWKSHolder.class);
+    private static final long DEFAULT_REFRESH_INTERVAL = TimeUnit.MINUTES.toMillis(10);
+    private static final long DEFAULT_MIN_REFRESH_INTERVAL = TimeUnit.SECONDS.toMillis(30);
+    private static final Map<String, JWKSHolder> holders = new ConcurrentHashMap<>();
+    private static final ExecutorService refreshExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "JWKSRefresher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final String jwksUrl;
+    private final long refreshInterval;
+    private final long minRefreshInterval;
+    private final Executor executor;
+    private final AtomicBoolean backgroundRefreshInProgress = new AtomicBoolean(false);
+    private final Object refreshLock = new Object();
+    private volatile Map<String, JWK> keys;
+    private volatile long lastRefreshTime;
+    private volatile long lastRefreshAttemptTime;
+    // Number of retrievals that failed since the last successful one. Only updated while holding the refresh lock.
+    private volatile int consecutiveFailures;
+
+    public JWKSHolder(String jwksUrl, long refreshInterval, long minRefreshInterval, Executor executor) {
+
+        this.jwksUrl = jwksUrl;
+        this.refreshInterval = refreshInterval;
+        this.minRefreshInterval = minRefreshInterval;
+        this.executor = executor;
+    }
+
+    /**
+     * Returns the holder of a JWKS endpoint, shared by all the issuers using the endpoint.
+     *
+     * @param jwksUrl JWKS endpoint URL
+     * @return JWKS holder
+     */
+    public static JWKSHolder getInstance(String jwksUrl) {
+
+        return holders.computeIfAbsent(jwksUrl,
+                url -> new JWKSHolder(url, getRefreshInterval(), DEFAULT_MIN_REFRESH_INTERVAL, refreshExecutor));
+    }
+
+    private static long getRefreshInterval() {
+
+        try {
+            APIManagerConfiguration config = ServiceReferenceHolder.getInstance().getAPIManagerConfigurationService()
+                    .getAPIManagerConfiguration();
+            String refreshInterval = config.getFirstProperty(APIConstants.JWKS_REFRESH_INTERVAL);
+            if (StringUtils.isNotEmpty(refreshInterval)) {
+                return TimeUnit.SECONDS.toMillis(Long.parseLong(refreshInterval));
+            }
+        } catch (Exception e) {
+            log.error("Did not find a valid JWKS refresh interval. Using the default interval.", e);
+        }
+        return DEFAULT_REFRESH_INTERVAL;
+    }
+
+    /**
+     * Returns the key with the given key id.
+     *
+     * @param keyId key id from the JWT header
+     * @return the key or null if the JWKS does not contain the key
+     * @throws APIManagementException if the JWKS could not be retrieved and no earlier key set is held
+     */
+    public JWK getKey(String keyId) throws APIManagementException {
+
+        Map<String, JWK> currentKeys = keys;
+        if (currentKeys == null) {
+            if (isBackingOff()) {
+                throw new APIManagementException("JWKS could not be retrieved from " + jwksUrl
+                        + ". Retrieval is backing off after " + consecutiveFailures + " failed attempts.");
+            }
+            return getKeyAfterRefresh(keyId, null);
+        }
+        JWK key = currentKeys.get(keyId);
+        if (key == null) {
+            return getKeyAfterRefresh(keyId, currentKeys);
+        }
+        if (currentTimeMillis() - lastRefreshTime >= refreshInterval && !isBackingOff()) {
+            refreshInBackground();
+        }
+        return key;
+    }
+
+    /**
+     * @return true if the last retrieval attempt is too recent to call the JWKS endpoint again
+     */
+    private boolean isBackingOff() {
+
+        long backoff = minRefreshInterval;
+        int failures = consecutiveFailures;
+        if (failures > 1) {
+            backoff = Math.min(minRefreshInterval << Math.min(failures - 1, 20),
+                    Math.max(refreshInterval, minRefreshInterval));
+        }
+        return currentTimeMillis() - lastRefreshAttemptTime < backoff;
+    }
+
+    private JWK getKeyAfterRefresh(String keyId, Map<String, JWK> staleKeys) throws APIManagementException {
+
+        synchronized (refreshLock) {
+            // Another thread may have refreshed the key set while this thread was waiting
+            Map<String, JWK> currentKeys = keys;
+            if (currentKeys != staleKeys) {
+                return currentKeys.get(keyId);
+            }
+            if (isBackingOff()) {
+                if (currentKeys == null) {
+                    throw new APIManagementException("JWKS could not be retrieved from " + jwksUrl
+                            + ". Retrieval is backing off after " + consecutiveFailures + " failed attempts.");
+                }
+                if (log.isDebugEnabled()) {
+                    log.debug("Key " + keyId + " not found in JWKS " + jwksUrl + ", which was refreshed recently");
+                }
+                return null;
+            }
+            try {
+                refresh();
+            } catch (IOException | ParseException | APIManagementException e) {
+                if (keys == null) {
+                    throw new APIManagementException("Error while retrieving JWKS from " + jwksUrl, e);
+                }
+                log.error("Error while refreshing JWKS from " + jwksUrl + ". Using the last retrieved JWKS.", e);
+            }
+            return keys.get(keyId);
+        }
+    }
+
+    private void refreshInBackground() {
+
+        if (backgroundRefreshInProgress.compareAndSet(false, true)) {
+            try {
+                executor.execute(() -> {
+                    try {
+                        synchronized (refreshLock) {
+                            if (currentTimeMillis() - lastRefreshTime >= refreshInterval && !isBackingOff()) {
+                                refresh();
+                            }
+                        }
+                    } catch (IOException | ParseException | APIManagementException e) {
+                        log.error("Error while refreshing JWKS from " + jwksUrl + ". Using the last retrieved JWKS.",
+                                e);
+                    } finally {
+                        backgroundRefreshInProgress.set(false);
+                    }
+                });
+            } catch (RuntimeException e) {
+                backgroundRefreshInProgress.set(false);
+                log.error("Error while scheduling the refresh of JWKS from " + jwksUrl, e);
+            }
+        }
+    }
+
+    private void refresh() throws IOException, ParseException, APIManagementException {
+
+        long refreshTime = currentTimeMillis();
+        lastRefreshAttemptTime = refreshTime;
+        Map<String, JWK> refreshedKeys = new HashMap<>();
+        boolean retrieved = false;
+        try {
+            String jwksInfo = retrieveJWKS();
+            if (jwksInfo == null) {
+                throw new APIManagementException("Invalid JWKS endpoint.");
+            }
+            for (JWK key : JWKSet.parse(jwksInfo).getKeys()) {
+                if (key.getKeyID() != null) {
+                    refreshedKeys.put(key.getKeyID(), key);
+                }
+            }
+            retrieved = true;
+        } finally {
+            consecutiveFailures = retrieved ? 0 : consecutiveFailures + 1;
+        }
+        keys = Collections.unmodifiableMap(refreshedKeys);
+        lastRefreshTime = refreshTime;
+        if (log.isDebugEnabled()) {
+            log.debug("Retrieved " + refreshedKeys.size() + " keys from JWKS " + jwksUrl);
+        }
+    }
+
+    protected String retrieveJWKS() throws IOException {
+
+        return JWTUtil.retrieveJWKSConfiguration(jwksUrl);
+    }
+
+    protected long currentTimeMillis() {
+
+        return System.currentTimeMillis();
+    }
+}
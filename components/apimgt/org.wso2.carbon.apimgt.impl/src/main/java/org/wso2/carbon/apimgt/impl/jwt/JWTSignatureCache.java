@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.apimgt.impl.jwt;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.apimgt.impl.APIConstants;
+import org.wso2.carbon.apimgt.impl.APIManagerConfiguration;
+import org.wso2.carbon.apimgt.impl.caching.CacheProvider;
+import org.wso2.carbon.apimgt.impl.internal.ServiceReferenceHolder;
+import org.wso2.carbon.apimgt.impl.utils.LRUCache;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded node local record of the tokens whose signature has been verified, so that the RSA/ECDSA verification of
+ * a token runs once per node instead of on every validation cache miss. Only successful verifications are recorded.
+ * <p>
+ * Entries are keyed on the issuer and a digest of the complete serialized token. The signature alone is not a safe
+ * key, as a valid signature could then be replayed with a modified header or payload.
+ */
+public class JWTSignatureCache {
+
+    private static final Log log = LogFactory.getLog(JWTSignatureCache.class);
+    private static final int DEFAULT_MAX_SIZE = 10000;
+    private static volatile JWTSignatureCache instance;
+
+    private final Map<String, Long> verifiedTokens;
+    private final long timeToLiveMillis;
+
+    public JWTSignatureCache(int maxSize, long timeToLiveMillis) {
+
+        this.verifiedTokens = new LRUCache<>(Math.max(maxSize, 1));
+        this.timeToLiveMillis = timeToLiveMillis;
+    }
+
+    public static JWTSignatureCache getInstance() {
+
+        if (instance == null) {
+            synchronized (JWTSignatureCache.class) {
+                if (instance == null) {
+                    instance = createInstance();
+                }
+            }
+        }
+        return instance;
+    }
+
+    private static JWTSignatureCache createInstance() {
+
+        int maxSize = DEFAULT_MAX_SIZE;
+        long timeToLive = APIConstants.DEFAULT_TIMEOUT;
+        try {
+            APIManagerConfiguration config = ServiceReferenceHolder.getInstance().getAPIManagerConfigurationService()
+                    .getAPIManagerConfiguration();
+            String maxSizeValue = config.getFirstProperty(APIConstants.JWT_SIGNATURE_CACHE_SIZE);
+            if (maxSizeValue != null) {
+                maxSize = Integer.parseInt(maxSizeValue);
+            }
+            String timeToLiveValue = config.getFirstProperty(APIConstants.TOKEN_CACHE_EXPIRY);
+            timeToLive = timeToLiveValue != null ? Long.parseLong(timeToLiveValue)
+                    : CacheProvider.getDefaultCacheTimeout();
+        } catch (Exception e) {
+            log.error("Did not find a valid JWT signature cache configuration. Using the default configuration.", e);
+        }
+        return new JWTSignatureCache(maxSize, TimeUnit.SECONDS.toMillis(timeToLive));
+    }
+
+    /**
+     * @param issuer issuer the token was verified against
+     * @param token  serialized token
+     * @return true if the signature of the token was verified within the cache lifetime
+     */
+    public boolean isVerified(String issuer, String token) {
+
+        if (token == null) {
+            return false;
+        }
+        String key = getKey(issuer, token);
+        Long expiryTime = verifiedTokens.get(key);
+        if (expiryTime == null) {
+            return false;
+        }
+        if (expiryTime < System.currentTimeMillis()) {
+            verifiedTokens.remove(key);
+            return false;
+        }
+        return true;
+    }
+
+    public void setVerified(String issuer, String token) {
+
+        if (token != null) {
+            verifiedTokens.put(getKey(issuer, token), System.currentTimeMillis() + timeToLiveMillis);
+        }
+    }
+
+    public void invalidateAll() {
+
+        verifiedTokens.clear();
+    }
+
+    private static String getKey(String issuer, String token) {
+
+        return issuer + ":" + DigestUtils.sha256Hex(token);
+    }
+}
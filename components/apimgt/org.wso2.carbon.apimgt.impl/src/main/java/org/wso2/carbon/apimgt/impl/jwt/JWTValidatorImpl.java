@@ -19,7 +19,7 @@
 package org.wso2.carbon.apimgt.impl.jwt;
 
 import com.nimbusds.jose.JOSEException;
-import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.JWK;
 import com.nimbusds.jose.jwk.RSAKey;
 import com.nimbusds.jwt.JWTClaimsSet;
 import com.nimbusds.jwt.SignedJWT;
@@ -38,7 +38,6 @@ import org.wso2.carbon.apimgt.impl.APIManagerConfiguration;
 import org.wso2.carbon.apimgt.impl.internal.ServiceReferenceHolder;
 import org.wso2.carbon.apimgt.impl.utils.JWTUtil;
 
-import java.io.IOException;
 import java.security.interfaces.RSAPublicKey;
 import java.text.ParseException;
 import java.util.Date;
@@ -50,7 +49,6 @@ public class JWTValidatorImpl implements JWTValidator {
     TokenIssuerDto tokenIssuer;
     private Log log = LogFactory.getLog(JWTValidatorImpl.class);
     JWTTransformer jwtTransformer;
-    private JWKSet jwkSet;
 
     @Override
     public JWTValidationInfo validateToken(SignedJWTInfo signedJWTInfo) throws APIManagementException {
@@ -58,7 +56,7 @@ public class JWTValidatorImpl implements JWTValidator {
         JWTValidationInfo jwtValidationInfo = new JWTValidationInfo();
         boolean state;
         try {
-            state = validateSignature(signedJWTInfo.getSignedJWT());
+            state = isSignatureVerified(signedJWTInfo);
             if (state) {
                 JWTClaimsSet jwtClaimsSet = signedJWTInfo.getJwtClaimsSet();
                 state = isValidCertificateBoundAccessToken(signedJWTInfo);
@@ -131,6 +129,25 @@ public class JWTValidatorImpl implements JWTValidator {
         this.jwtTransformer.loadConfiguration(tokenIssuer);
     }
 
+    private boolean isSignatureVerified(SignedJWTInfo signedJWTInfo) throws APIManagementException {
+
+        String issuer = tokenIssuer != null ? tokenIssuer.getIssuer() : null;
+        JWTSignatureCache signatureCache = getSignatureCache();
+        if (signatureCache.isVerified(issuer, signedJWTInfo.getToken())) {
+            return true;
+        }
+        boolean verified = validateSignature(signedJWTInfo.getSignedJWT());
+        if (verified) {
+            signatureCache.setVerified(issuer, signedJWTInfo.getToken());
+        }
+        return verified;
+    }
+
+    protected JWTSignatureCache getSignatureCache() {
+
+        return JWTSignatureCache.getInstance();
+    }
+
     protected boolean validateSignature(SignedJWT signedJWT) throws APIManagementException {
 
         String certificateAlias = APIConstants.GATEWAY_PUBLIC_CERTIFICATE_ALIAS;
@@ -139,15 +156,9 @@ public class JWTValidatorImpl implements JWTValidator {
             if (StringUtils.isNotEmpty(keyID)) {
                 if (tokenIssuer.getJwksConfigurationDTO().isEnabled() &&
                         StringUtils.isNotEmpty(tokenIssuer.getJwksConfigurationDTO().getUrl())) {
-                    // Check JWKSet Available in Cache
-                    if (jwkSet == null) {
-                        jwkSet = retrieveJWKSet();
-                    }
-                    if (jwkSet.getKeyByKeyId(keyID) == null) {
-                        jwkSet = retrieveJWKSet();
-                    }
-                    if (jwkSet.getKeyByKeyId(keyID) instanceof RSAKey) {
-                        RSAKey keyByKeyId = (RSAKey) jwkSet.getKeyByKeyId(keyID);
+                    JWK jwk = getJWKSHolder().getKey(keyID);
+                    if (jwk instanceof RSAKey) {
+                        RSAKey keyByKeyId = (RSAKey) jwk;
                         RSAPublicKey rsaPublicKey = keyByKeyId.toRSAPublicKey();
                         if (rsaPublicKey != null) {
                             return JWTUtil.verifyTokenSignature(signedJWT, rsaPublicKey);
@@ -167,15 +178,9 @@ public class JWTValidatorImpl implements JWTValidator {
                 }
             }
             return JWTUtil.verifyTokenSignature(signedJWT, certificateAlias);
-        } catch (ParseException e) {
-            log.error("Error while parsing JWKS information", e);
-            throw new APIManagementException("Error while parsing JWT", e);
         } catch (JOSEException e) {
             log.error("Error while verifying token signature", e);
             throw new APIManagementException("Error while parsing JWT", e);
-        } catch (IOException e) {
-            log.error("Error while connecting to JWKS endpoint", e);
-            throw new APIManagementException("Error while parsing JWT", e);
         } catch (APIManagementException e) {
             log.error("Error while retrieving JWKS information", e);
             throw new APIManagementException(e.getMessage(), e);
@@ -229,15 +234,8 @@ public class JWTValidatorImpl implements JWTValidator {
         jwtValidationInfo.setJti(jwtClaimsSet.getJWTID());
     }
 
-    private JWKSet retrieveJWKSet() throws IOException, ParseException, APIManagementException {
+    protected JWKSHolder getJWKSHolder() {
 
-        String jwksInfo = JWTUtil
-                .retrieveJWKSConfiguration(tokenIssuer.getJwksConfigurationDTO().getUrl());
-        if (jwksInfo != null) {
-            jwkSet = JWKSet.parse(jwksInfo);
-        } else {
-            throw new APIManagementException("Invalid JWKS endpoint.");
-        }
-        return jwkSet;
+        return JWKSHolder.getInstance(tokenIssuer.getJwksConfigurationDTO().getUrl());
     }
 }
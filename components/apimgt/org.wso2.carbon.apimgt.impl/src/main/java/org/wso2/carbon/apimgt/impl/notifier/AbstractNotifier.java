@@ -31,8 +31,15 @@ import org.wso2.carbon.apimgt.impl.utils.APIUtil;
  */
 public abstract class AbstractNotifier implements Notifier {
 
+    private static final Gson GSON = new Gson();
+
     protected void publishEventToEventHub(Event event) {
-        byte[] bytesEncoded = Base64.encodeBase64(new Gson().toJson(event).getBytes());
+        NotificationEventBatcher batcher = NotificationEventBatcher.getInstance();
+        if (batcher != null && batcher.isBatched(event)) {
+            batcher.add(event);
+            return;
+        }
+        byte[] bytesEncoded = Base64.encodeBase64(GSON.toJson(event).getBytes());
         Object[] objects = new Object[]{event.getType(), event.getTimeStamp(), new String(bytesEncoded)};
         //Decoded event string to be logged in the case of failures and debugging
         String loggingEvent = event.toString();
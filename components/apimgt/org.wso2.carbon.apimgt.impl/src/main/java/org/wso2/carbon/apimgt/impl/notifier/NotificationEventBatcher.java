@@ -0,0 +1,267 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.apimgt.impl.notifier;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import org.apache.commons.codec.binary.Base64;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.apimgt.eventing.EventPublisherEvent;
+import org.wso2.carbon.apimgt.eventing.EventPublisherType;
+import org.wso2.carbon.apimgt.impl.APIConstants;
+import org.wso2.carbon.apimgt.impl.APIManagerConfiguration;
+import org.wso2.carbon.apimgt.impl.APIManagerConfigurationService;
+import org.wso2.carbon.apimgt.impl.dto.EventHubConfigurationDto;
+import org.wso2.carbon.apimgt.impl.internal.ServiceReferenceHolder;
+import org.wso2.carbon.apimgt.impl.notifier.events.ApplicationEvent;
+import org.wso2.carbon.apimgt.impl.notifier.events.ApplicationRegistrationEvent;
+import org.wso2.carbon.apimgt.impl.notifier.events.Event;
+import org.wso2.carbon.apimgt.impl.notifier.events.SubscriptionEvent;
+import org.wso2.carbon.apimgt.impl.utils.APIUtil;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coalesces subscription, application and application key mapping events per entity and publishes them to the
+ * gateways as a single batch notification. Events of a tenant are held for the configured batch window, during
+ * which a later event of an entity replaces the earlier one, as the gateways apply each of these events as the full
+ * state of the entity. All batches are published from a single thread, in the order they are closed.
+ */
+public class NotificationEventBatcher {
+
+    private static final Log log = LogFactory.getLog(NotificationEventBatcher.class);
+    private static final Gson GSON = new Gson();
+    private static final Set<String> BATCHED_EVENT_TYPES = new HashSet<>(Arrays.asList(
+            APIConstants.EventType.SUBSCRIPTIONS_CREATE.name(), APIConstants.EventType.SUBSCRIPTIONS_UPDATE.name(),
+            APIConstants.EventType.SUBSCRIPTIONS_DELETE.name(), APIConstants.EventType.APPLICATION_CREATE.name(),
+            APIConstants.EventType.APPLICATION_UPDATE.name(), APIConstants.EventType.APPLICATION_DELETE.name(),
+            APIConstants.EventType.APPLICATION_REGISTRATION_CREATE.name(),
+            APIConstants.EventType.REMOVE_APPLICATION_KEYMAPPING.name()));
+    private static final int DEFAULT_MAX_BATCH_SIZE = 500;
+    private static volatile NotificationEventBatcher instance;
+    private static volatile boolean initialized;
+
+    private final long batchWindow;
+    private final int maxBatchSize;
+    private final Map<String, Map<String, Event>> pendingEvents = new HashMap<>();
+    private boolean shutdown;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "NotificationEventBatcher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    NotificationEventBatcher(long batchWindow, int maxBatchSize) {
+
+        this.batchWindow = batchWindow;
+        if (maxBatchSize < 2) {
+            log.warn("Invalid notification max batch size " + maxBatchSize + ". A batch should hold at least 2 "
+                    + "events. Using the default max batch size " + DEFAULT_MAX_BATCH_SIZE);
+            maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
+        }
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * @return the batcher of notification events, or null if notification batching is not enabled
+     */
+    public static NotificationEventBatcher getInstance() {
+
+        if (!initialized) {
+            synchronized (NotificationEventBatcher.class) {
+                if (!initialized) {
+                    APIManagerConfigurationService configurationService =
+                            ServiceReferenceHolder.getInstance().getAPIManagerConfigurationService();
+                    APIManagerConfiguration configuration = configurationService != null ?
+                            configurationService.getAPIManagerConfiguration() : null;
+                    EventHubConfigurationDto eventHubConfigurationDto = configuration != null ?
+                            configuration.getEventHubConfigurationDto() : null;
+                    if (eventHubConfigurationDto == null) {
+                        return null;
+                    }
+                    if (eventHubConfigurationDto.isBatchNotifications()) {
+                        instance = new NotificationEventBatcher(eventHubConfigurationDto.getNotificationBatchWindow(),
+                                eventHubConfigurationDto.getNotificationMaxBatchSize());
+                    }
+                    initialized = true;
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Shuts down the notification event batcher, if it has been created, publishing all pending batches.
+     */
+    public static void shutdownInstance() {
+
+        if (instance != null) {
+            instance.shutdown();
+        }
+    }
+
+    /**
+     * @param event notification event
+     * @return true if events of the type of the given event are published in batches
+     */
+    public boolean isBatched(Event event) {
+
+        return BATCHED_EVENT_TYPES.contains(event.getType());
+    }
+
+    /**
+     * Adds the given event to the batch of its tenant, replacing any pending event of the same entity. Once the
+     * batcher is shut down, the event is published right away.
+     *
+     * @param event notification event
+     */
+    public void add(Event event) {
+
+        String tenantDomain = event.getTenantDomain();
+        String entityKey = getEntityKey(event);
+        synchronized (this) {
+            if (!shutdown) {
+                addToBatch(tenantDomain, entityKey, event);
+                return;
+            }
+        }
+        publishBatch(tenantDomain, Collections.singletonList(event));
+    }
+
+    private void addToBatch(String tenantDomain, String entityKey, Event event) {
+
+        Map<String, Event> events = pendingEvents.computeIfAbsent(tenantDomain, key -> new LinkedHashMap<>());
+        // The replacing event takes the position of the latest event, so that it is applied after the events
+        // it was published after
+        events.remove(entityKey);
+        events.put(entityKey, event);
+        if (events.size() == 1) {
+            scheduler.schedule(() -> flush(tenantDomain), batchWindow, TimeUnit.MILLISECONDS);
+        } else if (events.size() >= maxBatchSize) {
+            scheduler.execute(() -> flush(tenantDomain));
+        }
+    }
+
+    /**
+     * Stops the scheduled publishing of batches and publishes the pending batch of each tenant. Events added after
+     * the shutdown are published right away.
+     */
+    public void shutdown() {
+
+        List<String> tenantDomains;
+        synchronized (this) {
+            if (shutdown) {
+                return;
+            }
+            shutdown = true;
+            tenantDomains = new ArrayList<>(pendingEvents.keySet());
+        }
+        scheduler.shutdownNow();
+        for (String tenantDomain : tenantDomains) {
+            flush(tenantDomain);
+        }
+    }
+
+    int getMaxBatchSize() {
+
+        return maxBatchSize;
+    }
+
+    void flush(String tenantDomain) {
+
+        Map<String, Event> events;
+        synchronized (this) {
+            events = pendingEvents.remove(tenantDomain);
+        }
+        if (events == null || events.isEmpty()) {
+            return;
+        }
+        try {
+            publishBatch(tenantDomain, new ArrayList<>(events.values()));
+        } catch (RuntimeException e) {
+            log.error("Error while publishing a batch of " + events.size() + " notification events of tenant "
+                    + tenantDomain, e);
+        }
+    }
+
+    /**
+     * Publishes the given events as a single notification event, whose payload is the Base64 encoded JSON array of
+     * the type, timestamp and JSON of each event.
+     *
+     * @param tenantDomain tenant domain of the events
+     * @param events       events to publish, in the order they are to be applied
+     */
+    protected void publishBatch(String tenantDomain, List<Event> events) {
+
+        String batchJson = toBatchJson(events);
+        byte[] bytesEncoded = Base64.encodeBase64(batchJson.getBytes());
+        long timestamp = System.currentTimeMillis();
+        Object[] objects = new Object[]{APIConstants.EventType.NOTIFICATION_BATCH.name(), timestamp,
+                new String(bytesEncoded)};
+        String loggingEvent = "Batch of " + events.size() + " notification events of tenant " + tenantDomain;
+        EventPublisherEvent notificationEvent = new EventPublisherEvent(APIConstants.NOTIFICATION_STREAM_ID,
+                timestamp, objects, loggingEvent);
+        notificationEvent.setOrgId(tenantDomain);
+        if (log.isDebugEnabled()) {
+            log.debug("Publishing " + loggingEvent);
+        }
+        APIUtil.publishEvent(EventPublisherType.NOTIFICATION, notificationEvent, loggingEvent);
+    }
+
+    static String toBatchJson(List<Event> events) {
+
+        JsonArray batch = new JsonArray();
+        for (Event event : events) {
+            JsonObject batchedEvent = new JsonObject();
+            batchedEvent.addProperty(APIConstants.EVENT_TYPE, event.getType());
+            batchedEvent.addProperty(APIConstants.EVENT_TIMESTAMP, event.getTimeStamp());
+            batchedEvent.addProperty(APIConstants.EVENT_PAYLOAD, GSON.toJson(event));
+            batch.add(batchedEvent);
+        }
+        return batch.toString();
+    }
+
+    static String getEntityKey(Event event) {
+
+        if (event instanceof SubscriptionEvent) {
+            return "subscription:" + ((SubscriptionEvent) event).getSubscriptionId();
+        } else if (event instanceof ApplicationEvent) {
+            return "application:" + ((ApplicationEvent) event).getApplicationId();
+        } else if (event instanceof ApplicationRegistrationEvent) {
+            ApplicationRegistrationEvent registrationEvent = (ApplicationRegistrationEvent) event;
+            return "keyMapping:" + registrationEvent.getKeyManager() + ":" + registrationEvent.getConsumerKey();
+        }
+        // Events of other entities are not coalesced
+        return "event:" + event.getEventId();
+    }
+}
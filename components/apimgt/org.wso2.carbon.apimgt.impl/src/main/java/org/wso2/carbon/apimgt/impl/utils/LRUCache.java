@@ -18,31 +18,43 @@ package org.wso2.carbon.apimgt.impl.utils;
 
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 /**
  * A simple, thread-safe LRU cache implementation. This cache allows concurrent reads.
  * Concurrent write attempts are synchronized using an exclusive lock.
+ * <p>
+ * By default entries are kept in insertion order, so the eldest inserted entry is evicted first. An access ordered
+ * cache evicts the least recently used entry instead. Since a read reorders the entries of such a cache, reads are
+ * synchronized using the exclusive lock as well.
  */
 public class LRUCache<K,V> extends LinkedHashMap<K,V> {
 
     private int maxEntries;
     private ReadWriteLock lock;
+    private final boolean accessOrder;
 
     public LRUCache(int maxEntries) {
-        super(maxEntries + 1, 1, false);
+        this(maxEntries, false);
+    }
+
+    public LRUCache(int maxEntries, boolean accessOrder) {
+        super(maxEntries + 1, 1, accessOrder);
         this.maxEntries = maxEntries;
         this.lock = new ReentrantReadWriteLock();
+        this.accessOrder = accessOrder;
     }
 
     @Override
     public V get(Object key) {
-        lock.readLock().lock();
+        Lock getLock = accessOrder ? lock.writeLock() : lock.readLock();
+        getLock.lock();
         try {
             return super.get(key);
         } finally {
-            lock.readLock().unlock();
+            getLock.unlock();
         }
     }
 
@@ -58,7 +58,9 @@ import org.wso2.carbon.apimgt.impl.APIConstants;
 import org.wso2.carbon.apimgt.impl.APIManagerConfiguration;
 import org.wso2.carbon.apimgt.impl.APIManagerConfigurationServiceImpl;
 import org.wso2.carbon.apimgt.impl.dao.ApiMgtDAO;
+import org.wso2.carbon.apimgt.impl.dao.SubscriptionValidationDAO;
 import org.wso2.carbon.apimgt.impl.dto.APIInfoDTO;
+import org.wso2.carbon.apimgt.impl.dto.CursorPage;
 import org.wso2.carbon.apimgt.impl.dto.APIKeyInfoDTO;
 import org.wso2.carbon.apimgt.impl.dto.ApplicationRegistrationWorkflowDTO;
 import org.wso2.carbon.apimgt.impl.dto.TierPermissionDTO;
@@ -316,6 +318,63 @@ public class APIMgtDAOTest {
                 (), null));
 
     }
+    @Test
+    public void testGetApplicationsByOrganizationPaginated() throws Exception {
+        Subscriber subscriber = new Subscriber("PAGINATED_APP_SUBSCRIBER");
+        subscriber.setEmail("paginated@wso2.com");
+        subscriber.setSubscribedDate(new Date());
+        subscriber.setTenantId(MultitenantConstants.SUPER_TENANT_ID);
+        apiMgtDAO.addSubscriber(subscriber, null);
+        List<Integer> applicationIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Application application = new Application("paginatedApplication" + i, subscriber);
+            applicationIds.add(apiMgtDAO.addApplication(application, subscriber.getName(), "paginationOrg"));
+        }
+        SubscriptionValidationDAO subscriptionValidationDAO = new SubscriptionValidationDAO();
+
+        CursorPage<org.wso2.carbon.apimgt.api.model.subscription.Application> firstPage =
+                subscriptionValidationDAO.getApplicationsByOrganization("paginationOrg", 0, 2);
+        assertEquals(2, firstPage.getEntries().size());
+        assertEquals(applicationIds.get(0).intValue(), firstPage.getEntries().get(0).getId());
+        assertEquals(applicationIds.get(1).intValue(), firstPage.getEntries().get(1).getId());
+        assertEquals(applicationIds.get(1), firstPage.getNextCursor());
+        CursorPage<org.wso2.carbon.apimgt.api.model.subscription.Application> secondPage =
+                subscriptionValidationDAO.getApplicationsByOrganization("paginationOrg", firstPage.getNextCursor(), 2);
+        assertEquals(1, secondPage.getEntries().size());
+        assertEquals(applicationIds.get(2).intValue(), secondPage.getEntries().get(0).getId());
+        assertNull(secondPage.getNextCursor());
+        assertTrue(subscriptionValidationDAO.getApplicationsByOrganization("paginationOrg",
+                applicationIds.get(2), 2).getEntries().isEmpty());
+    }
+
+    @Test
+    public void testApplicationOwnerUpdateIsReturnedAsUpdatedApplication() throws Exception {
+        Subscriber subscriber = new Subscriber("DELTA_SYNC_OWNER");
+        subscriber.setEmail("delta@wso2.com");
+        subscriber.setSubscribedDate(new Date());
+        subscriber.setTenantId(MultitenantConstants.SUPER_TENANT_ID);
+        apiMgtDAO.addSubscriber(subscriber, null);
+        Subscriber newOwner = new Subscriber("DELTA_SYNC_NEW_OWNER");
+        newOwner.setEmail("delta@wso2.com");
+        newOwner.setSubscribedDate(new Date());
+        newOwner.setTenantId(MultitenantConstants.SUPER_TENANT_ID);
+        apiMgtDAO.addSubscriber(newOwner, null);
+        Application application = new Application("deltaSyncApplication", subscriber);
+        application.setUUID(UUID.randomUUID().toString());
+        int applicationId = apiMgtDAO.addApplication(application, subscriber.getName(), "deltaSyncOrg");
+        Thread.sleep(50);
+        long updatedSince = System.currentTimeMillis();
+        Thread.sleep(50);
+        SubscriptionValidationDAO subscriptionValidationDAO = new SubscriptionValidationDAO();
+        assertTrue(subscriptionValidationDAO.getApplicationsUpdatedSince("deltaSyncOrg", updatedSince).isEmpty());
+
+        assertTrue(apiMgtDAO.updateApplicationOwner(newOwner.getName(), application));
+        List<org.wso2.carbon.apimgt.api.model.subscription.Application> updatedApplications =
+                subscriptionValidationDAO.getApplicationsUpdatedSince("deltaSyncOrg", updatedSince);
+        assertEquals(1, updatedApplications.size());
+        assertEquals(applicationId, updatedApplications.get(0).getId());
+    }
+
     @Test
     public void testAddGetApplicationByNameWithGroupId() throws Exception {
         Subscriber subscriber = new Subscriber("LA_F_APP");
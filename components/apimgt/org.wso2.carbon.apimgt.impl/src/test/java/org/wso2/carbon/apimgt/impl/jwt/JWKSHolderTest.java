@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.apimgt.impl.jwt;
+
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.wso2.carbon.apimgt.api.APIManagementException;
+
+import java.io.IOException;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.interfaces.RSAPublicKey;
+import java.util.ArrayList;
+import java.util.List;
+
+public class JWKSHolderTest {
+
+    private static final long REFRESH_INTERVAL = 60000;
+    private static final long MIN_REFRESH_INTERVAL = 1000;
+
+    private StubJWKSHolder jwksHolder;
+    private List<Runnable> backgroundTasks;
+
+    @Before
+    public void setup() {
+        backgroundTasks = new ArrayList<>();
+        jwksHolder = new StubJWKSHolder(backgroundTasks);
+    }
+
+    @Test
+    public void retrievesJWKSOnFirstUse() throws Exception {
+        jwksHolder.jwks = jwks("key1", "key2");
+        Assert.assertEquals("key1", jwksHolder.getKey("key1").getKeyID());
+        Assert.assertEquals("key2", jwksHolder.getKey("key2").getKeyID());
+        Assert.assertEquals(1, jwksHolder.retrievals);
+    }
+
+    @Test
+    public void refreshesInBackgroundAfterRefreshInterval() throws Exception {
+        jwksHolder.jwks = jwks("key1");
+        jwksHolder.getKey("key1");
+        jwksHolder.time += REFRESH_INTERVAL;
+        jwksHolder.jwks = jwks("key1", "key2");
+        Assert.assertNotNull(jwksHolder.getKey("key1"));
+        Assert.assertNotNull(jwksHolder.getKey("key1"));
+        Assert.assertEquals(1, jwksHolder.retrievals);
+        Assert.assertEquals(1, backgroundTasks.size());
+        backgroundTasks.get(0).run();
+        Assert.assertEquals(2, jwksHolder.retrievals);
+        Assert.assertNotNull(jwksHolder.getKey("key2"));
+        Assert.assertEquals(2, jwksHolder.retrievals);
+    }
+
+    @Test
+    public void rateLimitsRefreshesForUnknownKeys() throws Exception {
+        jwksHolder.jwks = jwks("key1");
+        jwksHolder.getKey("key1");
+        jwksHolder.time += MIN_REFRESH_INTERVAL;
+        Assert.assertNull(jwksHolder.getKey("unknown"));
+        Assert.assertNull(jwksHolder.getKey("unknown"));
+        Assert.assertEquals(2, jwksHolder.retrievals);
+        jwksHolder.jwks = jwks("key1", "rotated");
+        Assert.assertNull(jwksHolder.getKey("rotated"));
+        jwksHolder.time += MIN_REFRESH_INTERVAL;
+        Assert.assertNotNull(jwksHolder.getKey("rotated"));
+        Assert.assertEquals(3, jwksHolder.retrievals);
+    }
+
+    @Test
+    public void keepsLastRetrievedJWKSWhenRefreshFails() throws Exception {
+        jwksHolder.jwks = jwks("key1");
+        jwksHolder.getKey("key1");
+        jwksHolder.jwks = null;
+        jwksHolder.time += REFRESH_INTERVAL;
+        Assert.assertNull(jwksHolder.getKey("unknown"));
+        Assert.assertNotNull(jwksHolder.getKey("key1"));
+        for (Runnable backgroundTask : backgroundTasks) {
+            backgroundTask.run();
+        }
+        Assert.assertNotNull(jwksHolder.getKey("key1"));
+    }
+
+    @Test(expected = APIManagementException.class)
+    public void failsWhenJWKSWasNeverRetrieved() throws Exception {
+        jwksHolder.getKey("key1");
+    }
+
+    @Test
+    public void failsFastWhileBackingOffFromFailedFirstRetrieval() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            try {
+                jwksHolder.getKey("key1");
+                Assert.fail("Expected the retrieval to fail");
+            } catch (APIManagementException e) {
+                // expected
+            }
+        }
+        Assert.assertEquals(1, jwksHolder.retrievals);
+        jwksHolder.jwks = jwks("key1");
+        jwksHolder.time += MIN_REFRESH_INTERVAL;
+        Assert.assertNotNull(jwksHolder.getKey("key1"));
+        Assert.assertEquals(2, jwksHolder.retrievals);
+    }
+
+    @Test
+    public void backsOffBackgroundRefreshesAfterFailures() throws Exception {
+        jwksHolder.jwks = jwks("key1");
+        jwksHolder.getKey("key1");
+        jwksHolder.jwks = null;
+        jwksHolder.time += REFRESH_INTERVAL;
+        jwksHolder.getKey("key1");
+        Assert.assertEquals(1, backgroundTasks.size());
+        backgroundTasks.get(0).run();
+        jwksHolder.getKey("key1");
+        Assert.assertEquals(1, backgroundTasks.size());
+
+        jwksHolder.time += MIN_REFRESH_INTERVAL;
+        jwksHolder.getKey("key1");
+        Assert.assertEquals(2, backgroundTasks.size());
+        backgroundTasks.get(1).run();
+        // The second failure doubles the backoff
+        jwksHolder.time += MIN_REFRESH_INTERVAL;
+        jwksHolder.getKey("key1");
+        Assert.assertEquals(2, backgroundTasks.size());
+        jwksHolder.time += MIN_REFRESH_INTERVAL;
+        Assert.assertNotNull(jwksHolder.getKey("key1"));
+        Assert.assertEquals(3, backgroundTasks.size());
+        Assert.assertEquals(3, jwksHolder.retrievals);
+    }
+
+    private static String jwks(String... keyIds) throws NoSuchAlgorithmException {
+        KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+        keyPairGenerator.initialize(2048);
+        RSAPublicKey publicKey = (RSAPublicKey) keyPairGenerator.generateKeyPair().getPublic();
+        List<com.nimbusds.jose.jwk.JWK> keys = new ArrayList<>();
+        for (String keyId : keyIds) {
+            keys.add(new RSAKey.Builder(publicKey).keyID(keyId).build());
+        }
+        return new JWKSet(keys).toString();
+    }
+
+    private static class StubJWKSHolder extends JWKSHolder {
+
+        private String jwks;
+        private int retrievals;
+        private long time = 1000000L;
+
+        StubJWKSHolder(List<Runnable> backgroundTasks) {
+            super("https://localhost:9443/oauth2/jwks", REFRESH_INTERVAL, MIN_REFRESH_INTERVAL, backgroundTasks::add);
+        }
+
+        @Override
+        protected String retrieveJWKS() throws IOException {
+            retrievals++;
+            if (jwks == null) {
+                throw new IOException("JWKS endpoint unavailable");
+            }
+            return jwks;
+        }
+
+        @Override
+        protected long currentTimeMillis() {
+            return time;
+        }
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.apimgt.impl.notifier;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.junit.Assert;
+import org.junit.Test;
+import org.wso2.carbon.apimgt.impl.APIConstants;
+import org.wso2.carbon.apimgt.impl.notifier.events.ApplicationEvent;
+import org.wso2.carbon.apimgt.impl.notifier.events.Event;
+import org.wso2.carbon.apimgt.impl.notifier.events.SubscriptionEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+public class NotificationEventBatcherTest {
+
+    private static final String TENANT_DOMAIN = "carbon.super";
+
+    private final List<List<Event>> publishedBatches = new ArrayList<>();
+
+    @Test
+    public void testEventsOfAnEntityAreCoalesced() {
+
+        NotificationEventBatcher batcher = new NotificationEventBatcherWrapper(60000, 100);
+        batcher.add(getSubscriptionEvent(APIConstants.EventType.SUBSCRIPTIONS_CREATE, 1));
+        batcher.add(getApplicationEvent(APIConstants.EventType.APPLICATION_UPDATE, 1));
+        SubscriptionEvent deleteEvent = getSubscriptionEvent(APIConstants.EventType.SUBSCRIPTIONS_DELETE, 1);
+        batcher.add(deleteEvent);
+        batcher.add(getSubscriptionEvent(APIConstants.EventType.SUBSCRIPTIONS_CREATE, 2));
+        batcher.flush(TENANT_DOMAIN);
+
+        Assert.assertEquals(1, publishedBatches.size());
+        List<Event> batch = publishedBatches.get(0);
+        Assert.assertEquals(3, batch.size());
+        Assert.assertEquals(APIConstants.EventType.APPLICATION_UPDATE.name(), batch.get(0).getType());
+        Assert.assertSame(deleteEvent, batch.get(1));
+        Assert.assertEquals(2, ((SubscriptionEvent) batch.get(2)).getSubscriptionId());
+    }
+
+    @Test
+    public void testBatchIsPublishedWhenFull() throws InterruptedException {
+
+        NotificationEventBatcher batcher = new NotificationEventBatcherWrapper(60000, 2);
+        batcher.add(getSubscriptionEvent(APIConstants.EventType.SUBSCRIPTIONS_CREATE, 1));
+        batcher.add(getSubscriptionEvent(APIConstants.EventType.SUBSCRIPTIONS_CREATE, 2));
+        for (int i = 0; i < 50; i++) {
+            synchronized (publishedBatches) {
+                if (!publishedBatches.isEmpty()) {
+                    break;
+                }
+            }
+            Thread.sleep(100);
+        }
+        synchronized (publishedBatches) {
+            Assert.assertEquals(1, publishedBatches.size());
+            Assert.assertEquals(2, publishedBatches.get(0).size());
+        }
+    }
+
+    @Test
+    public void testShutdownPublishesPendingBatches() {
+
+        NotificationEventBatcher batcher = new NotificationEventBatcherWrapper(60000, 100);
+        batcher.add(getSubscriptionEvent(APIConstants.EventType.SUBSCRIPTIONS_CREATE, 1));
+        batcher.add(getSubscriptionEvent(APIConstants.EventType.SUBSCRIPTIONS_CREATE, 2));
+        batcher.add(getSubscriptionEvent(APIConstants.EventType.SUBSCRIPTIONS_CREATE, 3, "wso2.com"));
+        batcher.shutdown();
+
+        Assert.assertEquals(2, publishedBatches.size());
+        Assert.assertEquals(3, publishedBatches.get(0).size() + publishedBatches.get(1).size());
+
+        batcher.add(getSubscriptionEvent(APIConstants.EventType.SUBSCRIPTIONS_DELETE, 1));
+        Assert.assertEquals(3, publishedBatches.size());
+        Assert.assertEquals(1, publishedBatches.get(2).size());
+    }
+
+    @Test
+    public void testInvalidMaxBatchSizeFallsBackToDefault() {
+
+        Assert.assertEquals(500, new NotificationEventBatcherWrapper(60000, 1).getMaxBatchSize());
+        Assert.assertEquals(500, new NotificationEventBatcherWrapper(60000, 0).getMaxBatchSize());
+        Assert.assertEquals(2, new NotificationEventBatcherWrapper(60000, 2).getMaxBatchSize());
+    }
+
+    @Test
+    public void testBatchJson() {
+
+        List<Event> events = new ArrayList<>();
+        events.add(getSubscriptionEvent(APIConstants.EventType.SUBSCRIPTIONS_UPDATE, 7));
+        JsonArray batch = new JsonParser().parse(NotificationEventBatcher.toBatchJson(events)).getAsJsonArray();
+
+        Assert.assertEquals(1, batch.size());
+        JsonObject batchedEvent = batch.get(0).getAsJsonObject();
+        Assert.assertEquals(APIConstants.EventType.SUBSCRIPTIONS_UPDATE.name(),
+                batchedEvent.get(APIConstants.EVENT_TYPE).getAsString());
+        JsonObject event = new JsonParser().parse(batchedEvent.get(APIConstants.EVENT_PAYLOAD).getAsString())
+                .getAsJsonObject();
+        Assert.assertEquals(7, event.get("subscriptionId").getAsInt());
+    }
+
+    private SubscriptionEvent getSubscriptionEvent(APIConstants.EventType type, int subscriptionId) {
+
+        return getSubscriptionEvent(type, subscriptionId, TENANT_DOMAIN);
+    }
+
+    private SubscriptionEvent getSubscriptionEvent(APIConstants.EventType type, int subscriptionId,
+                                                   String tenantDomain) {
+
+        return new SubscriptionEvent(UUID.randomUUID().toString(), System.currentTimeMillis(), type.name(), -1234,
+                tenantDomain, subscriptionId, UUID.randomUUID().toString(), 1, "apiUUID", 1, "applicationUUID",
+                "Unlimited", APIConstants.SubscriptionStatus.UNBLOCKED, "PizzaShackAPI", "1.0.0");
+    }
+
+    private ApplicationEvent getApplicationEvent(APIConstants.EventType type, int applicationId) {
+
+        return new ApplicationEvent(UUID.randomUUID().toString(), System.currentTimeMillis(), type.name(), -1234,
+                TENANT_DOMAIN, applicationId, "applicationUUID", "DefaultApplication", "JWT", "Unlimited", null,
+                null, "admin");
+    }
+
+    private class NotificationEventBatcherWrapper extends NotificationEventBatcher {
+
+        NotificationEventBatcherWrapper(long batchWindow, int maxBatchSize) {
+
+            super(batchWindow, maxBatchSize);
+        }
+
+        @Override
+        protected void publishBatch(String tenantDomain, List<Event> events) {
+
+            synchronized (publishedBatches) {
+                publishedBatches.add(events);
+            }
+        }
+    }
+}
@@ -44,7 +44,7 @@ ApplicationKeyMappingsApiService delegate = new ApplicationKeyMappingsApiService
     @ApiResponses(value = { 
         @ApiResponse(code = 200, message = "An array of application key mappings in the database", response = ApplicationKeyMappingListDTO.class),
         @ApiResponse(code = 200, message = "Unexpected error", response = ErrorDTO.class) })
-    public Response applicationKeyMappingsGet(@ApiParam(value = "This is used to specify the tenant domain, where the resource need to be   retrieved from. " ,required=true)@HeaderParam("xWSO2Tenant") String xWSO2Tenant,  @ApiParam(value = "**Search condition**.  Consumer Key of the application ")  @QueryParam("consumerKey") String consumerKey,  @ApiParam(value = "**Search condition**.  KeyManager associated to consumer_key of the application ")  @QueryParam("keymanager") String keymanager) throws APIManagementException{
-        return delegate.applicationKeyMappingsGet(xWSO2Tenant, consumerKey, keymanager, securityContext);
+    public Response applicationKeyMappingsGet(@ApiParam(value = "This is used to specify the tenant domain, where the resource need to be   retrieved from. " ,required=true)@HeaderParam("xWSO2Tenant") String xWSO2Tenant,  @ApiParam(value = "**Search condition**.  Consumer Key of the application ")  @QueryParam("consumerKey") String consumerKey,  @ApiParam(value = "**Search condition**.  KeyManager associated to consumer_key of the application ")  @QueryParam("keymanager") String keymanager,  @ApiParam(value = "Maximum number of entries to return in a single page. When specified, the entries are returned in pages and the link to the next page is given in the pagination section of the response. ")  @QueryParam("limit") Integer limit,  @ApiParam(value = "Cursor returned in the link to the next page of a previous paginated response. ")  @QueryParam("cursor") Integer cursor) throws APIManagementException{
+        return delegate.applicationKeyMappingsGet(xWSO2Tenant, consumerKey, keymanager, limit, cursor, securityContext);
     }
 }
@@ -44,7 +44,7 @@ ApplicationsApiService delegate = new ApplicationsApiServiceImpl();
     @ApiResponses(value = { 
         @ApiResponse(code = 200, message = "An array of applications in the database", response = ApplicationListDTO.class),
         @ApiResponse(code = 200, message = "Unexpected error", response = ErrorDTO.class) })
-    public Response applicationsGet(@ApiParam(value = "This is used to specify the tenant domain, where the resource need to be   retrieved from. " ,required=true)@HeaderParam("xWSO2Tenant") String xWSO2Tenant,  @ApiParam(value = "**Search condition**.  Application ID of the application ")  @QueryParam("appId") Integer appId) throws APIManagementException{
-        return delegate.applicationsGet(xWSO2Tenant, appId, securityContext);
+    public Response applicationsGet(@ApiParam(value = "This is used to specify the tenant domain, where the resource need to be   retrieved from. " ,required=true)@HeaderParam("xWSO2Tenant") String xWSO2Tenant,  @ApiParam(value = "**Search condition**.  Application ID of the application ")  @QueryParam("appId") Integer appId,  @ApiParam(value = "Maximum number of entries to return in a single page. When specified, the entries are returned in pages and the link to the next page is given in the pagination section of the response. ")  @QueryParam("limit") Integer limit,  @ApiParam(value = "Cursor returned in the link to the next page of a previous paginated response. ")  @QueryParam("cursor") Integer cursor,  @ApiParam(value = "Time in milliseconds since epoch. When specified, only the entries created or updated at or after this time are returned and the total number of entries is given in the pagination section of the response. ")  @QueryParam("updatedSince") Long updatedSince) throws APIManagementException{
+        return delegate.applicationsGet(xWSO2Tenant, appId, limit, cursor, updatedSince, securityContext);
     }
 }
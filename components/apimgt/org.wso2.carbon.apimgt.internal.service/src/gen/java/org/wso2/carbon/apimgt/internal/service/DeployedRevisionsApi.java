@@ -0,0 +1,50 @@
+package org.wso2.carbon.apimgt.internal.service;
+
+import org.wso2.carbon.apimgt.internal.service.dto.DeployedRevisionListDTO;
+import org.wso2.carbon.apimgt.internal.service.dto.ErrorDTO;
+import org.wso2.carbon.apimgt.internal.service.DeployedRevisionsApiService;
+import org.wso2.carbon.apimgt.internal.service.impl.DeployedRevisionsApiServiceImpl;
+import org.wso2.carbon.apimgt.api.APIManagementException;
+
+import javax.ws.rs.*;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.SecurityContext;
+import javax.inject.Inject;
+
+import io.swagger.annotations.*;
+import java.io.InputStream;
+
+import org.apache.cxf.jaxrs.ext.MessageContext;
+import org.apache.cxf.jaxrs.ext.multipart.Attachment;
+import org.apache.cxf.jaxrs.ext.multipart.Multipart;
+
+import java.util.Map;
+import java.util.List;
+import javax.validation.constraints.*;
+@Path("/deployed-revisions")
+
+@Api(description = "the deployed-revisions API")
+
+@Produces({ "application/json" })
+
+
+public class DeployedRevisionsApi  {
+
+  @Context MessageContext securityContext;
+
+DeployedRevisionsApiService delegate = new DeployedRevisionsApiServiceImpl();
+
+
+    @GET
+    
+    
+    @Produces({ "application/json" })
+    @ApiOperation(value = "Get the API revisions deployed in the given gateway labels", notes = "This will provide the revision, gateway label, vhost and deployed time of each API deployment, without the runtime artifacts. ", response = DeployedRevisionListDTO.class, tags={ "Retrieving Runtime artifacts" })
+    @ApiResponses(value = { 
+        @ApiResponse(code = 200, message = "Deployed API revisions", response = DeployedRevisionListDTO.class),
+        @ApiResponse(code = 200, message = "Unexpected error", response = ErrorDTO.class) })
+    public Response deployedRevisionsGet(@ApiParam(value = "This is used to specify the tenant domain, where the resource need to be   retrieved from. " ,required=true)@HeaderParam("xWSO2Tenant") String xWSO2Tenant, @NotNull @ApiParam(value = "**Search condition**.  label associated with the APIs ",required=true)  @QueryParam("gatewayLabel") String gatewayLabel) throws APIManagementException{
+        return delegate.deployedRevisionsGet(xWSO2Tenant, gatewayLabel, securityContext);
+    }
+}
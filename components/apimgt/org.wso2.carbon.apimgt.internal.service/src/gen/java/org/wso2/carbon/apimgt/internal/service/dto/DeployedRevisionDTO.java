@@ -0,0 +1,157 @@
+package org.wso2.carbon.apimgt.internal.service.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import javax.validation.constraints.*;
+
+
+import io.swagger.annotations.*;
+import java.util.Objects;
+
+import javax.xml.bind.annotation.*;
+import org.wso2.carbon.apimgt.rest.api.common.annotations.Scope;
+import com.fasterxml.jackson.annotation.JsonCreator;
+
+
+
+public class DeployedRevisionDTO   {
+  
+    private String apiId = null;
+    private String revisionId = null;
+    private String label = null;
+    private String vhost = null;
+    private Long deployedTime = null;
+
+  /**
+   **/
+  public DeployedRevisionDTO apiId(String apiId) {
+    this.apiId = apiId;
+    return this;
+  }
+
+  
+  @ApiModelProperty(example = "01234567-0123-0123-0123-012345678901", value = "")
+  @JsonProperty("apiId")
+  public String getApiId() {
+    return apiId;
+  }
+  public void setApiId(String apiId) {
+    this.apiId = apiId;
+  }
+
+  /**
+   **/
+  public DeployedRevisionDTO revisionId(String revisionId) {
+    this.revisionId = revisionId;
+    return this;
+  }
+
+  
+  @ApiModelProperty(example = "01234567-0123-0123-0123-012345678901", value = "")
+  @JsonProperty("revisionId")
+  public String getRevisionId() {
+    return revisionId;
+  }
+  public void setRevisionId(String revisionId) {
+    this.revisionId = revisionId;
+  }
+
+  /**
+   **/
+  public DeployedRevisionDTO label(String label) {
+    this.label = label;
+    return this;
+  }
+
+  
+  @ApiModelProperty(example = "Default", value = "")
+  @JsonProperty("label")
+  public String getLabel() {
+    return label;
+  }
+  public void setLabel(String label) {
+    this.label = label;
+  }
+
+  /**
+   **/
+  public DeployedRevisionDTO vhost(String vhost) {
+    this.vhost = vhost;
+    return this;
+  }
+
+  
+  @ApiModelProperty(example = "localhost", value = "")
+  @JsonProperty("vhost")
+  public String getVhost() {
+    return vhost;
+  }
+  public void setVhost(String vhost) {
+    this.vhost = vhost;
+  }
+
+  /**
+   * Time the revision was deployed in the gateway label, in milliseconds since the epoch. 
+   **/
+  public DeployedRevisionDTO deployedTime(Long deployedTime) {
+    this.deployedTime = deployedTime;
+    return this;
+  }
+
+  
+  @ApiModelProperty(value = "Time the revision was deployed in the gateway label, in milliseconds since the epoch. ")
+  @JsonProperty("deployedTime")
+  public Long getDeployedTime() {
+    return deployedTime;
+  }
+  public void setDeployedTime(Long deployedTime) {
+    this.deployedTime = deployedTime;
+  }
+
+
+  @Override
+  public boolean equals(java.lang.Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    DeployedRevisionDTO deployedRevision = (DeployedRevisionDTO) o;
+    return Objects.equals(apiId, deployedRevision.apiId) &&
+        Objects.equals(revisionId, deployedRevision.revisionId) &&
+        Objects.equals(label, deployedRevision.label) &&
+        Objects.equals(vhost, deployedRevision.vhost) &&
+        Objects.equals(deployedTime, deployedRevision.deployedTime);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(apiId, revisionId, label, vhost, deployedTime);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class DeployedRevisionDTO {\n");
+    
+    sb.append("    apiId: ").append(toIndentedString(apiId)).append("\n");
+    sb.append("    revisionId: ").append(toIndentedString(revisionId)).append("\n");
+    sb.append("    label: ").append(toIndentedString(label)).append("\n");
+    sb.append("    vhost: ").append(toIndentedString(vhost)).append("\n");
+    sb.append("    deployedTime: ").append(toIndentedString(deployedTime)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(java.lang.Object o) {
+    if (o == null) {
+      return "null";
+    }
+    return o.toString().replace("\n", "\n    ");
+  }
+}
@@ -23,7 +23,9 @@ import org.wso2.carbon.apimgt.api.APIManagementException;
 import org.wso2.carbon.apimgt.api.model.subscription.ApplicationKeyMapping;
 import org.wso2.carbon.apimgt.impl.APIConstants;
 import org.wso2.carbon.apimgt.impl.dao.SubscriptionValidationDAO;
+import org.wso2.carbon.apimgt.impl.dto.CursorPage;
 import org.wso2.carbon.apimgt.internal.service.ApplicationKeyMappingsApiService;
+import org.wso2.carbon.apimgt.internal.service.dto.ApplicationKeyMappingListDTO;
 import org.apache.cxf.jaxrs.ext.MessageContext;
 import org.wso2.carbon.apimgt.internal.service.utils.SubscriptionValidationDataUtil;
 import org.wso2.carbon.apimgt.rest.api.util.utils.RestApiUtil;
@@ -37,7 +39,8 @@ public class ApplicationKeyMappingsApiServiceImpl implements ApplicationKeyMappi
 
     @Override
     public Response applicationKeyMappingsGet(String xWSO2Tenant, String consumerKey, String keymanager,
-                                              MessageContext messageContext) throws APIManagementException {
+                                              Integer limit, Integer cursor, MessageContext messageContext)
+            throws APIManagementException {
 
         SubscriptionValidationDAO subscriptionValidationDAO = new SubscriptionValidationDAO();
         xWSO2Tenant = SubscriptionValidationDataUtil.validateTenantDomain(xWSO2Tenant, messageContext);
@@ -53,6 +56,18 @@ public class ApplicationKeyMappingsApiServiceImpl implements ApplicationKeyMappi
             return Response.ok().entity(SubscriptionValidationDataUtil.
                     fromApplicationKeyMappingToApplicationKeyMappingListDTO(applicationKeyMappings)).build();
         }
+        if (StringUtils.isNotEmpty(organization) && !organization.equalsIgnoreCase(APIConstants.ORG_ALL_QUERY_PARAM)
+                && limit != null && limit > 0) {
+            int pageCursor = cursor != null ? cursor : 0;
+            CursorPage<ApplicationKeyMapping> keyMappings =
+                    subscriptionValidationDAO.getApplicationKeyMappingsByOrganization(organization, pageCursor, limit);
+            ApplicationKeyMappingListDTO keyMappingListDTO = SubscriptionValidationDataUtil.
+                    fromApplicationKeyMappingToApplicationKeyMappingListDTO(keyMappings.getEntries());
+            keyMappingListDTO.setPagination(SubscriptionValidationDataUtil.getCursorPaginationDTO(
+                    APIConstants.SubscriptionValidationResources.APPLICATION_KEY_MAPPINGS, limit,
+                    keyMappings.getNextCursor()));
+            return Response.ok().entity(keyMappingListDTO).build();
+        }
         if (StringUtils.isNotEmpty(organization) && !organization.equalsIgnoreCase(APIConstants.ORG_ALL_QUERY_PARAM))   {
             return Response.ok().entity(SubscriptionValidationDataUtil.
                     fromApplicationKeyMappingToApplicationKeyMappingListDTO(subscriptionValidationDAO.
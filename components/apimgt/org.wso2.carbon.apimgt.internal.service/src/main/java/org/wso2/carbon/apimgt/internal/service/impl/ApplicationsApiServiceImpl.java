@@ -20,10 +20,13 @@ package org.wso2.carbon.apimgt.internal.service.impl;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.cxf.jaxrs.ext.MessageContext;
+import org.wso2.carbon.apimgt.api.APIManagementException;
 import org.wso2.carbon.apimgt.api.model.subscription.Application;
 import org.wso2.carbon.apimgt.impl.APIConstants;
 import org.wso2.carbon.apimgt.impl.dao.SubscriptionValidationDAO;
+import org.wso2.carbon.apimgt.impl.dto.CursorPage;
 import org.wso2.carbon.apimgt.internal.service.ApplicationsApiService;
+import org.wso2.carbon.apimgt.internal.service.dto.ApplicationListDTO;
 import org.wso2.carbon.apimgt.internal.service.utils.SubscriptionValidationDataUtil;
 import org.wso2.carbon.apimgt.rest.api.util.utils.RestApiUtil;
 import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
@@ -34,7 +37,8 @@ import javax.ws.rs.core.Response;
 public class ApplicationsApiServiceImpl implements ApplicationsApiService {
 
     @Override
-    public Response applicationsGet(String xWSO2Tenant, Integer appId, MessageContext messageContext) {
+    public Response applicationsGet(String xWSO2Tenant, Integer appId, Integer limit, Integer cursor,
+                                    Long updatedSince, MessageContext messageContext) throws APIManagementException {
 
         SubscriptionValidationDAO subscriptionValidationDAO = new SubscriptionValidationDAO();
         if (appId != null && appId > 0) {
@@ -52,6 +56,23 @@ public class ApplicationsApiServiceImpl implements ApplicationsApiService {
             return Response.ok().entity(SubscriptionValidationDataUtil.fromApplicationToApplicationListDTO(
                     subscriptionValidationDAO.getAllApplications())).build();
         }
+        if (StringUtils.isNotEmpty(xWSO2Tenant) && updatedSince != null) {
+            ApplicationListDTO applicationListDTO = SubscriptionValidationDataUtil.fromApplicationToApplicationListDTO(
+                    subscriptionValidationDAO.getApplicationsUpdatedSince(xWSO2Tenant, updatedSince));
+            applicationListDTO.setPagination(SubscriptionValidationDataUtil.getDeltaPaginationDTO(
+                    subscriptionValidationDAO.getApplicationCountByOrganization(xWSO2Tenant)));
+            return Response.ok().entity(applicationListDTO).build();
+        }
+        if (StringUtils.isNotEmpty(xWSO2Tenant) && limit != null && limit > 0) {
+            int pageCursor = cursor != null ? cursor : 0;
+            CursorPage<Application> applications =
+                    subscriptionValidationDAO.getApplicationsByOrganization(xWSO2Tenant, pageCursor, limit);
+            ApplicationListDTO applicationListDTO =
+                    SubscriptionValidationDataUtil.fromApplicationToApplicationListDTO(applications.getEntries());
+            applicationListDTO.setPagination(SubscriptionValidationDataUtil.getCursorPaginationDTO(
+                    APIConstants.SubscriptionValidationResources.APPLICATIONS, limit, applications.getNextCursor()));
+            return Response.ok().entity(applicationListDTO).build();
+        }
         if (StringUtils.isNotEmpty(xWSO2Tenant)) {
             return Response.ok().entity(SubscriptionValidationDataUtil.fromApplicationToApplicationListDTO(
                     subscriptionValidationDAO.getAllApplications(xWSO2Tenant)))
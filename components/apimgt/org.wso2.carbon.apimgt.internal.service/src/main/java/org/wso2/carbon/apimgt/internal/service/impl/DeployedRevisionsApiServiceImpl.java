@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.internal.service.impl;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.cxf.jaxrs.ext.MessageContext;
+import org.wso2.carbon.apimgt.api.APIManagementException;
+import org.wso2.carbon.apimgt.impl.APIConstants;
+import org.wso2.carbon.apimgt.impl.gatewayartifactsynchronizer.RuntimeArtifactGeneratorUtil;
+import org.wso2.carbon.apimgt.impl.gatewayartifactsynchronizer.dto.DeployedRevisionDto;
+import org.wso2.carbon.apimgt.internal.service.DeployedRevisionsApiService;
+import org.wso2.carbon.apimgt.internal.service.dto.DeployedRevisionDTO;
+import org.wso2.carbon.apimgt.internal.service.dto.DeployedRevisionListDTO;
+import org.wso2.carbon.apimgt.internal.service.utils.SubscriptionValidationDataUtil;
+import org.wso2.carbon.apimgt.rest.api.common.RestApiConstants;
+import org.wso2.carbon.apimgt.rest.api.util.utils.RestApiUtil;
+import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.ws.rs.core.Response;
+
+/**
+ * Lists the API revisions deployed in gateway labels, so that a gateway can find the APIs it has to deploy or
+ * redeploy without retrieving their artifacts.
+ */
+public class DeployedRevisionsApiServiceImpl implements DeployedRevisionsApiService {
+
+    private static final Log log = LogFactory.getLog(DeployedRevisionsApiServiceImpl.class);
+
+    public Response deployedRevisionsGet(String xWSO2Tenant, String gatewayLabel, MessageContext messageContext)
+            throws APIManagementException {
+
+        if (StringUtils.isEmpty(gatewayLabel)) {
+            RestApiUtil.handleBadRequest("Gateway label is required to retrieve deployed API revisions", log);
+        }
+        xWSO2Tenant = SubscriptionValidationDataUtil.validateTenantDomain(xWSO2Tenant, messageContext);
+        String organization = RestApiUtil.getOrganization(messageContext);
+        if (StringUtils.isNotEmpty(organization) && !organization.equalsIgnoreCase(APIConstants.ORG_ALL_QUERY_PARAM)) {
+            xWSO2Tenant = SubscriptionValidationDataUtil.validateTenantDomain(organization, messageContext);
+        }
+        List<DeployedRevisionDto> deployedRevisions;
+        if (StringUtils.isNotEmpty(organization) && organization.equalsIgnoreCase(APIConstants.ORG_ALL_QUERY_PARAM) &&
+                xWSO2Tenant.equalsIgnoreCase(MultitenantConstants.SUPER_TENANT_DOMAIN_NAME)) {
+            deployedRevisions = RuntimeArtifactGeneratorUtil.getAllDeployedRevisions(gatewayLabel);
+        } else {
+            deployedRevisions = RuntimeArtifactGeneratorUtil.getDeployedRevisions(gatewayLabel, xWSO2Tenant);
+        }
+        List<DeployedRevisionDTO> list = new ArrayList<>(deployedRevisions.size());
+        for (DeployedRevisionDto deployedRevision : deployedRevisions) {
+            DeployedRevisionDTO deployedRevisionDTO = new DeployedRevisionDTO();
+            deployedRevisionDTO.setApiId(deployedRevision.getApiId());
+            deployedRevisionDTO.setRevisionId(deployedRevision.getRevisionId());
+            deployedRevisionDTO.setLabel(deployedRevision.getLabel());
+            deployedRevisionDTO.setVhost(deployedRevision.getVhost());
+            deployedRevisionDTO.setDeployedTime(deployedRevision.getDeployedTimeStamp());
+            list.add(deployedRevisionDTO);
+        }
+        DeployedRevisionListDTO deployedRevisionListDTO = new DeployedRevisionListDTO();
+        deployedRevisionListDTO.setList(list);
+        deployedRevisionListDTO.setCount(list.size());
+        return Response.ok().entity(deployedRevisionListDTO)
+                .header(RestApiConstants.HEADER_CONTENT_TYPE, RestApiConstants.APPLICATION_JSON).build();
+    }
+}
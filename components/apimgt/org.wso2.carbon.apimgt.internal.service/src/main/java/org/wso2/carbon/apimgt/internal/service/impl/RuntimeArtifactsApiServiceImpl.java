@@ -19,12 +19,14 @@
 
 package org.wso2.carbon.apimgt.internal.service.impl;
 
+import com.google.gson.stream.JsonWriter;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.cxf.jaxrs.ext.MessageContext;
 import org.wso2.carbon.apimgt.api.APIManagementException;
 import org.wso2.carbon.apimgt.api.ExceptionCodes;
 import org.wso2.carbon.apimgt.impl.APIConstants;
 import org.wso2.carbon.apimgt.impl.dto.RuntimeArtifactDto;
+import org.wso2.carbon.apimgt.impl.gatewayartifactsynchronizer.ArtifactConsumer;
 import org.wso2.carbon.apimgt.impl.gatewayartifactsynchronizer.RuntimeArtifactGeneratorUtil;
 import org.wso2.carbon.apimgt.internal.service.RuntimeArtifactsApiService;
 import org.wso2.carbon.apimgt.internal.service.dto.SynapseArtifactListDTO;
@@ -36,8 +38,13 @@ import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.StreamingOutput;
 import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Runtime Artifact Service implementation.
@@ -53,8 +60,18 @@ public class RuntimeArtifactsApiServiceImpl implements RuntimeArtifactsApiServic
         if (StringUtils.isNotEmpty(organization) && !organization.equalsIgnoreCase(APIConstants.ORG_ALL_QUERY_PARAM)) {
             xWSO2Tenant = SubscriptionValidationDataUtil.validateTenantDomain(organization, messageContext);
         }
-        if (StringUtils.isNotEmpty(organization) && organization.equalsIgnoreCase(APIConstants.ORG_ALL_QUERY_PARAM) &&
-                xWSO2Tenant.equalsIgnoreCase(MultitenantConstants.SUPER_TENANT_DOMAIN_NAME)) {
+        boolean allTenants = StringUtils.isNotEmpty(organization)
+                && organization.equalsIgnoreCase(APIConstants.ORG_ALL_QUERY_PARAM)
+                && xWSO2Tenant.equalsIgnoreCase(MultitenantConstants.SUPER_TENANT_DOMAIN_NAME);
+        if (StringUtils.isEmpty(apiId) && StringUtils.isNotEmpty(gatewayLabel)
+                && RuntimeArtifactGeneratorUtil.isArtifactStreamingSupported(type)) {
+            String tenantDomain = allTenants ? null : xWSO2Tenant;
+            StreamingOutput streamingOutput =
+                    (outputStream) -> writeRuntimeArtifacts(outputStream, gatewayLabel, type, tenantDomain);
+            return Response.ok(streamingOutput)
+                    .header(RestApiConstants.HEADER_CONTENT_TYPE, RestApiConstants.APPLICATION_JSON).build();
+        }
+        if (allTenants) {
             runtimeArtifactDto = RuntimeArtifactGeneratorUtil.generateAllRuntimeArtifact(apiId,
                     gatewayLabel, type);
         } else {
@@ -90,4 +107,47 @@ public class RuntimeArtifactsApiServiceImpl implements RuntimeArtifactsApiServic
                     .build();
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Writes the synapse artifact list of the APIs deployed in the given labels while the artifacts are being
+     * generated, so that the artifacts of all the APIs are not held in memory at once. The count is written after
+     * the list, as it is known only once all the artifacts are generated. If the generation fails midway, the
+     * response is left incomplete, so that it is not taken for the full list of artifacts.
+     *
+     * @param outputStream output stream of the response
+     * @param gatewayLabel base64 encoded gateway labels separated by |
+     * @param type         gateway type
+     * @param tenantDomain tenant domain of the APIs, or null for the APIs of all the tenants
+     * @throws IOException if the artifacts could not be generated or written
+     */
+    private static void writeRuntimeArtifacts(OutputStream outputStream, String gatewayLabel, String type,
+                                              String tenantDomain) throws IOException {
+
+        JsonWriter jsonWriter = new JsonWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        AtomicInteger count = new AtomicInteger();
+        ArtifactConsumer<String> artifactConsumer = (artifact) -> {
+            try {
+                jsonWriter.value(artifact);
+                count.incrementAndGet();
+            } catch (IOException e) {
+                throw new APIManagementException("Error while writing the runtime artifacts", e);
+            }
+        };
+        jsonWriter.beginObject();
+        jsonWriter.name("list").beginArray();
+        try {
+            if (tenantDomain == null) {
+                RuntimeArtifactGeneratorUtil.generateAllRuntimeArtifacts(gatewayLabel, type, artifactConsumer);
+            } else {
+                RuntimeArtifactGeneratorUtil.generateRuntimeArtifacts(gatewayLabel, type, tenantDomain,
+                        artifactConsumer);
+            }
+        } catch (APIManagementException e) {
+            throw new IOException("Error while generating the runtime artifacts", e);
+        }
+        jsonWriter.endArray();
+        jsonWriter.name("count").value(count.get());
+        jsonWriter.endObject();
+        jsonWriter.flush();
+    }
+}
@@ -25,6 +25,7 @@ import org.wso2.carbon.apimgt.api.model.subscription.Subscription;
 import org.wso2.carbon.apimgt.impl.APIConstants;
 import org.wso2.carbon.apimgt.impl.dao.SubscriptionValidationDAO;
 import org.wso2.carbon.apimgt.internal.service.SubscriptionsApiService;
+import org.wso2.carbon.apimgt.internal.service.dto.SubscriptionListDTO;
 import org.wso2.carbon.apimgt.internal.service.utils.SubscriptionValidationDataUtil;
 import org.wso2.carbon.apimgt.rest.api.util.utils.RestApiUtil;
 import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
@@ -37,8 +38,8 @@ public class SubscriptionsApiServiceImpl implements SubscriptionsApiService {
 
     @Override
     public Response subscriptionsGet(String xWSO2Tenant, Integer apiId, Integer appId, String apiUUID,
-                                     String applicationUUID, MessageContext messageContext) throws
-            APIManagementException {
+                                     String applicationUUID, Integer limit, Integer cursor, Long updatedSince,
+                                     MessageContext messageContext) throws APIManagementException {
 
         Response result;
 
@@ -60,6 +61,26 @@ public class SubscriptionsApiServiceImpl implements SubscriptionsApiService {
             }
             result = Response.ok().entity(
                     SubscriptionValidationDataUtil.fromSubscriptionToSubscriptionListDTO(subscriptionList)).build();
+        } else if (StringUtils.isNotEmpty(organization) &&
+                !organization.equalsIgnoreCase(APIConstants.ORG_ALL_QUERY_PARAM) && updatedSince != null) {
+            SubscriptionListDTO subscriptionListDTO = SubscriptionValidationDataUtil
+                    .fromSubscriptionToSubscriptionListDTO(
+                            subscriptionValidationDAO.getSubscriptionsUpdatedSince(organization, updatedSince));
+            subscriptionListDTO.setPagination(SubscriptionValidationDataUtil.getDeltaPaginationDTO(
+                    subscriptionValidationDAO.getSubscriptionCountByOrganization(organization)));
+            result = Response.ok().entity(subscriptionListDTO).build();
+        } else if (StringUtils.isNotEmpty(organization) &&
+                !organization.equalsIgnoreCase(APIConstants.ORG_ALL_QUERY_PARAM) && limit != null && limit > 0) {
+            int pageCursor = cursor != null ? cursor : 0;
+            subscriptionList =
+                    subscriptionValidationDAO.getSubscriptionsByOrganization(organization, pageCursor, limit);
+            Integer nextCursor = subscriptionList.size() >= limit ?
+                    subscriptionList.get(subscriptionList.size() - 1).getSubscriptionId() : null;
+            SubscriptionListDTO subscriptionListDTO =
+                    SubscriptionValidationDataUtil.fromSubscriptionToSubscriptionListDTO(subscriptionList);
+            subscriptionListDTO.setPagination(SubscriptionValidationDataUtil.getCursorPaginationDTO(
+                    APIConstants.SubscriptionValidationResources.SUBSCRIPTIONS, limit, nextCursor));
+            result = Response.ok().entity(subscriptionListDTO).build();
         } else if (StringUtils.isNotEmpty(organization) &&
                 !organization.equalsIgnoreCase(APIConstants.ORG_ALL_QUERY_PARAM)) {
             result = Response.ok().entity(SubscriptionValidationDataUtil.fromSubscriptionToSubscriptionListDTO(
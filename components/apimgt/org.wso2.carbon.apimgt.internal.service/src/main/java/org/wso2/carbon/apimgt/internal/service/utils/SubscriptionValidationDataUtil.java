@@ -58,6 +58,7 @@ import org.wso2.carbon.apimgt.internal.service.dto.EventCountLimitDTO;
 import org.wso2.carbon.apimgt.internal.service.dto.GlobalPolicyDTO;
 import org.wso2.carbon.apimgt.internal.service.dto.GlobalPolicyListDTO;
 import org.wso2.carbon.apimgt.internal.service.dto.GroupIdDTO;
+import org.wso2.carbon.apimgt.internal.service.dto.PaginationDTO;
 import org.wso2.carbon.apimgt.internal.service.dto.OperationPolicyDTO;
 import org.wso2.carbon.apimgt.internal.service.dto.RequestCountLimitDTO;
 import org.wso2.carbon.apimgt.internal.service.dto.ScopeDTO;
@@ -505,6 +506,39 @@ public class SubscriptionValidationDataUtil {
         return applicationKeyMappingListDTO;
     }
 
+    /**
+     * Builds the pagination section of a cursor paginated response. The next link is only set when there may be more
+     * entries to return, and it can be invoked as is against the internal service to retrieve the next page.
+     *
+     * @param resource   resource path of the paginated collection
+     * @param limit      page size
+     * @param nextCursor cursor to continue from, or null if there are no more entries
+     * @return pagination DTO
+     */
+    public static PaginationDTO getCursorPaginationDTO(String resource, int limit, Integer nextCursor) {
+
+        PaginationDTO paginationDTO = new PaginationDTO();
+        paginationDTO.setLimit(limit);
+        if (nextCursor != null) {
+            paginationDTO.setNext(resource + "?limit=" + limit + "&cursor=" + nextCursor);
+        }
+        return paginationDTO;
+    }
+
+    /**
+     * Builds the pagination section of a delta response. The total is the number of entries currently in the
+     * collection, which lets the caller detect entries removed since the given time.
+     *
+     * @param total number of entries in the collection
+     * @return pagination DTO
+     */
+    public static PaginationDTO getDeltaPaginationDTO(int total) {
+
+        PaginationDTO paginationDTO = new PaginationDTO();
+        paginationDTO.setTotal(total);
+        return paginationDTO;
+    }
+
     public static String validateTenantDomain(String xWSO2Tenant, MessageContext messageContext) {
 
         String tenantDomain = RestApiCommonUtil.getLoggedInUserTenantDomain();
@@ -94,4 +94,41 @@ public class SubscriptionDataHolder {
         });
     }
 
+    /**
+     * Returns the oldest control plane time up to which the tenant stores hold the changes. Changes done before this
+     * time are part of the loaded data of every tenant, so it is the earliest point a delta sync needs to start from.
+     * The time is taken from the control plane, so that it can be compared with the update times it records.
+     *
+     * @return time in milliseconds, or -1 if it is not known for some store or no store is registered
+     */
+    public long getEarliestStoreSyncTime() {
+
+        long earliestSyncTime = Long.MAX_VALUE;
+        for (SubscriptionDataStore tenantStore : subscriptionStore.values()) {
+            long syncTime = tenantStore.getLastSyncTime();
+            if (syncTime <= 0) {
+                return -1;
+            }
+            earliestSyncTime = Math.min(earliestSyncTime, syncTime);
+        }
+        return earliestSyncTime == Long.MAX_VALUE ? -1 : earliestSyncTime;
+    }
+
+    /**
+     * Syncs the subscription data stores of all tenants with the changes done since the given time, instead of
+     * replacing them with freshly loaded stores as {@link #refreshSubscriptionStore()} does.
+     *
+     * @param updatedSince time in milliseconds from which the changes are applied
+     */
+    public void syncSubscriptionStore(long updatedSince) {
+
+        subscriptionStore.forEach((tenant, tenantStore) -> {
+            if (log.isDebugEnabled()) {
+                log.debug("Syncing subscription data store for tenant: " + tenant + " with the changes since "
+                        + updatedSince);
+            }
+            tenantStore.syncChangesSince(updatedSince);
+        });
+    }
+
 }
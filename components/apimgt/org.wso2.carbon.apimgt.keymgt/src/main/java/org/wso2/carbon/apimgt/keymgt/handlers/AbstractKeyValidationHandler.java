@@ -22,6 +22,7 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.apimgt.api.APIManagementException;
 import org.wso2.carbon.apimgt.api.model.AccessTokenInfo;
+import org.wso2.carbon.apimgt.api.model.policy.PolicyConstants;
 import org.wso2.carbon.apimgt.impl.APIConstants;
 import org.wso2.carbon.apimgt.impl.APIManagerConfiguration;
 import org.wso2.carbon.apimgt.impl.caching.CacheProvider;
@@ -39,8 +40,11 @@ import org.wso2.carbon.apimgt.keymgt.model.entity.Application;
 import org.wso2.carbon.apimgt.keymgt.model.entity.ApplicationKeyMapping;
 import org.wso2.carbon.apimgt.keymgt.model.entity.ApplicationPolicy;
 import org.wso2.carbon.apimgt.keymgt.model.entity.GroupId;
+import org.wso2.carbon.apimgt.keymgt.model.entity.Policy;
+import org.wso2.carbon.apimgt.keymgt.model.entity.RequestCountLimit;
 import org.wso2.carbon.apimgt.keymgt.model.entity.Subscription;
 import org.wso2.carbon.apimgt.keymgt.model.entity.SubscriptionPolicy;
+import org.wso2.carbon.apimgt.keymgt.model.entity.ThrottleLimit;
 import org.wso2.carbon.apimgt.keymgt.model.exception.DataLoadingException;
 import org.wso2.carbon.apimgt.keymgt.model.impl.SubscriptionDataLoaderImpl;
 import org.wso2.carbon.apimgt.keymgt.service.TokenValidationContext;
@@ -52,6 +56,7 @@ import org.wso2.carbon.utils.multitenancy.MultitenantUtils;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 public abstract class AbstractKeyValidationHandler implements KeyValidationHandler {
@@ -459,6 +464,7 @@ public abstract class AbstractKeyValidationHandler implements KeyValidationHandl
                 applicationSpikeArrestUnit = appPolicy.getBurstLimit().getRateLimitTimeUnit();
             }
             stopOnQuotaReach = subPolicy.isStopOnQuotaReach();
+            setRequestCountLimits(infoDTO, subPolicy, appPolicy);
             if (subPolicy.getGraphQLMaxDepth() > 0) {
                 graphQLMaxDepth = subPolicy.getGraphQLMaxDepth();
             }
@@ -585,6 +591,7 @@ public abstract class AbstractKeyValidationHandler implements KeyValidationHandl
                 applicationSpikeArrestUnit = appPolicy.getBurstLimit().getRateLimitTimeUnit();
             }
             stopOnQuotaReach = subPolicy.isStopOnQuotaReach();
+            setRequestCountLimits(infoDTO, subPolicy, appPolicy);
             if (subPolicy.getGraphQLMaxDepth() > 0) {
                 graphQLMaxDepth = subPolicy.getGraphQLMaxDepth();
             }
@@ -619,6 +626,62 @@ public abstract class AbstractKeyValidationHandler implements KeyValidationHandl
         infoDTO.setAuthorized(true);
         return infoDTO;
     }
+
+    private void setRequestCountLimits(APIKeyValidationInfoDTO infoDTO, SubscriptionPolicy subPolicy,
+                                       ApplicationPolicy appPolicy) {
+
+        RequestCountLimit subscriptionLimit = getRequestCountLimit(subPolicy);
+        if (subscriptionLimit != null) {
+            infoDTO.setSubscriptionRequestCountLimit(subscriptionLimit.getRequestCount());
+            infoDTO.setSubscriptionRequestCountPeriod(getRequestCountPeriod(subscriptionLimit));
+        }
+        RequestCountLimit applicationLimit = getRequestCountLimit(appPolicy);
+        if (applicationLimit != null) {
+            infoDTO.setApplicationRequestCountLimit(applicationLimit.getRequestCount());
+            infoDTO.setApplicationRequestCountPeriod(getRequestCountPeriod(applicationLimit));
+        }
+    }
+
+    /**
+     * Returns the request count limit of the given policy, or null if the policy is not a request count policy or
+     * its limit is not known. Policies updated through events do not carry their limits.
+     */
+    private static RequestCountLimit getRequestCountLimit(Policy policy) {
+
+        ThrottleLimit defaultLimit = policy.getDefaultLimit();
+        if (defaultLimit == null || !PolicyConstants.REQUEST_COUNT_TYPE.equals(defaultLimit.getQuotaType())) {
+            return null;
+        }
+        RequestCountLimit requestCountLimit = defaultLimit.getRequestCount();
+        if (requestCountLimit == null || requestCountLimit.getRequestCount() == null
+                || requestCountLimit.getRequestCount() <= 0 || getRequestCountPeriod(requestCountLimit) <= 0) {
+            return null;
+        }
+        return requestCountLimit;
+    }
+
+    private static long getRequestCountPeriod(RequestCountLimit requestCountLimit) {
+
+        if (requestCountLimit.getUnitTime() == null || requestCountLimit.getTimeUnit() == null) {
+            return 0;
+        }
+        long unitTime = requestCountLimit.getUnitTime();
+        switch (requestCountLimit.getTimeUnit()) {
+            case APIConstants.TIME_UNIT_SECOND:
+                return TimeUnit.SECONDS.toMillis(unitTime);
+            case APIConstants.TIME_UNIT_MINUTE:
+                return TimeUnit.MINUTES.toMillis(unitTime);
+            case APIConstants.TIME_UNIT_HOUR:
+                return TimeUnit.HOURS.toMillis(unitTime);
+            case APIConstants.TIME_UNIT_DAY:
+                return TimeUnit.DAYS.toMillis(unitTime);
+            case APIConstants.TIME_UNIT_MONTH:
+                return TimeUnit.DAYS.toMillis(30 * unitTime);
+            default:
+                return 0;
+        }
+    }
+
     protected long getTimeStampSkewInSeconds() {
 
         return OAuthServerConfiguration.getInstance().getTimeStampSkewInSeconds();
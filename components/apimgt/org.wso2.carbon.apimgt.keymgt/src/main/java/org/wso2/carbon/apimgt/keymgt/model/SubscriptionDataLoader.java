@@ -29,6 +29,7 @@ import org.wso2.carbon.apimgt.keymgt.model.entity.SubscriptionPolicy;
 import org.wso2.carbon.apimgt.keymgt.model.exception.DataLoadingException;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * This interface abstracts Data Loading operations. Interface will be consumed by
@@ -45,6 +46,41 @@ public interface SubscriptionDataLoader {
      */
     public List<Subscription> loadAllSubscriptions(String tenantDomain) throws DataLoadingException;
 
+    /**
+     * Loads all subscriptions from underlying Storage, handing each {@link Subscription} to the consumer as soon as
+     * it is read instead of collecting them into a list. Loaders which cannot stream the entities hand over the list
+     * returned by {@link #loadAllSubscriptions(String)}.
+     *
+     * @param tenantDomain tenant domain
+     * @param consumer     consumer of the loaded subscriptions
+     * @throws DataLoadingException If any error
+     */
+    default void loadAllSubscriptions(String tenantDomain, Consumer<Subscription> consumer)
+            throws DataLoadingException {
+
+        List<Subscription> subscriptions = loadAllSubscriptions(tenantDomain);
+        if (subscriptions != null) {
+            subscriptions.forEach(consumer);
+        }
+    }
+
+    /**
+     * Loads the subscriptions created or updated at or after the given time, handing each {@link Subscription} to
+     * the consumer as soon as it is read.
+     *
+     * @param tenantDomain tenant domain
+     * @param updatedSince time in milliseconds from which the changes are loaded
+     * @param consumer     consumer of the loaded subscriptions
+     * @return the number of subscriptions the tenant currently has, or -1 if it is not known. Loaders which do not
+     * support loading the changes return -1 without loading anything, so that all subscriptions are reloaded.
+     * @throws DataLoadingException If any error
+     */
+    default int loadSubscriptionsUpdatedSince(String tenantDomain, long updatedSince, Consumer<Subscription> consumer)
+            throws DataLoadingException {
+
+        return -1;
+    }
+
     /**
      * Load all Applications from the Database belonging to all Tenants
      *
@@ -53,6 +89,38 @@ public interface SubscriptionDataLoader {
      */
     public List<Application> loadAllApplications(String tenantDomain) throws DataLoadingException;
 
+    /**
+     * Loads all Applications, handing each {@link Application} to the consumer as soon as it is read.
+     *
+     * @param tenantDomain tenant domain
+     * @param consumer     consumer of the loaded applications
+     * @throws DataLoadingException If any error
+     */
+    default void loadAllApplications(String tenantDomain, Consumer<Application> consumer) throws DataLoadingException {
+
+        List<Application> applications = loadAllApplications(tenantDomain);
+        if (applications != null) {
+            applications.forEach(consumer);
+        }
+    }
+
+    /**
+     * Loads the Applications created or updated at or after the given time, handing each {@link Application} to the
+     * consumer as soon as it is read.
+     *
+     * @param tenantDomain tenant domain
+     * @param updatedSince time in milliseconds from which the changes are loaded
+     * @param consumer     consumer of the loaded applications
+     * @return the number of applications the tenant currently has, or -1 if it is not known. Loaders which do not
+     * support loading the changes return -1 without loading anything, so that all applications are reloaded.
+     * @throws DataLoadingException If any error
+     */
+    default int loadApplicationsUpdatedSince(String tenantDomain, long updatedSince, Consumer<Application> consumer)
+            throws DataLoadingException {
+
+        return -1;
+    }
+
     /**
      * Load all Key Mappings (Mapping between the Consumer Key and Application) from the Database
      * owned by all tenants
@@ -62,6 +130,22 @@ public interface SubscriptionDataLoader {
      */
     public List<ApplicationKeyMapping> loadAllKeyMappings(String tenantDomain) throws DataLoadingException;
 
+    /**
+     * Loads all Key Mappings, handing each {@link ApplicationKeyMapping} to the consumer as soon as it is read.
+     *
+     * @param tenantDomain tenant domain
+     * @param consumer     consumer of the loaded key mappings
+     * @throws DataLoadingException If any error
+     */
+    default void loadAllKeyMappings(String tenantDomain, Consumer<ApplicationKeyMapping> consumer)
+            throws DataLoadingException {
+
+        List<ApplicationKeyMapping> keyMappings = loadAllKeyMappings(tenantDomain);
+        if (keyMappings != null) {
+            keyMappings.forEach(consumer);
+        }
+    }
+
     /**
      * Load all {@link API} objects owned by all Tenants.
      *
@@ -70,6 +154,21 @@ public interface SubscriptionDataLoader {
      */
     public List<API> loadAllApis(String tenantDomain) throws DataLoadingException;
 
+    /**
+     * Loads all {@link API} objects, handing each of them to the consumer as soon as it is read.
+     *
+     * @param tenantDomain tenant domain
+     * @param consumer     consumer of the loaded APIs
+     * @throws DataLoadingException If any error
+     */
+    default void loadAllApis(String tenantDomain, Consumer<API> consumer) throws DataLoadingException {
+
+        List<API> apis = loadAllApis(tenantDomain);
+        if (apis != null) {
+            apis.forEach(consumer);
+        }
+    }
+
     /**
      * Load All Subscription Throttling Policies.
      *
@@ -156,6 +255,18 @@ public interface SubscriptionDataLoader {
 
     List<Scope> loadAllScopes(String tenantDomain) throws DataLoadingException;
 
+    /**
+     * Returns the control plane time at which the first response to this loader was produced. The changes done in
+     * the control plane before this time are part of the data loaded by this loader, so a later delta sync can start
+     * from it without comparing the gateway clock with the update times recorded by the control plane.
+     *
+     * @return time in milliseconds, or -1 if it is not known
+     */
+    default long getLoadStartTime() {
+
+        return -1;
+    }
+
     /**
      * Load All Tenant API metadata.
      * @return all apis from all tenants.
@@ -40,6 +40,28 @@ public interface SubscriptionDataStore {
      */
     void init();
 
+    /**
+     * Brings the store up to date with the changes done in the control plane since the given time, without
+     * reloading the entities which did not change. Stores which do not support this reload all their entities.
+     *
+     * @param updatedSince time in milliseconds from which the changes are applied
+     */
+    default void syncChangesSince(long updatedSince) {
+
+        init();
+    }
+
+    /**
+     * Returns the control plane time up to which the store holds the changes of the entities it syncs incrementally,
+     * i.e. the time at which the oldest of their last full loads or delta syncs was served.
+     *
+     * @return time in milliseconds, or -1 if it is not known
+     */
+    default long getLastSyncTime() {
+
+        return -1;
+    }
+
     /**
      * Gets an {@link Application} by Id
      *
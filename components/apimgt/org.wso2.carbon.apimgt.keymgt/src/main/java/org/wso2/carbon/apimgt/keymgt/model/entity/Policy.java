@@ -36,6 +36,7 @@ public class Policy implements CacheableEntity<String> {
     private Integer tenantId = null;
     private String name = null;
     private String quotaType = null;
+    private ThrottleLimit defaultLimit = null;
 
     public int getId() {
 
@@ -57,6 +58,16 @@ public class Policy implements CacheableEntity<String> {
         this.quotaType = quotaType;
     }
 
+    public ThrottleLimit getDefaultLimit() {
+
+        return defaultLimit;
+    }
+
+    public void setDefaultLimit(ThrottleLimit defaultLimit) {
+
+        this.defaultLimit = defaultLimit;
+    }
+
     public boolean isContentAware() {
 
         return PolicyConstants.BANDWIDTH_TYPE.equals(quotaType);
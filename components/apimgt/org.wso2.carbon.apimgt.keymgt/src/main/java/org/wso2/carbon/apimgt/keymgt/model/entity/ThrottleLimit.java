@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.apimgt.keymgt.model.entity;
+
+/**
+ * Entity for keeping the default limit of a throttling policy.
+ */
+public class ThrottleLimit {
+
+    private String quotaType = null;
+    private RequestCountLimit requestCount = null;
+
+    public String getQuotaType() {
+        return quotaType;
+    }
+
+    public void setQuotaType(String quotaType) {
+        this.quotaType = quotaType;
+    }
+
+    public RequestCountLimit getRequestCount() {
+        return requestCount;
+    }
+
+    public void setRequestCount(RequestCountLimit requestCount) {
+        this.requestCount = requestCount;
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.keymgt.model.impl;
+
+import org.wso2.carbon.apimgt.impl.APIConstants;
+import org.wso2.carbon.metrics.manager.Counter;
+import org.wso2.carbon.metrics.manager.Level;
+import org.wso2.carbon.metrics.manager.MetricManager;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent cache-miss loads for the same key into a single call to the underlying loader. The first
+ * caller for a key runs the loader, and callers arriving while that load is in flight wait for and share its result.
+ *
+ * @param <K> key type
+ * @param <V> loaded value type
+ */
+class SingleFlightLoader<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlightLoads = new ConcurrentHashMap<>();
+    private final String entityType;
+
+    SingleFlightLoader(String entityType) {
+
+        this.entityType = entityType;
+    }
+
+    /**
+     * Returns the value produced by the loader for the given key, running the loader only if no other load for the
+     * same key is already in flight.
+     *
+     * @param key    key of the entity being loaded
+     * @param loader loader invoked when this caller is the first one to request the key
+     * @return loaded value, which may be null
+     */
+    V load(K key, Supplier<V> loader) {
+
+        CompletableFuture<V> load = new CompletableFuture<>();
+        CompletableFuture<V> inFlightLoad = inFlightLoads.putIfAbsent(key, load);
+        if (inFlightLoad != null) {
+            getCounter("COALESCED_LOADS").inc();
+            try {
+                return inFlightLoad.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                if (e.getCause() instanceof Error) {
+                    throw (Error) e.getCause();
+                }
+                throw e;
+            }
+        }
+        getCounter("ISSUED_LOADS").inc();
+        try {
+            V value = loader.get();
+            load.complete(value);
+            return value;
+        } catch (Throwable e) {
+            // Callers waiting on this load must not hang, whatever the loader throws
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightLoads.remove(key, load);
+        }
+    }
+
+    Counter getCounter(String metric) {
+
+        return MetricManager.counter(Level.INFO, MetricManager.name(APIConstants.METRICS_PREFIX,
+                SubscriptionDataStoreImpl.class.getSimpleName(), entityType, metric));
+    }
+}
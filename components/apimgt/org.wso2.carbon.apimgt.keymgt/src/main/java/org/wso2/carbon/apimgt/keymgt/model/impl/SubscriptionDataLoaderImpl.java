@@ -18,9 +18,16 @@
 package org.wso2.carbon.apimgt.keymgt.model.impl;
 
 import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 import org.apache.commons.codec.binary.Base64;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.apache.http.Header;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpHeaders;
 import org.apache.http.client.HttpClient;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpGet;
@@ -50,14 +57,20 @@ import org.wso2.carbon.apimgt.keymgt.model.entity.SubscriptionPolicy;
 import org.wso2.carbon.apimgt.keymgt.model.entity.SubscriptionPolicyList;
 import org.wso2.carbon.apimgt.keymgt.model.exception.DataLoadingException;
 
+import java.io.EOFException;
 import java.io.IOException;
+import java.io.InputStreamReader;
 import java.io.UnsupportedEncodingException;
 import java.net.URL;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Consumer;
 
 public class SubscriptionDataLoaderImpl implements SubscriptionDataLoader {
 
@@ -65,6 +78,12 @@ public class SubscriptionDataLoaderImpl implements SubscriptionDataLoader {
     private EventHubConfigurationDto getEventHubConfigurationDto;
     private GatewayArtifactSynchronizerProperties gatewayArtifactSynchronizerProperties;
     public static final String UTF8 = "UTF-8";
+    private static final String LIST_ATTRIBUTE = "list";
+    private static final String PAGINATION_ATTRIBUTE = "pagination";
+    private static final String NEXT_ATTRIBUTE = "next";
+    private static final String TOTAL_ATTRIBUTE = "total";
+    private static final Gson gson = new Gson();
+    private long loadStartTime = -1;
 
     public SubscriptionDataLoaderImpl() {
 
@@ -79,88 +98,88 @@ public class SubscriptionDataLoaderImpl implements SubscriptionDataLoader {
     @Override
     public List<Subscription> loadAllSubscriptions(String tenantDomain) throws DataLoadingException {
 
-        String subscriptionsEP = APIConstants.SubscriptionValidationResources.SUBSCRIPTIONS;
         List<Subscription> subscriptions = new ArrayList<>();
-        String responseString = null;
-        try {
-            responseString = invokeService(subscriptionsEP, tenantDomain);
-        } catch (IOException e) {
-            String msg = "Error while executing the http client " + subscriptionsEP;
-            log.error(msg, e);
-            throw new DataLoadingException(msg, e);
-        }
-        if (responseString != null && !responseString.isEmpty()) {
-            subscriptions = (new Gson().fromJson(responseString, SubscriptionList.class)).getList();
-        }
+        loadAllSubscriptions(tenantDomain, subscriptions::add);
         return subscriptions;
     }
 
+    @Override
+    public void loadAllSubscriptions(String tenantDomain, Consumer<Subscription> consumer)
+            throws DataLoadingException {
+
+        streamPaginatedEntityList(APIConstants.SubscriptionValidationResources.SUBSCRIPTIONS, tenantDomain,
+                Subscription.class, consumer);
+    }
+
+    @Override
+    public int loadSubscriptionsUpdatedSince(String tenantDomain, long updatedSince, Consumer<Subscription> consumer)
+            throws DataLoadingException {
+
+        String subscriptionsEP = APIConstants.SubscriptionValidationResources.SUBSCRIPTIONS + "?updatedSince="
+                + updatedSince;
+        return streamEntityPage(subscriptionsEP, tenantDomain, Subscription.class, consumer).total;
+    }
+
     @Override
     public List<Application> loadAllApplications(String tenantDomain) throws DataLoadingException {
 
-        String applicationsEP = APIConstants.SubscriptionValidationResources.APPLICATIONS;
         List<Application> applications = new ArrayList<>();
-        String responseString = null;
-        try {
-            responseString = invokeService(applicationsEP, tenantDomain);
-        } catch (IOException e) {
-            String msg = "Error while executing the http client " + applicationsEP;
-            log.error(msg, e);
-            throw new DataLoadingException(msg, e);
-        }
-        if (responseString != null && !responseString.isEmpty()) {
-            applications = (new Gson().fromJson(responseString, ApplicationList.class)).getList();
-        }
+        loadAllApplications(tenantDomain, applications::add);
         return applications;
     }
 
+    @Override
+    public void loadAllApplications(String tenantDomain, Consumer<Application> consumer)
+            throws DataLoadingException {
+
+        streamPaginatedEntityList(APIConstants.SubscriptionValidationResources.APPLICATIONS, tenantDomain,
+                Application.class, consumer);
+    }
+
+    @Override
+    public int loadApplicationsUpdatedSince(String tenantDomain, long updatedSince, Consumer<Application> consumer)
+            throws DataLoadingException {
+
+        String applicationsEP = APIConstants.SubscriptionValidationResources.APPLICATIONS + "?updatedSince="
+                + updatedSince;
+        return streamEntityPage(applicationsEP, tenantDomain, Application.class, consumer).total;
+    }
+
     @Override
     public List<ApplicationKeyMapping> loadAllKeyMappings(String tenantDomain) throws DataLoadingException {
 
-        String applicationsEP = APIConstants.SubscriptionValidationResources.APPLICATION_KEY_MAPPINGS;
         List<ApplicationKeyMapping> applicationKeyMappings = new ArrayList<>();
-        String responseString = null;
-        try {
-            responseString = invokeService(applicationsEP, tenantDomain);
-        } catch (IOException e) {
-            String msg = "Error while executing the http client " + applicationsEP;
-            log.error(msg, e);
-            throw new DataLoadingException(msg, e);
-        }
-        if (responseString != null && !responseString.isEmpty()) {
-            applicationKeyMappings = (new Gson().fromJson(responseString, ApplicationKeyMappingList.class)).getList();
-        }
+        loadAllKeyMappings(tenantDomain, applicationKeyMappings::add);
         return applicationKeyMappings;
     }
 
+    @Override
+    public void loadAllKeyMappings(String tenantDomain, Consumer<ApplicationKeyMapping> consumer)
+            throws DataLoadingException {
+
+        streamPaginatedEntityList(APIConstants.SubscriptionValidationResources.APPLICATION_KEY_MAPPINGS, tenantDomain,
+                ApplicationKeyMapping.class, consumer);
+    }
+
     @Override
     public List<API> loadAllApis(String tenantDomain) throws DataLoadingException {
 
-        Set<String> gatewayLabels = gatewayArtifactSynchronizerProperties.getGatewayLabels();
         List<API> apis = new ArrayList<>();
+        loadAllApis(tenantDomain, apis::add);
+        return apis;
+    }
+
+    @Override
+    public void loadAllApis(String tenantDomain, Consumer<API> consumer) throws DataLoadingException {
+
+        Set<String> gatewayLabels = gatewayArtifactSynchronizerProperties.getGatewayLabels();
         if (gatewayLabels != null && gatewayLabels.size() > 0) {
             for (String gatewayLabel : gatewayLabels) {
                 String apisEP =
                         APIConstants.SubscriptionValidationResources.APIS + "?gatewayLabel=" + getEncodedLabel(gatewayLabel);
-                String responseString = null;
-                try {
-                    responseString = invokeService(apisEP, tenantDomain);
-                } catch (IOException e) {
-                    String msg = "Error while executing the http client " + apisEP;
-                    log.error(msg, e);
-                    throw new DataLoadingException(msg, e);
-                }
-                if (responseString != null && !responseString.isEmpty()) {
-                    APIList apiList = new Gson().fromJson(responseString, APIList.class);
-                    apis.addAll(apiList.getList());
-                }
-                if (log.isDebugEnabled()) {
-                    log.debug("apis :" + apis.get(0).toString());
-                }
+                streamEntityList(apisEP, tenantDomain, API.class, consumer);
             }
         }
-
-        return apis;
     }
 
     @Override
@@ -181,7 +200,7 @@ public class SubscriptionDataLoaderImpl implements SubscriptionDataLoader {
                     throw new DataLoadingException(msg, e);
                 }
                 if (responseString != null && !responseString.isEmpty()) {
-                    APIList apiList = new Gson().fromJson(responseString, APIList.class);
+                    APIList apiList = gson.fromJson(responseString, APIList.class);
                     apis.addAll(apiList.getList());
                 }
                 if (log.isDebugEnabled()) {
@@ -207,7 +226,7 @@ public class SubscriptionDataLoaderImpl implements SubscriptionDataLoader {
             throw new DataLoadingException(msg, e);
         }
         if (responseString != null && !responseString.isEmpty()) {
-            subscriptionPolicies = (new Gson().fromJson(responseString, SubscriptionPolicyList.class)).getList();
+            subscriptionPolicies = (gson.fromJson(responseString, SubscriptionPolicyList.class)).getList();
         }
         return subscriptionPolicies;
     }
@@ -226,7 +245,7 @@ public class SubscriptionDataLoaderImpl implements SubscriptionDataLoader {
             throw new DataLoadingException(msg, e);
         }
         if (responseString != null && !responseString.isEmpty()) {
-            apiPolicies = (new Gson().fromJson(responseString, APIPolicyList.class)).getList();
+            apiPolicies = (gson.fromJson(responseString, APIPolicyList.class)).getList();
         }
         return apiPolicies;
     }
@@ -245,7 +264,7 @@ public class SubscriptionDataLoaderImpl implements SubscriptionDataLoader {
             throw new DataLoadingException(msg, e);
         }
         if (responseString != null && !responseString.isEmpty()) {
-            applicationPolicies = (new Gson().fromJson(responseString, ApplicationPolicyList.class)).getList();
+            applicationPolicies = (gson.fromJson(responseString, ApplicationPolicyList.class)).getList();
         }
         return applicationPolicies;
     }
@@ -265,7 +284,7 @@ public class SubscriptionDataLoaderImpl implements SubscriptionDataLoader {
             throw new DataLoadingException(msg, e);
         }
         if (responseString != null && !responseString.isEmpty()) {
-            SubscriptionList list = new Gson().fromJson(responseString, SubscriptionList.class);
+            SubscriptionList list = gson.fromJson(responseString, SubscriptionList.class);
             if (list.getList() != null && !list.getList().isEmpty()) {
                 subscription = list.getList().get(0);
             }
@@ -287,7 +306,7 @@ public class SubscriptionDataLoaderImpl implements SubscriptionDataLoader {
             throw new DataLoadingException(msg, e);
         }
         if (responseString != null && !responseString.isEmpty()) {
-            ApplicationList list = new Gson().fromJson(responseString, ApplicationList.class);
+            ApplicationList list = gson.fromJson(responseString, ApplicationList.class);
             if (list.getList() != null && !list.getList().isEmpty()) {
                 application = list.getList().get(0);
             }
@@ -314,7 +333,7 @@ public class SubscriptionDataLoaderImpl implements SubscriptionDataLoader {
             throw new DataLoadingException(msg, e);
         }
         if (responseString != null && !responseString.isEmpty()) {
-            ApplicationKeyMappingList list = new Gson().fromJson(responseString, ApplicationKeyMappingList.class);
+            ApplicationKeyMappingList list = gson.fromJson(responseString, ApplicationKeyMappingList.class);
             if (list.getList() != null && !list.getList().isEmpty()) {
                 application = list.getList().get(0);
             }
@@ -340,7 +359,7 @@ public class SubscriptionDataLoaderImpl implements SubscriptionDataLoader {
                     throw new DataLoadingException(msg, e);
                 }
                 if (responseString != null && !responseString.isEmpty()) {
-                    APIList list = new Gson().fromJson(responseString, APIList.class);
+                    APIList list = gson.fromJson(responseString, APIList.class);
                     if (list.getList() != null && !list.getList().isEmpty()) {
                         api = list.getList().get(0);
                     }
@@ -371,7 +390,7 @@ public class SubscriptionDataLoaderImpl implements SubscriptionDataLoader {
             throw new DataLoadingException(msg, e);
         }
         if (responseString != null && !responseString.isEmpty()) {
-            SubscriptionPolicyList list = new Gson().fromJson(responseString, SubscriptionPolicyList.class);
+            SubscriptionPolicyList list = gson.fromJson(responseString, SubscriptionPolicyList.class);
             if (list.getList() != null && !list.getList().isEmpty()) {
                 subscriptionPolicy = list.getList().get(0);
             }
@@ -397,7 +416,7 @@ public class SubscriptionDataLoaderImpl implements SubscriptionDataLoader {
             throw new DataLoadingException(msg, e);
         }
         if (responseString != null && !responseString.isEmpty()) {
-            ApplicationPolicyList list = new Gson().fromJson(responseString, ApplicationPolicyList.class);
+            ApplicationPolicyList list = gson.fromJson(responseString, ApplicationPolicyList.class);
             if (list.getList() != null && !list.getList().isEmpty()) {
                 applicationPolicy = list.getList().get(0);
             }
@@ -423,7 +442,7 @@ public class SubscriptionDataLoaderImpl implements SubscriptionDataLoader {
             throw new DataLoadingException(msg, e);
         }
         if (responseString != null && !responseString.isEmpty()) {
-            APIPolicyList list = new Gson().fromJson(responseString, APIPolicyList.class);
+            APIPolicyList list = gson.fromJson(responseString, APIPolicyList.class);
             if (list.getList() != null && !list.getList().isEmpty()) {
                 apiPolicy = list.getList().get(0);
             }
@@ -444,7 +463,7 @@ public class SubscriptionDataLoaderImpl implements SubscriptionDataLoader {
             throw new DataLoadingException(msg, e);
         }
         if (responseString != null && !responseString.isEmpty()) {
-            scopes = new Gson().fromJson(responseString, ScopesList.class).getList();
+            scopes = gson.fromJson(responseString, ScopesList.class).getList();
         }
         return scopes;
 
@@ -452,31 +471,211 @@ public class SubscriptionDataLoaderImpl implements SubscriptionDataLoader {
 
     private String invokeService(String path, String tenantDomain) throws DataLoadingException, IOException {
 
+        String responseString;
+        try (CloseableHttpResponse httpResponse = executeService(path, tenantDomain)) {
+            responseString = EntityUtils.toString(httpResponse.getEntity(), UTF8);
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug("Response : " + responseString);
+        }
+        return responseString;
+    }
+
+    private CloseableHttpResponse executeService(String path, String tenantDomain)
+            throws DataLoadingException, IOException {
+
         String serviceURLStr = getEventHubConfigurationDto.getServiceUrl().concat(APIConstants.INTERNAL_WEB_APP_EP);
         HttpGet method = new HttpGet(serviceURLStr + path);
 
-            URL serviceURL = new URL(serviceURLStr + path);
-            byte[] credentials = getServiceCredentials(getEventHubConfigurationDto);
-            int servicePort = serviceURL.getPort();
-            String serviceProtocol = serviceURL.getProtocol();
-            method.setHeader(APIConstants.AUTHORIZATION_HEADER_DEFAULT,
-                    APIConstants.AUTHORIZATION_BASIC +
-                            new String(credentials, StandardCharsets.UTF_8));
-            if (tenantDomain != null) {
-                method.setHeader(APIConstants.HEADER_TENANT, tenantDomain);
+        URL serviceURL = new URL(serviceURLStr + path);
+        byte[] credentials = getServiceCredentials(getEventHubConfigurationDto);
+        int servicePort = serviceURL.getPort();
+        String serviceProtocol = serviceURL.getProtocol();
+        method.setHeader(APIConstants.AUTHORIZATION_HEADER_DEFAULT,
+                APIConstants.AUTHORIZATION_BASIC +
+                        new String(credentials, StandardCharsets.UTF_8));
+        if (tenantDomain != null) {
+            method.setHeader(APIConstants.HEADER_TENANT, tenantDomain);
+        }
+        HttpClient httpClient = APIUtil.getHttpClient(servicePort, serviceProtocol);
+        try {
+            return APIUtil.executeHTTPRequestWithRetries(method, httpClient);
+        } catch (APIManagementException e) {
+            throw new DataLoadingException("Error while retrieving subscriptions", e);
+        }
+    }
+
+    /**
+     * Invokes the internal data service and decodes the entities in the "list" attribute of the response one by
+     * one, handing each of them to the consumer as soon as it is parsed. This avoids buffering the whole response
+     * and the intermediate list wrapper in memory for bulk loads.
+     *
+     * @param path         resource path of the internal data service
+     * @param tenantDomain tenant domain to load the entities for
+     * @param entityClass  class of the entities in the list
+     * @param consumer     consumer of the parsed entities
+     * @throws DataLoadingException if the service invocation or response decoding fails
+     */
+    private <T> void streamEntityList(String path, String tenantDomain, Class<T> entityClass, Consumer<T> consumer)
+            throws DataLoadingException {
+
+        streamEntityPage(path, tenantDomain, entityClass, consumer);
+    }
+
+    /**
+     * Streams an entity list resource that supports cursor based pagination. When a data load page size is
+     * configured, the resource is requested page by page following the next link returned by the service until the
+     * last page is reached. Servers that do not paginate return the whole list in the first response without a next
+     * link, hence this falls back to a single call. A next link that does not move past the current page fails the
+     * load instead of requesting the same page forever.
+     *
+     * @param path         resource path of the internal data service
+     * @param tenantDomain tenant domain to load the entities for
+     * @param entityClass  class of the entities in the list
+     * @param consumer     consumer of the parsed entities
+     * @throws DataLoadingException if the service invocation or response decoding fails
+     */
+    private <T> void streamPaginatedEntityList(String path, String tenantDomain, Class<T> entityClass,
+                                               Consumer<T> consumer) throws DataLoadingException {
+
+        int pageSize = getEventHubConfigurationDto.getDataLoadPageSize();
+        if (pageSize <= 0) {
+            streamEntityList(path, tenantDomain, entityClass, consumer);
+            return;
+        }
+        String pagePath = path + "?limit=" + pageSize;
+        while (pagePath != null) {
+            EntityPage page = streamEntityPage(pagePath, tenantDomain, entityClass, consumer);
+            if (page.next != null && (page.entityCount == 0 || page.next.equals(pagePath))) {
+                throw new DataLoadingException("Pagination of " + path + " did not advance past " + pagePath);
             }
-            HttpClient httpClient = APIUtil.getHttpClient(servicePort, serviceProtocol);
-            String responseString;
-            try (CloseableHttpResponse httpResponse = APIUtil.executeHTTPRequestWithRetries(method, httpClient)) {
-                responseString = EntityUtils.toString(httpResponse.getEntity(), UTF8);
-            } catch (APIManagementException e) {
-                throw new DataLoadingException("Error while retrieving subscriptions", e);
+            pagePath = page.next;
+        }
+    }
+
+    /**
+     * Streams a single response of the internal data service to the consumer.
+     *
+     * @return the entity count and the pagination details returned by the service
+     */
+    <T> EntityPage streamEntityPage(String path, String tenantDomain, Class<T> entityClass,
+                                    Consumer<T> consumer) throws DataLoadingException {
+
+        EntityPage page;
+        try (CloseableHttpResponse httpResponse = executeService(path, tenantDomain)) {
+            if (loadStartTime < 0) {
+                loadStartTime = getResponseTime(httpResponse);
             }
+            HttpEntity entity = httpResponse.getEntity();
+            if (entity == null) {
+                return new EntityPage();
+            }
+            try (JsonReader reader = new JsonReader(new InputStreamReader(entity.getContent(),
+                    StandardCharsets.UTF_8))) {
+                page = readEntityList(reader, entityClass, consumer);
+            }
+        } catch (IOException | JsonParseException e) {
+            String msg = "Error while executing the http client " + path;
+            log.error(msg, e);
+            throw new DataLoadingException(msg, e);
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Loaded " + page.entityCount + " entities from " + path);
+        }
+        return page;
+    }
+
+    @Override
+    public long getLoadStartTime() {
+
+        return loadStartTime;
+    }
+
+    /**
+     * Reads the time at which the internal data service produced the response from its Date header. The header has
+     * a precision of a second, which the delta sync time margin covers.
+     *
+     * @return time in milliseconds, or -1 if the response has no valid Date header
+     */
+    private long getResponseTime(CloseableHttpResponse httpResponse) {
+
+        Header dateHeader = httpResponse.getFirstHeader(HttpHeaders.DATE);
+        if (dateHeader == null || StringUtils.isEmpty(dateHeader.getValue())) {
+            return -1;
+        }
+        try {
+            return ZonedDateTime.parse(dateHeader.getValue(), DateTimeFormatter.RFC_1123_DATE_TIME).toInstant()
+                    .toEpochMilli();
+        } catch (DateTimeParseException e) {
+            log.warn("Ignoring invalid Date header " + dateHeader.getValue() + " of the internal data service");
+            return -1;
+        }
+    }
+
+    private <T> EntityPage readEntityList(JsonReader reader, Class<T> entityClass, Consumer<T> consumer)
+            throws IOException {
 
-            if (log.isDebugEnabled()) {
-                log.debug("Response : " + responseString);
+        EntityPage page = new EntityPage();
+        JsonToken token;
+        try {
+            token = reader.peek();
+        } catch (EOFException e) {
+            // empty response body
+            return page;
+        }
+        if (token != JsonToken.BEGIN_OBJECT) {
+            reader.skipValue();
+            return page;
+        }
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            if (LIST_ATTRIBUTE.equals(name) && reader.peek() == JsonToken.BEGIN_ARRAY) {
+                reader.beginArray();
+                while (reader.hasNext()) {
+                    T entity = gson.fromJson(reader, entityClass);
+                    if (entity != null) {
+                        consumer.accept(entity);
+                        page.entityCount++;
+                    }
+                }
+                reader.endArray();
+            } else if (PAGINATION_ATTRIBUTE.equals(name) && reader.peek() == JsonToken.BEGIN_OBJECT) {
+                readPagination(reader, page);
+            } else {
+                reader.skipValue();
             }
-            return responseString;
+        }
+        reader.endObject();
+        return page;
+    }
+
+    private void readPagination(JsonReader reader, EntityPage page) throws IOException {
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            if (NEXT_ATTRIBUTE.equals(name) && reader.peek() == JsonToken.STRING) {
+                String next = reader.nextString();
+                page.next = StringUtils.isNotEmpty(next) ? next : null;
+            } else if (TOTAL_ATTRIBUTE.equals(name) && reader.peek() == JsonToken.NUMBER) {
+                page.total = reader.nextInt();
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+    }
+
+    /**
+     * Outcome of reading a single entity list response.
+     */
+    static class EntityPage {
+
+        int entityCount;
+        String next;
+        int total = -1;
     }
 
     private byte[] getServiceCredentials(EventHubConfigurationDto eventHubConfigurationDto) {
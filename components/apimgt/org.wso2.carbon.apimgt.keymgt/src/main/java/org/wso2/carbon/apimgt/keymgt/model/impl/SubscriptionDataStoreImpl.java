@@ -28,6 +28,7 @@ import org.wso2.carbon.apimgt.impl.caching.CacheInvalidationServiceImpl;
 import org.wso2.carbon.apimgt.impl.dto.EventHubConfigurationDto;
 import org.wso2.carbon.apimgt.impl.notifier.events.DeployAPIInGatewayEvent;
 import org.wso2.carbon.apimgt.keymgt.internal.ServiceReferenceHolder;
+import org.wso2.carbon.apimgt.keymgt.model.SubscriptionDataLoader;
 import org.wso2.carbon.apimgt.keymgt.model.SubscriptionDataStore;
 import org.wso2.carbon.apimgt.keymgt.model.entity.API;
 import org.wso2.carbon.apimgt.keymgt.model.entity.ApiPolicy;
@@ -50,6 +51,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
@@ -57,30 +59,55 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
 
     public static final String DELEM_PERIOD = ":";
     public static final int LOADING_POOL_SIZE = 7;
+    private static final int SUBSCRIPTION_LOCK_STRIPES = 64;
     private static final Log log = LogFactory.getLog(SubscriptionDataStoreImpl.class);
     private final EventHubConfigurationDto eventHubConfiguration;
     private boolean scopesInitialized;
     // Maps for keeping Subscription related details.
     private Map<ApplicationKeyMappingCacheKey, ApplicationKeyMapping> applicationKeyMappingMap;
-    private Map<Integer, Application> applicationMap;
-    private Map<String, API> apiMap;
-    private Map<String, API> apiNameVersionMap;
-    private Map<String, API> apiByUUIDMap;
+    private volatile Map<Integer, Application> applicationMap;
+    private volatile Map<String, API> apiMap;
+    private volatile Map<String, API> apiNameVersionMap;
+    private volatile Map<String, API> apiByUUIDMap;
     private Map<String, ApiPolicy> apiPolicyMap;
     private Map<String, SubscriptionPolicy> subscriptionPolicyMap;
     private Map<String, ApplicationPolicy> appPolicyMap;
-    private Map<String, Subscription> subscriptionMap;
+    private volatile Map<String, Subscription> subscriptionMap;
     private Map<String, Scope> scopesMap;
+    // Secondary indexes over subscriptionMap and applicationMap, kept in step with the primary maps. A full reload
+    // replaces a primary map together with its indexes, so readers never observe a partially rebuilt index.
+    private volatile Map<String, Subscription> subscriptionByUUIDMap;
+    private volatile Map<Integer, Map<String, Subscription>> subscriptionsByApiIdMap;
+    private volatile Map<String, Application> applicationByUUIDMap;
+    private volatile Map<String, Map<Integer, Application>> applicationsByNameMap;
+    // Control plane time up to which the changes of subscriptions and applications are held by the store
+    private volatile long subscriptionsSyncTime = -1;
+    private volatile long applicationsSyncTime = -1;
     private boolean apisInitialized;
     private boolean apiPoliciesInitialized;
     private String tenantDomain;
-    private ScheduledExecutorService executorService = Executors.newScheduledThreadPool(LOADING_POOL_SIZE);
+    private final ScheduledExecutorService executorService;
+    private final SingleFlightLoader<Integer, Application> applicationLoader = new SingleFlightLoader<>("Application");
+    private final SingleFlightLoader<ApplicationKeyMappingCacheKey, ApplicationKeyMapping> keyMappingLoader =
+            new SingleFlightLoader<>("KeyMapping");
+    private final SingleFlightLoader<String, API> apiLoader = new SingleFlightLoader<>("API");
+    private final SingleFlightLoader<String, Subscription> subscriptionLoader =
+            new SingleFlightLoader<>("Subscription");
+    private final Object[] subscriptionLocks = new Object[SUBSCRIPTION_LOCK_STRIPES];
+    private final Object applicationLock = new Object();
+    private final Object apiLock = new Object();
 
     public SubscriptionDataStoreImpl(String tenantDomain) {
 
         this.eventHubConfiguration = ServiceReferenceHolder.getInstance()
                 .getAPIManagerConfigurationService().getAPIManagerConfiguration().getEventHubConfigurationDto();
         this.tenantDomain = tenantDomain;
+        int loadingPoolSize = eventHubConfiguration.getDataLoadConcurrency() > 0 ?
+                eventHubConfiguration.getDataLoadConcurrency() : LOADING_POOL_SIZE;
+        this.executorService = Executors.newScheduledThreadPool(loadingPoolSize);
+        for (int i = 0; i < subscriptionLocks.length; i++) {
+            subscriptionLocks[i] = new Object();
+        }
         initializeStore();
     }
 
@@ -96,6 +123,10 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
         this.subscriptionMap = new ConcurrentHashMap<>();
         this.scopesMap = new ConcurrentHashMap<>();
         this.apiNameVersionMap = new ConcurrentHashMap<>();
+        this.subscriptionByUUIDMap = new ConcurrentHashMap<>();
+        this.subscriptionsByApiIdMap = new ConcurrentHashMap<>();
+        this.applicationByUUIDMap = new ConcurrentHashMap<>();
+        this.applicationsByNameMap = new ConcurrentHashMap<>();
     }
 
     @Override
@@ -106,27 +137,30 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
     @Override
     public Application getApplicationById(int appId) {
 
-        String synchronizeKey = "SubscriptionDataStoreImpl-Application-" + appId;
         Application application = applicationMap.get(appId);
         if (application == null) {
-            synchronized (synchronizeKey.intern()) {
-                application = applicationMap.get(appId);
-                if (application != null) {
-                    return application;
+            application = applicationLoader.load(appId, () -> {
+                Application cachedApplication = applicationMap.get(appId);
+                if (cachedApplication != null) {
+                    return cachedApplication;
                 }
-            }
-            try {
-                application = new SubscriptionDataLoaderImpl().getApplicationById(appId);
-            } catch (DataLoadingException e) {
-                log.error("Error while Retrieving Application Metadata From Internal API.", e);
-            }
-            if (application != null && application.getId() != null && application.getId() != 0) {
-                // load to the memory
-                log.debug("Loading Application to the in-memory datastore. applicationId = " + application.getId());
-                addOrUpdateApplication(application);
-            } else {
-                log.debug("Application not found. applicationId = " + appId);
-            }
+                Application loadedApplication = null;
+                try {
+                    loadedApplication = getDataLoader().getApplicationById(appId);
+                } catch (DataLoadingException e) {
+                    log.error("Error while Retrieving Application Metadata From Internal API.", e);
+                }
+                if (loadedApplication != null && loadedApplication.getId() != null &&
+                        loadedApplication.getId() != 0) {
+                    // load to the memory
+                    log.debug("Loading Application to the in-memory datastore. applicationId = " +
+                            loadedApplication.getId());
+                    addOrUpdateApplication(loadedApplication);
+                } else {
+                    log.debug("Application not found. applicationId = " + appId);
+                }
+                return loadedApplication;
+            });
         }
 
         if (log.isDebugEnabled()) {
@@ -145,27 +179,27 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
 
         ApplicationKeyMappingCacheKey applicationKeyMappingCacheKey = new ApplicationKeyMappingCacheKey(key,
                 keyManager);
-        String synchronizeKey = "SubscriptionDataStoreImpl-KeyMapping-" + applicationKeyMappingCacheKey;
 
         ApplicationKeyMapping applicationKeyMapping = applicationKeyMappingMap.get(applicationKeyMappingCacheKey);
         if (applicationKeyMapping == null) {
-            synchronized (synchronizeKey.intern()) {
-                applicationKeyMapping = applicationKeyMappingMap.get(applicationKeyMappingCacheKey);
-                if (applicationKeyMapping != null) {
-                    return applicationKeyMapping;
+            applicationKeyMapping = keyMappingLoader.load(applicationKeyMappingCacheKey, () -> {
+                ApplicationKeyMapping cachedKeyMapping = applicationKeyMappingMap.get(applicationKeyMappingCacheKey);
+                if (cachedKeyMapping != null) {
+                    return cachedKeyMapping;
                 }
+                ApplicationKeyMapping loadedKeyMapping = null;
                 try {
-                    applicationKeyMapping = new SubscriptionDataLoaderImpl()
-                            .getKeyMapping(key, keyManager, tenantDomain);
+                    loadedKeyMapping = getDataLoader().getKeyMapping(key, keyManager, tenantDomain);
                 } catch (DataLoadingException e) {
                     log.error("Error while Loading KeyMapping Information from Internal API.", e);
                 }
-                if (applicationKeyMapping != null && !StringUtils.isEmpty(applicationKeyMapping.getConsumerKey())) {
+                if (loadedKeyMapping != null && !StringUtils.isEmpty(loadedKeyMapping.getConsumerKey())) {
                     // load to the memory
                     log.debug("Loading Keymapping to the in-memory datastore.");
-                    addOrUpdateApplicationKeyMapping(applicationKeyMapping);
+                    addOrUpdateApplicationKeyMapping(loadedKeyMapping);
                 }
-            }
+                return loadedKeyMapping;
+            });
         }
 
         if (log.isDebugEnabled()) {
@@ -189,25 +223,26 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
             return null;
         }
         String key = context + DELEM_PERIOD + version;
-        String synchronizeKey = "SubscriptionDataStoreImpl-API-" + key;
         API api = apiMap.get(key);
         if (api == null) {
-            synchronized (synchronizeKey.intern()) {
-                api = apiMap.get(key);
-                if (api != null) {
-                    return api;
+            api = apiLoader.load(key, () -> {
+                API cachedApi = apiMap.get(key);
+                if (cachedApi != null) {
+                    return cachedApi;
                 }
+                API loadedApi = null;
                 try {
-                    api = new SubscriptionDataLoaderImpl().getApi(context, version);
+                    loadedApi = getDataLoader().getApi(context, version);
                 } catch (DataLoadingException e) {
                     log.error("Error while Retrieving Data From Internal Rest API", e);
                 }
-                if (api != null && api.getApiId() != 0) {
+                if (loadedApi != null && loadedApi.getApiId() != 0) {
                     // load to the memory
                     log.debug("Loading API to the in-memory datastore.");
-                    addOrUpdateAPI(api);
+                    addOrUpdateAPI(loadedApi);
                 }
-            }
+                return loadedApi;
+            });
         }
         if (log.isDebugEnabled()) {
             log.debug("Retrieving API information with Context " + context + " and Version : " + version);
@@ -255,26 +290,27 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
     public Subscription getSubscriptionById(int appId, int apiId) {
 
         String subscriptionCacheKey = SubscriptionDataStoreUtil.getSubscriptionCacheKey(appId, apiId);
-        String synchronizeKey = "SubscriptionDataStoreImpl-Subscription-" + subscriptionCacheKey;
         Subscription subscription = subscriptionMap.get(subscriptionCacheKey);
         if (subscription == null) {
-            synchronized (synchronizeKey.intern()) {
-                subscription = subscriptionMap.get(subscriptionCacheKey);
-                if (subscription != null) {
-                    return subscription;
+            subscription = subscriptionLoader.load(subscriptionCacheKey, () -> {
+                Subscription cachedSubscription = subscriptionMap.get(subscriptionCacheKey);
+                if (cachedSubscription != null) {
+                    return cachedSubscription;
                 }
+                Subscription loadedSubscription = null;
                 try {
-                    subscription = new SubscriptionDataLoaderImpl().getSubscriptionById(Integer.toString(apiId),
-                            Integer.toString(appId));
+                    loadedSubscription = getDataLoader().getSubscriptionById(
+                            Integer.toString(apiId), Integer.toString(appId));
                 } catch (DataLoadingException e) {
                     log.error("Error while Retrieving Subscription Data From Internal API", e);
                 }
-                if (subscription != null && !StringUtils.isEmpty(subscription.getSubscriptionId())) {
+                if (loadedSubscription != null && !StringUtils.isEmpty(loadedSubscription.getSubscriptionId())) {
                     // load to the memory
                     log.debug("Loading Subscription to the in-memory datastore.");
-                    subscriptionMap.put(subscription.getCacheKey(), subscription);
+                    putSubscription(loadedSubscription);
                 }
-            }
+                return loadedSubscription;
+            });
         }
         if (log.isDebugEnabled()) {
             log.debug("Retrieving API Subscription with Application " + appId + " and APIId : " + apiId);
@@ -299,66 +335,86 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
 
     public void initializeLoadingTasks() {
 
-        Runnable apiTask = new PopulateTask<>(apiMap,
-                () -> {
-                    try {
-                        log.debug("Calling loadAllApis. ");
-                        List<API> apiList = new SubscriptionDataLoaderImpl().loadAllApis(tenantDomain);
-                        apiByUUIDMap.clear();
-                        for (API api : apiList) {
-                            apiByUUIDMap.put(api.getUuid(), api);
-                            String key = api.getApiName().concat(":").concat(api.getApiVersion());
-                            apiNameVersionMap.put(key, api);
-                        }
-                        apisInitialized = true;
-                        return apiList;
-                    } catch (APIManagementException e) {
-                        log.error("Exception while loading APIs " + e);
-                    }
-                    return null;
-                });
+        long initDelay = eventHubConfiguration.getInitDelay();
+        executorService.schedule(newSubscriptionLoadingTask(), initDelay, TimeUnit.MILLISECONDS);
+        executorService.schedule(newApplicationLoadingTask(), initDelay, TimeUnit.MILLISECONDS);
+        scheduleReferenceDataLoadingTasks(initDelay);
+    }
 
-        executorService.schedule(apiTask, eventHubConfiguration.getInitDelay(), TimeUnit.MILLISECONDS);
+    Runnable newSubscriptionLoadingTask() {
 
-        Runnable subscriptionLoadingTask = new PopulateTask<>(subscriptionMap,
-                () -> {
+        return new PopulateTask<String, Subscription>(
+                consumer -> {
                     try {
                         log.debug("Calling loadAllSubscriptions.");
-                        return new SubscriptionDataLoaderImpl().loadAllSubscriptions(tenantDomain);
+                        SubscriptionDataLoader dataLoader = getDataLoader();
+                        dataLoader.loadAllSubscriptions(tenantDomain, consumer);
+                        subscriptionsSyncTime = dataLoader.getLoadStartTime();
+                        return true;
                     } catch (APIManagementException e) {
                         log.error("Exception while loading Subscriptions " + e);
                     }
-                    return null;
-                });
+                    return false;
+                }, this::replaceSubscriptions);
+    }
 
-        executorService.schedule(subscriptionLoadingTask, eventHubConfiguration.getInitDelay(), TimeUnit.MILLISECONDS);
+    Runnable newApplicationLoadingTask() {
 
-        Runnable applicationLoadingTask = new PopulateTask<>(applicationMap,
-                () -> {
+        return new PopulateTask<Integer, Application>(
+                consumer -> {
                     try {
                         log.debug("Calling loadAllApplications.");
-                        return new SubscriptionDataLoaderImpl().loadAllApplications(tenantDomain);
+                        SubscriptionDataLoader dataLoader = getDataLoader();
+                        dataLoader.loadAllApplications(tenantDomain, consumer);
+                        applicationsSyncTime = dataLoader.getLoadStartTime();
+                        return true;
                     } catch (APIManagementException e) {
                         log.error("Exception while loading Applications " + e);
                     }
-                    return null;
-                });
+                    return false;
+                }, this::replaceApplications);
+    }
+
+    Runnable newApiLoadingTask() {
+
+        return new PopulateTask<String, API>(
+                consumer -> {
+                    try {
+                        log.debug("Calling loadAllApis. ");
+                        getDataLoader().loadAllApis(tenantDomain, consumer);
+                        apisInitialized = true;
+                        return true;
+                    } catch (APIManagementException e) {
+                        log.error("Exception while loading APIs " + e);
+                    }
+                    return false;
+                }, this::replaceAPIs);
+    }
+
+    /**
+     * Schedules the full loading of the entities which are not synced incrementally, i.e. APIs, key mappings,
+     * policies and scopes.
+     *
+     * @param delay delay in milliseconds before the loading starts
+     */
+    private void scheduleReferenceDataLoadingTasks(long delay) {
 
-        executorService.schedule(applicationLoadingTask, eventHubConfiguration.getInitDelay(), TimeUnit.MILLISECONDS);
+        executorService.schedule(newApiLoadingTask(), delay, TimeUnit.MILLISECONDS);
 
         Runnable keyMappingsTask =
                 new PopulateTask<>(applicationKeyMappingMap,
-                        () -> {
+                        consumer -> {
                             try {
                                 log.debug("Calling loadAllKeyMappings.");
-                                return new SubscriptionDataLoaderImpl().loadAllKeyMappings(tenantDomain);
+                                getDataLoader().loadAllKeyMappings(tenantDomain, consumer);
+                                return true;
                             } catch (APIManagementException e) {
                                 log.error("Exception while loading ApplicationKeyMapping " + e);
                             }
-                            return null;
+                            return false;
                         });
 
-        executorService.schedule(keyMappingsTask, eventHubConfiguration.getInitDelay(), TimeUnit.MILLISECONDS);
+        executorService.schedule(keyMappingsTask, delay, TimeUnit.MILLISECONDS);
 
         Runnable apiPolicyLoadingTask =
                 new PopulateTask<>(apiPolicyMap,
@@ -366,7 +422,7 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
                             try {
                                 log.debug("Calling loadAllSubscriptionPolicies.");
                                 List<ApiPolicy> apiPolicyList =
-                                        new SubscriptionDataLoaderImpl().loadAllAPIPolicies(tenantDomain);
+                                        getDataLoader().loadAllAPIPolicies(tenantDomain);
                                 apiPoliciesInitialized = true;
                                 return apiPolicyList;
                             } catch (APIManagementException e) {
@@ -375,42 +431,42 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
                             return null;
                         });
 
-        executorService.schedule(apiPolicyLoadingTask, eventHubConfiguration.getInitDelay(), TimeUnit.MILLISECONDS);
+        executorService.schedule(apiPolicyLoadingTask, delay, TimeUnit.MILLISECONDS);
 
         Runnable subPolicyLoadingTask =
                 new PopulateTask<>(subscriptionPolicyMap,
                         () -> {
                             try {
                                 log.debug("Calling loadAllSubscriptionPolicies.");
-                                return new SubscriptionDataLoaderImpl().loadAllSubscriptionPolicies(tenantDomain);
+                                return getDataLoader().loadAllSubscriptionPolicies(tenantDomain);
                             } catch (APIManagementException e) {
                                 log.error("Exception while loading Subscription Policies " + e);
                             }
                             return null;
                         });
 
-        executorService.schedule(subPolicyLoadingTask, eventHubConfiguration.getInitDelay(), TimeUnit.MILLISECONDS);
+        executorService.schedule(subPolicyLoadingTask, delay, TimeUnit.MILLISECONDS);
 
         Runnable appPolicyLoadingTask =
                 new PopulateTask<>(appPolicyMap,
                         () -> {
                             try {
                                 log.debug("Calling loadAllAppPolicies.");
-                                return new SubscriptionDataLoaderImpl().loadAllAppPolicies(tenantDomain);
+                                return getDataLoader().loadAllAppPolicies(tenantDomain);
                             } catch (APIManagementException e) {
                                 log.error("Exception while loading Application Policies " + e);
                             }
                             return null;
                         });
 
-        executorService.schedule(appPolicyLoadingTask, eventHubConfiguration.getInitDelay(), TimeUnit.MILLISECONDS);
+        executorService.schedule(appPolicyLoadingTask, delay, TimeUnit.MILLISECONDS);
         Runnable scopesLoadingTask =
                 new PopulateTask<>(scopesMap,
                         () -> {
                             try {
                                 log.debug("Calling loadAllScopes.");
                                 List<Scope> scopeList =
-                                        new SubscriptionDataLoaderImpl().loadAllScopes(tenantDomain);
+                                        getDataLoader().loadAllScopes(tenantDomain);
                                 scopesInitialized = true;
                                 return scopeList;
                             } catch (APIManagementException e) {
@@ -419,7 +475,70 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
                             return null;
                         });
 
-        executorService.schedule(scopesLoadingTask, eventHubConfiguration.getInitDelay(), TimeUnit.MILLISECONDS);
+        executorService.schedule(scopesLoadingTask, delay, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Subscriptions and applications created or updated since the given time are fetched and applied on top of the
+     * existing entries. If the store then holds more entries of a type than the control plane, some of them were
+     * removed in the meantime and that type is reloaded in full. The remaining entity types do not track their
+     * update time and are always reloaded. Loaded subscriptions go through {@link #addOrUpdateSubscription} with the
+     * control plane time of the sync as their timestamp, so that they do not override newer events or ON_HOLD state
+     * changes.
+     */
+    @Override
+    public void syncChangesSince(long updatedSince) {
+
+        executorService.execute(() -> {
+            try {
+                log.debug("Calling loadSubscriptionsUpdatedSince.");
+                SubscriptionDataLoader dataLoader = getDataLoader();
+                int total = dataLoader.loadSubscriptionsUpdatedSince(tenantDomain, updatedSince,
+                        subscription -> {
+                            if (subscription.getTimeStamp() == 0) {
+                                long syncTime = dataLoader.getLoadStartTime();
+                                subscription.setTimeStamp(syncTime > 0 ? syncTime : System.currentTimeMillis());
+                            }
+                            addOrUpdateSubscription(subscription);
+                        });
+                if (total >= 0 && subscriptionMap.size() <= total) {
+                    subscriptionsSyncTime = dataLoader.getLoadStartTime();
+                    return;
+                }
+                log.debug("Subscriptions could not be synced incrementally. Reloading all Subscriptions.");
+            } catch (APIManagementException e) {
+                log.error("Exception while syncing Subscriptions " + e);
+            }
+            newSubscriptionLoadingTask().run();
+        });
+        executorService.execute(() -> {
+            try {
+                log.debug("Calling loadApplicationsUpdatedSince.");
+                SubscriptionDataLoader dataLoader = getDataLoader();
+                int total = dataLoader.loadApplicationsUpdatedSince(tenantDomain,
+                        updatedSince, this::addOrUpdateApplication);
+                if (total >= 0 && applicationMap.size() <= total) {
+                    applicationsSyncTime = dataLoader.getLoadStartTime();
+                    return;
+                }
+                log.debug("Applications could not be synced incrementally. Reloading all Applications.");
+            } catch (APIManagementException e) {
+                log.error("Exception while syncing Applications " + e);
+            }
+            newApplicationLoadingTask().run();
+        });
+        scheduleReferenceDataLoadingTasks(0);
+    }
+
+    @Override
+    public long getLastSyncTime() {
+
+        long subscriptionsTime = subscriptionsSyncTime;
+        long applicationsTime = applicationsSyncTime;
+        if (subscriptionsTime <= 0 || applicationsTime <= 0) {
+            return -1;
+        }
+        return Math.min(subscriptionsTime, applicationsTime);
     }
 
     public boolean isApisInitialized() {
@@ -434,12 +553,11 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
 
     @Override
     public void addOrUpdateSubscription(Subscription subscription) {
-        String synchronizeKey = "SubscriptionDataStoreImpl-API-" + subscription.getCacheKey();
 
-        synchronized (synchronizeKey.intern()) {
+        synchronized (getSubscriptionLock(subscription.getCacheKey())) {
             Subscription retrievedSubscription = subscriptionMap.get(subscription.getCacheKey());
             if (retrievedSubscription == null) {
-                subscriptionMap.put(subscription.getCacheKey(), subscription);
+                putSubscription(subscription);
             } else {
                 if (log.isDebugEnabled()) {
                     log.debug("Retrieved Subscription from Map :" + retrievedSubscription.toString());
@@ -450,7 +568,7 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
                     }
                 } else {
                     if (!APIConstants.SubscriptionStatus.ON_HOLD.equals(subscription.getSubscriptionState())) {
-                        subscriptionMap.put(subscription.getCacheKey(), subscription);
+                        putSubscription(subscription);
                     } else {
                         if (log.isDebugEnabled()) {
                             log.debug("Drop the Event " + subscription.toString() + " since the event was marked as " +
@@ -470,28 +588,37 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
     @Override
     public void removeSubscription(Subscription subscription) {
 
-        subscriptionMap.remove(subscription.getCacheKey());
+        synchronized (getSubscriptionLock(subscription.getCacheKey())) {
+            Subscription removedSubscription = subscriptionMap.remove(subscription.getCacheKey());
+            if (removedSubscription != null) {
+                unindexSubscription(removedSubscription);
+            }
+        }
     }
 
     @Override
     public void addOrUpdateAPI(API api) {
 
         String key = api.getApiName().concat(":").concat(api.getApiVersion());
-        apiByUUIDMap.put(api.getUuid(), api);
-        apiNameVersionMap.put(key, api);
-        apiMap.put(api.getCacheKey(), api);
+        synchronized (apiLock) {
+            apiByUUIDMap.put(api.getUuid(), api);
+            apiNameVersionMap.put(key, api);
+            apiMap.put(api.getCacheKey(), api);
+        }
     }
 
     @Override
     public void addOrUpdateAPIWithUrlTemplates(API api) {
 
         try {
-            API newAPI = new SubscriptionDataLoaderImpl().getApi(api.getContext(), api.getApiVersion());
+            API newAPI = getDataLoader().getApi(api.getContext(), api.getApiVersion());
             if (newAPI != null) {
-                apiMap.put(api.getCacheKey(), newAPI);
                 String key = newAPI.getApiName().concat(":").concat(newAPI.getApiVersion());
-                apiNameVersionMap.put(key, newAPI);
-                apiByUUIDMap.put(newAPI.getUuid(), newAPI);
+                synchronized (apiLock) {
+                    apiMap.put(api.getCacheKey(), newAPI);
+                    apiNameVersionMap.put(key, newAPI);
+                    apiByUUIDMap.put(newAPI.getUuid(), newAPI);
+                }
             }
         } catch (DataLoadingException e) {
             log.error("Exception while loading api for " + api.getContext() + " " + api.getApiVersion(), e);
@@ -503,9 +630,11 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
     public void removeAPI(API api) {
 
         String key = api.getApiName().concat(":").concat(api.getApiVersion());
-        apiByUUIDMap.remove(api.getUuid());
-        apiNameVersionMap.remove(key);
-        apiMap.remove(api.getCacheKey());
+        synchronized (apiLock) {
+            apiByUUIDMap.remove(api.getUuid());
+            apiNameVersionMap.remove(key);
+            apiMap.remove(api.getCacheKey());
+        }
     }
 
     @Override
@@ -550,23 +679,41 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
     @Override
     public void addOrUpdateApplication(Application application) {
 
-        applicationMap.remove(application.getId());
-        applicationMap.put(application.getId(), application);
+        synchronized (applicationLock) {
+            Application existingApplication = applicationMap.put(application.getId(), application);
+            // Index the new entry before dropping the old one so that lookups never miss an existing application.
+            indexApplication(application, applicationByUUIDMap, applicationsByNameMap);
+            if (existingApplication != null) {
+                unindexApplication(existingApplication);
+            }
+        }
     }
 
     @Override
     public void removeApplication(Application application) {
 
-        applicationMap.remove(application.getId());
-        subscriptionMap.values().removeIf(subscription ->
-                subscription != null && application.getUUID().equals(subscription.getApplicationUUID()));
+        synchronized (applicationLock) {
+            Application removedApplication = applicationMap.remove(application.getId());
+            if (removedApplication != null) {
+                unindexApplication(removedApplication);
+            }
+        }
+        for (Subscription subscription : subscriptionMap.values()) {
+            if (subscription != null && application.getUUID().equals(subscription.getApplicationUUID())) {
+                synchronized (getSubscriptionLock(subscription.getCacheKey())) {
+                    if (subscriptionMap.remove(subscription.getCacheKey(), subscription)) {
+                        unindexSubscription(subscription);
+                    }
+                }
+            }
+        }
     }
 
     @Override
     public void addOrUpdateApiPolicy(ApiPolicy apiPolicy) {
 
         try {
-            ApiPolicy policy = new SubscriptionDataLoaderImpl().getAPIPolicy(apiPolicy.getName(), tenantDomain);
+            ApiPolicy policy = getDataLoader().getAPIPolicy(apiPolicy.getName(), tenantDomain);
             apiPolicyMap.remove(apiPolicy.getCacheKey());
             apiPolicyMap.put(apiPolicy.getCacheKey(), policy);
         } catch (DataLoadingException e) {
@@ -584,13 +731,14 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
     @Override
     public API getDefaultApiByContext(String context) {
 
-        Set<String> set = apiMap.keySet()
+        Map<String, API> apis = apiMap;
+        Set<String> set = apis.keySet()
                 .stream()
                 .filter(s -> s.startsWith(context))
                 .collect(Collectors.toSet());
         for (String key : set) {
-            API api = apiMap.get(key);
-            if (api.isDefaultVersion() && (api.getContext().replace("/" + api.getApiVersion(), "")).equals(context)) {
+            API api = apis.get(key);
+            if (api != null && api.isDefaultVersion() && (api.getContext().replace("/" + api.getApiVersion(), "")).equals(context)) {
                 return api;
             }
         }
@@ -604,23 +752,20 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
     @Override
     public Subscription getSubscriptionBySubscriptionUUID(String subscriptionUUID) {
 
-        for (Subscription subscription : subscriptionMap.values()) {
-            if (subscriptionUUID.equals(subscription.getSubscriptionUUId())) {
-                return subscription;
-            }
+        if (subscriptionUUID == null) {
+            return null;
         }
-        return null;
+        return subscriptionByUUIDMap.get(subscriptionUUID);
     }
 
     @Override
     public List<Application> getApplicationsByName(String name) {
 
         List<Application> applicationList = new ArrayList<>();
-        if (applicationMap != null) {
-            for (Application application : applicationMap.values()) {
-                if (application.getName().equals(name)) {
-                    applicationList.add(application);
-                }
+        if (name != null) {
+            Map<Integer, Application> applications = applicationsByNameMap.get(name);
+            if (applications != null) {
+                applicationList.addAll(applications.values());
             }
         }
         return applicationList;
@@ -629,26 +774,19 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
     @Override
     public Application getApplicationByUUID(String uuid) {
 
-        if (applicationMap != null) {
-            for (Application application : applicationMap.values()) {
-                if (application.getUUID().equals(uuid)) {
-                    return application;
-                }
-            }
+        if (uuid == null) {
+            return null;
         }
-        return null;
+        return applicationByUUIDMap.get(uuid);
     }
 
     @Override
     public List<Subscription> getSubscriptionsByAPIId(int apiId) {
 
         List<Subscription> subscriptionList = new ArrayList<>();
-        if (subscriptionMap != null) {
-            for (Subscription subscription : subscriptionMap.values()) {
-                if (subscription.getApiId() == apiId) {
-                    subscriptionList.add(subscription);
-                }
-            }
+        Map<String, Subscription> subscriptions = subscriptionsByApiIdMap.get(apiId);
+        if (subscriptions != null) {
+            subscriptionList.addAll(subscriptions.values());
         }
         return subscriptionList;
     }
@@ -737,7 +875,7 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
                     removeAPI(api);
                 }
             } else {
-                API newAPI = new SubscriptionDataLoaderImpl().getApi(event.getContext(), event.getVersion());
+                API newAPI = getDataLoader().getApi(event.getContext(), event.getVersion());
                 if (newAPI != null) {
                     addOrUpdateAPI(newAPI);
                 }
@@ -766,44 +904,245 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
         return true;
     }
 
+    /**
+     * Returns the loader used to fetch the entities of this store from the control plane.
+     *
+     * @return subscription data loader
+     */
+    protected SubscriptionDataLoader getDataLoader() {
+
+        return new SubscriptionDataLoaderImpl();
+    }
+
+    /**
+     * Puts the subscription into the subscription map and keeps the secondary indexes in sync with it.
+     *
+     * @param subscription subscription to be stored
+     */
+    private void putSubscription(Subscription subscription) {
+
+        synchronized (getSubscriptionLock(subscription.getCacheKey())) {
+            Subscription existingSubscription = subscriptionMap.put(subscription.getCacheKey(), subscription);
+            // Index the new entry before dropping the old one so that lookups never miss an existing subscription.
+            indexSubscription(subscription, subscriptionByUUIDMap, subscriptionsByApiIdMap);
+            if (existingSubscription != null) {
+                unindexSubscription(existingSubscription);
+            }
+        }
+    }
+
+    /**
+     * Returns the lock guarding updates to the subscription with the given cache key. Locks are striped over a
+     * fixed-size table so that the number of monitors stays bounded regardless of the number of subscriptions.
+     *
+     * @param subscriptionCacheKey cache key of the subscription
+     * @return lock object for the subscription
+     */
+    private Object getSubscriptionLock(String subscriptionCacheKey) {
+
+        return subscriptionLocks[(subscriptionCacheKey.hashCode() & 0x7fffffff) % subscriptionLocks.length];
+    }
+
+    private static void indexSubscription(Subscription subscription, Map<String, Subscription> byUUIDMap,
+                                          Map<Integer, Map<String, Subscription>> byApiIdMap) {
+
+        if (subscription.getSubscriptionUUId() != null) {
+            byUUIDMap.put(subscription.getSubscriptionUUId(), subscription);
+        }
+        if (subscription.getApiId() != null) {
+            // Subscriptions of the same API are guarded by different locks, so the per API map is updated within the
+            // same atomic step that may drop it once it becomes empty.
+            byApiIdMap.compute(subscription.getApiId(), (apiId, subscriptions) -> {
+                Map<String, Subscription> apiSubscriptions =
+                        subscriptions != null ? subscriptions : new ConcurrentHashMap<>();
+                apiSubscriptions.put(subscription.getCacheKey(), subscription);
+                return apiSubscriptions;
+            });
+        }
+    }
+
+    private void unindexSubscription(Subscription subscription) {
+
+        if (subscription.getSubscriptionUUId() != null) {
+            subscriptionByUUIDMap.remove(subscription.getSubscriptionUUId(), subscription);
+        }
+        if (subscription.getApiId() != null) {
+            subscriptionsByApiIdMap.computeIfPresent(subscription.getApiId(), (apiId, subscriptions) -> {
+                subscriptions.remove(subscription.getCacheKey(), subscription);
+                return subscriptions.isEmpty() ? null : subscriptions;
+            });
+        }
+    }
+
+    private static void indexApplication(Application application, Map<String, Application> byUUIDMap,
+                                         Map<String, Map<Integer, Application>> byNameMap) {
+
+        if (application.getUUID() != null) {
+            byUUIDMap.put(application.getUUID(), application);
+        }
+        if (application.getName() != null) {
+            byNameMap.computeIfAbsent(application.getName(), k -> new ConcurrentHashMap<>())
+                    .put(application.getId(), application);
+        }
+    }
+
+    private void unindexApplication(Application application) {
+
+        if (application.getUUID() != null) {
+            applicationByUUIDMap.remove(application.getUUID(), application);
+        }
+        if (application.getName() != null) {
+            applicationsByNameMap.computeIfPresent(application.getName(), (name, applications) -> {
+                applications.remove(application.getId(), application);
+                return applications.isEmpty() ? null : applications;
+            });
+        }
+    }
+
+    /**
+     * Replaces all subscriptions with the given ones. The new subscription map and its indexes are built aside and
+     * published while every subscription lock is held, so that no concurrent update is lost in between and readers
+     * see either the old or the new set of maps.
+     *
+     * @param subscriptions subscriptions keyed by their cache key
+     */
+    private void replaceSubscriptions(Map<String, Subscription> subscriptions) {
+
+        Map<String, Subscription> newSubscriptionByUUIDMap = new ConcurrentHashMap<>();
+        Map<Integer, Map<String, Subscription>> newSubscriptionsByApiIdMap = new ConcurrentHashMap<>();
+        for (Subscription subscription : subscriptions.values()) {
+            indexSubscription(subscription, newSubscriptionByUUIDMap, newSubscriptionsByApiIdMap);
+        }
+        Map<String, Subscription> newSubscriptionMap = new ConcurrentHashMap<>(subscriptions);
+        runWithAllSubscriptionLocks(0, () -> {
+            subscriptionMap = newSubscriptionMap;
+            subscriptionByUUIDMap = newSubscriptionByUUIDMap;
+            subscriptionsByApiIdMap = newSubscriptionsByApiIdMap;
+        });
+    }
+
+    private void runWithAllSubscriptionLocks(int stripe, Runnable task) {
+
+        if (stripe == subscriptionLocks.length) {
+            task.run();
+            return;
+        }
+        synchronized (subscriptionLocks[stripe]) {
+            runWithAllSubscriptionLocks(stripe + 1, task);
+        }
+    }
+
+    /**
+     * Replaces all APIs with the given ones. The lookup maps are only swapped in once the whole list has been
+     * loaded, so a load that fails midway leaves the previously loaded APIs in place.
+     *
+     * @param apis APIs keyed by their cache key
+     */
+    private void replaceAPIs(Map<String, API> apis) {
+
+        Map<String, API> newApiByUUIDMap = new ConcurrentHashMap<>();
+        Map<String, API> newApiNameVersionMap = new ConcurrentHashMap<>();
+        for (API api : apis.values()) {
+            newApiByUUIDMap.put(api.getUuid(), api);
+            newApiNameVersionMap.put(api.getApiName().concat(":").concat(api.getApiVersion()), api);
+        }
+        Map<String, API> newApiMap = new ConcurrentHashMap<>(apis);
+        synchronized (apiLock) {
+            apiMap = newApiMap;
+            apiByUUIDMap = newApiByUUIDMap;
+            apiNameVersionMap = newApiNameVersionMap;
+        }
+    }
+
+    /**
+     * Replaces all applications with the given ones, publishing the new application map together with its indexes.
+     *
+     * @param applications applications keyed by their id
+     */
+    private void replaceApplications(Map<Integer, Application> applications) {
+
+        Map<String, Application> newApplicationByUUIDMap = new ConcurrentHashMap<>();
+        Map<String, Map<Integer, Application>> newApplicationsByNameMap = new ConcurrentHashMap<>();
+        for (Application application : applications.values()) {
+            indexApplication(application, newApplicationByUUIDMap, newApplicationsByNameMap);
+        }
+        Map<Integer, Application> newApplicationMap = new ConcurrentHashMap<>(applications);
+        synchronized (applicationLock) {
+            applicationMap = newApplicationMap;
+            applicationByUUIDMap = newApplicationByUUIDMap;
+            applicationsByNameMap = newApplicationsByNameMap;
+        }
+    }
+
     public enum POLICY_TYPE {
         SUBSCRIPTION,
         APPLICATION,
         API
     }
 
+    /**
+     * Loads entities and hands each of them to the given consumer as soon as it is available.
+     *
+     * @param <V> entity type
+     */
+    @FunctionalInterface
+    private interface EntityStreamLoader<V> {
+
+        /**
+         * @param consumer consumer of the loaded entities
+         * @return true if the entities were loaded successfully, false otherwise
+         */
+        boolean load(Consumer<V> consumer);
+    }
+
     private static class PopulateTask<K, V extends CacheableEntity<K>> implements Runnable {
 
-        private Map<K, V> entityMap;
-        private Supplier<List<V>> supplier;
+        private EntityStreamLoader<V> loader;
+        private Consumer<Map<K, V>> publisher;
 
         PopulateTask(Map<K, V> entityMap, Supplier<List<V>> supplier) {
 
-            this.entityMap = entityMap;
-            this.supplier = supplier;
+            this(entityMap, consumer -> {
+                List<V> list = supplier.get();
+                if (list == null) {
+                    return false;
+                }
+                list.forEach(consumer);
+                return true;
+            });
         }
 
-        public void run() {
+        PopulateTask(Map<K, V> entityMap, EntityStreamLoader<V> loader) {
 
-            List<V> list = supplier.get();
-            HashMap<K, V> tempMap = new HashMap<>();
+            this(loader, entities -> {
+                entityMap.clear();
+                entityMap.putAll(entities);
+            });
+        }
 
-            if (list != null) {
-                for (V v : list) {
-                    tempMap.put(v.getCacheKey(), v);
-                    if (log.isDebugEnabled()) {
-                        log.debug(String.format("Adding entry Key : %s Value : %s", v.getCacheKey(), v));
-                    }
+        PopulateTask(EntityStreamLoader<V> loader, Consumer<Map<K, V>> publisher) {
 
-                    if (!tempMap.isEmpty()) {
-                        entityMap.clear();
-                        entityMap.putAll(tempMap);
-                    }
+            this.loader = loader;
+            this.publisher = publisher;
+        }
+
+        public void run() {
+
+            HashMap<K, V> tempMap = new HashMap<>();
+            boolean loaded = loader.load(v -> {
+                tempMap.put(v.getCacheKey(), v);
+                if (log.isDebugEnabled()) {
+                    log.debug(String.format("Adding entry Key : %s Value : %s", v.getCacheKey(), v));
                 }
+            });
 
+            if (loaded) {
+                if (!tempMap.isEmpty()) {
+                    publisher.accept(tempMap);
+                }
             } else {
                 if (log.isDebugEnabled()) {
-                    log.debug("List is null for " + supplier.getClass());
+                    log.debug("List is null for " + loader.getClass());
                 }
             }
         }
@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.keymgt.model.impl;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.wso2.carbon.metrics.manager.Counter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class SingleFlightLoaderTest {
+
+    private static final int CALLER_COUNT = 8;
+
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> counts = new ConcurrentHashMap<>();
+    private volatile CountDownLatch coalescedCallers;
+    private SingleFlightLoader<String, String> singleFlightLoader;
+    private ExecutorService executor;
+
+    @Before
+    public void setUp() {
+
+        coalescedCallers = new CountDownLatch(CALLER_COUNT - 1);
+        singleFlightLoader = new SingleFlightLoader<String, String>("API") {
+            @Override
+            Counter getCounter(String metric) {
+
+                return counters.computeIfAbsent(metric, name -> {
+                    Counter counter = Mockito.mock(Counter.class);
+                    AtomicInteger count = counts.computeIfAbsent(name, key -> new AtomicInteger());
+                    Mockito.doAnswer(invocation -> {
+                        count.incrementAndGet();
+                        if ("COALESCED_LOADS".equals(name)) {
+                            coalescedCallers.countDown();
+                        }
+                        return null;
+                    }).when(counter).inc();
+                    return counter;
+                });
+            }
+        };
+        executor = Executors.newFixedThreadPool(CALLER_COUNT);
+    }
+
+    @After
+    public void tearDown() {
+
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testConcurrentMissesRunTheLoaderOnce() throws Exception {
+
+        AtomicInteger loaderRuns = new AtomicInteger();
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch loadReleased = new CountDownLatch(1);
+        List<Future<String>> results = new ArrayList<>();
+        results.add(executor.submit(() -> singleFlightLoader.load("api1", () -> {
+            loaderRuns.incrementAndGet();
+            loadStarted.countDown();
+            awaitQuietly(loadReleased);
+            return "value";
+        })));
+        Assert.assertTrue(loadStarted.await(5, TimeUnit.SECONDS));
+        for (int i = 1; i < CALLER_COUNT; i++) {
+            results.add(executor.submit(() -> singleFlightLoader.load("api1", () -> {
+                loaderRuns.incrementAndGet();
+                return "other";
+            })));
+        }
+        // Every other caller has found the load in flight before it completes
+        Assert.assertTrue(coalescedCallers.await(5, TimeUnit.SECONDS));
+        loadReleased.countDown();
+
+        for (Future<String> result : results) {
+            Assert.assertEquals("value", result.get(5, TimeUnit.SECONDS));
+        }
+        Assert.assertEquals(1, loaderRuns.get());
+        Assert.assertEquals(1, counts.get("ISSUED_LOADS").get());
+        Assert.assertEquals(CALLER_COUNT - 1, counts.get("COALESCED_LOADS").get());
+    }
+
+    @Test
+    public void testSequentialLoadsAreIssuedSeparately() {
+
+        Assert.assertEquals("first", singleFlightLoader.load("api1", () -> "first"));
+        Assert.assertEquals("second", singleFlightLoader.load("api1", () -> "second"));
+        Assert.assertNull(singleFlightLoader.load("api2", () -> null));
+        Assert.assertEquals(3, counts.get("ISSUED_LOADS").get());
+        Assert.assertNull(counts.get("COALESCED_LOADS"));
+    }
+
+    @Test
+    public void testLoaderErrorIsRethrownToWaitingCallers() throws Exception {
+
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch loadReleased = new CountDownLatch(1);
+        Future<String> first = executor.submit(() -> singleFlightLoader.load("api1", () -> {
+            loadStarted.countDown();
+            awaitQuietly(loadReleased);
+            throw new LinkageError("Loader class could not be linked");
+        }));
+        Assert.assertTrue(loadStarted.await(5, TimeUnit.SECONDS));
+        coalescedCallers = new CountDownLatch(1);
+        Future<String> waiting = executor.submit(() -> singleFlightLoader.load("api1", () -> "other"));
+        Assert.assertTrue(coalescedCallers.await(5, TimeUnit.SECONDS));
+        loadReleased.countDown();
+
+        assertFailsWith(LinkageError.class, first);
+        assertFailsWith(LinkageError.class, waiting);
+        // A failed load is not kept, so the next caller runs the loader again
+        Assert.assertEquals("value", singleFlightLoader.load("api1", () -> "value"));
+        Assert.assertEquals(2, counts.get("ISSUED_LOADS").get());
+    }
+
+    @Test
+    public void testLoaderExceptionIsRethrownToTheCaller() {
+
+        try {
+            singleFlightLoader.load("api1", () -> {
+                throw new IllegalStateException("Failed to load the API");
+            });
+            Assert.fail("Expected the loader exception to be rethrown");
+        } catch (IllegalStateException e) {
+            Assert.assertEquals("Failed to load the API", e.getMessage());
+        }
+        Assert.assertEquals("value", singleFlightLoader.load("api1", () -> "value"));
+    }
+
+    private static void assertFailsWith(Class<? extends Throwable> type, Future<String> result) throws Exception {
+
+        try {
+            result.get(5, TimeUnit.SECONDS);
+            Assert.fail("Expected the load to fail with " + type.getSimpleName());
+        } catch (ExecutionException e) {
+            Assert.assertTrue(type.isInstance(e.getCause()));
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
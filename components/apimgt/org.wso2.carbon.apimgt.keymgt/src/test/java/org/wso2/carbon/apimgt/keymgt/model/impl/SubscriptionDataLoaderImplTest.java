@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.apimgt.keymgt.model.impl;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.wso2.carbon.apimgt.impl.APIConstants;
+import org.wso2.carbon.apimgt.impl.APIManagerConfiguration;
+import org.wso2.carbon.apimgt.impl.APIManagerConfigurationService;
+import org.wso2.carbon.apimgt.impl.dto.EventHubConfigurationDto;
+import org.wso2.carbon.apimgt.keymgt.internal.ServiceReferenceHolder;
+import org.wso2.carbon.apimgt.keymgt.model.entity.Subscription;
+import org.wso2.carbon.apimgt.keymgt.model.exception.DataLoadingException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+public class SubscriptionDataLoaderImplTest {
+
+    private static final String TENANT_DOMAIN = "carbon.super";
+    private static final String SUBSCRIPTIONS = APIConstants.SubscriptionValidationResources.SUBSCRIPTIONS;
+
+    private final Map<String, SubscriptionDataLoaderImpl.EntityPage> pages = new HashMap<>();
+    private final List<String> requestedPaths = new ArrayList<>();
+    private SubscriptionDataLoaderImpl subscriptionDataLoader;
+
+    @Before
+    public void setUp() {
+
+        EventHubConfigurationDto eventHubConfigurationDto = new EventHubConfigurationDto();
+        eventHubConfigurationDto.setDataLoadPageSize(2);
+        APIManagerConfiguration apiManagerConfiguration = Mockito.mock(APIManagerConfiguration.class);
+        Mockito.when(apiManagerConfiguration.getEventHubConfigurationDto()).thenReturn(eventHubConfigurationDto);
+        APIManagerConfigurationService apiManagerConfigurationService =
+                Mockito.mock(APIManagerConfigurationService.class);
+        Mockito.when(apiManagerConfigurationService.getAPIManagerConfiguration()).thenReturn(apiManagerConfiguration);
+        ServiceReferenceHolder.getInstance().setAPIManagerConfigurationService(apiManagerConfigurationService);
+        subscriptionDataLoader = new SubscriptionDataLoaderImpl() {
+            @Override
+            <T> EntityPage streamEntityPage(String path, String tenantDomain, Class<T> entityClass,
+                                            Consumer<T> consumer) {
+
+                requestedPaths.add(path);
+                EntityPage page = pages.get(path);
+                for (int i = 0; i < page.entityCount; i++) {
+                    consumer.accept(entityClass.cast(new Subscription()));
+                }
+                return page;
+            }
+        };
+    }
+
+    @Test
+    public void testPagesAreFollowedUntilTheLastPage() throws Exception {
+
+        addPage(SUBSCRIPTIONS + "?limit=2", 2, SUBSCRIPTIONS + "?limit=2&cursor=2");
+        addPage(SUBSCRIPTIONS + "?limit=2&cursor=2", 2, SUBSCRIPTIONS + "?limit=2&cursor=4");
+        addPage(SUBSCRIPTIONS + "?limit=2&cursor=4", 1, null);
+
+        List<Subscription> subscriptions = subscriptionDataLoader.loadAllSubscriptions(TENANT_DOMAIN);
+
+        Assert.assertEquals(5, subscriptions.size());
+        Assert.assertEquals(3, requestedPaths.size());
+    }
+
+    @Test
+    public void testLoadFailsWhenTheCursorDoesNotAdvance() {
+
+        addPage(SUBSCRIPTIONS + "?limit=2", 2, SUBSCRIPTIONS + "?limit=2&cursor=2");
+        addPage(SUBSCRIPTIONS + "?limit=2&cursor=2", 2, SUBSCRIPTIONS + "?limit=2&cursor=2");
+
+        try {
+            subscriptionDataLoader.loadAllSubscriptions(TENANT_DOMAIN);
+            Assert.fail("Loading should fail when the next page link repeats the current page");
+        } catch (DataLoadingException e) {
+            Assert.assertEquals(2, requestedPaths.size());
+        }
+    }
+
+    @Test
+    public void testLoadFailsWhenAnEmptyPageLinksToAnotherPage() {
+
+        addPage(SUBSCRIPTIONS + "?limit=2", 0, SUBSCRIPTIONS + "?limit=2&cursor=0");
+
+        try {
+            subscriptionDataLoader.loadAllSubscriptions(TENANT_DOMAIN);
+            Assert.fail("Loading should fail when an empty page links to another page");
+        } catch (DataLoadingException e) {
+            Assert.assertEquals(1, requestedPaths.size());
+        }
+    }
+
+    private void addPage(String path, int entityCount, String next) {
+
+        SubscriptionDataLoaderImpl.EntityPage page = new SubscriptionDataLoaderImpl.EntityPage();
+        page.entityCount = entityCount;
+        page.next = next;
+        pages.put(path, page);
+    }
+}
@@ -0,0 +1,278 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.apimgt.keymgt.model.impl;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.wso2.carbon.apimgt.impl.APIManagerConfiguration;
+import org.wso2.carbon.apimgt.impl.APIManagerConfigurationService;
+import org.wso2.carbon.apimgt.impl.dto.EventHubConfigurationDto;
+import org.wso2.carbon.apimgt.keymgt.internal.ServiceReferenceHolder;
+import org.wso2.carbon.apimgt.keymgt.model.SubscriptionDataLoader;
+import org.wso2.carbon.apimgt.keymgt.model.entity.API;
+import org.wso2.carbon.apimgt.keymgt.model.entity.Application;
+import org.wso2.carbon.apimgt.keymgt.model.entity.Subscription;
+import org.wso2.carbon.apimgt.keymgt.model.exception.DataLoadingException;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+public class SubscriptionDataStoreImplTest {
+
+    private static final String TENANT_DOMAIN = "carbon.super";
+    private static final int ENTITY_COUNT = 500;
+    private static final int RELOAD_COUNT = 200;
+
+    private SubscriptionDataLoader dataLoader;
+    private SubscriptionDataStoreImpl subscriptionDataStore;
+
+    @Before
+    public void setUp() {
+
+        APIManagerConfiguration apiManagerConfiguration = Mockito.mock(APIManagerConfiguration.class);
+        Mockito.when(apiManagerConfiguration.getEventHubConfigurationDto()).thenReturn(new EventHubConfigurationDto());
+        APIManagerConfigurationService apiManagerConfigurationService =
+                Mockito.mock(APIManagerConfigurationService.class);
+        Mockito.when(apiManagerConfigurationService.getAPIManagerConfiguration()).thenReturn(apiManagerConfiguration);
+        ServiceReferenceHolder.getInstance().setAPIManagerConfigurationService(apiManagerConfigurationService);
+        dataLoader = Mockito.mock(SubscriptionDataLoader.class);
+        subscriptionDataStore = new SubscriptionDataStoreImpl(TENANT_DOMAIN) {
+            @Override
+            protected SubscriptionDataLoader getDataLoader() {
+
+                return dataLoader;
+            }
+        };
+    }
+
+    @After
+    public void tearDown() {
+
+        subscriptionDataStore.destroy();
+    }
+
+    @Test
+    public void testSubscriptionIndexesStayConsistentDuringReload() throws Exception {
+
+        Mockito.doAnswer(invocation -> {
+            Consumer<Subscription> consumer = invocation.getArgument(1);
+            for (int i = 0; i < ENTITY_COUNT; i++) {
+                consumer.accept(createSubscription(i, System.nanoTime()));
+            }
+            return null;
+        }).when(dataLoader).loadAllSubscriptions(Mockito.eq(TENANT_DOMAIN), Mockito.any());
+        Runnable subscriptionLoadingTask = subscriptionDataStore.newSubscriptionLoadingTask();
+        subscriptionLoadingTask.run();
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicInteger inconsistentReads = new AtomicInteger();
+        Thread reader = new Thread(() -> {
+            while (running.get()) {
+                if (subscriptionDataStore.getSubscriptionBySubscriptionUUID("subscription-0") == null
+                        || subscriptionDataStore.getSubscriptionsByAPIId(1).size() != ENTITY_COUNT) {
+                    inconsistentReads.incrementAndGet();
+                }
+            }
+        });
+        Thread writer = new Thread(() -> {
+            int i = 0;
+            while (running.get()) {
+                subscriptionDataStore.addOrUpdateSubscription(createSubscription(i++ % ENTITY_COUNT, Long.MAX_VALUE));
+            }
+        });
+        reader.start();
+        writer.start();
+        for (int i = 0; i < RELOAD_COUNT; i++) {
+            subscriptionLoadingTask.run();
+        }
+        running.set(false);
+        reader.join();
+        writer.join();
+
+        Assert.assertEquals(0, inconsistentReads.get());
+        Assert.assertEquals(ENTITY_COUNT, subscriptionDataStore.getSubscriptionsByAPIId(1).size());
+        for (int i = 0; i < ENTITY_COUNT; i++) {
+            Subscription subscription = subscriptionDataStore.getSubscriptionBySubscriptionUUID("subscription-" + i);
+            Assert.assertNotNull(subscription);
+            Assert.assertSame(subscription, subscriptionDataStore.getSubscriptionById(i, 1));
+        }
+    }
+
+    @Test
+    public void testApplicationIndexesStayConsistentDuringReload() throws Exception {
+
+        Mockito.doAnswer(invocation -> {
+            Consumer<Application> consumer = invocation.getArgument(1);
+            for (int i = 1; i <= ENTITY_COUNT; i++) {
+                consumer.accept(createApplication(i));
+            }
+            return null;
+        }).when(dataLoader).loadAllApplications(Mockito.eq(TENANT_DOMAIN), Mockito.any());
+        Runnable applicationLoadingTask = subscriptionDataStore.newApplicationLoadingTask();
+        applicationLoadingTask.run();
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicInteger inconsistentReads = new AtomicInteger();
+        Thread reader = new Thread(() -> {
+            while (running.get()) {
+                if (subscriptionDataStore.getApplicationByUUID("application-1") == null
+                        || subscriptionDataStore.getApplicationsByName("application").size() != ENTITY_COUNT) {
+                    inconsistentReads.incrementAndGet();
+                }
+            }
+        });
+        Thread writer = new Thread(() -> {
+            int i = 0;
+            while (running.get()) {
+                subscriptionDataStore.addOrUpdateApplication(createApplication(i++ % ENTITY_COUNT + 1));
+            }
+        });
+        reader.start();
+        writer.start();
+        for (int i = 0; i < RELOAD_COUNT; i++) {
+            applicationLoadingTask.run();
+        }
+        running.set(false);
+        reader.join();
+        writer.join();
+
+        Assert.assertEquals(0, inconsistentReads.get());
+        Assert.assertEquals(ENTITY_COUNT, subscriptionDataStore.getApplicationsByName("application").size());
+        for (int i = 1; i <= ENTITY_COUNT; i++) {
+            Assert.assertSame(subscriptionDataStore.getApplicationById(i),
+                    subscriptionDataStore.getApplicationByUUID("application-" + i));
+        }
+    }
+
+    @Test
+    public void testFailedAPIReloadKeepsPreviouslyLoadedAPIs() throws Exception {
+
+        Mockito.doAnswer(invocation -> {
+            Consumer<API> consumer = invocation.getArgument(1);
+            for (int i = 0; i < 3; i++) {
+                consumer.accept(createAPI(i));
+            }
+            return null;
+        }).doAnswer(invocation -> {
+            Consumer<API> consumer = invocation.getArgument(1);
+            consumer.accept(createAPI(0));
+            throw new DataLoadingException("Connection reset while reading the API list");
+        }).when(dataLoader).loadAllApis(Mockito.eq(TENANT_DOMAIN), Mockito.any());
+        Runnable apiLoadingTask = subscriptionDataStore.newApiLoadingTask();
+
+        apiLoadingTask.run();
+        Assert.assertTrue(subscriptionDataStore.isApisInitialized());
+        apiLoadingTask.run();
+
+        Assert.assertEquals(3, subscriptionDataStore.getAPIs().size());
+        for (int i = 0; i < 3; i++) {
+            Assert.assertNotNull(subscriptionDataStore.getAPIByUUID("api-" + i));
+            Assert.assertNotNull(subscriptionDataStore.getApiByNameAndVersion("api" + i, "1.0.0"));
+            Assert.assertNotNull(subscriptionDataStore.getApiByContextAndVersion("/api" + i + "/1.0.0", "1.0.0"));
+        }
+        Mockito.verify(dataLoader, Mockito.never()).getApi(Mockito.anyString(), Mockito.anyString());
+    }
+
+    @Test
+    public void testDeltaSyncDoesNotOverrideNewerOrOnHoldSubscriptions() throws Exception {
+
+        Mockito.doAnswer(invocation -> {
+            Consumer<Subscription> consumer = invocation.getArgument(1);
+            consumer.accept(createSubscription(0, 1L));
+            consumer.accept(createSubscription(1, 1L));
+            return null;
+        }).when(dataLoader).loadAllSubscriptions(Mockito.eq(TENANT_DOMAIN), Mockito.any());
+        subscriptionDataStore.newSubscriptionLoadingTask().run();
+        Subscription blockedSubscription = createSubscription(0, Long.MAX_VALUE);
+        blockedSubscription.setSubscriptionState("BLOCKED");
+        subscriptionDataStore.addOrUpdateSubscription(blockedSubscription);
+
+        Mockito.when(dataLoader.loadSubscriptionsUpdatedSince(Mockito.eq(TENANT_DOMAIN), Mockito.eq(10L),
+                Mockito.any())).thenAnswer(invocation -> {
+            Consumer<Subscription> consumer = invocation.getArgument(2);
+            consumer.accept(createSubscription(0, 0L));
+            Subscription onHoldSubscription = createSubscription(1, 0L);
+            onHoldSubscription.setSubscriptionState("ON_HOLD");
+            consumer.accept(onHoldSubscription);
+            consumer.accept(createSubscription(2, 0L));
+            return 3;
+        });
+        subscriptionDataStore.syncChangesSince(10L);
+        long deadline = System.currentTimeMillis() + 5000;
+        while (subscriptionDataStore.getSubscriptionBySubscriptionUUID("subscription-2") == null
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+
+        Assert.assertNotNull(subscriptionDataStore.getSubscriptionBySubscriptionUUID("subscription-2"));
+        Assert.assertEquals("BLOCKED",
+                subscriptionDataStore.getSubscriptionBySubscriptionUUID("subscription-0").getSubscriptionState());
+        Assert.assertEquals("UNBLOCKED",
+                subscriptionDataStore.getSubscriptionBySubscriptionUUID("subscription-1").getSubscriptionState());
+        Assert.assertEquals(3, subscriptionDataStore.getSubscriptionsByAPIId(1).size());
+    }
+
+    @Test
+    public void testLastSyncTimeIsTheControlPlaneTimeOfTheOldestLoad() {
+
+        Mockito.when(dataLoader.getLoadStartTime()).thenReturn(1000L, 2000L);
+        Assert.assertEquals(-1, subscriptionDataStore.getLastSyncTime());
+        subscriptionDataStore.newSubscriptionLoadingTask().run();
+        Assert.assertEquals(-1, subscriptionDataStore.getLastSyncTime());
+        subscriptionDataStore.newApplicationLoadingTask().run();
+        Assert.assertEquals(1000L, subscriptionDataStore.getLastSyncTime());
+    }
+
+    private static API createAPI(int id) {
+
+        API api = new API();
+        api.setApiId(id + 1);
+        api.setUuid("api-" + id);
+        api.setApiName("api" + id);
+        api.setApiVersion("1.0.0");
+        api.setContext("/api" + id + "/1.0.0");
+        return api;
+    }
+
+    private static Subscription createSubscription(int appId, long timeStamp) {
+
+        Subscription subscription = new Subscription();
+        subscription.setAppId(appId);
+        subscription.setApiId(1);
+        subscription.setSubscriptionId(Integer.toString(appId));
+        subscription.setSubscriptionUUId("subscription-" + appId);
+        subscription.setSubscriptionState("UNBLOCKED");
+        subscription.setTimeStamp(timeStamp);
+        return subscription;
+    }
+
+    private static Application createApplication(int id) {
+
+        Application application = new Application();
+        application.setId(id);
+        application.setName("application");
+        application.setUUID("application-" + id);
+        return application;
+    }
+}